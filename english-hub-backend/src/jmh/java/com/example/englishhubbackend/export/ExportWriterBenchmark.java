@@ -0,0 +1,105 @@
+package com.example.englishhubbackend.export;
+
+import com.example.englishhubbackend.enums.ExportFormatEnum;
+import com.fasterxml.jackson.core.JsonFactory;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Serializes {@value #ROWS} synthetic result rows per invocation into a discarding stream; the
+ * reported score is rows per second for the chosen format, excluding database time.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExportWriterBenchmark {
+  private static final int ROWS = 10_000;
+  private static final String[] COLUMNS = {
+    "id",
+    "userId",
+    "email",
+    "examId",
+    "examTitle",
+    "listeningScore",
+    "readingScore",
+    "totalScore",
+    "lastCompletedAt"
+  };
+
+  @Param({"NDJSON", "CSV"})
+  ExportFormatEnum format;
+
+  private final JsonFactory jsonFactory = new JsonFactory();
+  private String[] ids;
+  private String[] userIds;
+  private String[] emails;
+  private String[] examIds;
+  private String[] titles;
+  private int[] listening;
+  private int[] reading;
+  private String[] completedAt;
+
+  @Setup
+  public void setUp() {
+    SplittableRandom random = new SplittableRandom(42);
+    ids = new String[ROWS];
+    userIds = new String[ROWS];
+    emails = new String[ROWS];
+    examIds = new String[ROWS];
+    titles = new String[ROWS];
+    listening = new int[ROWS];
+    reading = new int[ROWS];
+    completedAt = new String[ROWS];
+    LocalDateTime start = LocalDateTime.of(2025, 1, 1, 0, 0);
+    for (int i = 0; i < ROWS; i++) {
+      ids[i] = UUID.randomUUID().toString();
+      userIds[i] = UUID.randomUUID().toString();
+      emails[i] = "learner" + random.nextInt(100_000) + "@example.com";
+      examIds[i] = UUID.randomUUID().toString();
+      titles[i] = "TOEIC Practice Test, Volume " + random.nextInt(20);
+      listening[i] = 5 + 5 * random.nextInt(99);
+      reading[i] = 5 + 5 * random.nextInt(99);
+      completedAt[i] = start.plusSeconds(random.nextInt(31_536_000)).toString();
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(ROWS)
+  public void writeRows() throws IOException {
+    ExportWriter writer = ExportWriter.create(format, OutputStream.nullOutputStream(), jsonFactory);
+    writer.begin(COLUMNS);
+    for (int i = 0; i < ROWS; i++) {
+      writer.startRow();
+      writer.writeText(0, ids[i]);
+      writer.writeText(1, userIds[i]);
+      writer.writeText(2, emails[i]);
+      writer.writeText(3, examIds[i]);
+      writer.writeText(4, titles[i]);
+      writer.writeNumber(5, listening[i]);
+      writer.writeNumber(6, reading[i]);
+      writer.writeNumber(7, listening[i] + reading[i]);
+      writer.writeText(8, completedAt[i]);
+      writer.endRow();
+    }
+    writer.finish();
+  }
+}
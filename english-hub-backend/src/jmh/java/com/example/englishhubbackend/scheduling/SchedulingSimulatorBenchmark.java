@@ -0,0 +1,72 @@
+package com.example.englishhubbackend.scheduling;
+
+import com.example.englishhubbackend.enums.SchedulingAlgorithmEnum;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Replays a synthetic log of {@code cards * eventsPerCard} events; reports time per replay. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SchedulingSimulatorBenchmark {
+  @Param({"SM2", "FSRS"})
+  SchedulingAlgorithmEnum algorithm;
+
+  @Param({"100000"})
+  int cards;
+
+  @Param({"20"})
+  int eventsPerCard;
+
+  private SchedulingSimulator simulator;
+  private UserScheduler scheduler;
+  private ReviewEventLog log;
+
+  @Setup
+  public void setUp() {
+    SchedulingAlgorithm implementation =
+        algorithm == SchedulingAlgorithmEnum.FSRS
+            ? new FsrsSchedulingAlgorithm()
+            : new Sm2SchedulingAlgorithm();
+    scheduler = new UserScheduler(implementation, SchedulingParameters.DEFAULT);
+    simulator = new SchedulingSimulator(0);
+
+    SplittableRandom random = new SplittableRandom(42);
+    ReviewEventLog.Builder builder = ReviewEventLog.builder();
+    for (int card = 0; card < cards; card++) {
+      long day = 19000 + random.nextInt(365);
+      for (int event = 0; event < eventsPerCard; event++) {
+        int roll = random.nextInt(100);
+        int rating = roll < 10 ? 0 : roll < 20 ? 2 : roll < 85 ? 3 : 4;
+        builder.add(card, day, rating);
+        day += 1 + random.nextInt(1 << Math.min(event, 7));
+      }
+    }
+    log = builder.build();
+  }
+
+  @TearDown
+  public void tearDown() {
+    simulator.shutdown();
+  }
+
+  @Benchmark
+  public SimulationResult replay() {
+    return simulator.simulate(log, scheduler);
+  }
+}
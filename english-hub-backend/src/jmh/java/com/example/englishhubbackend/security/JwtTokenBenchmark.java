@@ -0,0 +1,91 @@
+package com.example.englishhubbackend.security;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.MACSigner;
+import com.nimbusds.jose.crypto.MACVerifier;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import java.nio.charset.StandardCharsets;
+import java.text.ParseException;
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class JwtTokenBenchmark {
+  private static final String SECRET =
+      "benchmark-secret-key-that-is-long-enough-for-hs512-signing-0123456789";
+
+  private JwtTokenService jwtTokenService;
+  private JWTClaimsSet claims;
+  private String token;
+
+  @Setup
+  public void setUp() {
+    jwtTokenService = new JwtTokenService(SECRET, 10_000);
+    claims =
+        new JWTClaimsSet.Builder()
+            .subject(UUID.randomUUID().toString())
+            .issuer("senior-project")
+            .issueTime(new Date())
+            .expirationTime(new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1)))
+            .claim("scope", "USER")
+            .build();
+    token = jwtTokenService.sign(claims);
+  }
+
+  @Benchmark
+  public String issuePerCallSigner() throws JOSEException {
+    SignedJWT signedJWT = new SignedJWT(new JWSHeader(JWSAlgorithm.HS512), claims);
+    signedJWT.sign(new MACSigner(SECRET.getBytes(StandardCharsets.UTF_8)));
+    return signedJWT.serialize();
+  }
+
+  @Benchmark
+  public String issueSharedSigner() {
+    return jwtTokenService.sign(claims);
+  }
+
+  @Benchmark
+  public JWTClaimsSet verifyPerCallVerifier() throws JOSEException, ParseException {
+    SignedJWT signedJWT = SignedJWT.parse(token);
+    if (!signedJWT.verify(new MACVerifier(SECRET.getBytes(StandardCharsets.UTF_8)))) {
+      throw new IllegalStateException();
+    }
+    return signedJWT.getJWTClaimsSet();
+  }
+
+  @Benchmark
+  public JWTClaimsSet verifyCached() {
+    return jwtTokenService.verify(token);
+  }
+
+  @Benchmark
+  public boolean introspectPerCallVerifier() throws JOSEException, ParseException {
+    return verifyPerCallVerifier().getExpirationTime().after(new Date());
+  }
+
+  @Benchmark
+  public boolean introspectCached() {
+    return !jwtTokenService.isExpired(jwtTokenService.verify(token));
+  }
+}
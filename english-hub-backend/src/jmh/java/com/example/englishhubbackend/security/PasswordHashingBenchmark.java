@@ -0,0 +1,45 @@
+package com.example.englishhubbackend.security;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/** Single-threaded login checks per second, i.e. the sustainable login rate of one core. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(1)
+@Fork(1)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+public class PasswordHashingBenchmark {
+  private static final String PASSWORD = "correct horse battery staple";
+
+  @Param({"10", "11", "12"})
+  int strength;
+
+  BCryptPasswordEncoder encoder;
+  String encoded;
+
+  @Setup
+  public void setUp() {
+    encoder = new BCryptPasswordEncoder(strength);
+    encoded = encoder.encode(PASSWORD);
+  }
+
+  @Benchmark
+  public boolean login() {
+    return encoder.matches(PASSWORD, encoded);
+  }
+}
@@ -0,0 +1,81 @@
+package com.example.englishhubbackend.cache;
+
+import com.example.englishhubbackend.models.Audio;
+import com.example.englishhubbackend.repository.AudioRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class AudioResolver {
+  AudioRepository audioRepository;
+  Cache<String, Audio> audiosByUrl;
+
+  public AudioResolver(
+      AudioRepository audioRepository, @Value("${audio.cache.max-size:10000}") long maxSize) {
+    this.audioRepository = audioRepository;
+    this.audiosByUrl = Caffeine.newBuilder().maximumSize(maxSize).build();
+  }
+
+  @Transactional
+  public Audio resolve(String url) {
+    return resolveAll(List.of(url)).get(url);
+  }
+
+  @Transactional
+  public Map<String, Audio> resolveAll(Collection<String> urls) {
+    Set<String> distinctUrls = new LinkedHashSet<>(urls);
+    Map<String, Audio> audios = new HashMap<>(audiosByUrl.getAllPresent(distinctUrls));
+    List<String> missing = distinctUrls.stream().filter(url -> !audios.containsKey(url)).toList();
+    if (missing.isEmpty()) {
+      return audios;
+    }
+
+    List<Audio> existing = audioRepository.findAllByUrlIn(missing);
+    existing.forEach(audio -> audios.putIfAbsent(audio.getUrl(), audio));
+    audiosByUrl.putAll(index(existing));
+
+    List<String> created = missing.stream().filter(url -> !audios.containsKey(url)).toList();
+    if (!created.isEmpty()) {
+      created.forEach(url -> audioRepository.insertIfAbsent(UUID.randomUUID(), url));
+      List<Audio> inserted = audioRepository.findAllByUrlIn(created);
+      inserted.forEach(audio -> audios.putIfAbsent(audio.getUrl(), audio));
+      cacheAfterCommit(index(inserted));
+    }
+    return audios;
+  }
+
+  private Map<String, Audio> index(List<Audio> audios) {
+    Map<String, Audio> indexed = new HashMap<>();
+    audios.forEach(audio -> indexed.putIfAbsent(audio.getUrl(), audio));
+    return indexed;
+  }
+
+  private void cacheAfterCommit(Map<String, Audio> audios) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      audiosByUrl.putAll(audios);
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            audiosByUrl.putAll(audios);
+          }
+        });
+  }
+}
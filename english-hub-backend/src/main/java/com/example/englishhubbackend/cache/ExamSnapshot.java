@@ -0,0 +1,13 @@
+package com.example.englishhubbackend.cache;
+
+import com.example.englishhubbackend.dto.response.QuestionGroupResponse;
+import com.example.englishhubbackend.grading.ExamAnswerKey;
+import java.util.List;
+import java.util.UUID;
+
+public record ExamSnapshot(
+    UUID examId,
+    long revision,
+    List<QuestionGroupResponse> questionGroups,
+    byte[] json,
+    ExamAnswerKey answerKey) {}
@@ -0,0 +1,126 @@
+package com.example.englishhubbackend.cache;
+
+import com.example.englishhubbackend.dto.response.ApiResponse;
+import com.example.englishhubbackend.dto.response.QuestionGroupResponse;
+import com.example.englishhubbackend.exception.AppException;
+import com.example.englishhubbackend.exception.ErrorCode;
+import com.example.englishhubbackend.grading.ExamAnswerKey;
+import com.example.englishhubbackend.models.ListeningQuestion;
+import com.example.englishhubbackend.models.Question;
+import com.example.englishhubbackend.models.ReadingQuestion;
+import com.example.englishhubbackend.repository.ExamRepository;
+import com.example.englishhubbackend.repository.QuestionRepository;
+import com.example.englishhubbackend.service.QuestionService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ExamSnapshotCache {
+  ExamRepository examRepository;
+  QuestionRepository questionRepository;
+  QuestionService questionService;
+  ObjectMapper objectMapper;
+  Cache<UUID, ExamSnapshot> snapshots;
+  AtomicLong revisions = new AtomicLong();
+
+  public ExamSnapshotCache(
+      ExamRepository examRepository,
+      QuestionRepository questionRepository,
+      QuestionService questionService,
+      ObjectMapper objectMapper,
+      @Value("${exam.snapshot.cache.max-size:256}") long maxSize) {
+    this.examRepository = examRepository;
+    this.questionRepository = questionRepository;
+    this.questionService = questionService;
+    this.objectMapper = objectMapper;
+    this.snapshots = Caffeine.newBuilder().maximumSize(maxSize).build();
+  }
+
+  public ExamSnapshot get(UUID examId) {
+    return snapshots.get(examId, this::build);
+  }
+
+  /**
+   * Inside a transaction the snapshot is dropped after commit, so a reader racing the write cannot
+   * cache the pre-commit state.
+   */
+  public void invalidate(UUID examId) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      snapshots.invalidate(examId);
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            snapshots.invalidate(examId);
+          }
+        });
+  }
+
+  private ExamSnapshot build(UUID examId) {
+    if (!examRepository.existsById(examId)) {
+      throw new AppException(ErrorCode.EXAM_NOT_FOUND);
+    }
+
+    List<Question> questions = questionRepository.findAllByExamIdOrderByCreatedAtAsc(examId);
+
+    Map<UUID, List<Question>> grouped =
+        questions.stream()
+            .collect(
+                Collectors.groupingBy(
+                    Question::getGroupId, LinkedHashMap::new, Collectors.toList()));
+
+    List<QuestionGroupResponse> questionGroups = new ArrayList<>(grouped.size());
+
+    for (Map.Entry<UUID, List<Question>> entry : grouped.entrySet()) {
+      List<Question> groupQuestions = entry.getValue();
+
+      QuestionGroupResponse groupResponse = new QuestionGroupResponse();
+      groupResponse.setGroupId(entry.getKey());
+      groupResponse.setQuestions(
+          groupQuestions.stream().map(questionService::mapQuestionToResponse).toList());
+
+      Question first = groupQuestions.getFirst();
+      if (first instanceof ListeningQuestion listening) {
+        if (listening.getAudio() != null) {
+          groupResponse.setAudioUrl(listening.getAudio().getUrl());
+        }
+        groupResponse.setImageUrl(listening.getImageUrl());
+      } else if (first instanceof ReadingQuestion reading) {
+        if (reading.getPassage() != null) {
+          groupResponse.setPassage(reading.getPassage().getContent());
+        }
+      }
+      groupResponse.setQuestionType(first.getQuestionType().getName());
+      questionGroups.add(groupResponse);
+    }
+
+    List<QuestionGroupResponse> immutableGroups = List.copyOf(questionGroups);
+    try {
+      byte[] json =
+          objectMapper.writeValueAsBytes(
+              ApiResponse.<List<QuestionGroupResponse>>builder().result(immutableGroups).build());
+      return new ExamSnapshot(
+          examId, revisions.incrementAndGet(), immutableGroups, json, ExamAnswerKey.of(questions));
+    } catch (JsonProcessingException e) {
+      throw new AppException(ErrorCode.UNCATEGORIZED_EXCEPTION);
+    }
+  }
+}
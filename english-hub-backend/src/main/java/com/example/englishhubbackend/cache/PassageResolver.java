@@ -0,0 +1,94 @@
+package com.example.englishhubbackend.cache;
+
+import com.example.englishhubbackend.models.Passage;
+import com.example.englishhubbackend.repository.PassageRepository;
+import com.example.englishhubbackend.util.ContentHashUtil;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class PassageResolver {
+  PassageRepository passageRepository;
+  Cache<String, Passage> passagesByHash;
+
+  public PassageResolver(
+      PassageRepository passageRepository,
+      @Value("${passage.cache.max-size:10000}") long maxSize) {
+    this.passageRepository = passageRepository;
+    this.passagesByHash = Caffeine.newBuilder().maximumSize(maxSize).build();
+  }
+
+  @Transactional
+  public Passage resolve(String content) {
+    return resolveAll(List.of(content)).get(content);
+  }
+
+  @Transactional
+  public Map<String, Passage> resolveAll(Collection<String> contents) {
+    Map<String, String> hashByContent = new LinkedHashMap<>();
+    contents.forEach(content -> hashByContent.put(content, ContentHashUtil.sha256(content)));
+
+    Map<String, Passage> byHash =
+        new HashMap<>(passagesByHash.getAllPresent(hashByContent.values()));
+    List<String> missing =
+        hashByContent.values().stream().filter(hash -> !byHash.containsKey(hash)).toList();
+    if (!missing.isEmpty()) {
+      List<Passage> existing = passageRepository.findAllByContentHashIn(missing);
+      existing.forEach(passage -> byHash.put(passage.getContentHash(), passage));
+      passagesByHash.putAll(index(existing));
+
+      List<String> created = new ArrayList<>();
+      hashByContent.forEach(
+          (content, hash) -> {
+            if (!byHash.containsKey(hash) && !created.contains(hash)) {
+              passageRepository.insertIfAbsent(UUID.randomUUID(), content, hash);
+              created.add(hash);
+            }
+          });
+      if (!created.isEmpty()) {
+        List<Passage> inserted = passageRepository.findAllByContentHashIn(created);
+        inserted.forEach(passage -> byHash.put(passage.getContentHash(), passage));
+        cacheAfterCommit(index(inserted));
+      }
+    }
+
+    Map<String, Passage> passages = new HashMap<>();
+    hashByContent.forEach((content, hash) -> passages.put(content, byHash.get(hash)));
+    return passages;
+  }
+
+  private Map<String, Passage> index(List<Passage> passages) {
+    Map<String, Passage> indexed = new HashMap<>();
+    passages.forEach(passage -> indexed.put(passage.getContentHash(), passage));
+    return indexed;
+  }
+
+  private void cacheAfterCommit(Map<String, Passage> passages) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      passagesByHash.putAll(passages);
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            passagesByHash.putAll(passages);
+          }
+        });
+  }
+}
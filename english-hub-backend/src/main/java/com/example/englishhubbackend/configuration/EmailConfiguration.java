@@ -9,25 +9,36 @@ import org.springframework.mail.javamail.JavaMailSenderImpl;
 
 @Configuration
 public class EmailConfiguration {
+  @Value("${spring.mail.host}")
+  private String host;
+
+  @Value("${spring.mail.port}")
+  private int port;
+
   @Value("${spring.mail.username}")
   private String username;
 
   @Value("${spring.mail.password}")
   private String password;
 
+  @Value("${spring.mail.properties.mail.smtp.auth:true}")
+  private boolean auth;
+
+  @Value("${spring.mail.properties.mail.smtp.starttls.enable:true}")
+  private boolean starttls;
+
   @Bean
   public JavaMailSender mailSender() {
     JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
-    mailSender.setHost("smtp.gmail.com");
-    mailSender.setPort(587);
+    mailSender.setHost(host);
+    mailSender.setPort(port);
     mailSender.setUsername(username);
     mailSender.setPassword(password);
 
     Properties props = mailSender.getJavaMailProperties();
     props.put("mail.transport.protocol", "smtp");
-    props.put("mail.smtp.auth", "true");
-    props.put("mail.smtp.starttls.enable", "true");
-    props.put("mail.debug", "true");
+    props.put("mail.smtp.auth", String.valueOf(auth));
+    props.put("mail.smtp.starttls.enable", String.valueOf(starttls));
 
     return mailSender;
   }
@@ -2,9 +2,15 @@ package com.example.englishhubbackend.configuration;
 
 import static org.springframework.security.config.Customizer.withDefaults;
 
+import com.example.englishhubbackend.security.AccessTokenValidator;
+import com.example.englishhubbackend.security.AuthenticatedUserConverter;
+import com.example.englishhubbackend.security.RevokedTokenValidator;
+import com.example.englishhubbackend.security.TokenLifetimes;
+import com.example.englishhubbackend.security.TokenRevocationService;
 import java.util.List;
 import javax.crypto.spec.SecretKeySpec;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -13,11 +19,11 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.oauth2.core.DelegatingOAuth2TokenValidator;
 import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtValidators;
 import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
-import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
-import org.springframework.security.oauth2.server.resource.authentication.JwtGrantedAuthoritiesConverter;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
@@ -25,6 +31,7 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 @Configuration
 @EnableMethodSecurity
+@EnableConfigurationProperties(TokenLifetimes.class)
 public class SecurityConfig {
   private final String[] publicEndpoints = {
     "/api/auth/register",
@@ -38,8 +45,12 @@ public class SecurityConfig {
   @Value("${security.jwt.secret-key}")
   private String secretKey;
 
+  @Value("${security.password.bcrypt-strength:10}")
+  private int bcryptStrength;
+
   @Bean
-  public SecurityFilterChain filterChain(HttpSecurity httpSecurity) throws Exception {
+  public SecurityFilterChain filterChain(HttpSecurity httpSecurity, JwtDecoder jwtDecoder)
+      throws Exception {
     httpSecurity
         .cors(withDefaults())
         .authorizeHttpRequests(
@@ -69,7 +80,7 @@ public class SecurityConfig {
                     .jwt(
                         jwtConfigurer ->
                             jwtConfigurer
-                                .decoder(jwtDecoder())
+                                .decoder(jwtDecoder)
                                 .jwtAuthenticationConverter(jwtAuthenticationConverter()))
                     .authenticationEntryPoint(new JwtAuthenticationEntryPoint()));
 
@@ -94,23 +105,25 @@ public class SecurityConfig {
   }
 
   @Bean
-  JwtAuthenticationConverter jwtAuthenticationConverter() {
-    JwtGrantedAuthoritiesConverter jwtGrantedAuthoritiesConverter =
-        new JwtGrantedAuthoritiesConverter();
-    jwtGrantedAuthoritiesConverter.setAuthorityPrefix("ROLE_");
-    JwtAuthenticationConverter jwtAuthenticationConverter = new JwtAuthenticationConverter();
-    jwtAuthenticationConverter.setJwtGrantedAuthoritiesConverter(jwtGrantedAuthoritiesConverter);
-    return jwtAuthenticationConverter;
+  AuthenticatedUserConverter jwtAuthenticationConverter() {
+    return new AuthenticatedUserConverter();
   }
 
   @Bean
-  JwtDecoder jwtDecoder() {
+  JwtDecoder jwtDecoder(TokenRevocationService tokenRevocationService) {
     SecretKeySpec secretKeySpec = new SecretKeySpec(secretKey.getBytes(), "HS512");
-    return NimbusJwtDecoder.withSecretKey(secretKeySpec).macAlgorithm(MacAlgorithm.HS512).build();
+    NimbusJwtDecoder jwtDecoder =
+        NimbusJwtDecoder.withSecretKey(secretKeySpec).macAlgorithm(MacAlgorithm.HS512).build();
+    jwtDecoder.setJwtValidator(
+        new DelegatingOAuth2TokenValidator<>(
+            JwtValidators.createDefault(),
+            new AccessTokenValidator(),
+            new RevokedTokenValidator(tokenRevocationService)));
+    return jwtDecoder;
   }
 
   @Bean
   PasswordEncoder passwordEncoder() {
-    return new BCryptPasswordEncoder(10);
+    return new BCryptPasswordEncoder(bcryptStrength);
   }
 }
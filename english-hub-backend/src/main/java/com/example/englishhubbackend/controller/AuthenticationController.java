@@ -8,6 +8,7 @@ import com.example.englishhubbackend.dto.response.UserResponse;
 import com.example.englishhubbackend.service.AuthenticationService;
 import com.nimbusds.jose.JOSEException;
 import java.text.ParseException;
+import java.util.concurrent.CompletableFuture;
 
 import jakarta.validation.Valid;
 import lombok.AccessLevel;
@@ -43,10 +44,11 @@ public class AuthenticationController {
   }
 
   @PostMapping("/login")
-  public ApiResponse<AuthenticateResponse> authenticate(
+  public CompletableFuture<ApiResponse<AuthenticateResponse>> authenticate(
       @RequestBody AuthenticateRequest authenticateRequest) {
-    var result = authenticationService.authenticate(authenticateRequest);
-    return ApiResponse.<AuthenticateResponse>builder().result(result).build();
+    return authenticationService
+        .authenticate(authenticateRequest)
+        .thenApply(result -> ApiResponse.<AuthenticateResponse>builder().result(result).build());
   }
 
   @PostMapping("/refresh")
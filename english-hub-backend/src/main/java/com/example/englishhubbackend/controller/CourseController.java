@@ -4,6 +4,7 @@ import com.example.englishhubbackend.dto.request.CourseCreateRequest;
 import com.example.englishhubbackend.dto.request.CourseUpdateRequest;
 import com.example.englishhubbackend.dto.response.ApiResponse;
 import com.example.englishhubbackend.dto.response.CourseResponse;
+import com.example.englishhubbackend.dto.response.CursorPage;
 import com.example.englishhubbackend.service.CourseService;
 import java.util.List;
 import java.util.UUID;
@@ -27,9 +28,13 @@ public class CourseController {
   }
 
   @GetMapping("")
-  public ApiResponse<List<CourseResponse>> getAllCourses() {
+  public ApiResponse<List<CourseResponse>> getAllCourses(
+      @RequestParam(required = false) String cursor,
+      @RequestParam(required = false) Integer limit) {
+    CursorPage<CourseResponse> page = courseService.getCourses(cursor, limit);
     return ApiResponse.<List<CourseResponse>>builder()
-        .result(courseService.getAllCourses())
+        .result(page.getItems())
+        .nextCursor(page.getNextCursor())
         .build();
   }
 
@@ -3,6 +3,7 @@ package com.example.englishhubbackend.controller;
 import com.example.englishhubbackend.dto.request.DeckCreateRequest;
 import com.example.englishhubbackend.dto.request.DeckUpdateRequest;
 import com.example.englishhubbackend.dto.response.ApiResponse;
+import com.example.englishhubbackend.dto.response.CursorPage;
 import com.example.englishhubbackend.dto.response.DeckResponse;
 import com.example.englishhubbackend.service.DeckService;
 import java.util.List;
@@ -27,8 +28,14 @@ public class DeckController {
   }
 
   @GetMapping()
-  public ApiResponse<List<DeckResponse>> getDecks() {
-    return ApiResponse.<List<DeckResponse>>builder().result(deckService.getAllDecks()).build();
+  public ApiResponse<List<DeckResponse>> getDecks(
+      @RequestParam(required = false) String cursor,
+      @RequestParam(required = false) Integer limit) {
+    CursorPage<DeckResponse> page = deckService.getDecks(cursor, limit);
+    return ApiResponse.<List<DeckResponse>>builder()
+        .result(page.getItems())
+        .nextCursor(page.getNextCursor())
+        .build();
   }
 
   @GetMapping("/{deckId}")
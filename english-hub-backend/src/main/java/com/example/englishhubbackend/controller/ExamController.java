@@ -2,12 +2,15 @@ package com.example.englishhubbackend.controller;
 
 import com.example.englishhubbackend.dto.request.*;
 import com.example.englishhubbackend.dto.response.*;
+import com.example.englishhubbackend.service.ExamImportService;
 import com.example.englishhubbackend.service.ExamService;
+import java.io.InputStream;
 import java.util.List;
 import java.util.UUID;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
@@ -16,6 +19,7 @@ import org.springframework.web.bind.annotation.*;
 @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
 public class ExamController {
   ExamService examService;
+  ExamImportService examImportService;
 
   @PostMapping("")
   public ApiResponse<ExamResponse> createExam(@RequestBody ExamCreateRequest request) {
@@ -23,8 +27,14 @@ public class ExamController {
   }
 
   @GetMapping("")
-  public ApiResponse<List<ExamResponse>> getAllExams() {
-    return ApiResponse.<List<ExamResponse>>builder().result(examService.getAllExams()).build();
+  public ApiResponse<List<ExamResponse>> getAllExams(
+      @RequestParam(required = false) String cursor,
+      @RequestParam(required = false) Integer limit) {
+    CursorPage<ExamResponse> page = examService.getExams(cursor, limit);
+    return ApiResponse.<List<ExamResponse>>builder()
+        .result(page.getItems())
+        .nextCursor(page.getNextCursor())
+        .build();
   }
 
   @GetMapping("/{examId}")
@@ -84,12 +94,9 @@ public class ExamController {
         .build();
   }
 
-  @GetMapping("/{examId}/questions/groups")
-  public ApiResponse<List<QuestionGroupResponse>> getQuestionGroupsFromExam(
-      @PathVariable String examId) {
-    return ApiResponse.<List<QuestionGroupResponse>>builder()
-        .result(examService.getQuestionGroupsFromExam(UUID.fromString(examId)))
-        .build();
+  @GetMapping(value = "/{examId}/questions/groups", produces = MediaType.APPLICATION_JSON_VALUE)
+  public byte[] getQuestionGroupsFromExam(@PathVariable String examId) {
+    return examService.getQuestionGroupsJsonFromExam(UUID.fromString(examId));
   }
 
   @PostMapping("/{examId}/submit")
@@ -100,10 +107,51 @@ public class ExamController {
         .build();
   }
 
+  @GetMapping("/results")
+  public ApiResponse<List<ExamSubmissionResponse>> getResultHistory(
+      @RequestParam(required = false) String examId,
+      @RequestParam(required = false) Integer limit) {
+    return ApiResponse.<List<ExamSubmissionResponse>>builder()
+        .result(
+            examService.getResultHistory(examId != null ? UUID.fromString(examId) : null, limit))
+        .build();
+  }
+
   @DeleteMapping("/{examId}/questions/{questionId}")
   public ApiResponse<Void> deleteQuestionFromExam(
       @PathVariable String examId, @PathVariable String questionId) {
     examService.deleteQuestionFromExam(UUID.fromString(examId), UUID.fromString(questionId));
     return ApiResponse.<Void>builder().message("Question deleted successfully").build();
   }
+
+  @GetMapping("/{examId}/item-stats")
+  public ApiResponse<List<QuestionItemStatsResponse>> getItemStatistics(
+      @PathVariable String examId) {
+    return ApiResponse.<List<QuestionItemStatsResponse>>builder()
+        .result(examService.getItemStatistics(UUID.fromString(examId)))
+        .build();
+  }
+
+  @PostMapping("/stats/rebuild")
+  public ApiResponse<Void> rebuildExamStatistics() {
+    examService.rebuildExamStatistics();
+    return ApiResponse.<Void>builder().message("Exam statistics rebuild started").build();
+  }
+
+  @PostMapping(
+      value = "/{examId}/import",
+      consumes = {"application/zip", MediaType.APPLICATION_OCTET_STREAM_VALUE})
+  public ApiResponse<ExamImportJobResponse> importExamPackage(
+      @PathVariable String examId, InputStream archive) {
+    return ApiResponse.<ExamImportJobResponse>builder()
+        .result(examImportService.importExamPackage(UUID.fromString(examId), archive))
+        .build();
+  }
+
+  @GetMapping("/imports/{jobId}")
+  public ApiResponse<ExamImportJobResponse> getImportJob(@PathVariable String jobId) {
+    return ApiResponse.<ExamImportJobResponse>builder()
+        .result(examImportService.getImportJob(UUID.fromString(jobId)))
+        .build();
+  }
 }
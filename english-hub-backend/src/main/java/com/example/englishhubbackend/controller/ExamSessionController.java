@@ -0,0 +1,55 @@
+package com.example.englishhubbackend.controller;
+
+import com.example.englishhubbackend.dto.request.ExamSessionAnswersRequest;
+import com.example.englishhubbackend.dto.response.ApiResponse;
+import com.example.englishhubbackend.dto.response.ExamSessionResponse;
+import com.example.englishhubbackend.dto.response.ExamSubmissionResponse;
+import com.example.englishhubbackend.service.ExamSessionService;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/exam-sessions")
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ExamSessionController {
+  ExamSessionService examSessionService;
+
+  @PostMapping("/exams/{examId}")
+  public ApiResponse<ExamSessionResponse> startSession(@PathVariable String examId) {
+    return ApiResponse.<ExamSessionResponse>builder()
+        .result(examSessionService.startSession(UUID.fromString(examId)))
+        .build();
+  }
+
+  @GetMapping("/exams/{examId}/active")
+  public ApiResponse<ExamSessionResponse> getActiveSession(@PathVariable String examId) {
+    return ApiResponse.<ExamSessionResponse>builder()
+        .result(examSessionService.getActiveSession(UUID.fromString(examId)))
+        .build();
+  }
+
+  @GetMapping("/{sessionId}")
+  public ApiResponse<ExamSessionResponse> getSession(@PathVariable String sessionId) {
+    return ApiResponse.<ExamSessionResponse>builder()
+        .result(examSessionService.getSession(UUID.fromString(sessionId)))
+        .build();
+  }
+
+  @PatchMapping("/{sessionId}/answers")
+  public ApiResponse<Void> saveAnswers(
+      @PathVariable String sessionId, @RequestBody ExamSessionAnswersRequest request) {
+    examSessionService.saveAnswers(UUID.fromString(sessionId), request);
+    return ApiResponse.<Void>builder().message("Answers saved").build();
+  }
+
+  @PostMapping("/{sessionId}/submit")
+  public ApiResponse<ExamSubmissionResponse> submitSession(@PathVariable String sessionId) {
+    return ApiResponse.<ExamSubmissionResponse>builder()
+        .result(examSessionService.submitSession(UUID.fromString(sessionId)))
+        .build();
+  }
+}
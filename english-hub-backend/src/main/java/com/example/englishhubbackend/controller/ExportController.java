@@ -0,0 +1,68 @@
+package com.example.englishhubbackend.controller;
+
+import com.example.englishhubbackend.enums.ExportFormatEnum;
+import com.example.englishhubbackend.service.ExportService;
+import jakarta.servlet.http.HttpServletResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequestMapping("/api/exports")
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ExportController {
+  ExportService exportService;
+
+  // Exports can stream for far longer than the default async timeout; the longer limit is
+  // applied to these requests only.
+  @NonFinal
+  @Value("${export.request-timeout:30m}")
+  Duration requestTimeout;
+
+  @GetMapping("/results")
+  public WebAsyncTask<Void> exportResults(
+      @RequestParam(required = false) LocalDate from,
+      @RequestParam(required = false) LocalDate to,
+      @RequestParam(defaultValue = "NDJSON") ExportFormatEnum format,
+      HttpServletResponse response) {
+    return attachment("results", format, exportService.exportResults(from, to, format), response);
+  }
+
+  @GetMapping("/users")
+  public WebAsyncTask<Void> exportUsers(
+      @RequestParam(defaultValue = "NDJSON") ExportFormatEnum format,
+      HttpServletResponse response) {
+    return attachment("users", format, exportService.exportUsers(format), response);
+  }
+
+  private WebAsyncTask<Void> attachment(
+      String name,
+      ExportFormatEnum format,
+      StreamingResponseBody body,
+      HttpServletResponse response) {
+    response.setContentType(format.getMediaType());
+    response.setHeader(
+        HttpHeaders.CONTENT_DISPOSITION,
+        ContentDisposition.attachment()
+            .filename(name + "." + format.getExtension())
+            .build()
+            .toString());
+    return new WebAsyncTask<>(
+        requestTimeout.toMillis(),
+        () -> {
+          body.writeTo(response.getOutputStream());
+          response.flushBuffer();
+          return null;
+        });
+  }
+}
@@ -3,6 +3,7 @@ package com.example.englishhubbackend.controller;
 import com.example.englishhubbackend.dto.request.FlashCardCreateRequest;
 import com.example.englishhubbackend.dto.request.FlashCardUpdateRequest;
 import com.example.englishhubbackend.dto.response.ApiResponse;
+import com.example.englishhubbackend.dto.response.CursorPage;
 import com.example.englishhubbackend.dto.response.FlashCardResponse;
 import com.example.englishhubbackend.service.FlashCardService;
 import java.util.List;
@@ -28,9 +29,15 @@ public class FlashCardController {
   }
 
   @GetMapping()
-  public ApiResponse<List<FlashCardResponse>> getAllFlashCards(@PathVariable String deckId) {
+  public ApiResponse<List<FlashCardResponse>> getAllFlashCards(
+      @PathVariable String deckId,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(required = false) Integer limit) {
+    CursorPage<FlashCardResponse> page =
+        flashCardService.getFlashCards(UUID.fromString(deckId), cursor, limit);
     return ApiResponse.<List<FlashCardResponse>>builder()
-        .result(flashCardService.getAllFlashCardsFromDecks(UUID.fromString(deckId)))
+        .result(page.getItems())
+        .nextCursor(page.getNextCursor())
         .build();
   }
 
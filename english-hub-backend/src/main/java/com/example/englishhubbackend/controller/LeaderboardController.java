@@ -0,0 +1,58 @@
+package com.example.englishhubbackend.controller;
+
+import com.example.englishhubbackend.dto.response.ApiResponse;
+import com.example.englishhubbackend.dto.response.LeaderboardEntryResponse;
+import com.example.englishhubbackend.dto.response.LeaderboardStandingResponse;
+import com.example.englishhubbackend.service.LeaderboardService;
+import java.util.List;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/leaderboards")
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class LeaderboardController {
+  LeaderboardService leaderboardService;
+
+  @GetMapping("/global")
+  public ApiResponse<List<LeaderboardEntryResponse>> getGlobalTop(
+      @RequestParam(defaultValue = "10") int limit) {
+    return ApiResponse.<List<LeaderboardEntryResponse>>builder()
+        .result(leaderboardService.getGlobalTop(limit))
+        .build();
+  }
+
+  @GetMapping("/global/me")
+  public ApiResponse<LeaderboardStandingResponse> getGlobalStanding(
+      @RequestParam(defaultValue = "5") int radius) {
+    return ApiResponse.<LeaderboardStandingResponse>builder()
+        .result(leaderboardService.getGlobalStanding(radius))
+        .build();
+  }
+
+  @GetMapping("/exams/{examId}")
+  public ApiResponse<List<LeaderboardEntryResponse>> getExamTop(
+      @PathVariable String examId, @RequestParam(defaultValue = "10") int limit) {
+    return ApiResponse.<List<LeaderboardEntryResponse>>builder()
+        .result(leaderboardService.getExamTop(UUID.fromString(examId), limit))
+        .build();
+  }
+
+  @GetMapping("/exams/{examId}/me")
+  public ApiResponse<LeaderboardStandingResponse> getExamStanding(
+      @PathVariable String examId, @RequestParam(defaultValue = "5") int radius) {
+    return ApiResponse.<LeaderboardStandingResponse>builder()
+        .result(leaderboardService.getExamStanding(UUID.fromString(examId), radius))
+        .build();
+  }
+
+  @PostMapping("/rebuild")
+  public ApiResponse<Void> rebuildLeaderboards() {
+    leaderboardService.rebuildLeaderboards();
+    return ApiResponse.<Void>builder().message("Leaderboard rebuild started").build();
+  }
+}
@@ -1,14 +1,25 @@
 package com.example.englishhubbackend.controller;
 
+import com.example.englishhubbackend.dto.request.ReviewBatchRequest;
 import com.example.englishhubbackend.dto.request.ReviewRequest;
+import com.example.englishhubbackend.dto.request.SchedulingProfileRequest;
 import com.example.englishhubbackend.dto.response.ApiResponse;
 import com.example.englishhubbackend.dto.response.FlashCardResponse;
+import com.example.englishhubbackend.dto.response.ReviewBatchResponse;
+import com.example.englishhubbackend.dto.response.SchedulingProfileResponse;
+import com.example.englishhubbackend.scheduling.SimulationResult;
+import com.example.englishhubbackend.service.ReviewLogService;
 import com.example.englishhubbackend.service.ReviewService;
+import jakarta.validation.Valid;
+import java.time.LocalDate;
 import java.util.List;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/reviews")
@@ -16,6 +27,7 @@ import org.springframework.web.bind.annotation.*;
 @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
 public class ReviewController {
   ReviewService reviewService;
+  ReviewLogService reviewLogService;
 
   @GetMapping("/today")
   public ApiResponse<List<FlashCardResponse>> getTodayReviews() {
@@ -29,4 +41,46 @@ public class ReviewController {
     reviewService.updateReview(request);
     return ApiResponse.<Void>builder().build();
   }
+
+  @PostMapping("/batch")
+  public ApiResponse<ReviewBatchResponse> reviewBatch(
+      @Valid @RequestBody ReviewBatchRequest request) {
+    return ApiResponse.<ReviewBatchResponse>builder()
+        .result(reviewService.submitReviews(request))
+        .build();
+  }
+
+  @GetMapping("/scheduling")
+  public ApiResponse<SchedulingProfileResponse> getSchedulingProfile() {
+    return ApiResponse.<SchedulingProfileResponse>builder()
+        .result(reviewService.getSchedulingProfile())
+        .build();
+  }
+
+  @PutMapping("/scheduling")
+  public ApiResponse<SchedulingProfileResponse> updateSchedulingProfile(
+      @RequestBody SchedulingProfileRequest request) {
+    return ApiResponse.<SchedulingProfileResponse>builder()
+        .result(reviewService.updateSchedulingProfile(request))
+        .build();
+  }
+
+  @GetMapping(value = "/log/export", produces = "application/x-ndjson")
+  public ResponseEntity<StreamingResponseBody> exportLog(
+      @RequestParam(required = false) LocalDate from,
+      @RequestParam(required = false) LocalDate to) {
+    return ResponseEntity.ok()
+        .contentType(MediaType.parseMediaType("application/x-ndjson"))
+        .body(reviewLogService.exportLog(from, to));
+  }
+
+  @PostMapping("/simulations")
+  public ApiResponse<List<SimulationResult>> simulate(
+      @RequestParam(required = false) LocalDate from,
+      @RequestParam(required = false) LocalDate to,
+      @RequestParam(defaultValue = "0.9") double desiredRetention) {
+    return ApiResponse.<List<SimulationResult>>builder()
+        .result(reviewLogService.simulate(from, to, desiredRetention))
+        .build();
+  }
 }
@@ -3,6 +3,7 @@ package com.example.englishhubbackend.controller;
 import com.example.englishhubbackend.dto.request.UserCreateRequest;
 import com.example.englishhubbackend.dto.request.UserUpdateRequest;
 import com.example.englishhubbackend.dto.response.ApiResponse;
+import com.example.englishhubbackend.dto.response.CursorPage;
 import com.example.englishhubbackend.dto.response.UserResponse;
 import com.example.englishhubbackend.service.UserService;
 import java.util.List;
@@ -34,8 +35,14 @@ public class UserController {
   }
 
   @GetMapping("")
-  public ApiResponse<List<UserResponse>> getAllUsers() {
-    return ApiResponse.<List<UserResponse>>builder().result(userService.getAllUsers()).build();
+  public ApiResponse<List<UserResponse>> getAllUsers(
+      @RequestParam(required = false) String cursor,
+      @RequestParam(required = false) Integer limit) {
+    CursorPage<UserResponse> page = userService.getUsers(cursor, limit);
+    return ApiResponse.<List<UserResponse>>builder()
+        .result(page.getItems())
+        .nextCursor(page.getNextCursor())
+        .build();
   }
 
   @PostMapping("")
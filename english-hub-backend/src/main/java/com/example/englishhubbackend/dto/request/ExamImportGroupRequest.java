@@ -0,0 +1,14 @@
+package com.example.englishhubbackend.dto.request;
+
+import java.util.List;
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class ExamImportGroupRequest {
+  List<QuestionCreateRequest> questions;
+}
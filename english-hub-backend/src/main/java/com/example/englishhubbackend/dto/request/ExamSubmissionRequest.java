@@ -1,6 +1,7 @@
 package com.example.englishhubbackend.dto.request;
 
 import java.util.Map;
+import java.util.UUID;
 import lombok.*;
 import lombok.experimental.FieldDefaults;
 
@@ -10,5 +11,6 @@ import lombok.experimental.FieldDefaults;
 @AllArgsConstructor
 @FieldDefaults(level = AccessLevel.PRIVATE)
 public class ExamSubmissionRequest {
+  UUID submissionId;
   Map<String, String> answers;
 }
@@ -0,0 +1,24 @@
+package com.example.englishhubbackend.dto.request;
+
+import com.example.englishhubbackend.scheduling.SchedulingAlgorithm;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDate;
+import java.util.UUID;
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class ReviewBatchItemRequest {
+  UUID flashCardId;
+  @NotNull(message = "Rating is required")
+  @Min(value = SchedulingAlgorithm.MIN_RATING, message = "Rating must be between 0 and 4")
+  @Max(value = SchedulingAlgorithm.MAX_RATING, message = "Rating must be between 0 and 4")
+  Integer rating;
+  LocalDate reviewedAt;
+}
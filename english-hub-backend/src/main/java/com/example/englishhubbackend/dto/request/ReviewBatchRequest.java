@@ -0,0 +1,17 @@
+package com.example.englishhubbackend.dto.request;
+
+import jakarta.validation.Valid;
+import java.util.List;
+import java.util.UUID;
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class ReviewBatchRequest {
+  UUID sessionId;
+  List<@Valid ReviewBatchItemRequest> reviews;
+}
@@ -14,4 +14,5 @@ public class ApiResponse<T> {
   @Builder.Default int code = 1000;
   String message;
   T result;
+  String nextCursor;
 }
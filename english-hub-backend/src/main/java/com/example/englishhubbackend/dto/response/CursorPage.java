@@ -0,0 +1,15 @@
+package com.example.englishhubbackend.dto.response;
+
+import java.util.List;
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class CursorPage<T> {
+  List<T> items;
+  String nextCursor;
+}
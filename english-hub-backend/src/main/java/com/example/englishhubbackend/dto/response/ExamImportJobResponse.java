@@ -0,0 +1,21 @@
+package com.example.englishhubbackend.dto.response;
+
+import java.util.UUID;
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class ExamImportJobResponse {
+  UUID jobId;
+  UUID examId;
+  String status;
+  int mediaTotal;
+  int mediaUploaded;
+  int groupsImported;
+  int questionsImported;
+  String error;
+}
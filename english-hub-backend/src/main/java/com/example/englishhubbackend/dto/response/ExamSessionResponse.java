@@ -0,0 +1,21 @@
+package com.example.englishhubbackend.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class ExamSessionResponse {
+  UUID sessionId;
+  UUID examId;
+  LocalDateTime startedAt;
+  LocalDateTime deadline;
+  String status;
+  Map<String, String> answers;
+}
@@ -1,6 +1,7 @@
 package com.example.englishhubbackend.dto.response;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 import lombok.*;
 import lombok.experimental.FieldDefaults;
@@ -19,4 +20,6 @@ public class ExamSubmissionResponse {
   int readingScore;
   int totalScore;
   int maxScore;
+  List<PartScoreResponse> parts;
+  List<UUID> incorrectQuestionIds;
 }
@@ -0,0 +1,17 @@
+package com.example.englishhubbackend.dto.response;
+
+import java.util.UUID;
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class LeaderboardEntryResponse {
+  long rank;
+  UUID userId;
+  String username;
+  int score;
+}
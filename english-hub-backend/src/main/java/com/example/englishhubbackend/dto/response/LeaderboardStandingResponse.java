@@ -0,0 +1,18 @@
+package com.example.englishhubbackend.dto.response;
+
+import java.util.List;
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class LeaderboardStandingResponse {
+  long rank;
+  int score;
+  long participants;
+  double percentile;
+  List<LeaderboardEntryResponse> neighbours;
+}
@@ -0,0 +1,16 @@
+package com.example.englishhubbackend.dto.response;
+
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class PartScoreResponse {
+  String part;
+  int correctAnswers;
+  int totalQuestions;
+  Double accuracy;
+}
@@ -0,0 +1,22 @@
+package com.example.englishhubbackend.dto.response;
+
+import java.util.Map;
+import java.util.UUID;
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class QuestionItemStatsResponse {
+  UUID questionId;
+  String correctAnswer;
+  long attempts;
+  Double pValue;
+  Map<String, Long> choiceCounts;
+  Map<String, Double> meanScoreByChoice;
+  Double pointBiserial;
+  Double correctedPointBiserial;
+}
@@ -0,0 +1,18 @@
+package com.example.englishhubbackend.dto.response;
+
+import java.util.List;
+import java.util.UUID;
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class ReviewBatchResponse {
+  UUID sessionId;
+  int applied;
+  int skipped;
+  List<ReviewStateResponse> reviews;
+}
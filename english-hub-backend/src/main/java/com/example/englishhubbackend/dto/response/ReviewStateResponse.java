@@ -0,0 +1,22 @@
+package com.example.englishhubbackend.dto.response;
+
+import java.time.LocalDate;
+import java.util.UUID;
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class ReviewStateResponse {
+  UUID flashCardId;
+  int repetitions;
+  float easinessFactor;
+  int interval;
+  float stability;
+  float difficulty;
+  LocalDate nextPracticeDate;
+  LocalDate lastReviewedDate;
+}
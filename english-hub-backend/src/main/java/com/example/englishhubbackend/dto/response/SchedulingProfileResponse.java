@@ -0,0 +1,16 @@
+package com.example.englishhubbackend.dto.response;
+
+import com.example.englishhubbackend.enums.SchedulingAlgorithmEnum;
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class SchedulingProfileResponse {
+  SchedulingAlgorithmEnum algorithm;
+  double desiredRetention;
+  double[] weights;
+}
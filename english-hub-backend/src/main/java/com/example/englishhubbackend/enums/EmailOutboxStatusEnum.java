@@ -0,0 +1,11 @@
+package com.example.englishhubbackend.enums;
+
+import lombok.Getter;
+
+@Getter
+public enum EmailOutboxStatusEnum {
+  PENDING,
+  SENT,
+  DEAD,
+  ;
+}
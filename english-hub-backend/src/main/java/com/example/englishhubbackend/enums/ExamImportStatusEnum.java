@@ -0,0 +1,12 @@
+package com.example.englishhubbackend.enums;
+
+import lombok.Getter;
+
+@Getter
+public enum ExamImportStatusEnum {
+  PENDING,
+  RUNNING,
+  COMPLETED,
+  FAILED,
+  ;
+}
@@ -0,0 +1,18 @@
+package com.example.englishhubbackend.enums;
+
+import lombok.Getter;
+
+@Getter
+public enum ExportFormatEnum {
+  NDJSON("application/x-ndjson", "ndjson"),
+  CSV("text/csv", "csv"),
+  ;
+
+  private final String mediaType;
+  private final String extension;
+
+  ExportFormatEnum(String mediaType, String extension) {
+    this.mediaType = mediaType;
+    this.extension = extension;
+  }
+}
@@ -0,0 +1,11 @@
+package com.example.englishhubbackend.enums;
+
+import lombok.Getter;
+
+// review_log stores the ordinal, so only append new values.
+@Getter
+public enum SchedulingAlgorithmEnum {
+  SM2,
+  FSRS,
+  ;
+}
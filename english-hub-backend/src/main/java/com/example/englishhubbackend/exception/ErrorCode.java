@@ -89,6 +89,50 @@ public enum ErrorCode {
       1025,
       "The current password is incorrect. Please check and try again.",
       HttpStatus.BAD_REQUEST),
+  EXAM_SESSION_NOT_FOUND(
+      1026,
+      "Exam session not found. Please start a new session and try again.",
+      HttpStatus.NOT_FOUND),
+  EXAM_SESSION_CLOSED(
+      1027,
+      "This exam session is no longer accepting answers. Please submit the exam.",
+      HttpStatus.CONFLICT),
+  EXAM_IMPORT_JOB_NOT_FOUND(
+      1028,
+      "Exam import job not found. Please check the job ID and try again.",
+      HttpStatus.NOT_FOUND),
+  INVALID_EXAM_PACKAGE(
+      1029,
+      "The exam package could not be read. Please upload a valid ZIP archive.",
+      HttpStatus.BAD_REQUEST),
+  AUTHENTICATION_BUSY(
+      1030,
+      "The server is handling too many sign-in requests. Please try again shortly.",
+      HttpStatus.SERVICE_UNAVAILABLE),
+  INVALID_REVIEW_RATING(
+      1031, "The review rating must be between 0 and 4.", HttpStatus.BAD_REQUEST),
+  REVIEW_SYNC_IN_PROGRESS(
+      1032,
+      "This review session is already being synchronized. Please try again shortly.",
+      HttpStatus.CONFLICT),
+  REVIEW_BATCH_TOO_LARGE(
+      1033,
+      "Too many reviews were submitted at once. Please split the session and try again.",
+      HttpStatus.BAD_REQUEST),
+  INVALID_SCHEDULING_PARAMETERS(
+      1034,
+      "Scheduling parameters are invalid. Please check the algorithm, retention and weights.",
+      HttpStatus.BAD_REQUEST),
+  INVALID_CURSOR(
+      1035,
+      "The page cursor is invalid. Please restart from the first page.",
+      HttpStatus.BAD_REQUEST),
+  LEADERBOARD_ENTRY_NOT_FOUND(
+      1036, "You do not have a score on this leaderboard yet.", HttpStatus.NOT_FOUND),
+  INVALID_EXAM_ANSWER(
+      1037,
+      "Answers must name a question of this exam and a choice from A to D.",
+      HttpStatus.BAD_REQUEST),
   ;
 
   private int code;
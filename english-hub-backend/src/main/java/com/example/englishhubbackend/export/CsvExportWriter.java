@@ -0,0 +1,96 @@
+package com.example.englishhubbackend.export;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * RFC 4180 CSV with a header row; NULL is written as an empty field. Text that a spreadsheet would
+ * evaluate as a formula is prefixed with {@code '} so it opens as plain text.
+ */
+public class CsvExportWriter extends ExportWriter {
+  private static final int BUFFER_SIZE = 64 * 1024;
+  private static final String FORMULA_PREFIXES = "=+-@\t\r";
+
+  private final Writer writer;
+
+  public CsvExportWriter(OutputStream out) {
+    this.writer =
+        new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+  }
+
+  @Override
+  public void begin(String... columns) throws IOException {
+    super.begin(columns);
+    for (int i = 0; i < columns.length; i++) {
+      separate(i);
+      writeEscaped(columns[i]);
+    }
+    writer.write("\r\n");
+  }
+
+  @Override
+  public void startRow() {}
+
+  @Override
+  public void writeNumber(int column, long value) throws IOException {
+    separate(column);
+    writer.write(Long.toString(value));
+  }
+
+  @Override
+  public void writeBoolean(int column, boolean value) throws IOException {
+    separate(column);
+    writer.write(value ? "true" : "false");
+  }
+
+  @Override
+  public void writeText(int column, String value) throws IOException {
+    separate(column);
+    if (value != null) {
+      writeEscaped(value);
+    }
+  }
+
+  @Override
+  public void writeNull(int column) throws IOException {
+    separate(column);
+  }
+
+  @Override
+  public void endRow() throws IOException {
+    writer.write("\r\n");
+  }
+
+  @Override
+  public void finish() throws IOException {
+    writer.flush();
+  }
+
+  private void separate(int column) throws IOException {
+    if (column > 0) {
+      writer.write(',');
+    }
+  }
+
+  private void writeEscaped(String value) throws IOException {
+    if (!value.isEmpty() && FORMULA_PREFIXES.indexOf(value.charAt(0)) >= 0) {
+      value = "'" + value;
+    }
+    boolean quote = false;
+    for (int i = 0; i < value.length() && !quote; i++) {
+      char c = value.charAt(i);
+      quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+    }
+    if (!quote) {
+      writer.write(value);
+      return;
+    }
+    writer.write('"');
+    writer.write(value.replace("\"", "\"\""));
+    writer.write('"');
+  }
+}
@@ -0,0 +1,113 @@
+package com.example.englishhubbackend.export;
+
+import com.example.englishhubbackend.enums.ExportFormatEnum;
+import com.fasterxml.jackson.core.JsonFactory;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+
+/**
+ * Copies rows from a forward-only result set straight to the response stream. Column names and
+ * value kinds are resolved once from the result set metadata, so each row is written without
+ * building an intermediate object.
+ */
+public abstract class ExportWriter {
+  private enum Kind {
+    NUMBER,
+    BOOLEAN,
+    TIMESTAMP,
+    DATE,
+    TEXT
+  }
+
+  protected String[] columns;
+  private Kind[] kinds;
+
+  public static ExportWriter create(
+      ExportFormatEnum format, OutputStream out, JsonFactory jsonFactory) throws IOException {
+    return switch (format) {
+      case NDJSON -> new NdjsonExportWriter(jsonFactory, out);
+      case CSV -> new CsvExportWriter(out);
+    };
+  }
+
+  public void begin(ResultSetMetaData metaData) throws SQLException, IOException {
+    int count = metaData.getColumnCount();
+    String[] labels = new String[count];
+    kinds = new Kind[count];
+    for (int i = 0; i < count; i++) {
+      labels[i] = metaData.getColumnLabel(i + 1);
+      kinds[i] = kindOf(metaData.getColumnType(i + 1));
+    }
+    begin(labels);
+  }
+
+  public void begin(String... columns) throws IOException {
+    this.columns = columns;
+  }
+
+  public void writeRow(ResultSet rs) throws SQLException, IOException {
+    startRow();
+    for (int i = 0; i < kinds.length; i++) {
+      int column = i + 1;
+      switch (kinds[i]) {
+        case NUMBER -> {
+          long value = rs.getLong(column);
+          if (rs.wasNull()) {
+            writeNull(i);
+          } else {
+            writeNumber(i, value);
+          }
+        }
+        case BOOLEAN -> {
+          boolean value = rs.getBoolean(column);
+          if (rs.wasNull()) {
+            writeNull(i);
+          } else {
+            writeBoolean(i, value);
+          }
+        }
+        case TIMESTAMP -> {
+          Timestamp value = rs.getTimestamp(column);
+          writeText(i, value != null ? value.toLocalDateTime().toString() : null);
+        }
+        case DATE -> {
+          Date value = rs.getDate(column);
+          writeText(i, value != null ? value.toLocalDate().toString() : null);
+        }
+        case TEXT -> writeText(i, rs.getString(column));
+      }
+    }
+    endRow();
+  }
+
+  public abstract void startRow() throws IOException;
+
+  public abstract void writeNumber(int column, long value) throws IOException;
+
+  public abstract void writeBoolean(int column, boolean value) throws IOException;
+
+  /** Writes {@code value}, or a null field when it is null. */
+  public abstract void writeText(int column, String value) throws IOException;
+
+  public abstract void writeNull(int column) throws IOException;
+
+  public abstract void endRow() throws IOException;
+
+  public abstract void finish() throws IOException;
+
+  private static Kind kindOf(int sqlType) {
+    return switch (sqlType) {
+      case Types.TINYINT, Types.SMALLINT, Types.INTEGER, Types.BIGINT -> Kind.NUMBER;
+      case Types.BIT, Types.BOOLEAN -> Kind.BOOLEAN;
+      case Types.TIMESTAMP, Types.TIMESTAMP_WITH_TIMEZONE -> Kind.TIMESTAMP;
+      case Types.DATE -> Kind.DATE;
+      default -> Kind.TEXT;
+    };
+  }
+}
@@ -0,0 +1,55 @@
+package com.example.englishhubbackend.export;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import java.io.IOException;
+import java.io.OutputStream;
+
+public class NdjsonExportWriter extends ExportWriter {
+  private final JsonGenerator generator;
+
+  public NdjsonExportWriter(JsonFactory jsonFactory, OutputStream out) throws IOException {
+    this.generator =
+        jsonFactory.createGenerator(out).disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+  }
+
+  @Override
+  public void startRow() throws IOException {
+    generator.writeStartObject();
+  }
+
+  @Override
+  public void writeNumber(int column, long value) throws IOException {
+    generator.writeNumberField(columns[column], value);
+  }
+
+  @Override
+  public void writeBoolean(int column, boolean value) throws IOException {
+    generator.writeBooleanField(columns[column], value);
+  }
+
+  @Override
+  public void writeText(int column, String value) throws IOException {
+    if (value == null) {
+      generator.writeNullField(columns[column]);
+    } else {
+      generator.writeStringField(columns[column], value);
+    }
+  }
+
+  @Override
+  public void writeNull(int column) throws IOException {
+    generator.writeNullField(columns[column]);
+  }
+
+  @Override
+  public void endRow() throws IOException {
+    generator.writeEndObject();
+    generator.writeRaw('\n');
+  }
+
+  @Override
+  public void finish() throws IOException {
+    generator.flush();
+  }
+}
@@ -0,0 +1,119 @@
+package com.example.englishhubbackend.grading;
+
+import com.example.englishhubbackend.enums.QuestionTypeEnum;
+import com.example.englishhubbackend.models.ListeningQuestion;
+import com.example.englishhubbackend.models.Question;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+public final class ExamAnswerKey {
+  public static final byte NO_CHOICE = -1;
+  public static final byte NO_PART = -1;
+  public static final int PART_COUNT = QuestionTypeEnum.values().length;
+
+  private final UUID[] questionIds;
+  private final Map<String, Integer> indexById;
+  private final byte[] correctChoices;
+  private final BitSet listening;
+  private final byte[] parts;
+  private final int[] partTotals;
+
+  private ExamAnswerKey(
+      UUID[] questionIds,
+      Map<String, Integer> indexById,
+      byte[] correctChoices,
+      BitSet listening,
+      byte[] parts,
+      int[] partTotals) {
+    this.questionIds = questionIds;
+    this.indexById = indexById;
+    this.correctChoices = correctChoices;
+    this.listening = listening;
+    this.parts = parts;
+    this.partTotals = partTotals;
+  }
+
+  public static ExamAnswerKey of(List<Question> questions) {
+    int size = questions.size();
+    UUID[] questionIds = new UUID[size];
+    Map<String, Integer> indexById = HashMap.newHashMap(size);
+    byte[] correctChoices = new byte[size];
+    BitSet listening = new BitSet(size);
+    byte[] parts = new byte[size];
+    int[] partTotals = new int[PART_COUNT];
+
+    for (int i = 0; i < size; i++) {
+      Question question = questions.get(i);
+      questionIds[i] = question.getId();
+      indexById.put(question.getId().toString(), i);
+      correctChoices[i] = choiceOf(question.getCorrectAnswer());
+      if (question instanceof ListeningQuestion) {
+        listening.set(i);
+      }
+      parts[i] = partOf(question);
+      if (parts[i] != NO_PART) {
+        partTotals[parts[i]]++;
+      }
+    }
+    return new ExamAnswerKey(
+        questionIds, Map.copyOf(indexById), correctChoices, listening, parts, partTotals);
+  }
+
+  private static byte partOf(Question question) {
+    if (question.getQuestionType() == null || question.getQuestionType().getName() == null) {
+      return NO_PART;
+    }
+    try {
+      return (byte) QuestionTypeEnum.valueOf(question.getQuestionType().getName()).ordinal();
+    } catch (IllegalArgumentException e) {
+      return NO_PART;
+    }
+  }
+
+  public static byte choiceOf(String answer) {
+    if (answer == null || answer.length() != 1) {
+      return NO_CHOICE;
+    }
+    int choice = (answer.charAt(0) | 0x20) - 'a';
+    return choice >= 0 && choice < 4 ? (byte) choice : NO_CHOICE;
+  }
+
+  public int indexOf(String questionId) {
+    Integer index = indexById.get(questionId);
+    if (index == null) {
+      try {
+        index = indexById.get(UUID.fromString(questionId).toString());
+      } catch (IllegalArgumentException e) {
+        return -1;
+      }
+    }
+    return index != null ? index : -1;
+  }
+
+  public int size() {
+    return questionIds.length;
+  }
+
+  public UUID questionId(int index) {
+    return questionIds[index];
+  }
+
+  public byte correctChoice(int index) {
+    return correctChoices[index];
+  }
+
+  public boolean isListening(int index) {
+    return listening.get(index);
+  }
+
+  public byte part(int index) {
+    return parts[index];
+  }
+
+  public int partTotal(int part) {
+    return partTotals[part];
+  }
+}
@@ -0,0 +1,44 @@
+package com.example.englishhubbackend.grading;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Outcome of grading one submission. {@code choices} holds the chosen option per answer key index,
+ * or {@link ExamAnswerKey#NO_CHOICE} when the question was skipped or the answer is not A-D. {@code
+ * correctByPart} is indexed by {@link com.example.englishhubbackend.enums.QuestionTypeEnum}
+ * ordinal.
+ */
+public record ExamGrade(
+    long revision,
+    int correctListeningAnswers,
+    int correctReadingAnswers,
+    ExamAnswerKey answerKey,
+    byte[] choices,
+    int[] correctByPart) {
+
+  public int correctAnswers() {
+    return correctListeningAnswers + correctReadingAnswers;
+  }
+
+  public int[] totalByPart() {
+    int[] totals = new int[correctByPart.length];
+    for (int part = 0; part < totals.length; part++) {
+      totals[part] = answerKey.partTotal(part);
+    }
+    return totals;
+  }
+
+  /** Questions answered wrongly or skipped; questions without a usable key are not counted. */
+  public List<UUID> incorrectQuestionIds() {
+    List<UUID> incorrect = new ArrayList<>();
+    for (int i = 0; i < choices.length; i++) {
+      byte correctChoice = answerKey.correctChoice(i);
+      if (correctChoice != ExamAnswerKey.NO_CHOICE && choices[i] != correctChoice) {
+        incorrect.add(answerKey.questionId(i));
+      }
+    }
+    return incorrect;
+  }
+}
@@ -0,0 +1,63 @@
+package com.example.englishhubbackend.grading;
+
+import com.example.englishhubbackend.cache.ExamSnapshot;
+import com.example.englishhubbackend.cache.ExamSnapshotCache;
+import com.example.englishhubbackend.exception.AppException;
+import com.example.englishhubbackend.exception.ErrorCode;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ExamGradingEngine {
+  ExamSnapshotCache examSnapshotCache;
+
+  public ExamGrade grade(UUID examId, Map<String, String> answers) {
+    ExamSnapshot snapshot = examSnapshotCache.get(examId);
+    ExamAnswerKey answerKey = snapshot.answerKey();
+
+    int correctListeningAnswers = 0;
+    int correctReadingAnswers = 0;
+    byte[] choices = new byte[answerKey.size()];
+    Arrays.fill(choices, ExamAnswerKey.NO_CHOICE);
+    int[] correctByPart = new int[ExamAnswerKey.PART_COUNT];
+
+    if (answers != null) {
+      for (Map.Entry<String, String> entry : answers.entrySet()) {
+        int index = answerKey.indexOf(entry.getKey());
+        if (index < 0) {
+          throw new AppException(ErrorCode.QUESTION_NOT_FOUND);
+        }
+
+        byte choice = ExamAnswerKey.choiceOf(entry.getValue());
+        choices[index] = choice;
+        byte correctChoice = answerKey.correctChoice(index);
+        if (correctChoice != ExamAnswerKey.NO_CHOICE && correctChoice == choice) {
+          if (answerKey.isListening(index)) {
+            correctListeningAnswers++;
+          } else {
+            correctReadingAnswers++;
+          }
+          byte part = answerKey.part(index);
+          if (part != ExamAnswerKey.NO_PART) {
+            correctByPart[part]++;
+          }
+        }
+      }
+    }
+
+    return new ExamGrade(
+        snapshot.revision(),
+        correctListeningAnswers,
+        correctReadingAnswers,
+        answerKey,
+        choices,
+        correctByPart);
+  }
+}
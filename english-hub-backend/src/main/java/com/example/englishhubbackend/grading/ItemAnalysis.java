@@ -0,0 +1,42 @@
+package com.example.englishhubbackend.grading;
+
+/** Classical test theory statistics computed from the running sums in {@code QuestionItemStats}. */
+public final class ItemAnalysis {
+  private ItemAnalysis() {}
+
+  /**
+   * Point-biserial correlation between answering correctly and the raw score, from {@code n}
+   * attempts of which {@code correct} were right; {@code scoreSum} and {@code squareSum} cover all
+   * attempts and {@code correctScoreSum} only the right ones. Returns null when undefined.
+   */
+  public static Double pointBiserial(
+      long n, long correct, long scoreSum, long correctScoreSum, long squareSum) {
+    if (n < 2 || correct == 0 || correct == n) {
+      return null;
+    }
+    double mean = (double) scoreSum / n;
+    double variance = (double) squareSum / n - mean * mean;
+    if (variance <= 0) {
+      return null;
+    }
+    double meanCorrect = (double) correctScoreSum / correct;
+    double meanIncorrect = (double) (scoreSum - correctScoreSum) / (n - correct);
+    double p = (double) correct / n;
+    return (meanCorrect - meanIncorrect) / Math.sqrt(variance) * Math.sqrt(p * (1 - p));
+  }
+
+  /**
+   * Point-biserial against the rest score (raw score minus this item), which removes the item's
+   * own contribution and so does not flatter short tests. Derived from the same sums: since the
+   * item score is 0 or 1, the rest-score sums follow from subtracting {@code correct} terms.
+   */
+  public static Double correctedPointBiserial(
+      long n, long correct, long scoreSum, long correctScoreSum, long squareSum) {
+    return pointBiserial(
+        n,
+        correct,
+        scoreSum - correct,
+        correctScoreSum - correct,
+        squareSum - 2 * correctScoreSum + correct);
+  }
+}
@@ -0,0 +1,144 @@
+package com.example.englishhubbackend.grading;
+
+import com.example.englishhubbackend.repository.QuestionItemStatsBatchRepository.Delta;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory item-analysis sums for graded submissions, drained periodically into {@code
+ * question_item_stats}. Sums are kept per answer key in one flat array of {@link #STRIDE} longs per
+ * question, so recording a submission is a single pass over its choices under one short lock.
+ */
+@Component
+public class ItemAnalysisAccumulator {
+  /** Slots per question: counts for A-D and omitted, score sums for the same, squared sum. */
+  public static final int STRIDE = 11;
+
+  private static final int OMITTED = 4;
+  private static final int SCORE_SUMS = 5;
+  private static final int SQUARE_SUM = 10;
+
+  private final ConcurrentMap<ExamAnswerKey, Counters> counters = new ConcurrentHashMap<>();
+  private final List<Delta> retries = new ArrayList<>();
+
+  public void record(UUID examId, ExamGrade grade) {
+    ExamAnswerKey answerKey = grade.answerKey();
+    byte[] choices = grade.choices();
+    long score = grade.correctAnswers();
+    while (true) {
+      Counters current =
+          counters.computeIfAbsent(answerKey, key -> new Counters(examId, key.size()));
+      synchronized (current) {
+        // A drain may have detached this instance between the lookup and the lock.
+        if (current.drained) {
+          continue;
+        }
+        long[] sums = current.sums;
+        for (int i = 0; i < choices.length; i++) {
+          int option = choices[i] == ExamAnswerKey.NO_CHOICE ? OMITTED : choices[i];
+          int base = i * STRIDE;
+          sums[base + option]++;
+          sums[base + SCORE_SUMS + option] += score;
+          sums[base + SQUARE_SUM] += score * score;
+        }
+        current.submissions++;
+        return;
+      }
+    }
+  }
+
+  /** Detaches everything recorded so far, plus any failed flush, as per-question deltas. */
+  public List<Delta> drain() {
+    List<Delta> deltas;
+    synchronized (retries) {
+      deltas = new ArrayList<>(retries);
+      retries.clear();
+    }
+    for (ExamAnswerKey answerKey : List.copyOf(counters.keySet())) {
+      Counters drained = counters.remove(answerKey);
+      if (drained == null) {
+        continue;
+      }
+      synchronized (drained) {
+        drained.drained = true;
+        if (drained.submissions == 0) {
+          continue;
+        }
+        for (int i = 0; i < answerKey.size(); i++) {
+          deltas.add(
+              new Delta(
+                  answerKey.questionId(i),
+                  drained.examId,
+                  Arrays.copyOfRange(drained.sums, i * STRIDE, (i + 1) * STRIDE),
+                  0));
+        }
+      }
+    }
+    // A stable row order keeps concurrent flushes from different instances from deadlocking.
+    deltas.sort(Comparator.comparing(Delta::questionId));
+    return merge(deltas);
+  }
+
+  /** Queues deltas from a failed flush so the next drain retries them. */
+  public void retry(List<Delta> deltas) {
+    synchronized (retries) {
+      retries.addAll(deltas);
+    }
+  }
+
+  /** Forgets everything recorded for a deleted exam, including queued retries. */
+  public void discardExam(UUID examId) {
+    synchronized (retries) {
+      retries.removeIf(delta -> delta.examId().equals(examId));
+    }
+    for (Map.Entry<ExamAnswerKey, Counters> entry : counters.entrySet()) {
+      Counters discarded = entry.getValue();
+      if (discarded.examId.equals(examId) && counters.remove(entry.getKey(), discarded)) {
+        synchronized (discarded) {
+          discarded.drained = true;
+        }
+      }
+    }
+  }
+
+  /**
+   * Folds adjacent deltas for the same question, e.g. a retried one and a fresh one. The result
+   * keeps the higher failure count so a failing row still reaches the retry cap.
+   */
+  private static List<Delta> merge(List<Delta> sorted) {
+    List<Delta> merged = new ArrayList<>(sorted.size());
+    for (Delta delta : sorted) {
+      Delta last = merged.isEmpty() ? null : merged.getLast();
+      if (last != null && last.questionId().equals(delta.questionId())) {
+        for (int i = 0; i < STRIDE; i++) {
+          last.sums()[i] += delta.sums()[i];
+        }
+        if (delta.failures() > last.failures()) {
+          merged.set(merged.size() - 1, last.withFailures(delta.failures()));
+        }
+      } else {
+        merged.add(delta);
+      }
+    }
+    return merged;
+  }
+
+  private static final class Counters {
+    final UUID examId;
+    final long[] sums;
+    long submissions;
+    boolean drained;
+
+    Counters(UUID examId, int questions) {
+      this.examId = examId;
+      this.sums = new long[questions * STRIDE];
+    }
+  }
+}
@@ -0,0 +1,81 @@
+package com.example.englishhubbackend.grading;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Compact column encodings for a graded submission. Part breakdowns are stored as a format byte
+ * followed by one entry per part: the part number (1-7) as a byte, then unsigned 16-bit correct
+ * and total counts. Naming the part keeps stored rows readable if question types are added or
+ * reordered. Incorrect questions are stored as consecutive 16-byte UUIDs.
+ */
+public final class ScoreBreakdownCodec {
+  private static final byte PARTS_FORMAT = 1;
+  private static final int PART_BYTES = 5;
+  private static final int UUID_BYTES = 16;
+  private static final int MAX_COUNT = 0xFFFF;
+
+  private ScoreBreakdownCodec() {}
+
+  /** Counts for one TOEIC part; {@code part} is the 1-based part number. */
+  public record PartCount(int part, int correct, int total) {}
+
+  /** Packs counts indexed by part number minus one. */
+  public static byte[] packParts(int[] correctByPart, int[] totalByPart) {
+    ByteBuffer buffer = ByteBuffer.allocate(1 + correctByPart.length * PART_BYTES);
+    buffer.put(PARTS_FORMAT);
+    for (int part = 0; part < correctByPart.length; part++) {
+      buffer.put((byte) (part + 1));
+      buffer.putShort((short) Math.min(correctByPart[part], MAX_COUNT));
+      buffer.putShort((short) Math.min(totalByPart[part], MAX_COUNT));
+    }
+    return buffer.array();
+  }
+
+  /**
+   * Returns the packed part counts in stored order, empty for a missing column.
+   *
+   * @throws IllegalArgumentException if the column is not in the tagged format
+   */
+  public static List<PartCount> unpackParts(byte[] packed) {
+    if (packed == null) {
+      return List.of();
+    }
+    if (packed.length % PART_BYTES != 1 || packed[0] != PARTS_FORMAT) {
+      throw new IllegalArgumentException("Unknown part breakdown format");
+    }
+    ByteBuffer buffer = ByteBuffer.wrap(packed, 1, packed.length - 1);
+    List<PartCount> parts = new ArrayList<>(packed.length / PART_BYTES);
+    while (buffer.hasRemaining()) {
+      parts.add(
+          new PartCount(
+              Byte.toUnsignedInt(buffer.get()),
+              Short.toUnsignedInt(buffer.getShort()),
+              Short.toUnsignedInt(buffer.getShort())));
+    }
+    return parts;
+  }
+
+  public static byte[] packQuestionIds(List<UUID> questionIds) {
+    ByteBuffer buffer = ByteBuffer.allocate(questionIds.size() * UUID_BYTES);
+    for (UUID questionId : questionIds) {
+      buffer.putLong(questionId.getMostSignificantBits());
+      buffer.putLong(questionId.getLeastSignificantBits());
+    }
+    return buffer.array();
+  }
+
+  public static List<UUID> unpackQuestionIds(byte[] packed) {
+    if (packed == null) {
+      return List.of();
+    }
+    ByteBuffer buffer = ByteBuffer.wrap(packed);
+    List<UUID> questionIds = new ArrayList<>(packed.length / UUID_BYTES);
+    while (buffer.remaining() >= UUID_BYTES) {
+      questionIds.add(new UUID(buffer.getLong(), buffer.getLong()));
+    }
+    return questionIds;
+  }
+}
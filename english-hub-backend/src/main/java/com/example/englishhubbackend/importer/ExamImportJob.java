@@ -0,0 +1,54 @@
+package com.example.englishhubbackend.importer;
+
+import com.example.englishhubbackend.dto.response.ExamImportJobResponse;
+import com.example.englishhubbackend.enums.ExamImportStatusEnum;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+
+@Getter
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class ExamImportJob {
+  final UUID id;
+  final UUID examId;
+  final AtomicInteger mediaTotal = new AtomicInteger();
+  final AtomicInteger mediaUploaded = new AtomicInteger();
+  final AtomicInteger groupsImported = new AtomicInteger();
+  final AtomicInteger questionsImported = new AtomicInteger();
+  volatile ExamImportStatusEnum status = ExamImportStatusEnum.PENDING;
+  volatile String error;
+
+  void start() {
+    status = ExamImportStatusEnum.RUNNING;
+  }
+
+  void complete() {
+    status = ExamImportStatusEnum.COMPLETED;
+  }
+
+  void fail(String message) {
+    error = message;
+    status = ExamImportStatusEnum.FAILED;
+  }
+
+  boolean isFinished() {
+    return status == ExamImportStatusEnum.COMPLETED || status == ExamImportStatusEnum.FAILED;
+  }
+
+  public ExamImportJobResponse toResponse() {
+    return ExamImportJobResponse.builder()
+        .jobId(id)
+        .examId(examId)
+        .status(status.name())
+        .mediaTotal(mediaTotal.get())
+        .mediaUploaded(mediaUploaded.get())
+        .groupsImported(groupsImported.get())
+        .questionsImported(questionsImported.get())
+        .error(error)
+        .build();
+  }
+}
@@ -0,0 +1,277 @@
+package com.example.englishhubbackend.importer;
+
+import com.example.englishhubbackend.dto.request.ExamImportGroupRequest;
+import com.example.englishhubbackend.dto.request.QuestionCreateRequest;
+import com.example.englishhubbackend.service.ExamService;
+import com.example.englishhubbackend.service.S3Service;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import jakarta.annotation.PreDestroy;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ExamPackageImporter {
+  private static final String MANIFEST = "manifest.jsonl";
+  private static final Duration FINISHED_JOB_RETENTION = Duration.ofHours(1);
+
+  ExamService examService;
+  S3Service s3Service;
+  ObjectMapper objectMapper;
+  ExecutorService importExecutor;
+  ExecutorService uploadExecutor;
+  Cache<UUID, ExamImportJob> jobs =
+      Caffeine.newBuilder().expireAfter(new UntilRetentionAfterFinish()).build();
+
+  public ExamPackageImporter(
+      ExamService examService,
+      S3Service s3Service,
+      ObjectMapper objectMapper,
+      @Value("${exam.import.concurrent-imports:2}") int concurrentImports,
+      @Value("${exam.import.upload-threads:8}") int uploadThreads) {
+    this.examService = examService;
+    this.s3Service = s3Service;
+    this.objectMapper = objectMapper;
+    this.importExecutor =
+        new ThreadPoolExecutor(
+            concurrentImports,
+            concurrentImports,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(concurrentImports * 4),
+            new CustomizableThreadFactory("exam-import-"));
+    this.uploadExecutor =
+        new ThreadPoolExecutor(
+            uploadThreads,
+            uploadThreads,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(uploadThreads * 4),
+            new CustomizableThreadFactory("exam-media-upload-"),
+            new ThreadPoolExecutor.CallerRunsPolicy());
+  }
+
+  public ExamImportJob submit(UUID examId, Path archive) {
+    ExamImportJob job = new ExamImportJob(UUID.randomUUID(), examId);
+    jobs.put(job.getId(), job);
+    try {
+      importExecutor.execute(new DelegatingSecurityContextRunnable(() -> run(job, archive)));
+    } catch (RejectedExecutionException e) {
+      job.fail("Too many imports are running. Please try again later.");
+      jobs.put(job.getId(), job);
+      deleteArchive(archive);
+    }
+    return job;
+  }
+
+  public Optional<ExamImportJob> find(UUID jobId) {
+    return Optional.ofNullable(jobs.getIfPresent(jobId));
+  }
+
+  @PreDestroy
+  void shutdown() {
+    importExecutor.shutdownNow();
+    uploadExecutor.shutdownNow();
+  }
+
+  private void run(ExamImportJob job, Path archive) {
+    job.start();
+    Map<String, Future<String>> media = new HashMap<>();
+    Set<String> referenced = new HashSet<>();
+    try (ZipFile zipFile = new ZipFile(archive.toFile())) {
+      ZipEntry manifest = zipFile.getEntry(MANIFEST);
+      if (manifest == null) {
+        throw new IllegalArgumentException("Archive does not contain " + MANIFEST);
+      }
+      try {
+        uploadMedia(job, zipFile, media);
+        importManifest(job, zipFile.getInputStream(manifest), media, referenced);
+      } finally {
+        awaitUploads(media);
+      }
+      job.complete();
+    } catch (Exception e) {
+      log.error("Exam import {} failed", job.getId(), e);
+      deleteOrphanedMedia(job, media, referenced);
+      job.fail(e.getMessage());
+    } finally {
+      // Re-inserting the finished job starts its retention period.
+      jobs.put(job.getId(), job);
+      deleteArchive(archive);
+    }
+  }
+
+  /**
+   * Groups are committed one at a time, so media used by groups imported before the failure must
+   * stay; everything else uploaded by this job is removed.
+   */
+  private void deleteOrphanedMedia(
+      ExamImportJob job, Map<String, Future<String>> media, Set<String> referenced) {
+    media.forEach(
+        (name, upload) -> {
+          if (referenced.contains(name) || upload.state() != Future.State.SUCCESS) {
+            return;
+          }
+          try {
+            s3Service.deleteFileFromS3(mediaKey(job, name));
+          } catch (RuntimeException e) {
+            log.warn("Could not delete orphaned import media {}", name, e);
+          }
+        });
+  }
+
+  private static String mediaKey(ExamImportJob job, String name) {
+    return "exams/" + job.getExamId() + "/" + name;
+  }
+
+  private void deleteArchive(Path archive) {
+    try {
+      Files.deleteIfExists(archive);
+    } catch (IOException e) {
+      log.warn("Could not delete import archive {}", archive, e);
+    }
+  }
+
+  private void uploadMedia(
+      ExamImportJob job, ZipFile zipFile, Map<String, Future<String>> media) {
+    Enumeration<? extends ZipEntry> entries = zipFile.entries();
+    while (entries.hasMoreElements()) {
+      ZipEntry entry = entries.nextElement();
+      String name = entry.getName();
+      if (entry.isDirectory() || name.equals(MANIFEST)) {
+        continue;
+      }
+      if (name.startsWith("/") || name.contains("..")) {
+        throw new IllegalArgumentException("Invalid archive entry: " + name);
+      }
+      String key = mediaKey(job, name);
+      job.getMediaTotal().incrementAndGet();
+      media.put(
+          name,
+          uploadExecutor.submit(
+              () -> {
+                try (InputStream inputStream = zipFile.getInputStream(entry)) {
+                  String url =
+                      s3Service.uploadFile(key, inputStream, entry.getSize(), contentType(name));
+                  job.getMediaUploaded().incrementAndGet();
+                  return url;
+                }
+              }));
+    }
+  }
+
+  private void importManifest(
+      ExamImportJob job,
+      InputStream manifest,
+      Map<String, Future<String>> media,
+      Set<String> referenced)
+      throws IOException, InterruptedException, ExecutionException {
+    try (BufferedReader reader =
+        new BufferedReader(new InputStreamReader(manifest, StandardCharsets.UTF_8))) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        if (line.isBlank()) {
+          continue;
+        }
+        ExamImportGroupRequest group = objectMapper.readValue(line, ExamImportGroupRequest.class);
+        List<QuestionCreateRequest> questions = group.getQuestions();
+        if (questions == null || questions.isEmpty()) {
+          continue;
+        }
+        Set<String> groupMedia = new HashSet<>();
+        for (QuestionCreateRequest question : questions) {
+          groupMedia.add(question.getAudioUrl());
+          groupMedia.add(question.getImageUrl());
+          question.setAudioUrl(resolveMedia(question.getAudioUrl(), media));
+          question.setImageUrl(resolveMedia(question.getImageUrl(), media));
+        }
+        examService.addQuestionsToExam(job.getExamId(), questions);
+        referenced.addAll(groupMedia);
+        job.getGroupsImported().incrementAndGet();
+        job.getQuestionsImported().addAndGet(questions.size());
+      }
+    }
+  }
+
+  private String resolveMedia(String reference, Map<String, Future<String>> media)
+      throws InterruptedException, ExecutionException {
+    if (reference == null) {
+      return null;
+    }
+    Future<String> upload = media.get(reference);
+    return upload != null ? upload.get() : reference;
+  }
+
+  private void awaitUploads(Map<String, Future<String>> media) {
+    for (Future<String> upload : media.values()) {
+      try {
+        upload.get();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      } catch (ExecutionException e) {
+        log.warn("Media upload failed", e.getCause());
+      }
+    }
+  }
+
+  private String contentType(String name) {
+    String contentType = URLConnection.guessContentTypeFromName(name);
+    return contentType != null ? contentType : "application/octet-stream";
+  }
+
+  /** Running jobs never expire; finished ones are kept for polling, then dropped. */
+  static class UntilRetentionAfterFinish implements Expiry<UUID, ExamImportJob> {
+    @Override
+    public long expireAfterCreate(UUID jobId, ExamImportJob job, long currentTime) {
+      return job.isFinished() ? FINISHED_JOB_RETENTION.toNanos() : Long.MAX_VALUE;
+    }
+
+    @Override
+    public long expireAfterUpdate(
+        UUID jobId, ExamImportJob job, long currentTime, long currentDuration) {
+      return expireAfterCreate(jobId, job, currentTime);
+    }
+
+    @Override
+    public long expireAfterRead(
+        UUID jobId, ExamImportJob job, long currentTime, long currentDuration) {
+      return currentDuration;
+    }
+  }
+}
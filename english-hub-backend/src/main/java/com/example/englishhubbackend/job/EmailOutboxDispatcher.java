@@ -0,0 +1,176 @@
+package com.example.englishhubbackend.job;
+
+import com.example.englishhubbackend.enums.EmailOutboxStatusEnum;
+import com.example.englishhubbackend.models.EmailOutbox;
+import com.example.englishhubbackend.repository.EmailOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Slf4j
+@Component
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class EmailOutboxDispatcher {
+  EmailOutboxRepository emailOutboxRepository;
+  JavaMailSender mailSender;
+  TransactionTemplate transactionTemplate;
+  int batchSize;
+  int maxAttempts;
+  Duration lease;
+  Duration initialBackoff;
+  Duration maxBackoff;
+  Counter sent;
+  Counter retried;
+  Counter dead;
+
+  public EmailOutboxDispatcher(
+      EmailOutboxRepository emailOutboxRepository,
+      JavaMailSender mailSender,
+      TransactionTemplate transactionTemplate,
+      MeterRegistry meterRegistry,
+      @Value("${email.outbox.batch-size:50}") int batchSize,
+      @Value("${email.outbox.max-attempts:8}") int maxAttempts,
+      @Value("${email.outbox.lease-seconds:120}") long leaseSeconds,
+      @Value("${email.outbox.initial-backoff-seconds:30}") long initialBackoffSeconds,
+      @Value("${email.outbox.max-backoff-seconds:3600}") long maxBackoffSeconds) {
+    this.emailOutboxRepository = emailOutboxRepository;
+    this.mailSender = mailSender;
+    this.transactionTemplate = transactionTemplate;
+    this.batchSize = batchSize;
+    this.maxAttempts = maxAttempts;
+    this.lease = Duration.ofSeconds(leaseSeconds);
+    this.initialBackoff = Duration.ofSeconds(initialBackoffSeconds);
+    this.maxBackoff = Duration.ofSeconds(maxBackoffSeconds);
+    this.sent = meterRegistry.counter("email.outbox.sent");
+    this.retried = meterRegistry.counter("email.outbox.retried");
+    this.dead = meterRegistry.counter("email.outbox.dead");
+  }
+
+  @Scheduled(fixedDelayString = "${email.outbox.poll-interval-ms:1000}")
+  public void dispatch() {
+    try {
+      List<EmailOutbox> batch;
+      do {
+        batch = claim();
+        if (!batch.isEmpty()) {
+          deliver(batch);
+        }
+      } while (batch.size() == batchSize);
+    } catch (RuntimeException e) {
+      log.error("Failed to dispatch email outbox", e);
+    }
+  }
+
+  /**
+   * Locks due rows with SKIP LOCKED and pushes them past the lease so other instances ignore them
+   * while SMTP runs outside the transaction. A crash mid-send simply lets the lease lapse.
+   */
+  private List<EmailOutbox> claim() {
+    return transactionTemplate.execute(
+        status -> {
+          LocalDateTime now = LocalDateTime.now();
+          List<EmailOutbox> due = emailOutboxRepository.lockDue(now, batchSize);
+          due.forEach(email -> email.setNextAttemptAt(now.plus(lease)));
+          return emailOutboxRepository.saveAll(due);
+        });
+  }
+
+  private void deliver(List<EmailOutbox> batch) {
+    Map<MimeMessage, EmailOutbox> messages = new IdentityHashMap<>();
+    Map<EmailOutbox, String> failures = new IdentityHashMap<>();
+    for (EmailOutbox email : batch) {
+      try {
+        messages.put(toMessage(email), email);
+      } catch (MessagingException e) {
+        failures.put(email, e.getMessage());
+      }
+    }
+
+    if (!messages.isEmpty()) {
+      try {
+        // JavaMailSenderImpl sends an array over a single connected Transport.
+        mailSender.send(messages.keySet().toArray(MimeMessage[]::new));
+      } catch (MailSendException e) {
+        e.getFailedMessages()
+            .forEach(
+                (message, cause) -> {
+                  EmailOutbox email = messages.get(message);
+                  if (email != null) {
+                    failures.put(email, cause.getMessage());
+                  }
+                });
+        if (e.getFailedMessages().isEmpty()) {
+          messages.values().forEach(m -> failures.put(m, e.getMessage()));
+        }
+      } catch (MailException e) {
+        messages.values().forEach(m -> failures.put(m, e.getMessage()));
+      }
+    }
+
+    record(batch, failures);
+  }
+
+  private void record(List<EmailOutbox> batch, Map<EmailOutbox, String> failures) {
+    LocalDateTime now = LocalDateTime.now();
+    List<EmailOutbox> updated = new ArrayList<>(batch.size());
+    for (EmailOutbox email : batch) {
+      String error = failures.get(email);
+      if (error == null) {
+        email.setStatus(EmailOutboxStatusEnum.SENT);
+        email.setSentAt(now);
+        email.setLastError(null);
+        sent.increment();
+      } else {
+        int attempts = email.getAttempts() + 1;
+        email.setAttempts(attempts);
+        email.setLastError(error);
+        if (attempts >= maxAttempts) {
+          email.setStatus(EmailOutboxStatusEnum.DEAD);
+          dead.increment();
+          log.warn(
+              "Email {} moved to dead letter after {} attempts: {}",
+              email.getId(),
+              attempts,
+              error);
+        } else {
+          email.setNextAttemptAt(now.plus(backoff(attempts)));
+          retried.increment();
+        }
+      }
+      updated.add(email);
+    }
+    transactionTemplate.executeWithoutResult(status -> emailOutboxRepository.saveAll(updated));
+  }
+
+  private Duration backoff(int attempts) {
+    Duration delay = initialBackoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+    return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+  }
+
+  private MimeMessage toMessage(EmailOutbox email) throws MessagingException {
+    MimeMessage mimeMessage = mailSender.createMimeMessage();
+    MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, true);
+    helper.setTo(email.getRecipient());
+    helper.setSubject(email.getSubject());
+    helper.setText(email.getBody(), true);
+    return mimeMessage;
+  }
+}
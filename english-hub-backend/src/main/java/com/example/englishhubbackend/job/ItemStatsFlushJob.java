@@ -0,0 +1,89 @@
+package com.example.englishhubbackend.job;
+
+import com.example.englishhubbackend.grading.ItemAnalysisAccumulator;
+import com.example.englishhubbackend.repository.QuestionItemStatsBatchRepository;
+import com.example.englishhubbackend.repository.QuestionItemStatsBatchRepository.Delta;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Slf4j
+@Component
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ItemStatsFlushJob {
+  ItemAnalysisAccumulator itemAnalysisAccumulator;
+  QuestionItemStatsBatchRepository questionItemStatsBatchRepository;
+  TransactionTemplate transactionTemplate;
+  int maxAttempts;
+  Counter flushed;
+  Counter dropped;
+
+  public ItemStatsFlushJob(
+      ItemAnalysisAccumulator itemAnalysisAccumulator,
+      QuestionItemStatsBatchRepository questionItemStatsBatchRepository,
+      TransactionTemplate transactionTemplate,
+      MeterRegistry meterRegistry,
+      @Value("${exam.item-stats.max-attempts:5}") int maxAttempts) {
+    this.itemAnalysisAccumulator = itemAnalysisAccumulator;
+    this.questionItemStatsBatchRepository = questionItemStatsBatchRepository;
+    this.transactionTemplate = transactionTemplate;
+    this.maxAttempts = maxAttempts;
+    this.flushed = meterRegistry.counter("exam.item-stats.flushed");
+    this.dropped = meterRegistry.counter("exam.item-stats.dropped");
+  }
+
+  @Scheduled(fixedDelayString = "${exam.item-stats.flush-interval-ms:30000}")
+  public void flush() {
+    List<Delta> deltas = itemAnalysisAccumulator.drain();
+    if (deltas.isEmpty()) {
+      return;
+    }
+    try {
+      write(deltas);
+      flushed.increment(deltas.size());
+    } catch (RuntimeException e) {
+      log.warn(
+          "Failed to flush item statistics for {} questions, writing one by one", deltas.size(), e);
+      List<Delta> retries = new ArrayList<>();
+      for (Delta delta : deltas) {
+        try {
+          write(List.of(delta));
+          flushed.increment();
+        } catch (RuntimeException deltaFailure) {
+          int failures = delta.failures() + 1;
+          if (failures >= maxAttempts) {
+            dropped.increment();
+            log.error(
+                "Dropping item statistics for question {} after {} failed flushes",
+                delta.questionId(),
+                failures,
+                deltaFailure);
+          } else {
+            retries.add(delta.withFailures(failures));
+          }
+        }
+      }
+      itemAnalysisAccumulator.retry(retries);
+    }
+  }
+
+  private void write(List<Delta> deltas) {
+    transactionTemplate.executeWithoutResult(
+        status -> questionItemStatsBatchRepository.addAll(deltas, LocalDateTime.now()));
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    flush();
+  }
+}
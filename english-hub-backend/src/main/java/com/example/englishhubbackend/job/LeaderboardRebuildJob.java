@@ -0,0 +1,132 @@
+package com.example.englishhubbackend.job;
+
+import com.example.englishhubbackend.models.UserExamStats;
+import com.example.englishhubbackend.repository.ExamRepository;
+import com.example.englishhubbackend.repository.UserExamStatsRepository;
+import com.example.englishhubbackend.repository.UserRepository;
+import com.example.englishhubbackend.store.JobLockStore;
+import com.example.englishhubbackend.store.LeaderboardStore;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Rebuilds the Redis leaderboards from the best scores in {@code user_exam_stats}, walking users in
+ * keyset chunks. Boards are built beside the live ones and swapped in when the walk completes, so
+ * scores that dropped or disappeared in Postgres are removed; live submissions recorded meanwhile
+ * are mirrored into the rebuilt boards and survive the swap. The rebuild boards are shared Redis
+ * keys, so only the node holding the rebuild lock walks at a time.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class LeaderboardRebuildJob {
+  private static final String REBUILD_LOCK = "leaderboard-rebuild";
+  private static final Duration REBUILD_LOCK_TTL = Duration.ofHours(2);
+
+  UserRepository userRepository;
+  ExamRepository examRepository;
+  UserExamStatsRepository userExamStatsRepository;
+  LeaderboardStore leaderboardStore;
+  JobLockStore jobLockStore;
+  AtomicBoolean running = new AtomicBoolean();
+
+  @NonFinal
+  @Value("${leaderboard.rebuild.chunk-size:500}")
+  int chunkSize;
+
+  @Scheduled(cron = "${leaderboard.rebuild.cron:-}")
+  public void run() {
+    rebuild();
+  }
+
+  @Async
+  public void rebuildAsync() {
+    rebuild();
+  }
+
+  public void rebuild() {
+    if (!running.compareAndSet(false, true)) {
+      log.info("Leaderboard rebuild already in progress, skipping");
+      return;
+    }
+    try {
+      Optional<String> lock = jobLockStore.tryAcquire(REBUILD_LOCK, REBUILD_LOCK_TTL);
+      if (lock.isEmpty()) {
+        log.info("Leaderboard rebuild running on another node, skipping");
+        return;
+      }
+      try {
+        rebuildBoards();
+      } finally {
+        jobLockStore.release(REBUILD_LOCK, lock.get());
+      }
+    } finally {
+      running.set(false);
+    }
+  }
+
+  private void rebuildBoards() {
+    Set<String> startKeys = boardKeys();
+    try {
+      leaderboardStore.beginRebuild(startKeys);
+      int users = 0;
+      List<UUID> userIds = userRepository.findIds(PageRequest.ofSize(chunkSize));
+      while (!userIds.isEmpty()) {
+        leaderboardStore.mergeAll(bestScores(userExamStatsRepository.findAllByUserIdIn(userIds)));
+        users += userIds.size();
+        userIds = userRepository.findIdsAfter(userIds.getLast(), PageRequest.ofSize(chunkSize));
+      }
+      // Exams deleted during the walk have no live board left to replace.
+      Set<String> finishKeys = boardKeys();
+      leaderboardStore.finishRebuild(finishKeys);
+      startKeys.removeAll(finishKeys);
+      leaderboardStore.abortRebuild(startKeys);
+      log.info("Rebuilt leaderboards for {} users", users);
+    } catch (RuntimeException e) {
+      leaderboardStore.abortRebuild(startKeys);
+      throw e;
+    }
+  }
+
+  private Set<String> boardKeys() {
+    Set<String> keys = new HashSet<>();
+    keys.add(LeaderboardStore.GLOBAL_KEY);
+    examRepository.findIds().forEach(examId -> keys.add(LeaderboardStore.examKey(examId)));
+    return keys;
+  }
+
+  private static Map<String, Map<UUID, Integer>> bestScores(List<UserExamStats> stats) {
+    Map<String, Map<UUID, Integer>> scoresByKey = new HashMap<>();
+    Map<UUID, Integer> global = new HashMap<>();
+    for (UserExamStats stat : stats) {
+      scoresByKey
+          .computeIfAbsent(
+              LeaderboardStore.rebuildKey(LeaderboardStore.examKey(stat.getExamId())),
+              key -> new HashMap<>())
+          .put(stat.getUserId(), stat.getBestScore());
+      global.merge(stat.getUserId(), stat.getBestScore(), Math::max);
+    }
+    if (!global.isEmpty()) {
+      scoresByKey.put(LeaderboardStore.rebuildKey(LeaderboardStore.GLOBAL_KEY), global);
+    }
+    return scoresByKey;
+  }
+}
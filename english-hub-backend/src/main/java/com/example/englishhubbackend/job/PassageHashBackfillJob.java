@@ -0,0 +1,61 @@
+package com.example.englishhubbackend.job;
+
+import com.example.englishhubbackend.models.Passage;
+import com.example.englishhubbackend.repository.PassageRepository;
+import com.example.englishhubbackend.util.ContentHashUtil;
+import java.util.List;
+import java.util.Optional;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class PassageHashBackfillJob {
+  PassageRepository passageRepository;
+  TransactionTemplate transactionTemplate;
+
+  @Async
+  @EventListener(ApplicationReadyEvent.class)
+  public void backfill() {
+    int hashed = 0;
+    int merged = 0;
+    List<Passage> passages = passageRepository.findTop200ByContentHashIsNullAndContentIsNotNull();
+    while (!passages.isEmpty()) {
+      for (Passage passage : passages) {
+        boolean duplicate =
+            Boolean.TRUE.equals(transactionTemplate.execute(status -> fill(passage)));
+        if (duplicate) {
+          merged++;
+        } else {
+          hashed++;
+        }
+      }
+      passages = passageRepository.findTop200ByContentHashIsNullAndContentIsNotNull();
+    }
+    if (hashed + merged > 0) {
+      log.info("Backfilled {} passage hashes, merged {} duplicate passages", hashed, merged);
+    }
+  }
+
+  private boolean fill(Passage passage) {
+    String contentHash = ContentHashUtil.sha256(passage.getContent());
+    Optional<Passage> canonical = passageRepository.findByContentHash(contentHash);
+    if (canonical.isPresent()) {
+      passageRepository.reassignQuestions(passage.getId(), canonical.get().getId());
+      passageRepository.deleteById(passage.getId());
+      return true;
+    }
+    passage.setContentHash(contentHash);
+    passageRepository.saveAndFlush(passage);
+    return false;
+  }
+}
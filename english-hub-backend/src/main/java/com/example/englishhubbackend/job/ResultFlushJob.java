@@ -0,0 +1,147 @@
+package com.example.englishhubbackend.job;
+
+import com.example.englishhubbackend.repository.ResultBatchRepository;
+import com.example.englishhubbackend.service.UserExamStatsService;
+import com.example.englishhubbackend.store.PendingResult;
+import com.example.englishhubbackend.store.QueuedResult;
+import com.example.englishhubbackend.store.ResultWriteBehindQueue;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Slf4j
+@Component
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ResultFlushJob {
+  ResultWriteBehindQueue resultWriteBehindQueue;
+  ResultBatchRepository resultBatchRepository;
+  UserExamStatsService userExamStatsService;
+  TransactionTemplate transactionTemplate;
+  int batchSize;
+  int maxDeliveries;
+  Counter flushed;
+  Counter duplicates;
+  Timer flushTimer;
+
+  public ResultFlushJob(
+      ResultWriteBehindQueue resultWriteBehindQueue,
+      ResultBatchRepository resultBatchRepository,
+      UserExamStatsService userExamStatsService,
+      TransactionTemplate transactionTemplate,
+      MeterRegistry meterRegistry,
+      @Value("${exam.results.batch-size:200}") int batchSize,
+      @Value("${exam.results.max-deliveries:5}") int maxDeliveries) {
+    this.resultWriteBehindQueue = resultWriteBehindQueue;
+    this.resultBatchRepository = resultBatchRepository;
+    this.userExamStatsService = userExamStatsService;
+    this.transactionTemplate = transactionTemplate;
+    this.batchSize = batchSize;
+    this.maxDeliveries = maxDeliveries;
+    this.flushed = meterRegistry.counter("exam.results.flushed");
+    this.duplicates = meterRegistry.counter("exam.results.duplicates");
+    this.flushTimer = meterRegistry.timer("exam.results.flush");
+  }
+
+  @Scheduled(fixedDelayString = "${exam.results.flush-interval-ms:500}")
+  public void flush() {
+    try {
+      List<QueuedResult> queued;
+      do {
+        queued = resultWriteBehindQueue.reclaim(batchSize);
+        process(queued);
+      } while (queued.size() == batchSize);
+      do {
+        queued = resultWriteBehindQueue.poll(batchSize);
+        process(queued);
+      } while (queued.size() == batchSize);
+    } catch (RuntimeException e) {
+      log.error("Failed to flush pending exam results", e);
+    } finally {
+      resultWriteBehindQueue.refreshPending();
+    }
+  }
+
+  /**
+   * Persists a batch in one transaction, falling back to one transaction per record when the batch
+   * fails. Records that still fail stay pending and are reclaimed after the idle timeout, until
+   * they reach {@code maxDeliveries} and are moved to the dead-letter stream.
+   */
+  void process(List<QueuedResult> queued) {
+    if (queued.isEmpty()) {
+      return;
+    }
+    List<QueuedResult> parsed = new ArrayList<>(queued.size());
+    List<PendingResult> results = new ArrayList<>(queued.size());
+    for (QueuedResult entry : queued) {
+      try {
+        results.add(PendingResult.fromFields(entry.fields()));
+        parsed.add(entry);
+      } catch (RuntimeException e) {
+        log.error("Dead-lettering unreadable exam result {}", entry.id(), e);
+        resultWriteBehindQueue.deadLetter(entry, e.toString());
+      }
+    }
+    if (parsed.isEmpty()) {
+      return;
+    }
+
+    try {
+      flushTimer.record(() -> persist(results));
+      resultWriteBehindQueue.acknowledge(parsed);
+      return;
+    } catch (RuntimeException e) {
+      log.warn("Failed to persist batch of {} exam results, retrying one by one", parsed.size(), e);
+    }
+
+    List<QueuedResult> persisted = new ArrayList<>(parsed.size());
+    for (int i = 0; i < parsed.size(); i++) {
+      QueuedResult entry = parsed.get(i);
+      try {
+        persist(List.of(results.get(i)));
+        persisted.add(entry);
+      } catch (RuntimeException e) {
+        if (entry.deliveries() >= maxDeliveries) {
+          log.error(
+              "Dead-lettering exam result {} after {} deliveries",
+              entry.id(),
+              entry.deliveries(),
+              e);
+          resultWriteBehindQueue.deadLetter(entry, e.toString());
+        } else {
+          log.warn("Failed to persist exam result {}, will retry", entry.id(), e);
+        }
+      }
+    }
+    resultWriteBehindQueue.acknowledge(persisted);
+  }
+
+  public void persist(List<PendingResult> results) {
+    transactionTemplate.executeWithoutResult(
+        status -> {
+          int[] inserted = resultBatchRepository.insertAll(results);
+          for (int i = 0; i < inserted.length; i++) {
+            if (inserted[i] == 0) {
+              duplicates.increment();
+              continue;
+            }
+            PendingResult result = results.get(i);
+            userExamStatsService.recordAttempt(
+                result.userId(),
+                result.examId(),
+                result.listeningScore(),
+                result.readingScore(),
+                result.completedAt());
+          }
+        });
+    flushed.increment(results.size());
+  }
+}
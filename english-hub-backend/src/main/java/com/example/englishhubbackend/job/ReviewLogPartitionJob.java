@@ -0,0 +1,54 @@
+package com.example.englishhubbackend.job;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Creates the monthly partitions of {@code review_log} a few months ahead. The table, its index and
+ * the default partition come from the {@code V3__review_log} migration.
+ */
+@Slf4j
+@Component
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ReviewLogPartitionJob {
+  private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+
+  private static final String CREATE_PARTITION =
+      "CREATE TABLE IF NOT EXISTS review_log_%s PARTITION OF review_log"
+          + " FOR VALUES FROM ('%s') TO ('%s')";
+
+  JdbcTemplate jdbcTemplate;
+  int monthsAhead;
+
+  public ReviewLogPartitionJob(
+      JdbcTemplate jdbcTemplate, @Value("${review.log.partition-months-ahead:3}") int monthsAhead) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.monthsAhead = monthsAhead;
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  @Scheduled(cron = "${review.log.partition-cron:0 0 3 * * *}")
+  public void ensurePartitions() {
+    YearMonth current = YearMonth.from(LocalDate.now());
+    for (int i = 0; i <= monthsAhead; i++) {
+      YearMonth month = current.plusMonths(i);
+      try {
+        jdbcTemplate.execute(
+            CREATE_PARTITION.formatted(
+                month.format(SUFFIX), month.atDay(1), month.plusMonths(1).atDay(1)));
+      } catch (RuntimeException e) {
+        log.error("Failed to create review_log partition for {}", month, e);
+      }
+    }
+  }
+}
@@ -0,0 +1,106 @@
+package com.example.englishhubbackend.job;
+
+import com.example.englishhubbackend.repository.UserRepository;
+import com.example.englishhubbackend.service.ReviewService;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Precomputes every user's due list before the morning peak so {@code GET /api/reviews/today} is
+ * a single key read. Users are walked by keyset; each node handles the users whose id hash falls
+ * in its shard, and per-user work runs on virtual threads bounded by a semaphore so the database
+ * and Redis pools are not exhausted.
+ */
+@Slf4j
+@Component
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ReviewTodayMaterializationJob {
+  UserRepository userRepository;
+  ReviewService reviewService;
+  AtomicBoolean running = new AtomicBoolean();
+  int chunkSize;
+  int concurrency;
+  int shardIndex;
+  int shardCount;
+
+  public ReviewTodayMaterializationJob(
+      UserRepository userRepository,
+      ReviewService reviewService,
+      @Value("${review.today.chunk-size:1000}") int chunkSize,
+      @Value("${review.today.concurrency:16}") int concurrency,
+      @Value("${review.today.shard-index:0}") int shardIndex,
+      @Value("${review.today.shard-count:1}") int shardCount) {
+    this.userRepository = userRepository;
+    this.reviewService = reviewService;
+    this.chunkSize = chunkSize;
+    this.concurrency = concurrency;
+    this.shardIndex = shardIndex;
+    this.shardCount = Math.max(shardCount, 1);
+  }
+
+  @Scheduled(cron = "${review.today.cron:0 0 5 * * *}")
+  public void run() {
+    materialize(LocalDate.now());
+  }
+
+  public void materialize(LocalDate day) {
+    if (!running.compareAndSet(false, true)) {
+      log.info("Review queue materialization already in progress, skipping");
+      return;
+    }
+    long started = System.currentTimeMillis();
+    AtomicInteger users = new AtomicInteger();
+    AtomicInteger failures = new AtomicInteger();
+    Semaphore permits = new Semaphore(concurrency);
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      List<UUID> userIds = userRepository.findIds(PageRequest.ofSize(chunkSize));
+      while (!userIds.isEmpty()) {
+        for (UUID userId : userIds) {
+          if (!ownsShard(userId)) {
+            continue;
+          }
+          permits.acquireUninterruptibly();
+          executor.execute(
+              () -> {
+                try {
+                  reviewService.materializeDueCards(userId, day);
+                  users.incrementAndGet();
+                } catch (RuntimeException e) {
+                  failures.incrementAndGet();
+                  log.warn("Failed to materialize review queue for user {}", userId, e);
+                } finally {
+                  permits.release();
+                }
+              });
+        }
+        userIds = userRepository.findIdsAfter(userIds.getLast(), PageRequest.ofSize(chunkSize));
+      }
+    } finally {
+      running.set(false);
+    }
+    log.info(
+        "Materialized review queues for {} users ({} failed) in shard {}/{} in {} ms",
+        users.get(),
+        failures.get(),
+        shardIndex,
+        shardCount,
+        System.currentTimeMillis() - started);
+  }
+
+  private boolean ownsShard(UUID userId) {
+    return Math.floorMod(userId.hashCode(), shardCount) == shardIndex;
+  }
+}
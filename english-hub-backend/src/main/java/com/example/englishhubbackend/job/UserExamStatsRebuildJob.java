@@ -0,0 +1,101 @@
+package com.example.englishhubbackend.job;
+
+import com.example.englishhubbackend.repository.UserExamStatsRepository;
+import com.example.englishhubbackend.repository.UserRepository;
+import com.example.englishhubbackend.service.UserExamStatsService;
+import com.example.englishhubbackend.store.JobLockStore;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class UserExamStatsRebuildJob {
+  private static final String BACKFILL_LOCK = "user-exam-stats-backfill";
+  private static final Duration BACKFILL_LOCK_TTL = Duration.ofHours(2);
+
+  UserRepository userRepository;
+  UserExamStatsRepository userExamStatsRepository;
+  UserExamStatsService userExamStatsService;
+  LeaderboardRebuildJob leaderboardRebuildJob;
+  JobLockStore jobLockStore;
+  AtomicBoolean running = new AtomicBoolean();
+
+  @NonFinal
+  @Value("${exam.stats.rebuild.chunk-size:500}")
+  int chunkSize;
+
+  @Scheduled(cron = "${exam.stats.rebuild.cron:-}")
+  public void run() {
+    rebuild();
+  }
+
+  @Async
+  public void rebuildAsync() {
+    rebuild();
+  }
+
+  /**
+   * The scheduled rebuild is off by default, so a deployment that predates {@code user_exam_stats}
+   * fills it once here. The leaderboards are derived from the table and are rebuilt after it. Only
+   * the node holding the backfill lock does the work; the others find the table filled next start.
+   */
+  @Async
+  @EventListener(ApplicationReadyEvent.class)
+  public void backfillIfEmpty() {
+    if (userExamStatsRepository.count() > 0) {
+      return;
+    }
+    Optional<String> lock = jobLockStore.tryAcquire(BACKFILL_LOCK, BACKFILL_LOCK_TTL);
+    if (lock.isEmpty()) {
+      log.info("user_exam_stats backfill running on another node, skipping");
+      return;
+    }
+    try {
+      // Re-checked under the lock: another node may have finished between the count and acquire.
+      if (userExamStatsRepository.count() > 0) {
+        return;
+      }
+      log.info("user_exam_stats is empty, backfilling from results");
+      rebuild();
+      leaderboardRebuildJob.rebuild();
+    } finally {
+      jobLockStore.release(BACKFILL_LOCK, lock.get());
+    }
+  }
+
+  public void rebuild() {
+    if (!running.compareAndSet(false, true)) {
+      log.info("User exam stats rebuild already in progress, skipping");
+      return;
+    }
+    try {
+      int users = 0;
+      List<UUID> userIds = userRepository.findIds(PageRequest.ofSize(chunkSize));
+      while (!userIds.isEmpty()) {
+        userExamStatsService.rebuildForUsers(userIds);
+        users += userIds.size();
+        userIds = userRepository.findIdsAfter(userIds.getLast(), PageRequest.ofSize(chunkSize));
+      }
+      log.info("Rebuilt user exam stats for {} users", users);
+    } finally {
+      running.set(false);
+    }
+  }
+}
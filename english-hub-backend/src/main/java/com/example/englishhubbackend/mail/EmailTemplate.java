@@ -0,0 +1,57 @@
+package com.example.englishhubbackend.mail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.springframework.web.util.HtmlUtils;
+
+/**
+ * A template split once into literal and {@code {{name}}} placeholder segments, so rendering is a
+ * single pass over precomputed pieces. Values are HTML-escaped.
+ */
+public final class EmailTemplate {
+  private final String[] literals;
+  private final String[] placeholders;
+  private final int literalLength;
+
+  private EmailTemplate(String[] literals, String[] placeholders) {
+    this.literals = literals;
+    this.placeholders = placeholders;
+    int length = 0;
+    for (String literal : literals) {
+      length += literal.length();
+    }
+    this.literalLength = length;
+  }
+
+  public static EmailTemplate compile(String source) {
+    List<String> literals = new ArrayList<>();
+    List<String> placeholders = new ArrayList<>();
+    int position = 0;
+    while (true) {
+      int open = source.indexOf("{{", position);
+      int close = open < 0 ? -1 : source.indexOf("}}", open + 2);
+      if (close < 0) {
+        literals.add(source.substring(position));
+        break;
+      }
+      literals.add(source.substring(position, open));
+      placeholders.add(source.substring(open + 2, close).trim());
+      position = close + 2;
+    }
+    return new EmailTemplate(literals.toArray(String[]::new), placeholders.toArray(String[]::new));
+  }
+
+  public String render(Map<String, String> values) {
+    StringBuilder builder = new StringBuilder(literalLength + 16 * placeholders.length);
+    for (int i = 0; i < placeholders.length; i++) {
+      builder.append(literals[i]);
+      String value = values.get(placeholders[i]);
+      if (value == null) {
+        throw new IllegalArgumentException("Missing template value: " + placeholders[i]);
+      }
+      builder.append(HtmlUtils.htmlEscape(value));
+    }
+    return builder.append(literals[placeholders.length]).toString();
+  }
+}
@@ -0,0 +1,29 @@
+package com.example.englishhubbackend.mail;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+@Component
+public class EmailTemplates {
+  private final EmailTemplate verification;
+
+  public EmailTemplates() {
+    this.verification = load("templates/email/verification.html");
+  }
+
+  public EmailTemplate verification() {
+    return verification;
+  }
+
+  private static EmailTemplate load(String path) {
+    try {
+      return EmailTemplate.compile(
+          new ClassPathResource(path).getContentAsString(StandardCharsets.UTF_8));
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to load email template " + path, e);
+    }
+  }
+}
@@ -13,6 +13,7 @@ import lombok.experimental.FieldDefaults;
 @AllArgsConstructor
 @FieldDefaults(level = AccessLevel.PRIVATE)
 @Entity
+@Table(indexes = @Index(name = "idx_course_created_at_id", columnList = "created_at, id"))
 public class Course {
   @Id
   @GeneratedValue(strategy = GenerationType.UUID)
@@ -0,0 +1,49 @@
+package com.example.englishhubbackend.models;
+
+import com.example.englishhubbackend.enums.EmailOutboxStatusEnum;
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@Entity
+@Table(
+    name = "email_outbox",
+    indexes = @Index(name = "idx_email_outbox_due", columnList = "status, next_attempt_at"))
+public class EmailOutbox {
+  @Id
+  @GeneratedValue(strategy = GenerationType.UUID)
+  UUID id;
+
+  @Column(nullable = false)
+  String recipient;
+
+  @Column(nullable = false)
+  String subject;
+
+  @Column(nullable = false, columnDefinition = "TEXT")
+  String body;
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false)
+  EmailOutboxStatusEnum status;
+
+  int attempts;
+
+  @Column(name = "next_attempt_at", nullable = false)
+  LocalDateTime nextAttemptAt;
+
+  @Column(columnDefinition = "TEXT")
+  String lastError;
+
+  @Column(nullable = false)
+  LocalDateTime createdAt;
+
+  LocalDateTime sentAt;
+}
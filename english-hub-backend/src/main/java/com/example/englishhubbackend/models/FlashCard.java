@@ -11,6 +11,7 @@ import lombok.experimental.FieldDefaults;
 @AllArgsConstructor
 @FieldDefaults(level = AccessLevel.PRIVATE)
 @Entity
+@Table(indexes = @Index(name = "idx_flash_card_deck_id", columnList = "deck_id, id"))
 public class FlashCard {
   @Id
   @GeneratedValue(strategy = GenerationType.UUID)
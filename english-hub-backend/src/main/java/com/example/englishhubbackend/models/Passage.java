@@ -1,5 +1,6 @@
 package com.example.englishhubbackend.models;
 
+import com.example.englishhubbackend.util.ContentHashUtil;
 import jakarta.persistence.*;
 import java.util.UUID;
 import lombok.*;
@@ -18,4 +19,13 @@ public class Passage {
 
   @Column(columnDefinition = "TEXT")
   String content;
+
+  @Column(name = "content_hash", length = 64, unique = true)
+  String contentHash;
+
+  @PrePersist
+  @PreUpdate
+  void computeContentHash() {
+    contentHash = ContentHashUtil.sha256(content);
+  }
 }
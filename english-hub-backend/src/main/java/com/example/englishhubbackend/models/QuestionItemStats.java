@@ -0,0 +1,48 @@
+package com.example.englishhubbackend.models;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * Running item-analysis sums for one question. Per option (A-D, then omitted) it keeps how many
+ * submissions chose it and the sum of those submissions' raw scores; together with the sum of
+ * squared raw scores this is enough to derive the p-value, choice distribution and point-biserial
+ * correlation against whichever option is currently the key.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@Entity
+@Table(
+    name = "question_item_stats",
+    indexes = @Index(name = "idx_question_item_stats_exam", columnList = "exam_id"))
+public class QuestionItemStats {
+  @Id
+  @Column(name = "question_id")
+  UUID questionId;
+
+  @Column(name = "exam_id", nullable = false)
+  UUID examId;
+
+  long countA;
+  long countB;
+  long countC;
+  long countD;
+  long countOmitted;
+
+  long scoreSumA;
+  long scoreSumB;
+  long scoreSumC;
+  long scoreSumD;
+  long scoreSumOmitted;
+
+  long scoreSquareSum;
+
+  @Column(name = "updated_at")
+  LocalDateTime updatedAt;
+}
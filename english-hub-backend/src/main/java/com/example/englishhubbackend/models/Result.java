@@ -12,11 +12,19 @@ import lombok.experimental.FieldDefaults;
 @AllArgsConstructor
 @FieldDefaults(level = AccessLevel.PRIVATE)
 @Entity
+@Table(
+    indexes = {
+      @Index(name = "idx_result_last_completed_at", columnList = "last_completed_at, id"),
+      @Index(name = "idx_result_user_completed_at", columnList = "user_id, last_completed_at")
+    })
 public class Result {
   @Id
   @GeneratedValue(strategy = GenerationType.UUID)
   UUID id;
 
+  @Column(name = "submission_id", unique = true)
+  UUID submissionId;
+
   int listeningScore;
 
   int readingScore;
@@ -24,6 +32,12 @@ public class Result {
   @JoinColumn(name = "last_completed_at")
   LocalDateTime lastCompletedAt;
 
+  @Column(name = "part_breakdown")
+  byte[] partBreakdown;
+
+  @Column(name = "incorrect_question_ids")
+  byte[] incorrectQuestionIds;
+
   @ManyToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "user_id")
   User user;
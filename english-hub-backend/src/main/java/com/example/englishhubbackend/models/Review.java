@@ -6,7 +6,15 @@ import java.util.UUID;
 import lombok.*;
 
 @Entity
-@Table(name = "review")
+@Table(
+    name = "review",
+    indexes = {
+      @Index(name = "idx_review_user_next_practice", columnList = "user_id, next_practice_date"),
+      @Index(
+          name = "uk_review_user_flash_card",
+          columnList = "user_id, flash_card_id",
+          unique = true)
+    })
 @Getter
 @Setter
 @NoArgsConstructor
@@ -30,6 +38,10 @@ public class Review {
 
   private int interval = 0;
 
+  private Float stability;
+
+  private Float difficulty;
+
   private LocalDate nextPracticeDate = LocalDate.now();
 
   private LocalDate lastReviewedDate;
@@ -0,0 +1,32 @@
+package com.example.englishhubbackend.models;
+
+import com.example.englishhubbackend.enums.SchedulingAlgorithmEnum;
+import jakarta.persistence.*;
+import java.util.UUID;
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@Entity
+@Table(name = "scheduling_profile")
+public class SchedulingProfile {
+  @Id
+  @Column(name = "user_id")
+  UUID userId;
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false)
+  SchedulingAlgorithmEnum algorithm;
+
+  double desiredRetention;
+
+  @JdbcTypeCode(SqlTypes.ARRAY)
+  @Column(columnDefinition = "float8[]")
+  double[] weights;
+}
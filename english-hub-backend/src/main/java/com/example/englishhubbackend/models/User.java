@@ -16,7 +16,9 @@ import lombok.experimental.FieldDefaults;
 @AllArgsConstructor
 @FieldDefaults(level = AccessLevel.PRIVATE)
 @Entity
-@Table(name = "users")
+@Table(
+    name = "users",
+    indexes = @Index(name = "idx_users_join_date_id", columnList = "join_date, id"))
 public class User {
   @Id
   @GeneratedValue(strategy = GenerationType.UUID)
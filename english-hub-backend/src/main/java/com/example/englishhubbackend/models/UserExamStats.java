@@ -0,0 +1,39 @@
+package com.example.englishhubbackend.models;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@Entity
+@Table(
+    name = "user_exam_stats",
+    uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "exam_id"}))
+public class UserExamStats {
+  @Id
+  @GeneratedValue(strategy = GenerationType.UUID)
+  UUID id;
+
+  @Column(name = "user_id", nullable = false)
+  UUID userId;
+
+  @Column(name = "exam_id", nullable = false)
+  UUID examId;
+
+  int attempts;
+
+  int bestScore;
+
+  int bestListeningScore;
+
+  int bestReadingScore;
+
+  @Column(name = "last_attempt_at")
+  LocalDateTime lastAttemptAt;
+}
@@ -1,9 +1,20 @@
 package com.example.englishhubbackend.repository;
 
 import com.example.englishhubbackend.models.Audio;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface AudioRepository extends JpaRepository<Audio, UUID> {
-  Audio findByUrl(String audioUrl);
+  List<Audio> findAllByUrlIn(Collection<String> urls);
+
+  @Modifying
+  @Query(
+      value = "INSERT INTO audio (id, url) VALUES (:id, :url) ON CONFLICT (url) DO NOTHING",
+      nativeQuery = true)
+  void insertIfAbsent(@Param("id") UUID id, @Param("url") String url);
 }
@@ -1,12 +1,47 @@
 package com.example.englishhubbackend.repository;
 
 import com.example.englishhubbackend.models.Deck;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface DeckRepository extends JpaRepository<Deck, UUID> {
-  List<Deck> findAllByOrderByCreatedDateAsc();
+  @Query(
+      value =
+          """
+          SELECT * FROM deck
+          WHERE created_at IS NOT NULL
+          ORDER BY created_at, id
+          LIMIT :limit
+          """,
+      nativeQuery = true)
+  List<Deck> findPage(@Param("limit") int limit);
+
+  @Query(
+      value =
+          """
+          SELECT * FROM deck
+          WHERE (created_at, id) > (:key, :id)
+          ORDER BY created_at, id
+          LIMIT :limit
+          """,
+      nativeQuery = true)
+  List<Deck> findPageAfter(
+      @Param("key") LocalDate key, @Param("id") UUID id, @Param("limit") int limit);
+
+  @Query(
+      value =
+          """
+          SELECT * FROM deck
+          WHERE created_at IS NULL AND id > :id
+          ORDER BY id
+          LIMIT :limit
+          """,
+      nativeQuery = true)
+  List<Deck> findUndatedPageAfter(@Param("id") UUID id, @Param("limit") int limit);
 }
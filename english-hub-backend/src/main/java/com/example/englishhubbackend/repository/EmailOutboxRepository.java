@@ -0,0 +1,25 @@
+package com.example.englishhubbackend.repository;
+
+import com.example.englishhubbackend.models.EmailOutbox;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface EmailOutboxRepository extends JpaRepository<EmailOutbox, UUID> {
+  @Query(
+      value =
+          """
+          SELECT * FROM email_outbox
+          WHERE status = 'PENDING' AND next_attempt_at <= :now
+          ORDER BY next_attempt_at
+          LIMIT :limit
+          FOR UPDATE SKIP LOCKED
+          """,
+      nativeQuery = true)
+  List<EmailOutbox> lockDue(@Param("now") LocalDateTime now, @Param("limit") int limit);
+}
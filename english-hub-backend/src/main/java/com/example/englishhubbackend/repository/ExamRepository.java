@@ -1,10 +1,48 @@
 package com.example.englishhubbackend.repository;
 
 import com.example.englishhubbackend.models.Exam;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface ExamRepository extends JpaRepository<Exam, UUID> {
-  List<Exam> findAllByOrderByCreatedDateAsc();
+  @Query("SELECT e.id FROM Exam e")
+  List<UUID> findIds();
+
+  @Query(
+      value =
+          """
+          SELECT * FROM exam
+          WHERE created_at IS NOT NULL
+          ORDER BY created_at, id
+          LIMIT :limit
+          """,
+      nativeQuery = true)
+  List<Exam> findPage(@Param("limit") int limit);
+
+  @Query(
+      value =
+          """
+          SELECT * FROM exam
+          WHERE (created_at, id) > (:key, :id)
+          ORDER BY created_at, id
+          LIMIT :limit
+          """,
+      nativeQuery = true)
+  List<Exam> findPageAfter(
+      @Param("key") LocalDateTime key, @Param("id") UUID id, @Param("limit") int limit);
+
+  @Query(
+      value =
+          """
+          SELECT * FROM exam
+          WHERE created_at IS NULL AND id > :id
+          ORDER BY id
+          LIMIT :limit
+          """,
+      nativeQuery = true)
+  List<Exam> findUndatedPageAfter(@Param("id") UUID id, @Param("limit") int limit);
 }
@@ -0,0 +1,91 @@
+package com.example.englishhubbackend.repository;
+
+import com.example.englishhubbackend.export.ExportWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Reporting exports read through a forward-only cursor and hand each row to an {@link
+ * ExportWriter}, so memory stays flat regardless of table size. Callers must run inside a
+ * transaction or the driver fetches the whole result set at once.
+ */
+@Repository
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ExportRepository {
+  private static final String SELECT_RESULTS =
+      """
+      SELECT r.id AS "id", r.user_id AS "userId", u.email AS "email", r.exam_id AS "examId",
+             e.title AS "examTitle", r.listening_score AS "listeningScore",
+             r.reading_score AS "readingScore",
+             r.listening_score + r.reading_score AS "totalScore",
+             r.last_completed_at AS "lastCompletedAt"
+      FROM result r
+      LEFT JOIN users u ON u.id = r.user_id
+      LEFT JOIN exam e ON e.id = r.exam_id
+      WHERE r.last_completed_at >= ? AND r.last_completed_at < ?
+      ORDER BY r.last_completed_at, r.id
+      """;
+
+  private static final String SELECT_USERS =
+      """
+      SELECT id AS "id", username AS "username", email AS "email", role_id AS "role",
+             status AS "status", enabled AS "enabled", join_date AS "joinDate"
+      FROM users
+      ORDER BY join_date, id
+      """;
+
+  JdbcTemplate jdbcTemplate;
+  int fetchSize;
+
+  public ExportRepository(
+      JdbcTemplate jdbcTemplate, @Value("${export.fetch-size:2000}") int fetchSize) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.fetchSize = fetchSize;
+  }
+
+  public void exportResults(LocalDateTime from, LocalDateTime to, ExportWriter writer) {
+    export(SELECT_RESULTS, writer, Timestamp.valueOf(from), Timestamp.valueOf(to));
+  }
+
+  public void exportUsers(ExportWriter writer) {
+    export(SELECT_USERS, writer);
+  }
+
+  private void export(String sql, ExportWriter writer, Object... args) {
+    jdbcTemplate.query(
+        (Connection connection) -> {
+          PreparedStatement ps =
+              connection.prepareStatement(
+                  sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+          ps.setFetchSize(fetchSize);
+          for (int i = 0; i < args.length; i++) {
+            ps.setObject(i + 1, args[i]);
+          }
+          return ps;
+        },
+        (ResultSetExtractor<Void>)
+            rs -> {
+              try {
+                writer.begin(rs.getMetaData());
+                while (rs.next()) {
+                  writer.writeRow(rs);
+                }
+                writer.finish();
+              } catch (IOException e) {
+                throw new UncheckedIOException(e);
+              }
+              return null;
+            });
+  }
+}
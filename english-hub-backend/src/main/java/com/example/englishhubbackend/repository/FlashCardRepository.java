@@ -1,12 +1,28 @@
 package com.example.englishhubbackend.repository;
 
 import com.example.englishhubbackend.models.FlashCard;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface FlashCardRepository extends JpaRepository<FlashCard, UUID> {
-  List<FlashCard> findAllByDeckId(UUID deckId);
+  @Query(
+      value =
+          """
+          SELECT * FROM flash_card
+          WHERE deck_id = :deckId AND id > :id
+          ORDER BY id
+          LIMIT :limit
+          """,
+      nativeQuery = true)
+  List<FlashCard> findPageByDeckId(
+      @Param("deckId") UUID deckId, @Param("id") UUID id, @Param("limit") int limit);
+
+  @Query("SELECT f.id FROM FlashCard f WHERE f.id IN :ids")
+  List<UUID> findExistingIds(@Param("ids") Collection<UUID> ids);
 }
@@ -1,9 +1,39 @@
 package com.example.englishhubbackend.repository;
 
 import com.example.englishhubbackend.models.Passage;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface PassageRepository extends JpaRepository<Passage, UUID> {
-  Passage findByContent(String passage);
+  Optional<Passage> findByContentHash(String contentHash);
+
+  List<Passage> findAllByContentHashIn(Collection<String> contentHashes);
+
+  List<Passage> findTop200ByContentHashIsNullAndContentIsNotNull();
+
+  @Modifying
+  @Query(
+      value =
+          """
+          INSERT INTO passage (id, content, content_hash)
+          VALUES (:id, :content, :contentHash)
+          ON CONFLICT (content_hash) DO NOTHING
+          """,
+      nativeQuery = true)
+  void insertIfAbsent(
+      @Param("id") UUID id,
+      @Param("content") String content,
+      @Param("contentHash") String contentHash);
+
+  @Modifying
+  @Query(
+      value = "UPDATE reading_question SET passage_id = :to WHERE passage_id = :from",
+      nativeQuery = true)
+  void reassignQuestions(@Param("from") UUID from, @Param("to") UUID to);
 }
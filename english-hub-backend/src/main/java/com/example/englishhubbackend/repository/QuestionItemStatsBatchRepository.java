@@ -0,0 +1,78 @@
+package com.example.englishhubbackend.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class QuestionItemStatsBatchRepository {
+  // The EXISTS guard drops deltas for an exam deleted after they were drained, so a late flush
+  // cannot recreate rows that deleteExam just removed.
+  private static final String ADD_DELTAS =
+      "INSERT INTO question_item_stats (question_id, exam_id, count_a, count_b, count_c, count_d,"
+          + " count_omitted, score_sum_a, score_sum_b, score_sum_c, score_sum_d, score_sum_omitted,"
+          + " score_square_sum, updated_at) SELECT ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?"
+          + " WHERE EXISTS (SELECT 1 FROM exam WHERE id = ?)"
+          + " ON CONFLICT (question_id) DO UPDATE SET exam_id = EXCLUDED.exam_id,"
+          + " count_a = question_item_stats.count_a + EXCLUDED.count_a,"
+          + " count_b = question_item_stats.count_b + EXCLUDED.count_b,"
+          + " count_c = question_item_stats.count_c + EXCLUDED.count_c,"
+          + " count_d = question_item_stats.count_d + EXCLUDED.count_d,"
+          + " count_omitted = question_item_stats.count_omitted + EXCLUDED.count_omitted,"
+          + " score_sum_a = question_item_stats.score_sum_a + EXCLUDED.score_sum_a,"
+          + " score_sum_b = question_item_stats.score_sum_b + EXCLUDED.score_sum_b,"
+          + " score_sum_c = question_item_stats.score_sum_c + EXCLUDED.score_sum_c,"
+          + " score_sum_d = question_item_stats.score_sum_d + EXCLUDED.score_sum_d,"
+          + " score_sum_omitted = question_item_stats.score_sum_omitted"
+          + " + EXCLUDED.score_sum_omitted,"
+          + " score_square_sum = question_item_stats.score_square_sum + EXCLUDED.score_square_sum,"
+          + " updated_at = EXCLUDED.updated_at";
+
+  JdbcTemplate jdbcTemplate;
+
+  /**
+   * Sums accumulated for one question since the last flush, laid out as in {@code
+   * ItemAnalysisAccumulator}: five choice counts, five score sums, then the squared-score sum.
+   * {@code failures} counts the flushes of these sums that have already failed.
+   */
+  public record Delta(UUID questionId, UUID examId, long[] sums, int failures) {
+    public Delta withFailures(int failures) {
+      return new Delta(questionId, examId, sums, failures);
+    }
+  }
+
+  public int[] addAll(List<Delta> deltas, LocalDateTime now) {
+    Timestamp updatedAt = Timestamp.valueOf(now);
+    return jdbcTemplate.batchUpdate(
+        ADD_DELTAS,
+        new BatchPreparedStatementSetter() {
+          @Override
+          public void setValues(PreparedStatement ps, int i) throws SQLException {
+            Delta delta = deltas.get(i);
+            ps.setObject(1, delta.questionId());
+            ps.setObject(2, delta.examId());
+            for (int j = 0; j < delta.sums().length; j++) {
+              ps.setLong(3 + j, delta.sums()[j]);
+            }
+            ps.setTimestamp(14, updatedAt);
+            ps.setObject(15, delta.examId());
+          }
+
+          @Override
+          public int getBatchSize() {
+            return deltas.size();
+          }
+        });
+  }
+}
@@ -0,0 +1,21 @@
+package com.example.englishhubbackend.repository;
+
+import com.example.englishhubbackend.models.QuestionItemStats;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface QuestionItemStatsRepository extends JpaRepository<QuestionItemStats, UUID> {
+  List<QuestionItemStats> findAllByExamId(UUID examId);
+
+  @Transactional
+  @Modifying
+  @Query("DELETE FROM QuestionItemStats s WHERE s.examId = :examId")
+  void deleteAllByExamId(@Param("examId") UUID examId);
+}
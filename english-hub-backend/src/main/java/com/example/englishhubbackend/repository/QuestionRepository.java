@@ -7,4 +7,6 @@ import org.springframework.data.jpa.repository.JpaRepository;
 
 public interface QuestionRepository extends JpaRepository<Question, UUID> {
   List<Question> findAllByGroupId(UUID groupId);
+
+  List<Question> findAllByExamIdOrderByCreatedAtAsc(UUID examId);
 }
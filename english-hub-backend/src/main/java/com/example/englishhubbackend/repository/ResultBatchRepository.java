@@ -0,0 +1,51 @@
+package com.example.englishhubbackend.repository;
+
+import com.example.englishhubbackend.store.PendingResult;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ResultBatchRepository {
+  private static final String INSERT_RESULT =
+      "INSERT INTO result (id, submission_id, user_id, exam_id, listening_score, reading_score,"
+          + " last_completed_at, part_breakdown, incorrect_question_ids)"
+          + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)"
+          + " ON CONFLICT (submission_id) DO NOTHING";
+
+  JdbcTemplate jdbcTemplate;
+
+  public int[] insertAll(List<PendingResult> results) {
+    return jdbcTemplate.batchUpdate(
+        INSERT_RESULT,
+        new BatchPreparedStatementSetter() {
+          @Override
+          public void setValues(PreparedStatement ps, int i) throws SQLException {
+            PendingResult result = results.get(i);
+            ps.setObject(1, result.resultId());
+            ps.setObject(2, result.submissionId());
+            ps.setObject(3, result.userId());
+            ps.setObject(4, result.examId());
+            ps.setInt(5, result.listeningScore());
+            ps.setInt(6, result.readingScore());
+            ps.setTimestamp(7, Timestamp.valueOf(result.completedAt()));
+            ps.setBytes(8, result.partBreakdown());
+            ps.setBytes(9, result.incorrectQuestionIds());
+          }
+
+          @Override
+          public int getBatchSize() {
+            return results.size();
+          }
+        });
+  }
+}
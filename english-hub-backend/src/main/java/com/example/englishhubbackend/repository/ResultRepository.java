@@ -1,9 +1,11 @@
 package com.example.englishhubbackend.repository;
 
-import com.example.englishhubbackend.models.Exam;
 import com.example.englishhubbackend.models.Result;
-import com.example.englishhubbackend.models.User;
+import com.example.englishhubbackend.repository.projection.UserExamAggregate;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -11,9 +13,17 @@ import org.springframework.stereotype.Repository;
 
 @Repository
 public interface ResultRepository extends JpaRepository<Result, UUID> {
-  int countByUserAndExam(User user, Exam exam);
-
   @Query(
-      "SELECT MAX(r.listeningScore + r.readingScore) FROM Result r WHERE r.user = :user AND r.exam = :exam")
-  Integer findHighestScoreByUserAndExam(@Param("user") User user, @Param("exam") Exam exam);
+      "SELECT r.user.id AS userId, r.exam.id AS examId, COUNT(r) AS attempts,"
+          + " MAX(r.listeningScore + r.readingScore) AS bestScore,"
+          + " MAX(r.listeningScore) AS bestListeningScore,"
+          + " MAX(r.readingScore) AS bestReadingScore,"
+          + " MAX(r.lastCompletedAt) AS lastAttemptAt"
+          + " FROM Result r WHERE r.user.id IN :userIds GROUP BY r.user.id, r.exam.id")
+  List<UserExamAggregate> aggregateByUserIds(@Param("userIds") Collection<UUID> userIds);
+
+  List<Result> findByUserIdOrderByLastCompletedAtDesc(UUID userId, Pageable pageable);
+
+  List<Result> findByUserIdAndExamIdOrderByLastCompletedAtDesc(
+      UUID userId, UUID examId, Pageable pageable);
 }
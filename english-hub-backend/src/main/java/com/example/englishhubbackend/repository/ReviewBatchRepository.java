@@ -0,0 +1,72 @@
+package com.example.englishhubbackend.repository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ReviewBatchRepository {
+  private static final String UPSERT_REVIEW =
+      "INSERT INTO review (id, user_id, flash_card_id, repetitions, easiness_factor, \"interval\","
+          + " stability, difficulty, next_practice_date, last_reviewed_date)"
+          + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)"
+          + " ON CONFLICT (user_id, flash_card_id) DO UPDATE"
+          + " SET repetitions = EXCLUDED.repetitions, easiness_factor = EXCLUDED.easiness_factor,"
+          + " \"interval\" = EXCLUDED.\"interval\","
+          + " stability = EXCLUDED.stability, difficulty = EXCLUDED.difficulty,"
+          + " next_practice_date = EXCLUDED.next_practice_date,"
+          + " last_reviewed_date = EXCLUDED.last_reviewed_date"
+          + " WHERE review.last_reviewed_date IS NULL"
+          + " OR review.last_reviewed_date <= EXCLUDED.last_reviewed_date";
+
+  JdbcTemplate jdbcTemplate;
+
+  public record Row(
+      UUID id,
+      UUID userId,
+      UUID flashCardId,
+      int repetitions,
+      float easinessFactor,
+      int interval,
+      float stability,
+      float difficulty,
+      LocalDate nextPracticeDate,
+      LocalDate lastReviewedDate) {}
+
+  public int[] upsertAll(List<Row> rows) {
+    return jdbcTemplate.batchUpdate(
+        UPSERT_REVIEW,
+        new BatchPreparedStatementSetter() {
+          @Override
+          public void setValues(PreparedStatement ps, int i) throws SQLException {
+            Row row = rows.get(i);
+            ps.setObject(1, row.id());
+            ps.setObject(2, row.userId());
+            ps.setObject(3, row.flashCardId());
+            ps.setInt(4, row.repetitions());
+            ps.setFloat(5, row.easinessFactor());
+            ps.setInt(6, row.interval());
+            ps.setFloat(7, row.stability());
+            ps.setFloat(8, row.difficulty());
+            ps.setDate(9, Date.valueOf(row.nextPracticeDate()));
+            ps.setDate(10, Date.valueOf(row.lastReviewedDate()));
+          }
+
+          @Override
+          public int getBatchSize() {
+            return rows.size();
+          }
+        });
+  }
+}
@@ -0,0 +1,142 @@
+package com.example.englishhubbackend.repository;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Append-only history of ratings in the month-partitioned {@code review_log} table (created by
+ * {@code ReviewLogPartitionJob}). Reads stream through a forward-only cursor and never materialize
+ * the result set, so callers must run them inside a transaction.
+ */
+@Repository
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ReviewLogRepository {
+  private static final String INSERT_LOG =
+      "INSERT INTO review_log (user_id, flash_card_id, reviewed_at, reviewed_on, elapsed_days,"
+          + " \"interval\", repetitions, easiness_factor, stability, difficulty, rating, algorithm)"
+          + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+  private static final String SELECT_COLUMNS =
+      "SELECT id, user_id, flash_card_id, reviewed_at, reviewed_on, elapsed_days, \"interval\","
+          + " repetitions, easiness_factor, stability, difficulty, rating, algorithm"
+          + " FROM review_log";
+
+  private static final int FETCH_SIZE = 1000;
+
+  JdbcTemplate jdbcTemplate;
+
+  public record Entry(
+      long id,
+      UUID userId,
+      UUID flashCardId,
+      LocalDateTime reviewedAt,
+      LocalDate reviewedOn,
+      int elapsedDays,
+      int interval,
+      int repetitions,
+      float easinessFactor,
+      float stability,
+      float difficulty,
+      int rating,
+      int algorithm) {}
+
+  @FunctionalInterface
+  public interface EntryConsumer {
+    void accept(Entry entry) throws SQLException;
+  }
+
+  public int[] appendAll(List<Entry> entries) {
+    return jdbcTemplate.batchUpdate(
+        INSERT_LOG,
+        new BatchPreparedStatementSetter() {
+          @Override
+          public void setValues(PreparedStatement ps, int i) throws SQLException {
+            Entry entry = entries.get(i);
+            ps.setObject(1, entry.userId());
+            ps.setObject(2, entry.flashCardId());
+            ps.setTimestamp(3, Timestamp.valueOf(entry.reviewedAt()));
+            ps.setDate(4, Date.valueOf(entry.reviewedOn()));
+            ps.setInt(5, entry.elapsedDays());
+            ps.setInt(6, entry.interval());
+            ps.setInt(7, entry.repetitions());
+            ps.setFloat(8, entry.easinessFactor());
+            ps.setFloat(9, entry.stability());
+            ps.setFloat(10, entry.difficulty());
+            ps.setShort(11, (short) entry.rating());
+            ps.setShort(12, (short) entry.algorithm());
+          }
+
+          @Override
+          public int getBatchSize() {
+            return entries.size();
+          }
+        });
+  }
+
+  public void streamByUser(UUID userId, LocalDate from, LocalDate to, EntryConsumer consumer) {
+    stream(
+        SELECT_COLUMNS
+            + " WHERE user_id = ? AND reviewed_on >= ? AND reviewed_on < ?"
+            + " ORDER BY reviewed_on, id",
+        consumer,
+        userId,
+        Date.valueOf(from),
+        Date.valueOf(to));
+  }
+
+  public void streamAll(LocalDate from, LocalDate to, EntryConsumer consumer) {
+    stream(
+        SELECT_COLUMNS + " WHERE reviewed_on >= ? AND reviewed_on < ? ORDER BY reviewed_on, id",
+        consumer,
+        Date.valueOf(from),
+        Date.valueOf(to));
+  }
+
+  private void stream(String sql, EntryConsumer consumer, Object... args) {
+    jdbcTemplate.query(
+        (Connection connection) -> {
+          PreparedStatement ps =
+              connection.prepareStatement(
+                  sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+          ps.setFetchSize(FETCH_SIZE);
+          for (int i = 0; i < args.length; i++) {
+            ps.setObject(i + 1, args[i]);
+          }
+          return ps;
+        },
+        (RowCallbackHandler) rs -> consumer.accept(toEntry(rs)));
+  }
+
+  private static Entry toEntry(ResultSet rs) throws SQLException {
+    return new Entry(
+        rs.getLong(1),
+        rs.getObject(2, UUID.class),
+        rs.getObject(3, UUID.class),
+        rs.getTimestamp(4).toLocalDateTime(),
+        rs.getDate(5).toLocalDate(),
+        rs.getInt(6),
+        rs.getInt(7),
+        rs.getInt(8),
+        rs.getFloat(9),
+        rs.getFloat(10),
+        rs.getFloat(11),
+        rs.getShort(12),
+        rs.getShort(13));
+  }
+}
@@ -1,11 +1,15 @@
 package com.example.englishhubbackend.repository;
 
 import com.example.englishhubbackend.models.Review;
+import com.example.englishhubbackend.repository.projection.ReviewSchedule;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -13,4 +17,11 @@ public interface ReviewRepository extends JpaRepository<Review, UUID> {
   List<Review> findByUserIdAndNextPracticeDateLessThanEqual(UUID userId, LocalDate date);
 
   Optional<Review> findByUserIdAndFlashCardId(UUID userId, UUID flashCardId);
+
+  List<Review> findAllByUserIdAndFlashCardIdIn(UUID userId, Collection<UUID> flashCardIds);
+
+  @Query(
+      "SELECT r.flashCard.id AS flashCardId, r.nextPracticeDate AS nextPracticeDate"
+          + " FROM Review r WHERE r.user.id = :userId")
+  List<ReviewSchedule> findScheduleByUserId(@Param("userId") UUID userId);
 }
@@ -0,0 +1,9 @@
+package com.example.englishhubbackend.repository;
+
+import com.example.englishhubbackend.models.SchedulingProfile;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface SchedulingProfileRepository extends JpaRepository<SchedulingProfile, UUID> {}
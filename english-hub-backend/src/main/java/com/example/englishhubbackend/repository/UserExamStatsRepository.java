@@ -0,0 +1,61 @@
+package com.example.englishhubbackend.repository;
+
+import com.example.englishhubbackend.models.UserExamStats;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface UserExamStatsRepository extends JpaRepository<UserExamStats, UUID> {
+  List<UserExamStats> findAllByUserId(UUID userId);
+
+  List<UserExamStats> findAllByUserIdIn(Collection<UUID> userIds);
+
+  @Modifying
+  @Query(
+      value =
+          """
+          INSERT INTO user_exam_stats (id, user_id, exam_id, attempts, best_score,
+              best_listening_score, best_reading_score, last_attempt_at)
+          VALUES (:id, :userId, :examId, 1, :listeningScore + :readingScore,
+              :listeningScore, :readingScore, :completedAt)
+          ON CONFLICT (user_id, exam_id) DO UPDATE SET
+              attempts = user_exam_stats.attempts + 1,
+              best_score = GREATEST(user_exam_stats.best_score, EXCLUDED.best_score),
+              best_listening_score =
+                  GREATEST(user_exam_stats.best_listening_score, EXCLUDED.best_listening_score),
+              best_reading_score =
+                  GREATEST(user_exam_stats.best_reading_score, EXCLUDED.best_reading_score),
+              last_attempt_at = GREATEST(user_exam_stats.last_attempt_at, EXCLUDED.last_attempt_at)
+          """,
+      nativeQuery = true)
+  void upsertAttempt(
+      @Param("id") UUID id,
+      @Param("userId") UUID userId,
+      @Param("examId") UUID examId,
+      @Param("listeningScore") int listeningScore,
+      @Param("readingScore") int readingScore,
+      @Param("completedAt") LocalDateTime completedAt);
+
+  // Inserting a result takes FOR KEY SHARE on its user through the foreign key, so holding the
+  // users FOR UPDATE keeps ResultFlushJob from recording attempts for them until the caller
+  // commits.
+  @Query(
+      value = "SELECT id FROM users WHERE id IN (:userIds) ORDER BY id FOR UPDATE",
+      nativeQuery = true)
+  List<UUID> lockUsers(@Param("userIds") Collection<UUID> userIds);
+
+  @Modifying
+  @Query("DELETE FROM UserExamStats s WHERE s.userId IN :userIds")
+  void deleteAllByUserIdIn(@Param("userIds") Collection<UUID> userIds);
+
+  @Modifying
+  @Query("DELETE FROM UserExamStats s WHERE s.examId = :examId")
+  void deleteAllByExamId(@Param("examId") UUID examId);
+}
@@ -1,12 +1,19 @@
 package com.example.englishhubbackend.repository;
 
 import com.example.englishhubbackend.models.User;
-
+import com.example.englishhubbackend.repository.projection.UserSummary;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, UUID> {
@@ -14,5 +21,52 @@ public interface UserRepository extends JpaRepository<User, UUID> {
 
   Optional<User> findByEmail(String email);
 
-  List<User> findAllByOrderByJoinDateDesc();
+  @Query(
+      value =
+          """
+          SELECT * FROM users
+          WHERE join_date IS NOT NULL
+          ORDER BY join_date DESC, id DESC
+          LIMIT :limit
+          """,
+      nativeQuery = true)
+  List<User> findPage(@Param("limit") int limit);
+
+  @Query(
+      value =
+          """
+          SELECT * FROM users
+          WHERE (join_date, id) < (:joinDate, :id)
+          ORDER BY join_date DESC, id DESC
+          LIMIT :limit
+          """,
+      nativeQuery = true)
+  List<User> findPageBefore(
+      @Param("joinDate") LocalDate joinDate, @Param("id") UUID id, @Param("limit") int limit);
+
+  @Query(
+      value =
+          """
+          SELECT * FROM users
+          WHERE join_date IS NULL AND id < :id
+          ORDER BY id DESC
+          LIMIT :limit
+          """,
+      nativeQuery = true)
+  List<User> findUndatedPageBefore(@Param("id") UUID id, @Param("limit") int limit);
+
+  @Query("SELECT u.id AS id, u.username AS username FROM User u WHERE u.id IN :ids")
+  List<UserSummary> findSummariesByIdIn(@Param("ids") Collection<UUID> ids);
+
+  @Query("SELECT u.id FROM User u ORDER BY u.id")
+  List<UUID> findIds(Pageable pageable);
+
+  @Query("SELECT u.id FROM User u WHERE u.id > :after ORDER BY u.id")
+  List<UUID> findIdsAfter(@Param("after") UUID after, Pageable pageable);
+
+  @Transactional
+  @Modifying
+  @Query("UPDATE User u SET u.password = :password WHERE u.id = :id AND u.password = :previous")
+  int updatePassword(
+      @Param("id") UUID id, @Param("previous") String previous, @Param("password") String password);
 }
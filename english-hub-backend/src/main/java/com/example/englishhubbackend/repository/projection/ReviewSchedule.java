@@ -0,0 +1,10 @@
+package com.example.englishhubbackend.repository.projection;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+public interface ReviewSchedule {
+  UUID getFlashCardId();
+
+  LocalDate getNextPracticeDate();
+}
@@ -0,0 +1,20 @@
+package com.example.englishhubbackend.repository.projection;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface UserExamAggregate {
+  UUID getUserId();
+
+  UUID getExamId();
+
+  Long getAttempts();
+
+  Integer getBestScore();
+
+  Integer getBestListeningScore();
+
+  Integer getBestReadingScore();
+
+  LocalDateTime getLastAttemptAt();
+}
@@ -0,0 +1,9 @@
+package com.example.englishhubbackend.repository.projection;
+
+import java.util.UUID;
+
+public interface UserSummary {
+  UUID getId();
+
+  String getUsername();
+}
@@ -0,0 +1,109 @@
+package com.example.englishhubbackend.scheduling;
+
+import com.example.englishhubbackend.enums.SchedulingAlgorithmEnum;
+import org.springframework.stereotype.Component;
+
+/**
+ * FSRS-4.5: a two-component (stability, difficulty) memory model with a power forgetting curve.
+ * Intervals are chosen so predicted recall equals the user's desired retention when due.
+ */
+@Component
+public class FsrsSchedulingAlgorithm implements SchedulingAlgorithm {
+  public static final double DEFAULT_RETENTION = 0.9;
+  public static final double[] DEFAULT_WEIGHTS = {
+    0.4872, 1.4003, 3.7145, 13.8206, 5.1618, 1.2298, 0.8975, 0.031, 1.6474, 0.1367, 1.0461, 2.1072,
+    0.0793, 0.3246, 1.587, 0.2272, 2.8755
+  };
+  public static final int WEIGHT_COUNT = DEFAULT_WEIGHTS.length;
+
+  // Per-weight bounds used by the FSRS-4.5 optimizer's parameter clipper. Anything outside them
+  // can produce zero, negative or non-finite stability and therefore unusable intervals.
+  private static final double[] MIN_WEIGHTS = {
+    0.1, 0.1, 0.1, 0.1, 1, 0.1, 0.1, 0, 0, 0, 0.01, 0.1, 0.01, 0.01, 0.01, 0, 1
+  };
+  private static final double[] MAX_WEIGHTS = {
+    100, 100, 100, 100, 10, 5, 5, 0.75, 4.5, 0.8, 3.5, 5, 0.25, 0.9, 4, 1, 6
+  };
+
+  private static final double DECAY = -0.5;
+  private static final double FACTOR = 19.0 / 81.0;
+
+  // Client ratings 0-4 collapse onto the four FSRS grades: again, again, hard, good, easy.
+  private static final int[] GRADE = {1, 1, 2, 3, 4};
+
+  /** Whether {@code weights} has the right length and every weight is finite and within bounds. */
+  public static boolean isValidWeights(double[] weights) {
+    if (weights.length != WEIGHT_COUNT) {
+      return false;
+    }
+    for (int i = 0; i < WEIGHT_COUNT; i++) {
+      // Negated so NaN, which fails every comparison, is rejected too.
+      if (!(weights[i] >= MIN_WEIGHTS[i] && weights[i] <= MAX_WEIGHTS[i])) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public SchedulingAlgorithmEnum type() {
+    return SchedulingAlgorithmEnum.FSRS;
+  }
+
+  @Override
+  public void schedule(
+      ReviewStates states,
+      int[] ratings,
+      long[] reviewDays,
+      int length,
+      SchedulingParameters parameters) {
+    double[] w = parameters.weights();
+    double intervalFactor = (Math.pow(parameters.desiredRetention(), 1 / DECAY) - 1) / FACTOR;
+    double easyDifficulty = w[4] - w[5];
+    int maximumInterval = parameters.maximumInterval();
+
+    for (int i = 0; i < length; i++) {
+      int grade = GRADE[ratings[i]];
+      double stability = states.stability[i];
+      double difficulty = states.difficulty[i];
+
+      if (stability <= 0 || states.lastDays[i] == ReviewStates.NEVER) {
+        stability = w[grade - 1];
+        difficulty = clampDifficulty(w[4] - (grade - 3) * w[5]);
+      } else {
+        double elapsed = Math.max(0, reviewDays[i] - states.lastDays[i]);
+        double retrievability = Math.pow(1 + FACTOR * elapsed / stability, DECAY);
+        if (grade == 1) {
+          stability =
+              w[11]
+                  * Math.pow(difficulty, -w[12])
+                  * (Math.pow(stability + 1, w[13]) - 1)
+                  * Math.exp(w[14] * (1 - retrievability));
+        } else {
+          double hardPenalty = grade == 2 ? w[15] : 1;
+          double easyBonus = grade == 4 ? w[16] : 1;
+          stability *=
+              1
+                  + Math.exp(w[8])
+                      * (11 - difficulty)
+                      * Math.pow(stability, -w[9])
+                      * (Math.exp(w[10] * (1 - retrievability)) - 1)
+                      * hardPenalty
+                      * easyBonus;
+        }
+        double next = difficulty - w[6] * (grade - 3);
+        difficulty = clampDifficulty(w[7] * easyDifficulty + (1 - w[7]) * next);
+      }
+
+      long interval = Math.round(stability * intervalFactor);
+      states.stability[i] = (float) stability;
+      states.difficulty[i] = (float) difficulty;
+      states.intervals[i] = (int) Math.min(Math.max(interval, 1), maximumInterval);
+      states.repetitions[i] = grade == 1 ? 0 : states.repetitions[i] + 1;
+    }
+  }
+
+  private static double clampDifficulty(double difficulty) {
+    return Math.min(Math.max(difficulty, 1), 10);
+  }
+}
@@ -0,0 +1,71 @@
+package com.example.englishhubbackend.scheduling;
+
+import java.util.Arrays;
+
+/**
+ * Historic review events packed into primitive arrays and grouped by card: card {@code c} owns
+ * events {@code [cardStart[c], cardStart[c + 1])} in chronological order.
+ */
+public record ReviewEventLog(
+    int[] cardStart, long[] days, byte[] ratings, long firstDay, long lastDay) {
+  public int cardCount() {
+    return cardStart.length - 1;
+  }
+
+  public int eventCount() {
+    return days.length;
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /** Accepts events in chronological order per card; cards are dense indexes from zero. */
+  public static final class Builder {
+    private int[] cards = new int[1024];
+    private long[] days = new long[1024];
+    private byte[] ratings = new byte[1024];
+    private int size;
+    private int cardCount;
+    private long firstDay = Long.MAX_VALUE;
+    private long lastDay = Long.MIN_VALUE;
+
+    public Builder add(int card, long day, int rating) {
+      if (size == cards.length) {
+        int capacity = size * 2;
+        cards = Arrays.copyOf(cards, capacity);
+        days = Arrays.copyOf(days, capacity);
+        ratings = Arrays.copyOf(ratings, capacity);
+      }
+      cards[size] = card;
+      days[size] = day;
+      ratings[size] = (byte) SchedulingAlgorithm.checkRating(rating);
+      size++;
+      cardCount = Math.max(cardCount, card + 1);
+      firstDay = Math.min(firstDay, day);
+      lastDay = Math.max(lastDay, day);
+      return this;
+    }
+
+    public ReviewEventLog build() {
+      int[] cardStart = new int[cardCount + 1];
+      for (int i = 0; i < size; i++) {
+        cardStart[cards[i] + 1]++;
+      }
+      for (int c = 0; c < cardCount; c++) {
+        cardStart[c + 1] += cardStart[c];
+      }
+      int[] cursor = Arrays.copyOf(cardStart, cardCount);
+      long[] sortedDays = new long[size];
+      byte[] sortedRatings = new byte[size];
+      for (int i = 0; i < size; i++) {
+        int slot = cursor[cards[i]]++;
+        sortedDays[slot] = days[i];
+        sortedRatings[slot] = ratings[i];
+      }
+      return size == 0
+          ? new ReviewEventLog(cardStart, sortedDays, sortedRatings, 0, -1)
+          : new ReviewEventLog(cardStart, sortedDays, sortedRatings, firstDay, lastDay);
+    }
+  }
+}
@@ -0,0 +1,43 @@
+package com.example.englishhubbackend.scheduling;
+
+import java.util.Arrays;
+
+/** Struct-of-arrays card state shared by every {@link SchedulingAlgorithm}; index i is one card. */
+public final class ReviewStates {
+  public static final long NEVER = Long.MIN_VALUE;
+
+  public final float[] easiness;
+  public final int[] repetitions;
+  public final int[] intervals;
+  public final float[] stability;
+  public final float[] difficulty;
+  public final long[] lastDays;
+
+  public ReviewStates(int capacity) {
+    easiness = new float[capacity];
+    repetitions = new int[capacity];
+    intervals = new int[capacity];
+    stability = new float[capacity];
+    difficulty = new float[capacity];
+    lastDays = new long[capacity];
+    reset(0, capacity);
+  }
+
+  public void reset(int from, int to) {
+    Arrays.fill(easiness, from, to, Sm2Kernel.INITIAL_EASINESS);
+    Arrays.fill(repetitions, from, to, 0);
+    Arrays.fill(intervals, from, to, 0);
+    Arrays.fill(stability, from, to, 0f);
+    Arrays.fill(difficulty, from, to, 0f);
+    Arrays.fill(lastDays, from, to, NEVER);
+  }
+
+  public void copyTo(int index, ReviewStates target, int targetIndex) {
+    target.easiness[targetIndex] = easiness[index];
+    target.repetitions[targetIndex] = repetitions[index];
+    target.intervals[targetIndex] = intervals[index];
+    target.stability[targetIndex] = stability[index];
+    target.difficulty[targetIndex] = difficulty[index];
+    target.lastDays[targetIndex] = lastDays[index];
+  }
+}
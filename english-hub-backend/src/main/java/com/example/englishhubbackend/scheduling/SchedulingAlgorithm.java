@@ -0,0 +1,35 @@
+package com.example.englishhubbackend.scheduling;
+
+import com.example.englishhubbackend.enums.SchedulingAlgorithmEnum;
+import com.example.englishhubbackend.exception.AppException;
+import com.example.englishhubbackend.exception.ErrorCode;
+
+/**
+ * Advances review state in place after a rating. Implementations must be stateless and must not
+ * allocate per card, since the same instance serves request threads and the simulator.
+ */
+public interface SchedulingAlgorithm {
+  int MIN_RATING = 0;
+  int MAX_RATING = 4;
+
+  SchedulingAlgorithmEnum type();
+
+  /**
+   * Applies {@code ratings[i]} made on {@code reviewDays[i]} to card {@code i} of {@code states},
+   * for {@code i < length}. {@code lastDays} is read but left for the caller to advance; {@code
+   * intervals} receives the next interval in days.
+   */
+  void schedule(
+      ReviewStates states,
+      int[] ratings,
+      long[] reviewDays,
+      int length,
+      SchedulingParameters parameters);
+
+  static int checkRating(Integer rating) {
+    if (rating == null || rating < MIN_RATING || rating > MAX_RATING) {
+      throw new AppException(ErrorCode.INVALID_REVIEW_RATING);
+    }
+    return rating;
+  }
+}
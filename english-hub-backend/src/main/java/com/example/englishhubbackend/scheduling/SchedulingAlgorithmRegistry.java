@@ -0,0 +1,74 @@
+package com.example.englishhubbackend.scheduling;
+
+import com.example.englishhubbackend.enums.SchedulingAlgorithmEnum;
+import com.example.englishhubbackend.models.SchedulingProfile;
+import com.example.englishhubbackend.repository.SchedulingProfileRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class SchedulingAlgorithmRegistry {
+  SchedulingProfileRepository schedulingProfileRepository;
+  Map<SchedulingAlgorithmEnum, SchedulingAlgorithm> algorithms;
+  SchedulingAlgorithmEnum defaultAlgorithm;
+  Cache<UUID, UserScheduler> schedulers;
+
+  public SchedulingAlgorithmRegistry(
+      SchedulingProfileRepository schedulingProfileRepository,
+      List<SchedulingAlgorithm> algorithms,
+      @Value("${review.scheduling.default-algorithm:SM2}") SchedulingAlgorithmEnum defaultAlgorithm,
+      @Value("${review.scheduling.cache.max-size:10000}") long maxSize,
+      @Value("${review.scheduling.cache.ttl-seconds:300}") long ttlSeconds) {
+    this.schedulingProfileRepository = schedulingProfileRepository;
+    this.algorithms = new EnumMap<>(SchedulingAlgorithmEnum.class);
+    algorithms.forEach(algorithm -> this.algorithms.put(algorithm.type(), algorithm));
+    this.defaultAlgorithm = defaultAlgorithm;
+    this.schedulers =
+        Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+            .build();
+  }
+
+  public SchedulingAlgorithm get(SchedulingAlgorithmEnum type) {
+    return algorithms.get(type);
+  }
+
+  public UserScheduler forUser(UUID userId) {
+    return schedulers.get(
+        userId,
+        id ->
+            schedulingProfileRepository
+                .findById(id)
+                .map(this::toScheduler)
+                .orElseGet(
+                    () ->
+                        new UserScheduler(
+                            algorithms.get(defaultAlgorithm), SchedulingParameters.DEFAULT)));
+  }
+
+  public UserScheduler toScheduler(SchedulingProfile profile) {
+    double[] weights =
+        profile.getWeights() != null
+            ? profile.getWeights()
+            : FsrsSchedulingAlgorithm.DEFAULT_WEIGHTS;
+    return new UserScheduler(
+        algorithms.get(profile.getAlgorithm()),
+        new SchedulingParameters(
+            profile.getDesiredRetention(), weights, SchedulingParameters.DEFAULT_MAXIMUM_INTERVAL));
+  }
+
+  public void invalidate(UUID userId) {
+    schedulers.invalidate(userId);
+  }
+}
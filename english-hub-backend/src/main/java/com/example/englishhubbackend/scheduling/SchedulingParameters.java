@@ -0,0 +1,12 @@
+package com.example.englishhubbackend.scheduling;
+
+public record SchedulingParameters(
+    double desiredRetention, double[] weights, int maximumInterval) {
+  public static final int DEFAULT_MAXIMUM_INTERVAL = 36500;
+
+  public static final SchedulingParameters DEFAULT =
+      new SchedulingParameters(
+          FsrsSchedulingAlgorithm.DEFAULT_RETENTION,
+          FsrsSchedulingAlgorithm.DEFAULT_WEIGHTS,
+          DEFAULT_MAXIMUM_INTERVAL);
+}
@@ -0,0 +1,164 @@
+package com.example.englishhubbackend.scheduling;
+
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Replays a {@link ReviewEventLog} through a scheduler. Cards are independent, so the log is split
+ * into card ranges on a fork-join pool; within a leaf, the k-th event of every card is scheduled
+ * in one batched kernel call.
+ */
+@Component
+public class SchedulingSimulator {
+  private static final int LEAF_CARDS = 2048;
+
+  private final ForkJoinPool pool;
+
+  public SchedulingSimulator(@Value("${review.simulator.parallelism:0}") int parallelism) {
+    this.pool =
+        new ForkJoinPool(
+            parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+  }
+
+  public List<SimulationResult> compare(ReviewEventLog log, List<UserScheduler> schedulers) {
+    List<SimulationResult> results = new ArrayList<>(schedulers.size());
+    for (UserScheduler scheduler : schedulers) {
+      results.add(simulate(log, scheduler));
+    }
+    return results;
+  }
+
+  public SimulationResult simulate(ReviewEventLog log, UserScheduler scheduler) {
+    long started = System.nanoTime();
+    int windowDays = (int) Math.max(0, log.lastDay() - log.firstDay() + 1);
+    Tally tally = pool.invoke(new ReplayTask(log, scheduler, windowDays, 0, log.cardCount()));
+
+    long scheduled = 0;
+    int peak = 0;
+    for (int count : tally.dueByDay) {
+      scheduled += count;
+      peak = Math.max(peak, count);
+    }
+    return new SimulationResult(
+        scheduler.algorithm().type(),
+        log.eventCount(),
+        tally.dueReviews,
+        tally.dueReviews == 0 ? 0 : (double) tally.recalled / tally.dueReviews,
+        windowDays == 0 ? 0 : (double) scheduled / windowDays,
+        peak,
+        (System.nanoTime() - started) / 1_000_000);
+  }
+
+  @PreDestroy
+  void shutdown() {
+    pool.shutdown();
+  }
+
+  private static final class Tally {
+    final int[] dueByDay;
+    long dueReviews;
+    long recalled;
+
+    Tally(int windowDays) {
+      this.dueByDay = new int[windowDays];
+    }
+
+    Tally merge(Tally other) {
+      for (int i = 0; i < dueByDay.length; i++) {
+        dueByDay[i] += other.dueByDay[i];
+      }
+      dueReviews += other.dueReviews;
+      recalled += other.recalled;
+      return this;
+    }
+  }
+
+  private static final class ReplayTask extends RecursiveTask<Tally> {
+    private final ReviewEventLog log;
+    private final UserScheduler scheduler;
+    private final int windowDays;
+    private final int from;
+    private final int to;
+
+    ReplayTask(ReviewEventLog log, UserScheduler scheduler, int windowDays, int from, int to) {
+      this.log = log;
+      this.scheduler = scheduler;
+      this.windowDays = windowDays;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected Tally compute() {
+      if (to - from <= LEAF_CARDS) {
+        return replay();
+      }
+      int middle = (from + to) >>> 1;
+      ReplayTask left = new ReplayTask(log, scheduler, windowDays, from, middle);
+      left.fork();
+      Tally right = new ReplayTask(log, scheduler, windowDays, middle, to).compute();
+      return left.join().merge(right);
+    }
+
+    private Tally replay() {
+      Tally tally = new Tally(windowDays);
+      int cards = to - from;
+      int[] cardStart = log.cardStart();
+      long[] days = log.days();
+      byte[] ratings = log.ratings();
+      long firstDay = log.firstDay();
+
+      ReviewStates states = new ReviewStates(cards);
+      ReviewStates round = new ReviewStates(cards);
+      int[] roundCards = new int[cards];
+      int[] roundRatings = new int[cards];
+      long[] roundDays = new long[cards];
+      int[] cursor = new int[cards];
+      System.arraycopy(cardStart, from, cursor, 0, cards);
+
+      while (true) {
+        int size = 0;
+        for (int card = 0; card < cards; card++) {
+          if (cursor[card] == cardStart[from + card + 1]) {
+            continue;
+          }
+          int event = cursor[card]++;
+          states.copyTo(card, round, size);
+          roundCards[size] = card;
+          roundRatings[size] = ratings[event];
+          roundDays[size] = days[event];
+          size++;
+        }
+        if (size == 0) {
+          return tally;
+        }
+
+        for (int i = 0; i < size; i++) {
+          long lastDay = round.lastDays[i];
+          if (lastDay != ReviewStates.NEVER && roundDays[i] >= lastDay + round.intervals[i]) {
+            tally.dueReviews++;
+            if (roundRatings[i] >= 2) {
+              tally.recalled++;
+            }
+          }
+        }
+
+        scheduler.schedule(round, roundRatings, roundDays, size);
+
+        for (int i = 0; i < size; i++) {
+          round.lastDays[i] = roundDays[i];
+          round.copyTo(i, states, roundCards[i]);
+          long due = roundDays[i] + round.intervals[i] - firstDay;
+          if (due < windowDays) {
+            tally.dueByDay[(int) due]++;
+          }
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,17 @@
+package com.example.englishhubbackend.scheduling;
+
+import com.example.englishhubbackend.enums.SchedulingAlgorithmEnum;
+
+/**
+ * {@code retention} is the recall rate over reviews that happened on or after the simulated due
+ * date; {@code averageDailyLoad} is the mean number of reviews the algorithm schedules per day
+ * across the replayed window.
+ */
+public record SimulationResult(
+    SchedulingAlgorithmEnum algorithm,
+    long events,
+    long dueReviews,
+    double retention,
+    double averageDailyLoad,
+    int peakDailyLoad,
+    long elapsedMillis) {}
@@ -0,0 +1,33 @@
+package com.example.englishhubbackend.scheduling;
+
+/**
+ * SM-2 over parallel primitive arrays, one card per index. The loop body is branch-free selects on
+ * primitives so the JIT can unroll and vectorize it; callers own all arrays.
+ */
+public final class Sm2Kernel {
+  public static final float INITIAL_EASINESS = 2.5f;
+  public static final float MIN_EASINESS = 1.3f;
+
+  // Maps the 0-4 rating sent by clients to the 0-5 SM-2 quality scale.
+  private static final int[] QUALITY = {0, 2, 3, 4, 5};
+
+  private Sm2Kernel() {}
+
+  public static void update(
+      float[] easiness, int[] repetitions, int[] intervals, int[] ratings, int length) {
+    for (int i = 0; i < length; i++) {
+      float ef = easiness[i];
+      int rep = repetitions[i];
+      int quality = QUALITY[ratings[i]];
+      int penalty = 5 - quality;
+      boolean pass = quality >= 3;
+
+      float nextEf = Math.max(MIN_EASINESS, ef + (0.1f - penalty * (0.08f + penalty * 0.02f)));
+      int grown = rep == 0 ? 1 : rep == 1 ? 6 : Math.round(intervals[i] * ef);
+
+      easiness[i] = pass ? nextEf : ef;
+      repetitions[i] = pass ? rep + 1 : 0;
+      intervals[i] = pass ? grown : 1;
+    }
+  }
+}
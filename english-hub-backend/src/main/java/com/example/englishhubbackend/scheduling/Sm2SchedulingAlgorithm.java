@@ -0,0 +1,22 @@
+package com.example.englishhubbackend.scheduling;
+
+import com.example.englishhubbackend.enums.SchedulingAlgorithmEnum;
+import org.springframework.stereotype.Component;
+
+@Component
+public class Sm2SchedulingAlgorithm implements SchedulingAlgorithm {
+  @Override
+  public SchedulingAlgorithmEnum type() {
+    return SchedulingAlgorithmEnum.SM2;
+  }
+
+  @Override
+  public void schedule(
+      ReviewStates states,
+      int[] ratings,
+      long[] reviewDays,
+      int length,
+      SchedulingParameters parameters) {
+    Sm2Kernel.update(states.easiness, states.repetitions, states.intervals, ratings, length);
+  }
+}
@@ -0,0 +1,7 @@
+package com.example.englishhubbackend.scheduling;
+
+public record UserScheduler(SchedulingAlgorithm algorithm, SchedulingParameters parameters) {
+  public void schedule(ReviewStates states, int[] ratings, long[] reviewDays, int length) {
+    algorithm.schedule(states, ratings, reviewDays, length, parameters);
+  }
+}
@@ -0,0 +1,27 @@
+package com.example.englishhubbackend.security;
+
+import org.springframework.security.oauth2.core.OAuth2Error;
+import org.springframework.security.oauth2.core.OAuth2ErrorCodes;
+import org.springframework.security.oauth2.core.OAuth2TokenValidator;
+import org.springframework.security.oauth2.core.OAuth2TokenValidatorResult;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+/**
+ * Accepts only access tokens as bearer credentials. Refresh tokens are signed with the same key but
+ * carry a family id and no scope.
+ */
+public class AccessTokenValidator implements OAuth2TokenValidator<Jwt> {
+  public static final String FAMILY_CLAIM = "fid";
+  public static final String SCOPE_CLAIM = "scope";
+
+  private static final OAuth2Error NOT_ACCESS_TOKEN =
+      new OAuth2Error(OAuth2ErrorCodes.INVALID_TOKEN, "The token is not an access token", null);
+
+  @Override
+  public OAuth2TokenValidatorResult validate(Jwt jwt) {
+    if (jwt.hasClaim(FAMILY_CLAIM) || !jwt.hasClaim(SCOPE_CLAIM)) {
+      return OAuth2TokenValidatorResult.failure(NOT_ACCESS_TOKEN);
+    }
+    return OAuth2TokenValidatorResult.success();
+  }
+}
@@ -0,0 +1,5 @@
+package com.example.englishhubbackend.security;
+
+import java.util.UUID;
+
+public record AuthenticatedUser(UUID id, String role) {}
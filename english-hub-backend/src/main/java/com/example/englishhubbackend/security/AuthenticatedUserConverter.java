@@ -0,0 +1,29 @@
+package com.example.englishhubbackend.security;
+
+import java.util.UUID;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.InvalidBearerTokenException;
+import org.springframework.security.oauth2.server.resource.authentication.JwtGrantedAuthoritiesConverter;
+
+public class AuthenticatedUserConverter implements Converter<Jwt, AbstractAuthenticationToken> {
+  private final JwtGrantedAuthoritiesConverter authoritiesConverter;
+
+  public AuthenticatedUserConverter() {
+    authoritiesConverter = new JwtGrantedAuthoritiesConverter();
+    authoritiesConverter.setAuthorityPrefix("ROLE_");
+  }
+
+  @Override
+  public AbstractAuthenticationToken convert(Jwt jwt) {
+    UUID userId;
+    try {
+      userId = UUID.fromString(jwt.getSubject());
+    } catch (IllegalArgumentException | NullPointerException e) {
+      throw new InvalidBearerTokenException("Token subject is not a user id");
+    }
+    AuthenticatedUser principal = new AuthenticatedUser(userId, jwt.getClaimAsString("scope"));
+    return new AuthenticatedUserToken(jwt, principal, authoritiesConverter.convert(jwt));
+  }
+}
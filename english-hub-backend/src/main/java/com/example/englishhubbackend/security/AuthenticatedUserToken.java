@@ -0,0 +1,31 @@
+package com.example.englishhubbackend.security;
+
+import java.util.Collection;
+import lombok.Getter;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+@Getter
+public class AuthenticatedUserToken extends AbstractAuthenticationToken {
+  private final Jwt token;
+  private final AuthenticatedUser principal;
+
+  public AuthenticatedUserToken(
+      Jwt token, AuthenticatedUser principal, Collection<? extends GrantedAuthority> authorities) {
+    super(authorities);
+    this.token = token;
+    this.principal = principal;
+    setAuthenticated(true);
+  }
+
+  @Override
+  public Object getCredentials() {
+    return token;
+  }
+
+  @Override
+  public String getName() {
+    return principal.id().toString();
+  }
+}
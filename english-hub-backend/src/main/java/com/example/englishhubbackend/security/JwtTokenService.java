@@ -0,0 +1,129 @@
+package com.example.englishhubbackend.security;
+
+import com.example.englishhubbackend.exception.AppException;
+import com.example.englishhubbackend.exception.ErrorCode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.JWSSigner;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.crypto.MACSigner;
+import com.nimbusds.jose.crypto.MACVerifier;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.ParseException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class JwtTokenService {
+  private static final JWSHeader HEADER = new JWSHeader(JWSAlgorithm.HS512);
+
+  private final JWSSigner signer;
+  private final JWSVerifier verifier;
+  private final Cache<String, JWTClaimsSet> verifiedTokens;
+
+  public JwtTokenService(
+      @Value("${security.jwt.secret-key}") String secretKey,
+      @Value("${security.jwt.verified-cache.max-size:10000}") long maxCachedTokens) {
+    try {
+      byte[] key = secretKey.getBytes(StandardCharsets.UTF_8);
+      this.signer = new MACSigner(key);
+      this.verifier = new MACVerifier(key);
+    } catch (JOSEException e) {
+      throw new IllegalStateException("Invalid JWT signing key", e);
+    }
+    this.verifiedTokens =
+        Caffeine.newBuilder()
+            .maximumSize(maxCachedTokens)
+            .expireAfter(new UntilTokenExpiry())
+            .build();
+  }
+
+  public String sign(JWTClaimsSet claims) {
+    try {
+      SignedJWT signedJWT = new SignedJWT(HEADER, claims);
+      signedJWT.sign(signer);
+      return signedJWT.serialize();
+    } catch (JOSEException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  public JWTClaimsSet verify(String token) {
+    if (token == null) {
+      throw new AppException(ErrorCode.UNAUTHENTICATED);
+    }
+    String digest = digest(token);
+    JWTClaimsSet cached = verifiedTokens.getIfPresent(digest);
+    if (cached != null) {
+      return cached;
+    }
+
+    JWTClaimsSet claims;
+    try {
+      SignedJWT signedJWT = SignedJWT.parse(token);
+      if (!signedJWT.verify(verifier)) {
+        throw new AppException(ErrorCode.UNAUTHENTICATED);
+      }
+      claims = signedJWT.getJWTClaimsSet();
+    } catch (ParseException | JOSEException e) {
+      throw new AppException(ErrorCode.UNAUTHENTICATED);
+    }
+
+    if (!isExpired(claims)) {
+      verifiedTokens.put(digest, claims);
+    }
+    return claims;
+  }
+
+  public void evict(String token) {
+    if (token != null) {
+      verifiedTokens.invalidate(digest(token));
+    }
+  }
+
+  public boolean isExpired(JWTClaimsSet claims) {
+    Date expirationTime = claims.getExpirationTime();
+    return expirationTime == null || expirationTime.before(new Date());
+  }
+
+  private String digest(String token) {
+    try {
+      MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+      byte[] hash = messageDigest.digest(token.getBytes(StandardCharsets.US_ASCII));
+      return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static class UntilTokenExpiry implements Expiry<String, JWTClaimsSet> {
+    @Override
+    public long expireAfterCreate(String key, JWTClaimsSet claims, long currentTime) {
+      long remainingMillis = claims.getExpirationTime().getTime() - System.currentTimeMillis();
+      return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+    }
+
+    @Override
+    public long expireAfterUpdate(
+        String key, JWTClaimsSet claims, long currentTime, long currentDuration) {
+      return expireAfterCreate(key, claims, currentTime);
+    }
+
+    @Override
+    public long expireAfterRead(
+        String key, JWTClaimsSet claims, long currentTime, long currentDuration) {
+      return currentDuration;
+    }
+  }
+}
@@ -0,0 +1,96 @@
+package com.example.englishhubbackend.security;
+
+import com.example.englishhubbackend.exception.AppException;
+import com.example.englishhubbackend.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+@Component
+public class PasswordHashingService {
+  private final PasswordEncoder passwordEncoder;
+  private final ThreadPoolExecutor executor;
+  private final Timer hashTimer;
+  private final Counter rejected;
+
+  public PasswordHashingService(
+      PasswordEncoder passwordEncoder,
+      MeterRegistry meterRegistry,
+      @Value("${security.password.hashing-threads:0}") int threads,
+      @Value("${security.password.queue-capacity:256}") int queueCapacity) {
+    int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+    this.passwordEncoder = passwordEncoder;
+    this.executor =
+        new ThreadPoolExecutor(
+            poolSize,
+            poolSize,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            new CustomizableThreadFactory("password-hashing-"));
+    this.hashTimer = meterRegistry.timer("security.password.hashing");
+    this.rejected = meterRegistry.counter("security.password.hashing.rejected");
+    Gauge.builder("security.password.hashing.queue", executor, e -> e.getQueue().size())
+        .register(meterRegistry);
+    Gauge.builder("security.password.hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+        .register(meterRegistry);
+  }
+
+  public CompletableFuture<Boolean> matchesAsync(CharSequence rawPassword, String encoded) {
+    return submit(() -> passwordEncoder.matches(rawPassword, encoded));
+  }
+
+  public CompletableFuture<String> encodeAsync(CharSequence rawPassword) {
+    return submit(() -> passwordEncoder.encode(rawPassword));
+  }
+
+  public boolean matches(CharSequence rawPassword, String encoded) {
+    return join(matchesAsync(rawPassword, encoded));
+  }
+
+  public String encode(CharSequence rawPassword) {
+    return join(encodeAsync(rawPassword));
+  }
+
+  public boolean needsRehash(String encoded) {
+    return passwordEncoder.upgradeEncoding(encoded);
+  }
+
+  @PreDestroy
+  void shutdown() {
+    executor.shutdown();
+  }
+
+  private <T> CompletableFuture<T> submit(Supplier<T> task) {
+    try {
+      return CompletableFuture.supplyAsync(() -> hashTimer.record(task), executor);
+    } catch (RejectedExecutionException e) {
+      rejected.increment();
+      return CompletableFuture.failedFuture(new AppException(ErrorCode.AUTHENTICATION_BUSY));
+    }
+  }
+
+  private <T> T join(CompletableFuture<T> future) {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+}
@@ -0,0 +1,33 @@
+package com.example.englishhubbackend.security;
+
+import java.util.UUID;
+import org.springframework.security.oauth2.core.OAuth2Error;
+import org.springframework.security.oauth2.core.OAuth2ErrorCodes;
+import org.springframework.security.oauth2.core.OAuth2TokenValidator;
+import org.springframework.security.oauth2.core.OAuth2TokenValidatorResult;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+public class RevokedTokenValidator implements OAuth2TokenValidator<Jwt> {
+  private static final OAuth2Error REVOKED =
+      new OAuth2Error(OAuth2ErrorCodes.INVALID_TOKEN, "The token has been revoked", null);
+
+  private final TokenRevocationService tokenRevocationService;
+
+  public RevokedTokenValidator(TokenRevocationService tokenRevocationService) {
+    this.tokenRevocationService = tokenRevocationService;
+  }
+
+  @Override
+  public OAuth2TokenValidatorResult validate(Jwt jwt) {
+    UUID userId;
+    try {
+      userId = UUID.fromString(jwt.getSubject());
+    } catch (IllegalArgumentException | NullPointerException e) {
+      return OAuth2TokenValidatorResult.failure(REVOKED);
+    }
+    if (tokenRevocationService.isRevoked(userId, jwt.getId(), jwt.getIssuedAt())) {
+      return OAuth2TokenValidatorResult.failure(REVOKED);
+    }
+    return OAuth2TokenValidatorResult.success();
+  }
+}
@@ -0,0 +1,27 @@
+package com.example.englishhubbackend.security;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Access and refresh token lifetimes. Issuing and revocation both read them from here, so a
+ * revocation never expires before the tokens it covers.
+ */
+@ConfigurationProperties(prefix = "security.jwt")
+public record TokenLifetimes(
+    @DefaultValue("900") long accessTokenTtlSeconds,
+    @DefaultValue("604800") long refreshTokenTtlSeconds) {
+
+  public Duration accessToken() {
+    return Duration.ofSeconds(accessTokenTtlSeconds);
+  }
+
+  public Duration refreshToken() {
+    return Duration.ofSeconds(refreshTokenTtlSeconds);
+  }
+
+  public Duration longest() {
+    return accessToken().compareTo(refreshToken()) >= 0 ? accessToken() : refreshToken();
+  }
+}
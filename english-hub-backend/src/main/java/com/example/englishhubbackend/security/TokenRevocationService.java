@@ -0,0 +1,164 @@
+package com.example.englishhubbackend.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class TokenRevocationService implements MessageListener {
+  private static final String CHANNEL = "token-revocations";
+  private static final String JTI_PREFIX = "revoked-jti:";
+  private static final String USER_PREFIX = "revoked-before:";
+
+  private final StringRedisTemplate redisTemplate;
+  private final RedisMessageListenerContainer listenerContainer;
+  private final Duration maxTokenLifetime;
+  private final long expectedRevocations;
+  private final double falsePositiveRate;
+  private final Map<UUID, Instant> watermarks = new ConcurrentHashMap<>();
+  private final Timer checkTimer;
+  private final Counter bloomPositives;
+  private final Counter falsePositives;
+  private final Counter revokedTokens;
+  private volatile BloomFilter revokedJtis;
+
+  public TokenRevocationService(
+      StringRedisTemplate redisTemplate,
+      RedisMessageListenerContainer listenerContainer,
+      MeterRegistry meterRegistry,
+      TokenLifetimes tokenLifetimes,
+      @Value("${security.jwt.revocation.expected-entries:100000}") long expectedRevocations,
+      @Value("${security.jwt.revocation.false-positive-rate:0.001}") double falsePositiveRate) {
+    this.redisTemplate = redisTemplate;
+    this.listenerContainer = listenerContainer;
+    this.maxTokenLifetime = tokenLifetimes.longest();
+    this.expectedRevocations = expectedRevocations;
+    this.falsePositiveRate = falsePositiveRate;
+    this.revokedJtis = new BloomFilter(expectedRevocations, falsePositiveRate);
+    this.checkTimer = meterRegistry.timer("security.token.revocation.check");
+    this.bloomPositives = meterRegistry.counter("security.token.revocation.bloom.positive");
+    this.falsePositives = meterRegistry.counter("security.token.revocation.bloom.false_positive");
+    this.revokedTokens = meterRegistry.counter("security.token.revocation.rejected");
+  }
+
+  @PostConstruct
+  void subscribe() {
+    listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    resync();
+  }
+
+  public void revokeToken(String jti, Instant expiresAt) {
+    Duration ttl = Duration.between(Instant.now(), expiresAt);
+    if (jti == null || ttl.isNegative() || ttl.isZero()) {
+      return;
+    }
+    redisTemplate.opsForValue().set(JTI_PREFIX + jti, "1", ttl);
+    redisTemplate.convertAndSend(CHANNEL, "jti:" + jti);
+    revokedJtis.put(jti);
+  }
+
+  public void revokeAllForUser(UUID userId) {
+    Instant watermark = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+    redisTemplate
+        .opsForValue()
+        .set(USER_PREFIX + userId, Long.toString(watermark.toEpochMilli()), maxTokenLifetime);
+    redisTemplate.convertAndSend(CHANNEL, "user:" + userId + ":" + watermark.toEpochMilli());
+    watermarks.merge(userId, watermark, (a, b) -> a.isAfter(b) ? a : b);
+  }
+
+  public boolean isRevoked(UUID userId, String jti, Instant issuedAt) {
+    return checkTimer.record(
+        () -> {
+          Instant watermark = watermarks.get(userId);
+          // iat has second precision, so a token issued in the same second as the watermark is
+          // treated as revoked.
+          if (watermark != null && (issuedAt == null || !issuedAt.isAfter(watermark))) {
+            revokedTokens.increment();
+            return true;
+          }
+          if (jti == null || !revokedJtis.mightContain(jti)) {
+            return false;
+          }
+          bloomPositives.increment();
+          if (Boolean.TRUE.equals(redisTemplate.hasKey(JTI_PREFIX + jti))) {
+            revokedTokens.increment();
+            return true;
+          }
+          falsePositives.increment();
+          return false;
+        });
+  }
+
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    String body = new String(message.getBody(), StandardCharsets.UTF_8);
+    if (body.startsWith("jti:")) {
+      revokedJtis.put(body.substring(4));
+    } else if (body.startsWith("user:")) {
+      String[] parts = body.split(":");
+      Instant watermark = Instant.ofEpochMilli(Long.parseLong(parts[2]));
+      watermarks.merge(UUID.fromString(parts[1]), watermark, (a, b) -> a.isAfter(b) ? a : b);
+    }
+  }
+
+  @Scheduled(fixedDelayString = "${security.jwt.revocation.resync-interval-ms:300000}")
+  public void resync() {
+    try {
+      BloomFilter rebuilt = new BloomFilter(expectedRevocations, falsePositiveRate);
+      scanIds(JTI_PREFIX).forEach(rebuilt::put);
+      revokedJtis = rebuilt;
+
+      Instant oldestLiveToken = Instant.now().minus(maxTokenLifetime);
+      watermarks.values().removeIf(watermark -> watermark.isBefore(oldestLiveToken));
+      List<String> userIds = scanIds(USER_PREFIX);
+      if (userIds.isEmpty()) {
+        return;
+      }
+      List<String> values =
+          redisTemplate
+              .opsForValue()
+              .multiGet(userIds.stream().map(id -> USER_PREFIX + id).toList());
+      for (int i = 0; i < userIds.size(); i++) {
+        if (values != null && values.get(i) != null) {
+          watermarks.merge(
+              UUID.fromString(userIds.get(i)),
+              Instant.ofEpochMilli(Long.parseLong(values.get(i))),
+              (a, b) -> a.isAfter(b) ? a : b);
+        }
+      }
+    } catch (RuntimeException e) {
+      log.warn("Failed to resync token revocations", e);
+    }
+  }
+
+  private List<String> scanIds(String prefix) {
+    List<String> ids = new ArrayList<>();
+    ScanOptions options = ScanOptions.scanOptions().match(prefix + "*").count(1000).build();
+    try (Cursor<String> cursor = redisTemplate.scan(options)) {
+      cursor.forEachRemaining(key -> ids.add(key.substring(prefix.length())));
+    }
+    return ids;
+  }
+}
@@ -4,12 +4,13 @@ import com.example.englishhubbackend.enums.RoleEnum;
 import com.example.englishhubbackend.models.User;
 import com.example.englishhubbackend.repository.RoleRepository;
 import com.example.englishhubbackend.repository.UserRepository;
+import com.example.englishhubbackend.security.PasswordHashingService;
+import java.time.LocalDate;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.CommandLineRunner;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -18,7 +19,7 @@ import org.springframework.stereotype.Component;
 @Slf4j
 public class DataSeeder implements CommandLineRunner {
   UserRepository userRepository;
-  PasswordEncoder passwordEncoder;
+  PasswordHashingService passwordHashingService;
   RoleRepository roleRepository;
 
   @Override
@@ -27,8 +28,9 @@ public class DataSeeder implements CommandLineRunner {
       User admin = new User();
       admin.setUsername("Admin");
       admin.setEmail("admin@email.com");
-      admin.setPassword(passwordEncoder.encode("admin"));
+      admin.setPassword(passwordHashingService.encode("admin"));
       admin.setEnabled(true);
+      admin.setJoinDate(LocalDate.now());
       admin.setRole(roleRepository.findById(RoleEnum.ADMIN.name()).orElse(null));
       userRepository.save(admin);
       log.info("Admin account created");
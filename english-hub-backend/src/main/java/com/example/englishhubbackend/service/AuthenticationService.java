@@ -5,8 +5,11 @@ import com.example.englishhubbackend.dto.response.AuthenticateResponse;
 import com.example.englishhubbackend.dto.response.IntrospectResponse;
 import com.example.englishhubbackend.dto.response.UserResponse;
 import com.example.englishhubbackend.models.User;
+import com.example.englishhubbackend.security.AuthenticatedUser;
 import com.nimbusds.jose.JOSEException;
 import java.text.ParseException;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 public interface AuthenticationService {
   UserResponse register(RegisterRequest registerRequest);
@@ -18,7 +21,7 @@ public interface AuthenticationService {
   IntrospectResponse introspect(IntrospectRequest introspectRequest)
       throws JOSEException, ParseException;
 
-  AuthenticateResponse authenticate(AuthenticateRequest authenticateRequest);
+  CompletableFuture<AuthenticateResponse> authenticate(AuthenticateRequest authenticateRequest);
 
   AuthenticateResponse refreshToken(RefreshRequest refreshRequest);
 
@@ -27,4 +30,8 @@ public interface AuthenticationService {
   void changePassword(ChangePasswordRequest changePasswordRequest);
 
   User getCurrentUser();
+
+  UUID getCurrentUserId();
+
+  AuthenticatedUser getCurrentPrincipal();
 }
@@ -3,14 +3,14 @@ package com.example.englishhubbackend.service;
 import com.example.englishhubbackend.dto.request.CourseCreateRequest;
 import com.example.englishhubbackend.dto.request.CourseUpdateRequest;
 import com.example.englishhubbackend.dto.response.CourseResponse;
+import com.example.englishhubbackend.dto.response.CursorPage;
 import com.example.englishhubbackend.models.Course;
-import java.util.List;
 import java.util.UUID;
 
 public interface CourseService {
   CourseResponse createCourse(CourseCreateRequest courseCreateRequest);
 
-  List<CourseResponse> getAllCourses();
+  CursorPage<CourseResponse> getCourses(String cursor, Integer limit);
 
   CourseResponse getCourseById(UUID uuid);
 
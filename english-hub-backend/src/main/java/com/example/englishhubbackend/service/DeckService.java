@@ -2,14 +2,14 @@ package com.example.englishhubbackend.service;
 
 import com.example.englishhubbackend.dto.request.DeckCreateRequest;
 import com.example.englishhubbackend.dto.request.DeckUpdateRequest;
+import com.example.englishhubbackend.dto.response.CursorPage;
 import com.example.englishhubbackend.dto.response.DeckResponse;
-import java.util.List;
 import java.util.UUID;
 
 public interface DeckService {
   DeckResponse createDeck(DeckCreateRequest deckCreateRequest);
 
-  List<DeckResponse> getAllDecks();
+  CursorPage<DeckResponse> getDecks(String cursor, Integer limit);
 
   DeckResponse getDeckById(UUID id);
 
@@ -1,7 +1,5 @@
 package com.example.englishhubbackend.service;
 
-import jakarta.mail.MessagingException;
-
 public interface EmailService {
-  void sendVerificationEmail(String to, String subject, String text) throws MessagingException;
+  void queueVerificationEmail(String to, String verificationCode);
 }
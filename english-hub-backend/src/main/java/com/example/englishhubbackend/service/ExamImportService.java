@@ -0,0 +1,11 @@
+package com.example.englishhubbackend.service;
+
+import com.example.englishhubbackend.dto.response.ExamImportJobResponse;
+import java.io.InputStream;
+import java.util.UUID;
+
+public interface ExamImportService {
+  ExamImportJobResponse importExamPackage(UUID examId, InputStream archive);
+
+  ExamImportJobResponse getImportJob(UUID jobId);
+}
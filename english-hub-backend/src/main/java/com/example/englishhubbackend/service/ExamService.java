@@ -1,9 +1,11 @@
 package com.example.englishhubbackend.service;
 
 import com.example.englishhubbackend.dto.request.*;
+import com.example.englishhubbackend.dto.response.CursorPage;
 import com.example.englishhubbackend.dto.response.ExamResponse;
 import com.example.englishhubbackend.dto.response.ExamSubmissionResponse;
 import com.example.englishhubbackend.dto.response.QuestionGroupResponse;
+import com.example.englishhubbackend.dto.response.QuestionItemStatsResponse;
 import com.example.englishhubbackend.dto.response.QuestionResponse;
 import java.util.List;
 import java.util.UUID;
@@ -11,7 +13,7 @@ import java.util.UUID;
 public interface ExamService {
   ExamResponse createExam(ExamCreateRequest examCreateRequest);
 
-  List<ExamResponse> getAllExams();
+  CursorPage<ExamResponse> getExams(String cursor, Integer limit);
 
   ExamResponse getExamById(UUID examId);
 
@@ -31,7 +33,15 @@ public interface ExamService {
 
   List<QuestionGroupResponse> getQuestionGroupsFromExam(UUID examId);
 
+  byte[] getQuestionGroupsJsonFromExam(UUID examId);
+
   ExamSubmissionResponse submitExam(UUID examId, ExamSubmissionRequest examSubmissionRequest);
 
+  List<ExamSubmissionResponse> getResultHistory(UUID examId, Integer limit);
+
   void deleteQuestionFromExam(UUID examId, UUID questionId);
+
+  void rebuildExamStatistics();
+
+  List<QuestionItemStatsResponse> getItemStatistics(UUID examId);
 }
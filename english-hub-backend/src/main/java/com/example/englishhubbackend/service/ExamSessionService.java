@@ -0,0 +1,18 @@
+package com.example.englishhubbackend.service;
+
+import com.example.englishhubbackend.dto.request.ExamSessionAnswersRequest;
+import com.example.englishhubbackend.dto.response.ExamSessionResponse;
+import com.example.englishhubbackend.dto.response.ExamSubmissionResponse;
+import java.util.UUID;
+
+public interface ExamSessionService {
+  ExamSessionResponse startSession(UUID examId);
+
+  ExamSessionResponse getActiveSession(UUID examId);
+
+  ExamSessionResponse getSession(UUID sessionId);
+
+  void saveAnswers(UUID sessionId, ExamSessionAnswersRequest examSessionAnswersRequest);
+
+  ExamSubmissionResponse submitSession(UUID sessionId);
+}
@@ -0,0 +1,11 @@
+package com.example.englishhubbackend.service;
+
+import com.example.englishhubbackend.enums.ExportFormatEnum;
+import java.time.LocalDate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+public interface ExportService {
+  StreamingResponseBody exportResults(LocalDate from, LocalDate to, ExportFormatEnum format);
+
+  StreamingResponseBody exportUsers(ExportFormatEnum format);
+}
@@ -2,12 +2,12 @@ package com.example.englishhubbackend.service;
 
 import com.example.englishhubbackend.dto.request.FlashCardCreateRequest;
 import com.example.englishhubbackend.dto.request.FlashCardUpdateRequest;
+import com.example.englishhubbackend.dto.response.CursorPage;
 import com.example.englishhubbackend.dto.response.FlashCardResponse;
-import java.util.List;
 import java.util.UUID;
 
 public interface FlashCardService {
-  List<FlashCardResponse> getAllFlashCardsFromDecks(UUID deckId);
+  CursorPage<FlashCardResponse> getFlashCards(UUID deckId, String cursor, Integer limit);
 
   FlashCardResponse createFlashCard(UUID deckId, FlashCardCreateRequest flashCardCreateRequest);
 
@@ -0,0 +1,22 @@
+package com.example.englishhubbackend.service;
+
+import com.example.englishhubbackend.dto.response.LeaderboardEntryResponse;
+import com.example.englishhubbackend.dto.response.LeaderboardStandingResponse;
+import java.util.List;
+import java.util.UUID;
+
+public interface LeaderboardService {
+  void recordScore(UUID examId, UUID userId, int score);
+
+  List<LeaderboardEntryResponse> getExamTop(UUID examId, int limit);
+
+  LeaderboardStandingResponse getExamStanding(UUID examId, int radius);
+
+  List<LeaderboardEntryResponse> getGlobalTop(int limit);
+
+  LeaderboardStandingResponse getGlobalStanding(int radius);
+
+  void removeExam(UUID examId);
+
+  void rebuildLeaderboards();
+}
@@ -10,8 +10,12 @@ import java.util.UUID;
 public interface QuestionService {
   Question createQuestionEntity(QuestionCreateRequest questionCreateRequest);
 
+  List<Question> createQuestionEntities(List<QuestionCreateRequest> questionCreateRequests);
+
   Question saveQuestion(Question question);
 
+  List<Question> saveQuestions(List<Question> questions);
+
   Question updateQuestionEntity(UUID questionId, QuestionUpdateRequest questionUpdateRequest);
 
   QuestionResponse mapQuestionToResponse(Question question);
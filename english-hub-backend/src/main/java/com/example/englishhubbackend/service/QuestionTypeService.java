@@ -2,7 +2,9 @@ package com.example.englishhubbackend.service;
 
 import com.example.englishhubbackend.dto.response.QuestionTypeResponse;
 import com.example.englishhubbackend.models.QuestionType;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 public interface QuestionTypeService {
   List<QuestionTypeResponse> getAllQuestionTypes();
@@ -10,4 +12,6 @@ public interface QuestionTypeService {
   QuestionTypeResponse getQuestionType(String questionTypeName);
 
   QuestionType getQuestionTypeEntityById(String questionTypeName);
+
+  Map<String, QuestionType> getQuestionTypeEntitiesByIds(Collection<String> questionTypeNames);
 }
@@ -0,0 +1,12 @@
+package com.example.englishhubbackend.service;
+
+import com.example.englishhubbackend.scheduling.SimulationResult;
+import java.time.LocalDate;
+import java.util.List;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+public interface ReviewLogService {
+  StreamingResponseBody exportLog(LocalDate from, LocalDate to);
+
+  List<SimulationResult> simulate(LocalDate from, LocalDate to, double desiredRetention);
+}
@@ -1,11 +1,25 @@
 package com.example.englishhubbackend.service;
 
+import com.example.englishhubbackend.dto.request.ReviewBatchRequest;
 import com.example.englishhubbackend.dto.request.ReviewRequest;
+import com.example.englishhubbackend.dto.request.SchedulingProfileRequest;
 import com.example.englishhubbackend.dto.response.FlashCardResponse;
+import com.example.englishhubbackend.dto.response.ReviewBatchResponse;
+import com.example.englishhubbackend.dto.response.SchedulingProfileResponse;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.UUID;
 
 public interface ReviewService {
   List<FlashCardResponse> getCardsToReviewToday();
 
+  List<FlashCardResponse> materializeDueCards(UUID userId, LocalDate day);
+
   void updateReview(ReviewRequest request);
+
+  ReviewBatchResponse submitReviews(ReviewBatchRequest request);
+
+  SchedulingProfileResponse getSchedulingProfile();
+
+  SchedulingProfileResponse updateSchedulingProfile(SchedulingProfileRequest request);
 }
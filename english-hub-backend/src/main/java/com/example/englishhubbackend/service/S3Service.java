@@ -1,9 +1,12 @@
 package com.example.englishhubbackend.service;
 
+import java.io.InputStream;
 import org.springframework.web.multipart.MultipartFile;
 
 public interface S3Service {
   public String uploadFileToS3(MultipartFile file);
 
+  public String uploadFile(String key, InputStream inputStream, long size, String contentType);
+
   public void deleteFileFromS3(String fileName);
 }
@@ -0,0 +1,18 @@
+package com.example.englishhubbackend.service;
+
+import com.example.englishhubbackend.models.UserExamStats;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+public interface UserExamStatsService {
+  void recordAttempt(
+      UUID userId, UUID examId, int listeningScore, int readingScore, LocalDateTime completedAt);
+
+  Map<UUID, UserExamStats> getStatsByExamId(UUID userId);
+
+  void rebuildForUsers(List<UUID> userIds);
+
+  void deleteStatsForExam(UUID examId);
+}
@@ -2,8 +2,8 @@ package com.example.englishhubbackend.service;
 
 import com.example.englishhubbackend.dto.request.UserCreateRequest;
 import com.example.englishhubbackend.dto.request.UserUpdateRequest;
+import com.example.englishhubbackend.dto.response.CursorPage;
 import com.example.englishhubbackend.dto.response.UserResponse;
-import java.util.List;
 import java.util.UUID;
 
 public interface UserService {
@@ -13,7 +13,7 @@ public interface UserService {
 
   UserResponse activateUser(UUID userId);
 
-  List<UserResponse> getAllUsers();
+  CursorPage<UserResponse> getUsers(String cursor, Integer limit);
 
   UserResponse createUser(UserCreateRequest userCreateRequest);
 
@@ -12,35 +12,41 @@ import com.example.englishhubbackend.mapper.UserMapper;
 import com.example.englishhubbackend.models.Role;
 import com.example.englishhubbackend.models.User;
 import com.example.englishhubbackend.repository.UserRepository;
+import com.example.englishhubbackend.security.AccessTokenValidator;
+import com.example.englishhubbackend.security.AuthenticatedUser;
+import com.example.englishhubbackend.security.AuthenticatedUserToken;
+import com.example.englishhubbackend.security.JwtTokenService;
+import com.example.englishhubbackend.security.PasswordHashingService;
+import com.example.englishhubbackend.security.TokenLifetimes;
+import com.example.englishhubbackend.security.TokenRevocationService;
 import com.example.englishhubbackend.service.AuthenticationService;
 import com.example.englishhubbackend.service.EmailService;
 import com.example.englishhubbackend.service.RoleService;
+import com.example.englishhubbackend.store.RefreshTokenStore;
 import com.example.englishhubbackend.util.VerificationCodeUtil;
 import com.nimbusds.jose.JOSEException;
-import com.nimbusds.jose.JWSAlgorithm;
-import com.nimbusds.jose.JWSHeader;
-import com.nimbusds.jose.JWSVerifier;
-import com.nimbusds.jose.crypto.MACSigner;
-import com.nimbusds.jose.crypto.MACVerifier;
 import com.nimbusds.jwt.JWTClaimsSet;
-import com.nimbusds.jwt.SignedJWT;
-import jakarta.mail.MessagingException;
+import jakarta.annotation.PreDestroy;
 import java.text.ParseException;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Date;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
-import lombok.experimental.NonFinal;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.redis.core.RedisTemplate;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
@@ -49,24 +55,32 @@ public class AuthenticationServiceImpl implements AuthenticationService {
   UserMapper userMapper;
   EmailService emailService;
   RoleService roleService;
-  PasswordEncoder passwordEncoder;
-  RedisTemplate<String, String> redisTemplate;
-
-  @NonFinal
-  @Value("${security.jwt.secret-key}")
-  String SIGNER_KEY;
-
-  private static final long ACCESS_TOKEN_EXPIRY = 15 * 60 * 1000;
-  private static final long REFRESH_TOKEN_EXPIRY = 7 * 24 * 60 * 60 * 1000;
-
+  PasswordHashingService passwordHashingService;
+  RefreshTokenStore refreshTokenStore;
+  JwtTokenService jwtTokenService;
+  TokenRevocationService tokenRevocationService;
+  TransactionTemplate transactionTemplate;
+  TokenLifetimes tokenLifetimes;
+  // Token issuing and the rehash write talk to Redis and Postgres; they must not run on (and
+  // hold) a password-hashing thread.
+  ExecutorService tokenExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+  // Not @Transactional: the password is hashed before the transaction opens so a slow or queued
+  // BCrypt run does not hold a pooled connection.
   @Override
   public UserResponse register(RegisterRequest registerRequest) {
-    boolean existsByEmail = userRepository.existsByEmail(registerRequest.getEmail());
-    if (existsByEmail) {
+    if (userRepository.existsByEmail(registerRequest.getEmail())) {
       throw new AppException(ErrorCode.USER_ALREADY_EXISTS);
     }
     User user = userMapper.toUser(registerRequest);
-    user.setPassword(passwordEncoder.encode(user.getPassword()));
+    user.setPassword(passwordHashingService.encode(user.getPassword()));
+    return transactionTemplate.execute(status -> createUser(user));
+  }
+
+  private UserResponse createUser(User user) {
+    if (userRepository.existsByEmail(user.getEmail())) {
+      throw new AppException(ErrorCode.USER_ALREADY_EXISTS);
+    }
     user.setEnabled(false);
     user.setVerificationCode(VerificationCodeUtil.generateVerificationCode());
     user.setVerificationCodeExpiresAt(LocalDateTime.now().plusMinutes(30));
@@ -74,8 +88,9 @@ public class AuthenticationServiceImpl implements AuthenticationService {
     Role userRole = roleService.getRole(RoleEnum.USER.name());
     user.setRole(userRole);
     user.setJoinDate(LocalDateTime.now().toLocalDate());
-    sendVerificationEmail(user);
-    return userMapper.toUserResponse(userRepository.save(user));
+    User saved = userRepository.save(user);
+    emailService.queueVerificationEmail(saved.getEmail(), saved.getVerificationCode());
+    return userMapper.toUserResponse(saved);
   }
 
   @Override
@@ -101,6 +116,7 @@ public class AuthenticationServiceImpl implements AuthenticationService {
   }
 
   @Override
+  @Transactional
   public void resendVerificationCode(ResendVerificationRequest resendVerificationRequest) {
     Optional<User> optionalUser = userRepository.findByEmail(resendVerificationRequest.getEmail());
     if (optionalUser.isPresent()) {
@@ -110,8 +126,8 @@ public class AuthenticationServiceImpl implements AuthenticationService {
       }
       user.setVerificationCode(VerificationCodeUtil.generateVerificationCode());
       user.setVerificationCodeExpiresAt(LocalDateTime.now().plusMinutes(30));
-      sendVerificationEmail(user);
       userRepository.save(user);
+      emailService.queueVerificationEmail(user.getEmail(), user.getVerificationCode());
     } else {
       throw new AppException(ErrorCode.USER_NOT_FOUND);
     }
@@ -120,14 +136,32 @@ public class AuthenticationServiceImpl implements AuthenticationService {
   @Override
   public IntrospectResponse introspect(IntrospectRequest introspectRequest)
       throws JOSEException, ParseException {
-    String token = introspectRequest.getToken();
-    SignedJWT signedJWT = parseAndVerifyToken(token);
+    JWTClaimsSet claims = jwtTokenService.verify(introspectRequest.getToken());
+    boolean valid =
+        !jwtTokenService.isExpired(claims)
+            && claims.getClaim(AccessTokenValidator.FAMILY_CLAIM) == null
+            && claims.getClaim(AccessTokenValidator.SCOPE_CLAIM) != null
+            && !isRevoked(claims);
+
+    return IntrospectResponse.builder().valid(valid).build();
+  }
 
-    return IntrospectResponse.builder().valid(!isTokenExpired(signedJWT)).build();
+  private boolean isRevoked(JWTClaimsSet claims) {
+    UUID userId;
+    try {
+      userId = UUID.fromString(claims.getSubject());
+    } catch (IllegalArgumentException | NullPointerException e) {
+      return true;
+    }
+    return tokenRevocationService.isRevoked(
+        userId,
+        claims.getJWTID(),
+        claims.getIssueTime() != null ? claims.getIssueTime().toInstant() : null);
   }
 
   @Override
-  public AuthenticateResponse authenticate(AuthenticateRequest authenticateRequest) {
+  public CompletableFuture<AuthenticateResponse> authenticate(
+      AuthenticateRequest authenticateRequest) {
     User user =
         userRepository
             .findByEmail(authenticateRequest.getEmail())
@@ -141,15 +175,48 @@ public class AuthenticationServiceImpl implements AuthenticationService {
       throw new AppException(ErrorCode.ACCOUNT_DEACTIVATED);
     }
 
-    if (!passwordEncoder.matches(authenticateRequest.getPassword(), user.getPassword())) {
-      throw new AppException(ErrorCode.UNAUTHENTICATED);
+    return passwordHashingService
+        .matchesAsync(authenticateRequest.getPassword(), user.getPassword())
+        .thenApplyAsync(
+            matches -> {
+              if (!matches) {
+                throw new AppException(ErrorCode.UNAUTHENTICATED);
+              }
+              rehashIfNeeded(user, authenticateRequest.getPassword());
+              return issueTokens(user);
+            },
+            tokenExecutor);
+  }
+
+  @PreDestroy
+  void shutdown() {
+    tokenExecutor.shutdown();
+  }
+
+  private void rehashIfNeeded(User user, String rawPassword) {
+    String current = user.getPassword();
+    if (!passwordHashingService.needsRehash(current)) {
+      return;
     }
+    passwordHashingService
+        .encodeAsync(rawPassword)
+        .thenAcceptAsync(
+            encoded -> userRepository.updatePassword(user.getId(), current, encoded),
+            tokenExecutor)
+        .exceptionally(
+            e -> {
+              log.warn("Failed to rehash password for user {}", user.getId(), e);
+              return null;
+            });
+  }
+
+  private AuthenticateResponse issueTokens(User user) {
+    String familyId = UUID.randomUUID().toString();
+    String tokenId = UUID.randomUUID().toString();
+    refreshTokenStore.create(user.getId(), familyId, tokenId, tokenLifetimes.refreshToken());
 
     String accessToken = generateAccessToken(user);
-    String refreshToken = generateRefreshToken(user);
-    redisTemplate
-        .opsForValue()
-        .set("refresh:" + user.getId(), refreshToken, REFRESH_TOKEN_EXPIRY, TimeUnit.MILLISECONDS);
+    String refreshToken = generateRefreshToken(user.getId(), familyId, tokenId);
     return AuthenticateResponse.builder()
         .accessToken(accessToken)
         .refreshToken(refreshToken)
@@ -159,28 +226,37 @@ public class AuthenticationServiceImpl implements AuthenticationService {
   @Override
   public AuthenticateResponse refreshToken(RefreshRequest refreshRequest) {
     try {
-      SignedJWT signedJWT = parseAndVerifyToken(refreshRequest.getRefreshToken());
+      JWTClaimsSet claims = jwtTokenService.verify(refreshRequest.getRefreshToken());
 
-      if (isTokenExpired(signedJWT)) {
+      if (jwtTokenService.isExpired(claims)) {
         throw new AppException(ErrorCode.UNAUTHENTICATED);
       }
 
-      String userId = getUserIdFromToken(signedJWT);
-
-      if (!isRefreshTokenValid(userId, refreshRequest.getRefreshToken())) {
+      UUID userId = UUID.fromString(claims.getSubject());
+      String familyId = claims.getStringClaim("fid");
+      String nextTokenId = UUID.randomUUID().toString();
+
+      long rotation =
+          refreshTokenStore.rotate(
+              userId,
+              familyId,
+              claims.getJWTID(),
+              nextTokenId,
+              tokenLifetimes.refreshToken());
+      jwtTokenService.evict(refreshRequest.getRefreshToken());
+      if (rotation != RefreshTokenStore.ROTATED) {
         throw new AppException(ErrorCode.UNAUTHENTICATED);
       }
 
-      var user =
-          userRepository
-              .findById(UUID.fromString(userId))
-              .orElseThrow(() -> new AppException(ErrorCode.USER_NOT_FOUND));
-
-      var newAccessToken = generateAccessToken(user);
+      User user = userRepository.findById(userId).orElse(null);
+      if (user == null || user.getStatus() == UserStatusEnum.DEACTIVATED) {
+        refreshTokenStore.revokeAll(userId);
+        throw new AppException(ErrorCode.UNAUTHENTICATED);
+      }
 
       return AuthenticateResponse.builder()
-          .accessToken(newAccessToken)
-          .refreshToken(refreshRequest.getRefreshToken())
+          .accessToken(generateAccessToken(user))
+          .refreshToken(generateRefreshToken(userId, familyId, nextTokenId))
           .build();
     } catch (Exception e) {
       throw new AppException(ErrorCode.UNAUTHENTICATED);
@@ -190,131 +266,98 @@ public class AuthenticationServiceImpl implements AuthenticationService {
   @Override
   public void logout(RefreshRequest refreshRequest) {
     try {
-      SignedJWT signedJWT = parseAndVerifyToken(refreshRequest.getRefreshToken());
-      String userId = getUserIdFromToken(signedJWT);
+      JWTClaimsSet claims = jwtTokenService.verify(refreshRequest.getRefreshToken());
 
-      if (!isRefreshTokenValid(userId, refreshRequest.getRefreshToken())) {
+      if (!refreshTokenStore.revoke(
+          UUID.fromString(claims.getSubject()),
+          claims.getStringClaim("fid"),
+          claims.getJWTID())) {
         throw new AppException(ErrorCode.UNAUTHENTICATED);
       }
 
-      redisTemplate.delete("refresh:" + userId);
+      jwtTokenService.evict(refreshRequest.getRefreshToken());
     } catch (Exception e) {
       throw new AppException(ErrorCode.UNAUTHENTICATED);
+    } finally {
+      revokeCurrentAccessToken();
+    }
+  }
+
+  private void revokeCurrentAccessToken() {
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    if (authentication instanceof AuthenticatedUserToken token) {
+      tokenRevocationService.revokeToken(token.getToken().getId(), token.getToken().getExpiresAt());
     }
   }
 
   @Override
   public void changePassword(ChangePasswordRequest changePasswordRequest) {
-    User user = getCurrentUser();
-    if (user == null) {
-      throw new AppException(ErrorCode.UNAUTHENTICATED);
-    }
+    User user =
+        userRepository
+            .findById(getCurrentUserId())
+            .orElseThrow(() -> new AppException(ErrorCode.UNAUTHENTICATED));
 
-    if (!passwordEncoder.matches(changePasswordRequest.getCurrentPassword(), user.getPassword())) {
+    if (!passwordHashingService.matches(
+        changePasswordRequest.getCurrentPassword(), user.getPassword())) {
       throw new AppException(ErrorCode.INVALID_CURRENT_PASSWORD);
     }
 
-    user.setPassword(passwordEncoder.encode(changePasswordRequest.getNewPassword()));
+    user.setPassword(passwordHashingService.encode(changePasswordRequest.getNewPassword()));
     userRepository.save(user);
+    refreshTokenStore.revokeAll(user.getId());
+    tokenRevocationService.revokeAllForUser(user.getId());
   }
 
   @Override
   public User getCurrentUser() {
-    var context = SecurityContextHolder.getContext();
-    String userId = context.getAuthentication().getName();
-    try {
-      return userRepository.findById(UUID.fromString(userId)).orElse(null);
-    } catch (IllegalArgumentException e) {
-      return null;
-    }
+    AuthenticatedUser principal = getCurrentPrincipal();
+    return principal != null ? userRepository.findById(principal.id()).orElse(null) : null;
   }
 
-  private void sendVerificationEmail(User user) {
-    String subject = "Verification Code";
-    String verificationCode = user.getVerificationCode();
-    String htmlMessage =
-        "<html>"
-            + "<body style=\"font-family: Arial, sans-serif; background-color: #f5f5f5; padding: 20px;\">"
-            + "<div style=\"max-width: 600px; margin: 0 auto; background-color: #ffffff; padding: 30px; border-radius: 8px; box-shadow: 0 0 15px rgba(0,0,0,0.1);\">"
-            + "<h2 style=\"color: #333; text-align: center; font-size: 24px;\">Welcome to Our App!</h2>"
-            + "<p style=\"font-size: 16px; text-align: center; color: #555;\">Please use the verification code below to verify your email address:</p>"
-            + "<div style=\"background-color: #f1f1f1; padding: 20px; border-radius: 5px; margin-top: 20px; text-align: center;\">"
-            + "<p style=\"font-size: 24px; font-weight: bold; color: #333;\">"
-            + verificationCode
-            + "</p>"
-            + "</div>"
-            + "<p style=\"font-size: 14px; color: #888; text-align: center; margin-top: 30px;\">If you did not request this verification, please ignore this email.</p>"
-            + "</div>"
-            + "</body>"
-            + "</html>";
+  @Override
+  public UUID getCurrentUserId() {
+    AuthenticatedUser principal = getCurrentPrincipal();
+    if (principal == null) {
+      throw new AppException(ErrorCode.UNAUTHENTICATED);
+    }
+    return principal.id();
+  }
 
-    try {
-      emailService.sendVerificationEmail(user.getEmail(), subject, htmlMessage);
-    } catch (MessagingException e) {
-      throw new AppException(ErrorCode.EMAIL_SEND_FAILED);
+  @Override
+  public AuthenticatedUser getCurrentPrincipal() {
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    if (authentication != null
+        && authentication.getPrincipal() instanceof AuthenticatedUser principal) {
+      return principal;
     }
+    return null;
   }
 
   private String generateAccessToken(User user) {
-    return generateToken(user, ACCESS_TOKEN_EXPIRY, true);
+    return jwtTokenService.sign(
+        baseClaims(user.getId(), tokenLifetimes.accessToken())
+            .jwtID(UUID.randomUUID().toString())
+            .claim("scope", buildScope(user))
+            .build());
   }
 
-  private String generateRefreshToken(User user) {
-    return generateToken(user, REFRESH_TOKEN_EXPIRY, false);
+  private String generateRefreshToken(UUID userId, String familyId, String tokenId) {
+    return jwtTokenService.sign(
+        baseClaims(userId, tokenLifetimes.refreshToken())
+            .jwtID(tokenId)
+            .claim("fid", familyId)
+            .build());
   }
 
-  private String generateToken(User user, long expiryMillis, boolean isAccessToken) {
-    try {
-      JWTClaimsSet.Builder claimsBuilder =
-          new JWTClaimsSet.Builder()
-              .subject(user.getId().toString())
-              .issuer("senior-project")
-              .issueTime(new Date())
-              .expirationTime(new Date(System.currentTimeMillis() + expiryMillis));
-
-      if (isAccessToken) {
-        claimsBuilder.claim("scope", buildScope(user));
-      }
-
-      JWTClaimsSet claims = claimsBuilder.build();
-      SignedJWT signedJWT = new SignedJWT(new JWSHeader(JWSAlgorithm.HS512), claims);
-      signedJWT.sign(new MACSigner(SIGNER_KEY.getBytes()));
-
-      return signedJWT.serialize();
-    } catch (JOSEException e) {
-      throw new RuntimeException(e);
-    }
+  private JWTClaimsSet.Builder baseClaims(UUID userId, Duration lifetime) {
+    return new JWTClaimsSet.Builder()
+        .subject(userId.toString())
+        .issuer("senior-project")
+        .issueTime(new Date())
+        .expirationTime(new Date(System.currentTimeMillis() + lifetime.toMillis()));
   }
 
   private String buildScope(User user) {
     return user.getRole().getName();
   }
-
-  private SignedJWT parseAndVerifyToken(String token) {
-    try {
-      JWSVerifier verifier = new MACVerifier(SIGNER_KEY.getBytes());
-      SignedJWT signedJWT = SignedJWT.parse(token);
-
-      if (!signedJWT.verify(verifier)) {
-        throw new AppException(ErrorCode.UNAUTHENTICATED);
-      }
-
-      return signedJWT;
-    } catch (Exception e) {
-      throw new AppException(ErrorCode.UNAUTHENTICATED);
-    }
-  }
-
-  private boolean isTokenExpired(SignedJWT signedJWT) throws ParseException {
-    return signedJWT.getJWTClaimsSet().getExpirationTime().before(new Date());
-  }
-
-  private String getUserIdFromToken(SignedJWT signedJWT) throws ParseException {
-    return signedJWT.getJWTClaimsSet().getSubject();
-  }
-
-  private boolean isRefreshTokenValid(String userId, String refreshToken) {
-    String storedToken = redisTemplate.opsForValue().get("refresh:" + userId);
-    return storedToken != null && storedToken.equals(refreshToken);
-  }
 }
@@ -3,6 +3,7 @@ package com.example.englishhubbackend.service.impl;
 import com.example.englishhubbackend.dto.request.CourseCreateRequest;
 import com.example.englishhubbackend.dto.request.CourseUpdateRequest;
 import com.example.englishhubbackend.dto.response.CourseResponse;
+import com.example.englishhubbackend.dto.response.CursorPage;
 import com.example.englishhubbackend.exception.AppException;
 import com.example.englishhubbackend.exception.ErrorCode;
 import com.example.englishhubbackend.mapper.CourseMapper;
@@ -10,7 +11,9 @@ import com.example.englishhubbackend.models.Course;
 import com.example.englishhubbackend.repository.CourseRepository;
 import com.example.englishhubbackend.service.CourseService;
 import com.example.englishhubbackend.service.S3Service;
+import com.example.englishhubbackend.util.CursorUtil;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 import lombok.AccessLevel;
@@ -37,9 +40,27 @@ public class CourseServiceImpl implements CourseService {
   }
 
   @Override
-  public List<CourseResponse> getAllCourses() {
-    List<Course> courses = courseRepository.findAllByOrderByCreatedDateAsc();
-    return courses.stream().map(courseMapper::toCourseResponse).toList();
+  public CursorPage<CourseResponse> getCourses(String cursor, Integer limit) {
+    int size = CursorUtil.limit(limit);
+    CursorUtil.Cursor after = CursorUtil.decode(cursor);
+    List<Course> courses = new ArrayList<>(size + 1);
+    UUID undatedAfter = CursorUtil.MIN_ID;
+    if (after == null) {
+      courses.addAll(courseRepository.findPage(size + 1));
+    } else if (after.key() != null) {
+      courses.addAll(courseRepository.findPageAfter(after.localDate(), after.id(), size + 1));
+    } else {
+      undatedAfter = after.id();
+    }
+    if (courses.size() <= size) {
+      courses.addAll(
+          courseRepository.findUndatedPageAfter(undatedAfter, size + 1 - courses.size()));
+    }
+    return CursorUtil.page(
+        courses,
+        size,
+        courseMapper::toCourseResponse,
+        course -> CursorUtil.encode(course.getCreatedDate(), course.getId()));
   }
 
   @Override
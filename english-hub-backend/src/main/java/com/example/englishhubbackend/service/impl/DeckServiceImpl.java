@@ -2,6 +2,7 @@ package com.example.englishhubbackend.service.impl;
 
 import com.example.englishhubbackend.dto.request.DeckCreateRequest;
 import com.example.englishhubbackend.dto.request.DeckUpdateRequest;
+import com.example.englishhubbackend.dto.response.CursorPage;
 import com.example.englishhubbackend.dto.response.DeckResponse;
 import com.example.englishhubbackend.exception.AppException;
 import com.example.englishhubbackend.exception.ErrorCode;
@@ -9,7 +10,9 @@ import com.example.englishhubbackend.mapper.DeckMapper;
 import com.example.englishhubbackend.models.Deck;
 import com.example.englishhubbackend.repository.DeckRepository;
 import com.example.englishhubbackend.service.DeckService;
+import com.example.englishhubbackend.util.CursorUtil;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 import lombok.AccessLevel;
@@ -35,9 +38,26 @@ public class DeckServiceImpl implements DeckService {
   }
 
   @Override
-  public List<DeckResponse> getAllDecks() {
-    List<Deck> desks = deckRepository.findAllByOrderByCreatedDateAsc();
-    return desks.stream().map(deckMapper::toDeckResponse).toList();
+  public CursorPage<DeckResponse> getDecks(String cursor, Integer limit) {
+    int size = CursorUtil.limit(limit);
+    CursorUtil.Cursor after = CursorUtil.decode(cursor);
+    List<Deck> decks = new ArrayList<>(size + 1);
+    UUID undatedAfter = CursorUtil.MIN_ID;
+    if (after == null) {
+      decks.addAll(deckRepository.findPage(size + 1));
+    } else if (after.key() != null) {
+      decks.addAll(deckRepository.findPageAfter(after.localDate(), after.id(), size + 1));
+    } else {
+      undatedAfter = after.id();
+    }
+    if (decks.size() <= size) {
+      decks.addAll(deckRepository.findUndatedPageAfter(undatedAfter, size + 1 - decks.size()));
+    }
+    return CursorUtil.page(
+        decks,
+        size,
+        deckMapper::toDeckResponse,
+        deck -> CursorUtil.encode(deck.getCreatedDate(), deck.getId()));
   }
 
   @Override
@@ -0,0 +1,92 @@
+package com.example.englishhubbackend.service.impl;
+
+import com.example.englishhubbackend.dto.response.ExamImportJobResponse;
+import com.example.englishhubbackend.exception.AppException;
+import com.example.englishhubbackend.exception.ErrorCode;
+import com.example.englishhubbackend.importer.ExamImportJob;
+import com.example.englishhubbackend.importer.ExamPackageImporter;
+import com.example.englishhubbackend.repository.ExamRepository;
+import com.example.englishhubbackend.service.ExamImportService;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ExamImportServiceImpl implements ExamImportService {
+  ExamRepository examRepository;
+  ExamPackageImporter examPackageImporter;
+
+  // The archive is read as a raw request body, so the multipart size limit does not apply to it.
+  @NonFinal
+  @Value("${exam.import.max-bytes:209715200}")
+  long maxBytes;
+
+  @Override
+  @PreAuthorize("hasRole('ADMIN')")
+  public ExamImportJobResponse importExamPackage(UUID examId, InputStream archive) {
+    if (!examRepository.existsById(examId)) {
+      throw new AppException(ErrorCode.EXAM_NOT_FOUND);
+    }
+
+    Path spooled = null;
+    try {
+      spooled = Files.createTempFile("exam-import-", ".zip");
+      if (!spool(archive, spooled)) {
+        throw new IOException("Exam package exceeds " + maxBytes + " bytes");
+      }
+    } catch (IOException e) {
+      deleteQuietly(spooled);
+      throw new AppException(ErrorCode.INVALID_EXAM_PACKAGE);
+    }
+
+    return examPackageImporter.submit(examId, spooled).toResponse();
+  }
+
+  @Override
+  @PreAuthorize("hasRole('ADMIN')")
+  public ExamImportJobResponse getImportJob(UUID jobId) {
+    return examPackageImporter
+        .find(jobId)
+        .map(ExamImportJob::toResponse)
+        .orElseThrow(() -> new AppException(ErrorCode.EXAM_IMPORT_JOB_NOT_FOUND));
+  }
+
+  /** Copies the archive into {@code target}; returns false once it exceeds {@code maxBytes}. */
+  private boolean spool(InputStream archive, Path target) throws IOException {
+    byte[] buffer = new byte[8192];
+    long copied = 0;
+    try (OutputStream out = Files.newOutputStream(target)) {
+      int read;
+      while ((read = archive.read(buffer)) != -1) {
+        copied += read;
+        if (copied > maxBytes) {
+          return false;
+        }
+        out.write(buffer, 0, read);
+      }
+    }
+    return true;
+  }
+
+  private void deleteQuietly(Path path) {
+    if (path == null) {
+      return;
+    }
+    try {
+      Files.deleteIfExists(path);
+    } catch (IOException ignored) {
+    }
+  }
+}
@@ -1,21 +1,43 @@
 package com.example.englishhubbackend.service.impl;
 
+import com.example.englishhubbackend.cache.ExamSnapshotCache;
 import com.example.englishhubbackend.dto.request.*;
+import com.example.englishhubbackend.dto.response.CursorPage;
 import com.example.englishhubbackend.dto.response.ExamResponse;
 import com.example.englishhubbackend.dto.response.ExamSubmissionResponse;
+import com.example.englishhubbackend.dto.response.PartScoreResponse;
 import com.example.englishhubbackend.dto.response.QuestionGroupResponse;
+import com.example.englishhubbackend.dto.response.QuestionItemStatsResponse;
 import com.example.englishhubbackend.dto.response.QuestionResponse;
+import com.example.englishhubbackend.enums.QuestionTypeEnum;
 import com.example.englishhubbackend.exception.AppException;
 import com.example.englishhubbackend.exception.ErrorCode;
+import com.example.englishhubbackend.grading.ExamAnswerKey;
+import com.example.englishhubbackend.grading.ExamGrade;
+import com.example.englishhubbackend.grading.ExamGradingEngine;
+import com.example.englishhubbackend.grading.ItemAnalysis;
+import com.example.englishhubbackend.grading.ItemAnalysisAccumulator;
+import com.example.englishhubbackend.grading.ScoreBreakdownCodec;
+import com.example.englishhubbackend.grading.ScoreBreakdownCodec.PartCount;
+import com.example.englishhubbackend.job.ResultFlushJob;
+import com.example.englishhubbackend.job.UserExamStatsRebuildJob;
 import com.example.englishhubbackend.mapper.ExamMapper;
 import com.example.englishhubbackend.models.*;
 import com.example.englishhubbackend.repository.ExamRepository;
+import com.example.englishhubbackend.repository.QuestionItemStatsRepository;
 import com.example.englishhubbackend.repository.QuestionRepository;
 import com.example.englishhubbackend.repository.ResultRepository;
 import com.example.englishhubbackend.repository.UserRepository;
+import com.example.englishhubbackend.security.AuthenticatedUser;
 import com.example.englishhubbackend.service.AuthenticationService;
 import com.example.englishhubbackend.service.ExamService;
+import com.example.englishhubbackend.service.LeaderboardService;
 import com.example.englishhubbackend.service.QuestionService;
+import com.example.englishhubbackend.service.UserExamStatsService;
+import com.example.englishhubbackend.store.ExamSubmissionStore;
+import com.example.englishhubbackend.store.PendingResult;
+import com.example.englishhubbackend.store.ResultWriteBehindQueue;
+import com.example.englishhubbackend.util.CursorUtil;
 import com.example.englishhubbackend.util.ToeicScoringUtil;
 import java.time.LocalDateTime;
 import java.util.*;
@@ -23,20 +45,34 @@ import java.util.stream.Collectors;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
 @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
 public class ExamServiceImpl implements ExamService {
+  private static final String[] ITEM_OPTION_LABELS = {"A", "B", "C", "D", "omitted"};
+
   ExamRepository examRepository;
   ExamMapper examMapper;
   QuestionService questionService;
   UserRepository userRepository;
-  ResultRepository resultRepository;
   AuthenticationService authenticationService;
   QuestionRepository questionRepository;
+  ResultRepository resultRepository;
+  ExamSnapshotCache examSnapshotCache;
+  UserExamStatsService userExamStatsService;
+  UserExamStatsRebuildJob userExamStatsRebuildJob;
+  ExamGradingEngine examGradingEngine;
+  ExamSubmissionStore examSubmissionStore;
+  ResultWriteBehindQueue resultWriteBehindQueue;
+  ResultFlushJob resultFlushJob;
+  LeaderboardService leaderboardService;
+  ItemAnalysisAccumulator itemAnalysisAccumulator;
+  QuestionItemStatsRepository questionItemStatsRepository;
 
   @Override
   @PreAuthorize("hasRole('ADMIN')")
@@ -47,30 +83,40 @@ public class ExamServiceImpl implements ExamService {
   }
 
   @Override
-  public List<ExamResponse> getAllExams() {
-    User currentUser = authenticationService.getCurrentUser();
-
-    List<Exam> exams = examRepository.findAllByOrderByCreatedDateAsc();
-
-    return exams.stream()
-        .map(
-            exam -> {
-              int attempts = 0;
-              int highestScore = 0;
-
-              if (currentUser != null) {
-                attempts = resultRepository.countByUserAndExam(currentUser, exam);
-                Integer highestScoreResult =
-                    resultRepository.findHighestScoreByUserAndExam(currentUser, exam);
-                highestScore = highestScoreResult != null ? highestScoreResult : 0;
-              }
-
-              ExamResponse examResponse = examMapper.toExamResponse(exam);
-              examResponse.setAttempts(attempts);
-              examResponse.setHighestScore(highestScore);
-              return examResponse;
-            })
-        .collect(Collectors.toList());
+  public CursorPage<ExamResponse> getExams(String cursor, Integer limit) {
+    int size = CursorUtil.limit(limit);
+    CursorUtil.Cursor after = CursorUtil.decode(cursor);
+    List<Exam> exams = new ArrayList<>(size + 1);
+    UUID undatedAfter = CursorUtil.MIN_ID;
+    if (after == null) {
+      exams.addAll(examRepository.findPage(size + 1));
+    } else if (after.key() != null) {
+      exams.addAll(examRepository.findPageAfter(after.localDateTime(), after.id(), size + 1));
+    } else {
+      undatedAfter = after.id();
+    }
+    if (exams.size() <= size) {
+      exams.addAll(examRepository.findUndatedPageAfter(undatedAfter, size + 1 - exams.size()));
+    }
+
+    AuthenticatedUser principal = authenticationService.getCurrentPrincipal();
+    Map<UUID, UserExamStats> statsByExamId =
+        principal != null ? userExamStatsService.getStatsByExamId(principal.id()) : Map.of();
+    return CursorUtil.page(
+        exams,
+        size,
+        exam -> toExamResponse(exam, statsByExamId),
+        exam -> CursorUtil.encode(exam.getCreatedDate(), exam.getId()));
+  }
+
+  private ExamResponse toExamResponse(Exam exam, Map<UUID, UserExamStats> statsByExamId) {
+    ExamResponse examResponse = examMapper.toExamResponse(exam);
+    UserExamStats stats = statsByExamId.get(exam.getId());
+    if (stats != null) {
+      examResponse.setAttempts(stats.getAttempts());
+      examResponse.setHighestScore(stats.getBestScore());
+    }
+    return examResponse;
   }
 
   @Override
@@ -89,7 +135,9 @@ public class ExamServiceImpl implements ExamService {
             .findById(examId)
             .orElseThrow(() -> new AppException(ErrorCode.EXAM_NOT_FOUND));
     examMapper.toExam(examUpdateRequest, exam);
-    return examMapper.toExamResponse(examRepository.save(exam));
+    ExamResponse examResponse = examMapper.toExamResponse(examRepository.save(exam));
+    examSnapshotCache.invalidate(examId);
+    return examResponse;
   }
 
   @Override
@@ -100,10 +148,16 @@ public class ExamServiceImpl implements ExamService {
             .findById(examId)
             .orElseThrow(() -> new AppException(ErrorCode.EXAM_NOT_FOUND));
     examRepository.delete(exam);
+    userExamStatsService.deleteStatsForExam(examId);
+    leaderboardService.removeExam(examId);
+    itemAnalysisAccumulator.discardExam(examId);
+    questionItemStatsRepository.deleteAllByExamId(examId);
+    examSnapshotCache.invalidate(examId);
   }
 
   @Override
   @PreAuthorize("hasRole('ADMIN')")
+  @Transactional
   public List<QuestionResponse> addQuestionsToExam(
       UUID examId, List<QuestionCreateRequest> questionCreateRequest) {
     Exam exam =
@@ -113,19 +167,17 @@ public class ExamServiceImpl implements ExamService {
 
     UUID groupId = UUID.randomUUID();
 
-    List<QuestionResponse> questionResponses = new ArrayList<>();
-
-    for (QuestionCreateRequest questionCreateRequestItem : questionCreateRequest) {
-      Question question = questionService.createQuestionEntity(questionCreateRequestItem);
-
+    List<Question> questions = questionService.createQuestionEntities(questionCreateRequest);
+    for (Question question : questions) {
       question.setGroupId(groupId);
-
       question.setExam(exam);
-
-      Question savedQuestion = questionService.saveQuestion(question);
-
-      questionResponses.add(questionService.mapQuestionToResponse(savedQuestion));
     }
+
+    List<QuestionResponse> questionResponses =
+        questionService.saveQuestions(questions).stream()
+            .map(questionService::mapQuestionToResponse)
+            .toList();
+    examSnapshotCache.invalidate(examId);
     return questionResponses;
   }
 
@@ -146,7 +198,10 @@ public class ExamServiceImpl implements ExamService {
     question.setCreatedAt(LocalDateTime.now());
     question.setExam(exam);
 
-    return questionService.mapQuestionToResponse(questionService.saveQuestion(question));
+    QuestionResponse questionResponse =
+        questionService.mapQuestionToResponse(questionService.saveQuestion(question));
+    examSnapshotCache.invalidate(examId);
+    return questionResponse;
   }
 
   @Override
@@ -173,115 +228,130 @@ public class ExamServiceImpl implements ExamService {
 
     Question question = questionService.updateQuestionEntity(questionId, questionUpdateRequest);
     question.setExam(exam);
-    return questionService.mapQuestionToResponse(questionService.saveQuestion(question));
+    QuestionResponse questionResponse =
+        questionService.mapQuestionToResponse(questionService.saveQuestion(question));
+    examSnapshotCache.invalidate(examId);
+    return questionResponse;
   }
 
   @Override
   public List<QuestionGroupResponse> getQuestionGroupsFromExam(UUID examId) {
-    Exam exam =
-        examRepository
-            .findById(examId)
-            .orElseThrow(() -> new AppException(ErrorCode.EXAM_NOT_FOUND));
+    return examSnapshotCache.get(examId).questionGroups();
+  }
 
-    List<Question> questions =
-        exam.getQuestions().stream().sorted(Comparator.comparing(Question::getCreatedAt)).toList();
-
-    Map<UUID, List<Question>> grouped =
-        questions.stream()
-            .collect(
-                Collectors.groupingBy(
-                    Question::getGroupId, LinkedHashMap::new, Collectors.toList()));
-
-    List<QuestionGroupResponse> response = new ArrayList<>();
-
-    for (Map.Entry<UUID, List<Question>> entry : grouped.entrySet()) {
-      UUID groupId = entry.getKey();
-      List<Question> groupQuestions = entry.getValue();
-
-      QuestionGroupResponse groupResponse = new QuestionGroupResponse();
-      groupResponse.setGroupId(groupId);
-      groupResponse.setQuestions(
-          groupQuestions.stream().map(questionService::mapQuestionToResponse).toList());
-
-      Question first = groupQuestions.getFirst();
-      if (first instanceof ListeningQuestion listening) {
-        groupResponse.setAudioUrl(listening.getAudio().getUrl());
-        groupResponse.setImageUrl(listening.getImageUrl());
-      } else if (first instanceof ReadingQuestion reading) {
-        if (reading.getPassage() != null) {
-          groupResponse.setPassage(reading.getPassage().getContent());
-        }
-      }
-      groupResponse.setQuestionType(first.getQuestionType().getName());
-      response.add(groupResponse);
-    }
-    return response;
+  @Override
+  public byte[] getQuestionGroupsJsonFromExam(UUID examId) {
+    return examSnapshotCache.get(examId).json();
   }
 
   @Override
   public ExamSubmissionResponse submitExam(
       UUID examId, ExamSubmissionRequest examSubmissionRequest) {
-    Exam exam =
-        examRepository
-            .findById(examId)
-            .orElseThrow(() -> new AppException(ErrorCode.EXAM_NOT_FOUND));
+    ExamGrade grade = examGradingEngine.grade(examId, examSubmissionRequest.getAnswers());
+
+    int listeningScore = ToeicScoringUtil.convertListeningScore(grade.correctListeningAnswers());
+    int readingScore = ToeicScoringUtil.convertReadingScore(grade.correctReadingAnswers());
+
+    UUID userId = authenticationService.getCurrentUserId();
+    UUID submissionId =
+        examSubmissionRequest.getSubmissionId() != null
+            ? examSubmissionRequest.getSubmissionId()
+            : UUID.randomUUID();
+    LocalDateTime completedAt = LocalDateTime.now();
+    byte[] partBreakdown =
+        ScoreBreakdownCodec.packParts(grade.correctByPart(), grade.totalByPart());
+    List<UUID> incorrectQuestionIds = grade.incorrectQuestionIds();
+
+    ExamSubmissionResponse response =
+        ExamSubmissionResponse.builder()
+            .id(UUID.randomUUID())
+            .examId(examId)
+            .userId(userId)
+            .completedAt(completedAt)
+            .listeningScore(listeningScore)
+            .readingScore(readingScore)
+            .totalScore(listeningScore + readingScore)
+            .maxScore(990)
+            .parts(toPartScores(partBreakdown))
+            .incorrectQuestionIds(incorrectQuestionIds)
+            .build();
 
-    Map<UUID, Question> questionMap =
-        exam.getQuestions().stream()
-            .collect(Collectors.toMap(Question::getId, question -> question));
-
-    int correctListeningAnswers = 0;
-    int correctReadingAnswers = 0;
-
-    if (examSubmissionRequest.getAnswers() != null
-        && !examSubmissionRequest.getAnswers().isEmpty()) {
-      for (Map.Entry<String, String> entry : examSubmissionRequest.getAnswers().entrySet()) {
-        UUID questionId = UUID.fromString(entry.getKey());
-        String submittedAnswer = entry.getValue();
-
-        Question question = questionMap.get(questionId);
-        if (question == null) {
-          throw new AppException(ErrorCode.QUESTION_NOT_FOUND);
-        }
-
-        if (question.getCorrectAnswer().equalsIgnoreCase(submittedAnswer)) {
-          if (question instanceof ListeningQuestion) {
-            correctListeningAnswers++;
-          } else if (question instanceof ReadingQuestion) {
-            correctReadingAnswers++;
-          }
-        }
-      }
+    if (!examSubmissionStore.claim(userId, submissionId, response)) {
+      return examSubmissionStore.find(userId, submissionId).orElse(response);
     }
 
-    int listeningScore = ToeicScoringUtil.convertListeningScore(correctListeningAnswers);
-    int readingScore = ToeicScoringUtil.convertReadingScore(correctReadingAnswers);
-
-    User currentUser = authenticationService.getCurrentUser();
+    PendingResult pendingResult =
+        new PendingResult(
+            response.getId(),
+            submissionId,
+            userId,
+            examId,
+            listeningScore,
+            readingScore,
+            completedAt,
+            partBreakdown,
+            ScoreBreakdownCodec.packQuestionIds(incorrectQuestionIds));
+    try {
+      if (!resultWriteBehindQueue.offer(pendingResult)) {
+        resultFlushJob.persist(List.of(pendingResult));
+      }
+    } catch (RuntimeException e) {
+      examSubmissionStore.release(userId, submissionId);
+      throw e;
+    }
+    itemAnalysisAccumulator.record(examId, grade);
+    leaderboardService.recordScore(examId, userId, listeningScore + readingScore);
 
-    Result result =
-        Result.builder()
-            .listeningScore(listeningScore)
-            .readingScore(readingScore)
-            .lastCompletedAt(LocalDateTime.now())
-            .user(currentUser)
-            .exam(exam)
-            .build();
+    return response;
+  }
 
-    resultRepository.save(result);
+  @Override
+  @Transactional(readOnly = true)
+  public List<ExamSubmissionResponse> getResultHistory(UUID examId, Integer limit) {
+    UUID userId = authenticationService.getCurrentUserId();
+    PageRequest page = PageRequest.of(0, CursorUtil.limit(limit));
+    List<Result> results =
+        examId != null
+            ? resultRepository.findByUserIdAndExamIdOrderByLastCompletedAtDesc(
+                userId, examId, page)
+            : resultRepository.findByUserIdOrderByLastCompletedAtDesc(userId, page);
+    return results.stream().map(result -> toSubmissionResponse(result, userId)).toList();
+  }
 
+  private ExamSubmissionResponse toSubmissionResponse(Result result, UUID userId) {
     return ExamSubmissionResponse.builder()
         .id(result.getId())
-        .examId(exam.getId())
-        .userId(currentUser.getId())
+        .examId(result.getExam().getId())
+        .userId(userId)
         .completedAt(result.getLastCompletedAt())
         .listeningScore(result.getListeningScore())
         .readingScore(result.getReadingScore())
         .totalScore(result.getListeningScore() + result.getReadingScore())
         .maxScore(990)
+        .parts(toPartScores(result.getPartBreakdown()))
+        .incorrectQuestionIds(
+            ScoreBreakdownCodec.unpackQuestionIds(result.getIncorrectQuestionIds()))
         .build();
   }
 
+  private List<PartScoreResponse> toPartScores(byte[] partBreakdown) {
+    QuestionTypeEnum[] types = QuestionTypeEnum.values();
+    List<PartScoreResponse> parts = new ArrayList<>(types.length);
+    for (PartCount count : ScoreBreakdownCodec.unpackParts(partBreakdown)) {
+      if (count.part() < 1 || count.part() > types.length) {
+        continue;
+      }
+      parts.add(
+          PartScoreResponse.builder()
+              .part(types[count.part() - 1].name())
+              .correctAnswers(count.correct())
+              .totalQuestions(count.total())
+              .accuracy(count.total() > 0 ? (double) count.correct() / count.total() : null)
+              .build());
+    }
+    return parts;
+  }
+
   @Override
   public void deleteQuestionFromExam(UUID examId, UUID questionId) {
     Exam exam =
@@ -301,5 +371,84 @@ public class ExamServiceImpl implements ExamService {
     questionRepository.delete(question);
     exam.getQuestions().removeIf(q -> q.getId().equals(questionId));
     examRepository.save(exam);
+    examSnapshotCache.invalidate(examId);
+  }
+
+  @Override
+  @PreAuthorize("hasRole('ADMIN')")
+  public void rebuildExamStatistics() {
+    userExamStatsRebuildJob.rebuildAsync();
+  }
+
+  @Override
+  @PreAuthorize("hasRole('ADMIN')")
+  public List<QuestionItemStatsResponse> getItemStatistics(UUID examId) {
+    ExamAnswerKey answerKey = examSnapshotCache.get(examId).answerKey();
+    Map<UUID, QuestionItemStats> statsByQuestionId =
+        questionItemStatsRepository.findAllByExamId(examId).stream()
+            .collect(Collectors.toMap(QuestionItemStats::getQuestionId, stats -> stats));
+
+    List<QuestionItemStatsResponse> responses = new ArrayList<>(answerKey.size());
+    for (int i = 0; i < answerKey.size(); i++) {
+      QuestionItemStats stats = statsByQuestionId.get(answerKey.questionId(i));
+      responses.add(
+          toItemStatsResponse(
+              answerKey.questionId(i),
+              answerKey.correctChoice(i),
+              stats != null ? stats : new QuestionItemStats()));
+    }
+    return responses;
+  }
+
+  private QuestionItemStatsResponse toItemStatsResponse(
+      UUID questionId, byte correctChoice, QuestionItemStats stats) {
+    long[] counts = {
+      stats.getCountA(),
+      stats.getCountB(),
+      stats.getCountC(),
+      stats.getCountD(),
+      stats.getCountOmitted()
+    };
+    long[] scoreSums = {
+      stats.getScoreSumA(),
+      stats.getScoreSumB(),
+      stats.getScoreSumC(),
+      stats.getScoreSumD(),
+      stats.getScoreSumOmitted()
+    };
+    long attempts = 0;
+    long scoreSum = 0;
+    Map<String, Long> choiceCounts = new LinkedHashMap<>();
+    Map<String, Double> meanScoreByChoice = new LinkedHashMap<>();
+    for (int option = 0; option < counts.length; option++) {
+      String label = ITEM_OPTION_LABELS[option];
+      attempts += counts[option];
+      scoreSum += scoreSums[option];
+      choiceCounts.put(label, counts[option]);
+      meanScoreByChoice.put(
+          label, counts[option] > 0 ? (double) scoreSums[option] / counts[option] : null);
+    }
+
+    QuestionItemStatsResponse.QuestionItemStatsResponseBuilder response =
+        QuestionItemStatsResponse.builder()
+            .questionId(questionId)
+            .attempts(attempts)
+            .choiceCounts(choiceCounts)
+            .meanScoreByChoice(meanScoreByChoice);
+    if (correctChoice == ExamAnswerKey.NO_CHOICE) {
+      return response.build();
+    }
+    long correct = counts[correctChoice];
+    long correctScoreSum = scoreSums[correctChoice];
+    long squareSum = stats.getScoreSquareSum();
+    return response
+        .correctAnswer(ITEM_OPTION_LABELS[correctChoice])
+        .pValue(attempts > 0 ? (double) correct / attempts : null)
+        .pointBiserial(
+            ItemAnalysis.pointBiserial(attempts, correct, scoreSum, correctScoreSum, squareSum))
+        .correctedPointBiserial(
+            ItemAnalysis.correctedPointBiserial(
+                attempts, correct, scoreSum, correctScoreSum, squareSum))
+        .build();
   }
 }
@@ -0,0 +1,194 @@
+package com.example.englishhubbackend.service.impl;
+
+import com.example.englishhubbackend.cache.ExamSnapshotCache;
+import com.example.englishhubbackend.dto.request.ExamSessionAnswersRequest;
+import com.example.englishhubbackend.dto.request.ExamSubmissionRequest;
+import com.example.englishhubbackend.dto.response.ExamSessionResponse;
+import com.example.englishhubbackend.dto.response.ExamSubmissionResponse;
+import com.example.englishhubbackend.exception.AppException;
+import com.example.englishhubbackend.exception.ErrorCode;
+import com.example.englishhubbackend.grading.ExamAnswerKey;
+import com.example.englishhubbackend.models.Exam;
+import com.example.englishhubbackend.repository.ExamRepository;
+import com.example.englishhubbackend.service.AuthenticationService;
+import com.example.englishhubbackend.service.ExamService;
+import com.example.englishhubbackend.service.ExamSessionService;
+import com.example.englishhubbackend.store.ExamSessionState;
+import com.example.englishhubbackend.store.ExamSessionStore;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+@Service
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ExamSessionServiceImpl implements ExamSessionService {
+  ExamSessionStore examSessionStore;
+  ExamRepository examRepository;
+  ExamService examService;
+  ExamSnapshotCache examSnapshotCache;
+  AuthenticationService authenticationService;
+  Duration defaultDuration;
+  Duration gracePeriod;
+  Duration retention;
+
+  public ExamSessionServiceImpl(
+      ExamSessionStore examSessionStore,
+      ExamRepository examRepository,
+      ExamService examService,
+      ExamSnapshotCache examSnapshotCache,
+      AuthenticationService authenticationService,
+      @Value("${exam.session.default-duration-minutes:120}") long defaultDurationMinutes,
+      @Value("${exam.session.grace-seconds:30}") long graceSeconds,
+      @Value("${exam.session.retention-hours:24}") long retentionHours) {
+    this.examSessionStore = examSessionStore;
+    this.examRepository = examRepository;
+    this.examService = examService;
+    this.examSnapshotCache = examSnapshotCache;
+    this.authenticationService = authenticationService;
+    this.defaultDuration = Duration.ofMinutes(defaultDurationMinutes);
+    this.gracePeriod = Duration.ofSeconds(graceSeconds);
+    this.retention = Duration.ofHours(retentionHours);
+  }
+
+  @Override
+  public ExamSessionResponse startSession(UUID examId) {
+    UUID userId = authenticationService.getCurrentUserId();
+    Exam exam =
+        examRepository
+            .findById(examId)
+            .orElseThrow(() -> new AppException(ErrorCode.EXAM_NOT_FOUND));
+
+    Duration duration =
+        exam.getDuration() > 0 ? Duration.ofMinutes(exam.getDuration()) : defaultDuration;
+    long startedAt = System.currentTimeMillis();
+    long deadline = startedAt + duration.toMillis();
+
+    UUID sessionId =
+        examSessionStore.start(
+            userId,
+            examId,
+            startedAt,
+            deadline,
+            startedAt - gracePeriod.toMillis(),
+            duration.plus(gracePeriod).plus(retention));
+    return toExamSessionResponse(findOwnedSession(sessionId, userId));
+  }
+
+  @Override
+  public ExamSessionResponse getActiveSession(UUID examId) {
+    UUID userId = authenticationService.getCurrentUserId();
+    UUID sessionId =
+        examSessionStore
+            .findActive(userId, examId)
+            .orElseThrow(() -> new AppException(ErrorCode.EXAM_SESSION_NOT_FOUND));
+    return toExamSessionResponse(findOwnedSession(sessionId, userId));
+  }
+
+  @Override
+  public ExamSessionResponse getSession(UUID sessionId) {
+    UUID userId = authenticationService.getCurrentUserId();
+    return toExamSessionResponse(findOwnedSession(sessionId, userId));
+  }
+
+  @Override
+  public void saveAnswers(UUID sessionId, ExamSessionAnswersRequest examSessionAnswersRequest) {
+    Map<String, String> answers = examSessionAnswersRequest.getAnswers();
+    if (answers == null || answers.isEmpty()) {
+      return;
+    }
+    UUID examId =
+        examSessionStore
+            .findExamId(sessionId)
+            .orElseThrow(() -> new AppException(ErrorCode.EXAM_SESSION_NOT_FOUND));
+    examSessionStore.saveAnswers(
+        sessionId,
+        authenticationService.getCurrentUserId(),
+        System.currentTimeMillis() - gracePeriod.toMillis(),
+        normalizeAnswers(examSnapshotCache.get(examId).answerKey(), answers));
+  }
+
+  /**
+   * Keys are rewritten to the canonical question id and choices to upper case, so the session
+   * hash holds at most one entry per question. An empty answer clears the question.
+   */
+  private Map<String, String> normalizeAnswers(
+      ExamAnswerKey answerKey, Map<String, String> answers) {
+    if (answers.size() > answerKey.size()) {
+      throw new AppException(ErrorCode.INVALID_EXAM_ANSWER);
+    }
+    Map<String, String> normalized = HashMap.newHashMap(answers.size());
+    answers.forEach(
+        (questionId, answer) -> {
+          int index = answerKey.indexOf(questionId);
+          if (index < 0) {
+            throw new AppException(ErrorCode.INVALID_EXAM_ANSWER);
+          }
+          String choice = "";
+          if (answer != null && !answer.isEmpty()) {
+            byte choiceIndex = ExamAnswerKey.choiceOf(answer);
+            if (choiceIndex == ExamAnswerKey.NO_CHOICE) {
+              throw new AppException(ErrorCode.INVALID_EXAM_ANSWER);
+            }
+            choice = String.valueOf((char) ('A' + choiceIndex));
+          }
+          normalized.put(answerKey.questionId(index).toString(), choice);
+        });
+    return normalized;
+  }
+
+  @Override
+  public ExamSubmissionResponse submitSession(UUID sessionId) {
+    UUID userId = authenticationService.getCurrentUserId();
+    ExamSessionState state = findOwnedSession(sessionId, userId);
+
+    ExamAnswerKey answerKey = examSnapshotCache.get(state.examId()).answerKey();
+    Map<String, String> answers = new HashMap<>();
+    state
+        .answers()
+        .forEach(
+            (questionId, answer) -> {
+              if (answerKey.indexOf(questionId) >= 0) {
+                answers.put(questionId, answer);
+              }
+            });
+
+    ExamSubmissionResponse response =
+        examService.submitExam(
+            state.examId(),
+            ExamSubmissionRequest.builder().submissionId(sessionId).answers(answers).build());
+    if (state.isActive()) {
+      examSessionStore.markSubmitted(state);
+    }
+    return response;
+  }
+
+  private ExamSessionState findOwnedSession(UUID sessionId, UUID userId) {
+    return examSessionStore
+        .find(sessionId)
+        .filter(state -> state.userId().equals(userId))
+        .orElseThrow(() -> new AppException(ErrorCode.EXAM_SESSION_NOT_FOUND));
+  }
+
+  private ExamSessionResponse toExamSessionResponse(ExamSessionState state) {
+    return ExamSessionResponse.builder()
+        .sessionId(state.sessionId())
+        .examId(state.examId())
+        .startedAt(toLocalDateTime(state.startedAt()))
+        .deadline(toLocalDateTime(state.deadline()))
+        .status(state.status())
+        .answers(state.answers())
+        .build();
+  }
+
+  private LocalDateTime toLocalDateTime(long epochMillis) {
+    return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+  }
+}
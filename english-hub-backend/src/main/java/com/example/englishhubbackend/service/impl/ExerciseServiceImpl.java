@@ -26,6 +26,7 @@ import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Slf4j
 @Service
@@ -97,6 +98,7 @@ public class ExerciseServiceImpl implements ExerciseService {
 
   @Override
   @PreAuthorize("hasRole('ADMIN')")
+  @Transactional
   public List<QuestionResponse> addQuestionsToExercise(
       UUID exerciseId, List<QuestionCreateRequest> questionCreateRequests) {
 
@@ -107,20 +109,15 @@ public class ExerciseServiceImpl implements ExerciseService {
 
     UUID groupId = UUID.randomUUID();
 
-    List<QuestionResponse> questionResponses = new ArrayList<>();
-
-    for (QuestionCreateRequest questionCreateRequest : questionCreateRequests) {
-      Question question = questionService.createQuestionEntity(questionCreateRequest);
-
+    List<Question> questions = questionService.createQuestionEntities(questionCreateRequests);
+    for (Question question : questions) {
       question.setGroupId(groupId);
-
       question.setExercise(exercise);
-
-      Question savedQuestion = questionService.saveQuestion(question);
-      questionResponses.add(questionService.mapQuestionToResponse(savedQuestion));
     }
 
-    return questionResponses;
+    return questionService.saveQuestions(questions).stream()
+        .map(questionService::mapQuestionToResponse)
+        .toList();
   }
 
   @Override
@@ -194,7 +191,9 @@ public class ExerciseServiceImpl implements ExerciseService {
 
       Question first = groupQuestions.getFirst();
       if (first instanceof ListeningQuestion listening) {
-        groupResponse.setAudioUrl(listening.getAudio().getUrl());
+        if (listening.getAudio() != null) {
+          groupResponse.setAudioUrl(listening.getAudio().getUrl());
+        }
         groupResponse.setImageUrl(listening.getImageUrl());
       } else if (first instanceof ReadingQuestion reading) {
         if (reading.getPassage() != null) {
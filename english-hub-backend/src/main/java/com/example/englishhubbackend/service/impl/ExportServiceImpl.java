@@ -0,0 +1,56 @@
+package com.example.englishhubbackend.service.impl;
+
+import com.example.englishhubbackend.enums.ExportFormatEnum;
+import com.example.englishhubbackend.export.ExportWriter;
+import com.example.englishhubbackend.repository.ExportRepository;
+import com.example.englishhubbackend.service.ExportService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@Service
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ExportServiceImpl implements ExportService {
+  ExportRepository exportRepository;
+  ObjectMapper objectMapper;
+  TransactionTemplate readOnlyTransaction;
+
+  public ExportServiceImpl(
+      ExportRepository exportRepository,
+      ObjectMapper objectMapper,
+      PlatformTransactionManager transactionManager) {
+    this.exportRepository = exportRepository;
+    this.objectMapper = objectMapper;
+    this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+    this.readOnlyTransaction.setReadOnly(true);
+  }
+
+  @Override
+  @PreAuthorize("hasRole('ADMIN')")
+  public StreamingResponseBody exportResults(
+      LocalDate from, LocalDate to, ExportFormatEnum format) {
+    LocalDateTime start = (from != null ? from : LocalDate.EPOCH).atStartOfDay();
+    LocalDateTime end = (to != null ? to : LocalDate.now().plusDays(1)).atStartOfDay();
+    return out -> {
+      ExportWriter writer = ExportWriter.create(format, out, objectMapper.getFactory());
+      readOnlyTransaction.executeWithoutResult(
+          status -> exportRepository.exportResults(start, end, writer));
+    };
+  }
+
+  @Override
+  @PreAuthorize("hasRole('ADMIN')")
+  public StreamingResponseBody exportUsers(ExportFormatEnum format) {
+    return out -> {
+      ExportWriter writer = ExportWriter.create(format, out, objectMapper.getFactory());
+      readOnlyTransaction.executeWithoutResult(status -> exportRepository.exportUsers(writer));
+    };
+  }
+}
@@ -2,6 +2,7 @@ package com.example.englishhubbackend.service.impl;
 
 import com.example.englishhubbackend.dto.request.FlashCardCreateRequest;
 import com.example.englishhubbackend.dto.request.FlashCardUpdateRequest;
+import com.example.englishhubbackend.dto.response.CursorPage;
 import com.example.englishhubbackend.dto.response.FlashCardResponse;
 import com.example.englishhubbackend.exception.AppException;
 import com.example.englishhubbackend.exception.ErrorCode;
@@ -11,7 +12,8 @@ import com.example.englishhubbackend.models.FlashCard;
 import com.example.englishhubbackend.repository.DeckRepository;
 import com.example.englishhubbackend.repository.FlashCardRepository;
 import com.example.englishhubbackend.service.FlashCardService;
-import java.util.List;
+import com.example.englishhubbackend.store.FlashCardContentStore;
+import com.example.englishhubbackend.util.CursorUtil;
 import java.util.UUID;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
@@ -28,16 +30,21 @@ public class FlashCardServiceImpl implements FlashCardService {
   FlashCardRepository flashCardRepository;
   FlashCardMapper flashCardMapper;
   DeckRepository deckRepository;
+  FlashCardContentStore flashCardContentStore;
 
   @Override
-  public List<FlashCardResponse> getAllFlashCardsFromDecks(UUID deckId) {
-    Deck deck =
-        deckRepository
-            .findById(deckId)
-            .orElseThrow(() -> new AppException(ErrorCode.DECK_NOT_FOUND));
-    return flashCardRepository.findAllByDeckId(deck.getId()).stream()
-        .map(flashCardMapper::toFlashCardResponse)
-        .toList();
+  public CursorPage<FlashCardResponse> getFlashCards(UUID deckId, String cursor, Integer limit) {
+    if (!deckRepository.existsById(deckId)) {
+      throw new AppException(ErrorCode.DECK_NOT_FOUND);
+    }
+    int size = CursorUtil.limit(limit);
+    CursorUtil.Cursor after = CursorUtil.decode(cursor);
+    return CursorUtil.page(
+        flashCardRepository.findPageByDeckId(
+            deckId, after != null ? after.id() : CursorUtil.MIN_ID, size + 1),
+        size,
+        flashCardMapper::toFlashCardResponse,
+        flashCard -> CursorUtil.encode(null, flashCard.getId()));
   }
 
   @Override
@@ -74,7 +81,9 @@ public class FlashCardServiceImpl implements FlashCardService {
         .map(
             flashCard -> {
               flashCardMapper.toFlashCard(flashCardUpdateRequest, flashCard);
-              return flashCardMapper.toFlashCardResponse(flashCardRepository.save(flashCard));
+              FlashCard saved = flashCardRepository.save(flashCard);
+              flashCardContentStore.evict(flashCardId);
+              return flashCardMapper.toFlashCardResponse(saved);
             })
         .orElseThrow(() -> new AppException(ErrorCode.FLASHCARD_NOT_FOUND));
   }
@@ -86,5 +95,6 @@ public class FlashCardServiceImpl implements FlashCardService {
       throw new AppException(ErrorCode.FLASHCARD_NOT_FOUND);
     }
     flashCardRepository.deleteById(flashCardId);
+    flashCardContentStore.evict(flashCardId);
   }
 }
@@ -0,0 +1,140 @@
+package com.example.englishhubbackend.service.impl;
+
+import com.example.englishhubbackend.dto.response.LeaderboardEntryResponse;
+import com.example.englishhubbackend.dto.response.LeaderboardStandingResponse;
+import com.example.englishhubbackend.exception.AppException;
+import com.example.englishhubbackend.exception.ErrorCode;
+import com.example.englishhubbackend.job.LeaderboardRebuildJob;
+import com.example.englishhubbackend.repository.ExamRepository;
+import com.example.englishhubbackend.repository.UserRepository;
+import com.example.englishhubbackend.repository.projection.UserSummary;
+import com.example.englishhubbackend.service.AuthenticationService;
+import com.example.englishhubbackend.service.LeaderboardService;
+import com.example.englishhubbackend.store.LeaderboardEntry;
+import com.example.englishhubbackend.store.LeaderboardStanding;
+import com.example.englishhubbackend.store.LeaderboardStore;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class LeaderboardServiceImpl implements LeaderboardService {
+  private static final int MAX_LIMIT = 100;
+  private static final int MAX_RADIUS = 50;
+  private static final int RESET_CHUNK_SIZE = 500;
+
+  LeaderboardStore leaderboardStore;
+  LeaderboardRebuildJob leaderboardRebuildJob;
+  ExamRepository examRepository;
+  UserRepository userRepository;
+  AuthenticationService authenticationService;
+
+  @Override
+  public void recordScore(UUID examId, UUID userId, int score) {
+    // The boards are derived data; the reconciliation job repairs anything missed here.
+    try {
+      leaderboardStore.record(examId, userId, score);
+    } catch (RuntimeException e) {
+      log.warn("Failed to record leaderboard score for user {} on exam {}", userId, examId, e);
+    }
+  }
+
+  @Override
+  public List<LeaderboardEntryResponse> getExamTop(UUID examId, int limit) {
+    requireExam(examId);
+    return toResponses(
+        leaderboardStore.top(LeaderboardStore.examKey(examId), Math.clamp(limit, 1, MAX_LIMIT)));
+  }
+
+  @Override
+  public LeaderboardStandingResponse getExamStanding(UUID examId, int radius) {
+    requireExam(examId);
+    return standing(LeaderboardStore.examKey(examId), radius);
+  }
+
+  @Override
+  public List<LeaderboardEntryResponse> getGlobalTop(int limit) {
+    return toResponses(
+        leaderboardStore.top(LeaderboardStore.GLOBAL_KEY, Math.clamp(limit, 1, MAX_LIMIT)));
+  }
+
+  @Override
+  public LeaderboardStandingResponse getGlobalStanding(int radius) {
+    return standing(LeaderboardStore.GLOBAL_KEY, radius);
+  }
+
+  @Override
+  public void removeExam(UUID examId) {
+    String key = LeaderboardStore.examKey(examId);
+    List<UUID> userIds = leaderboardStore.members(key).stream().map(UUID::fromString).toList();
+    leaderboardStore.delete(key);
+    // Recompute the global best of everyone who had a score on the deleted exam from the boards
+    // of the remaining exams; the exam row is already gone.
+    List<String> examKeys =
+        examRepository.findIds().stream().map(LeaderboardStore::examKey).toList();
+    for (int from = 0; from < userIds.size(); from += RESET_CHUNK_SIZE) {
+      leaderboardStore.recomputeGlobal(
+          userIds.subList(from, Math.min(from + RESET_CHUNK_SIZE, userIds.size())), examKeys);
+    }
+  }
+
+  @Override
+  @PreAuthorize("hasRole('ADMIN')")
+  public void rebuildLeaderboards() {
+    leaderboardRebuildJob.rebuildAsync();
+  }
+
+  private LeaderboardStandingResponse standing(String key, int radius) {
+    UUID userId = authenticationService.getCurrentUserId();
+    LeaderboardStanding standing =
+        leaderboardStore
+            .standing(key, userId, Math.clamp(radius, 0, MAX_RADIUS))
+            .orElseThrow(() -> new AppException(ErrorCode.LEADERBOARD_ENTRY_NOT_FOUND));
+    return LeaderboardStandingResponse.builder()
+        .rank(standing.entry().rank() + 1)
+        .score(standing.entry().score())
+        .participants(standing.participants())
+        .percentile(standing.percentile())
+        .neighbours(toResponses(standing.neighbours()))
+        .build();
+  }
+
+  private void requireExam(UUID examId) {
+    if (!examRepository.existsById(examId)) {
+      throw new AppException(ErrorCode.EXAM_NOT_FOUND);
+    }
+  }
+
+  private List<LeaderboardEntryResponse> toResponses(List<LeaderboardEntry> entries) {
+    if (entries.isEmpty()) {
+      return List.of();
+    }
+    List<UUID> userIds = entries.stream().map(LeaderboardEntry::userId).toList();
+    Map<UUID, String> usernames = new HashMap<>();
+    for (UserSummary user : userRepository.findSummariesByIdIn(userIds)) {
+      usernames.put(user.getId(), user.getUsername());
+    }
+    List<LeaderboardEntryResponse> responses = new ArrayList<>(entries.size());
+    for (LeaderboardEntry entry : entries) {
+      responses.add(
+          LeaderboardEntryResponse.builder()
+              .rank(entry.rank() + 1)
+              .userId(entry.userId())
+              .username(usernames.get(entry.userId()))
+              .score(entry.score())
+              .build());
+    }
+    return responses;
+  }
+}
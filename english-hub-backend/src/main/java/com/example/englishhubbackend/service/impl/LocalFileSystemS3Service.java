@@ -0,0 +1,69 @@
+package com.example.englishhubbackend.service.impl;
+
+import com.example.englishhubbackend.service.S3Service;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+@Service
+@ConditionalOnProperty(name = "storage.type", havingValue = "local")
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class LocalFileSystemS3Service implements S3Service {
+  Path root;
+  String baseUrl;
+
+  public LocalFileSystemS3Service(
+      @Value("${storage.local.root:${java.io.tmpdir}/english-hub-media}") String root,
+      @Value("${storage.local.base-url:http://localhost:8080/media}") String baseUrl) {
+    this.root = Path.of(root).toAbsolutePath().normalize();
+    this.baseUrl = baseUrl;
+  }
+
+  @Override
+  public String uploadFileToS3(MultipartFile file) {
+    try (InputStream inputStream = file.getInputStream()) {
+      return uploadFile(
+          file.getOriginalFilename(), inputStream, file.getSize(), file.getContentType());
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @Override
+  public String uploadFile(String key, InputStream inputStream, long size, String contentType) {
+    Path target = resolve(key);
+    try {
+      Files.createDirectories(target.getParent());
+      Files.copy(inputStream, target, StandardCopyOption.REPLACE_EXISTING);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return baseUrl + "/" + key;
+  }
+
+  @Override
+  public void deleteFileFromS3(String fileName) {
+    try {
+      Files.deleteIfExists(resolve(fileName));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private Path resolve(String key) {
+    Path target = root.resolve(key).normalize();
+    if (!target.startsWith(root)) {
+      throw new IllegalArgumentException("Invalid storage key: " + key);
+    }
+    return target;
+  }
+}
@@ -1,29 +1,39 @@
 package com.example.englishhubbackend.service.impl;
 
+import com.example.englishhubbackend.enums.EmailOutboxStatusEnum;
+import com.example.englishhubbackend.mail.EmailTemplates;
+import com.example.englishhubbackend.models.EmailOutbox;
+import com.example.englishhubbackend.repository.EmailOutboxRepository;
 import com.example.englishhubbackend.service.EmailService;
-import jakarta.mail.MessagingException;
-import jakarta.mail.internet.MimeMessage;
+import java.time.LocalDateTime;
+import java.util.Map;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
 @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
 public class MailServiceImpl implements EmailService {
-  JavaMailSender mailSender;
+  EmailOutboxRepository emailOutboxRepository;
+  EmailTemplates emailTemplates;
 
   @Override
-  public void sendVerificationEmail(String to, String subject, String text)
-      throws MessagingException {
-    MimeMessage mimeMessage = mailSender.createMimeMessage();
-    MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, true);
-    helper.setTo(to);
-    helper.setSubject(subject);
-    helper.setText(text, true);
-    mailSender.send(mimeMessage);
+  @Transactional
+  public void queueVerificationEmail(String to, String verificationCode) {
+    String body =
+        emailTemplates.verification().render(Map.of("verificationCode", verificationCode));
+    LocalDateTime now = LocalDateTime.now();
+    emailOutboxRepository.save(
+        EmailOutbox.builder()
+            .recipient(to)
+            .subject("Verification Code")
+            .body(body)
+            .status(EmailOutboxStatusEnum.PENDING)
+            .nextAttemptAt(now)
+            .createdAt(now)
+            .build());
   }
 }
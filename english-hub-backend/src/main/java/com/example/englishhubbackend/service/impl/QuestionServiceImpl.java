@@ -1,5 +1,7 @@
 package com.example.englishhubbackend.service.impl;
 
+import com.example.englishhubbackend.cache.AudioResolver;
+import com.example.englishhubbackend.cache.PassageResolver;
 import com.example.englishhubbackend.dto.request.QuestionCreateRequest;
 import com.example.englishhubbackend.dto.request.QuestionUpdateRequest;
 import com.example.englishhubbackend.dto.response.QuestionResponse;
@@ -8,13 +10,15 @@ import com.example.englishhubbackend.exception.AppException;
 import com.example.englishhubbackend.exception.ErrorCode;
 import com.example.englishhubbackend.mapper.QuestionMapper;
 import com.example.englishhubbackend.models.*;
-import com.example.englishhubbackend.repository.AudioRepository;
-import com.example.englishhubbackend.repository.PassageRepository;
 import com.example.englishhubbackend.repository.QuestionRepository;
 import com.example.englishhubbackend.service.*;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
@@ -27,63 +31,103 @@ import org.springframework.stereotype.Service;
 public class QuestionServiceImpl implements QuestionService {
   QuestionRepository questionRepository;
   QuestionMapper questionMapper;
-  AudioService audioService;
-  PassageService passageService;
   QuestionTypeService questionTypeService;
-  AudioRepository audioRepository;
-  PassageRepository passageRepository;
+  AudioResolver audioResolver;
+  PassageResolver passageResolver;
 
   @Override
   public Question createQuestionEntity(QuestionCreateRequest request) {
     QuestionType questionType =
         questionTypeService.getQuestionTypeEntityById(request.getQuestionType());
-    String questionTypeName = questionType.getName();
-    Question question;
 
-    if (questionTypeName.equals(QuestionTypeEnum.PART_1_PHOTOGRAPHS.name())
-        || questionTypeName.equals(QuestionTypeEnum.PART_2_QUESTION_RESPONSES.name())
-        || questionTypeName.equals(QuestionTypeEnum.PART_3_CONVERSATIONS.name())
-        || questionTypeName.equals(QuestionTypeEnum.PART_4_TALKS.name())) {
-      ListeningQuestion listeningQuestion = questionMapper.toListeningQuestion(request);
-      listeningQuestion.setQuestionType(questionType);
+    Audio audio = null;
+    Passage passage = null;
+    if (isListening(questionType) && request.getAudioUrl() != null) {
+      audio = audioResolver.resolve(request.getAudioUrl());
+    } else if (isReading(questionType) && hasPassage(request)) {
+      passage = passageResolver.resolve(request.getPassage());
+    }
 
-      Audio audio = audioRepository.findByUrl(request.getAudioUrl());
-      if (audio == null) {
-        audio = new Audio();
-        audio.setUrl(request.getAudioUrl());
-        audioRepository.save(audio);
+    Question question = buildQuestion(request, questionType, audio, passage);
+    question.setCreatedAt(LocalDateTime.now());
+    return question;
+  }
+
+  @Override
+  public List<Question> createQuestionEntities(List<QuestionCreateRequest> requests) {
+    Map<String, QuestionType> questionTypes =
+        questionTypeService.getQuestionTypeEntitiesByIds(
+            requests.stream().map(QuestionCreateRequest::getQuestionType).toList());
+
+    Set<String> audioUrls = new HashSet<>();
+    Set<String> passageContents = new HashSet<>();
+    for (QuestionCreateRequest request : requests) {
+      QuestionType questionType = questionTypes.get(request.getQuestionType());
+      if (isListening(questionType) && request.getAudioUrl() != null) {
+        audioUrls.add(request.getAudioUrl());
+      } else if (isReading(questionType) && hasPassage(request)) {
+        passageContents.add(request.getPassage());
       }
-      listeningQuestion.setAudio(audio);
+    }
+    Map<String, Audio> audios =
+        audioUrls.isEmpty() ? Map.of() : audioResolver.resolveAll(audioUrls);
+    Map<String, Passage> passages =
+        passageContents.isEmpty() ? Map.of() : passageResolver.resolveAll(passageContents);
+
+    LocalDateTime createdAt = LocalDateTime.now();
+    List<Question> questions = new ArrayList<>(requests.size());
+    for (int i = 0; i < requests.size(); i++) {
+      QuestionCreateRequest request = requests.get(i);
+      Question question =
+          buildQuestion(
+              request,
+              questionTypes.get(request.getQuestionType()),
+              request.getAudioUrl() != null ? audios.get(request.getAudioUrl()) : null,
+              hasPassage(request) ? passages.get(request.getPassage()) : null);
+      question.setCreatedAt(createdAt.plusNanos(i * 1000L));
+      questions.add(question);
+    }
+    return questions;
+  }
 
+  private Question buildQuestion(
+      QuestionCreateRequest request, QuestionType questionType, Audio audio, Passage passage) {
+    if (isListening(questionType)) {
+      ListeningQuestion listeningQuestion = questionMapper.toListeningQuestion(request);
+      listeningQuestion.setQuestionType(questionType);
+      listeningQuestion.setAudio(audio);
       if (request.getImageUrl() != null) {
         listeningQuestion.setImageUrl(request.getImageUrl());
       }
-
-      question = listeningQuestion;
-
-    } else if (questionTypeName.equals(QuestionTypeEnum.PART_5_INCOMPLETE_SENTENCES.name())
-        || questionTypeName.equals(QuestionTypeEnum.PART_6_TEXT_COMPLETION.name())
-        || questionTypeName.equals(QuestionTypeEnum.PART_7_READING_COMPREHENSION.name())) {
+      return listeningQuestion;
+    } else if (isReading(questionType)) {
       ReadingQuestion readingQuestion = questionMapper.toReadingQuestion(request);
       readingQuestion.setQuestionType(questionType);
-
-      if (request.getPassage() != null && !request.getPassage().isEmpty()) {
-        Passage passage = passageRepository.findByContent(request.getPassage());
-        if (passage == null) {
-          passage = new Passage();
-          passage.setContent(request.getPassage());
-          passageRepository.save(passage);
-        }
+      if (passage != null) {
         readingQuestion.setPassage(passage);
       }
-
-      question = readingQuestion;
-    } else {
-      throw new AppException(ErrorCode.QUESTION_TYPE_NOT_SUPPORTED);
+      return readingQuestion;
     }
+    throw new AppException(ErrorCode.QUESTION_TYPE_NOT_SUPPORTED);
+  }
 
-    question.setCreatedAt(LocalDateTime.now());
-    return question;
+  private boolean isListening(QuestionType questionType) {
+    String questionTypeName = questionType.getName();
+    return questionTypeName.equals(QuestionTypeEnum.PART_1_PHOTOGRAPHS.name())
+        || questionTypeName.equals(QuestionTypeEnum.PART_2_QUESTION_RESPONSES.name())
+        || questionTypeName.equals(QuestionTypeEnum.PART_3_CONVERSATIONS.name())
+        || questionTypeName.equals(QuestionTypeEnum.PART_4_TALKS.name());
+  }
+
+  private boolean isReading(QuestionType questionType) {
+    String questionTypeName = questionType.getName();
+    return questionTypeName.equals(QuestionTypeEnum.PART_5_INCOMPLETE_SENTENCES.name())
+        || questionTypeName.equals(QuestionTypeEnum.PART_6_TEXT_COMPLETION.name())
+        || questionTypeName.equals(QuestionTypeEnum.PART_7_READING_COMPREHENSION.name());
+  }
+
+  private boolean hasPassage(QuestionCreateRequest request) {
+    return request.getPassage() != null && !request.getPassage().isEmpty();
   }
 
   @Override
@@ -91,6 +135,11 @@ public class QuestionServiceImpl implements QuestionService {
     return questionRepository.save(question);
   }
 
+  @Override
+  public List<Question> saveQuestions(List<Question> questions) {
+    return questionRepository.saveAll(questions);
+  }
+
   @Override
   public Question updateQuestionEntity(UUID questionId, QuestionUpdateRequest request) {
     Question question =
@@ -112,21 +161,7 @@ public class QuestionServiceImpl implements QuestionService {
     questionMapper.toListeningQuestion(request, question);
 
     if (request.getAudioUrl() != null) {
-      Audio audio = question.getAudio();
-      if (audio != null) {
-        audio.setUrl(request.getAudioUrl());
-        audioService.saveAudio(audio);
-      } else {
-        Audio existingAudio = audioRepository.findByUrl(request.getAudioUrl());
-        if (existingAudio != null) {
-          audio = existingAudio;
-        } else {
-          audio = new Audio();
-          audio.setUrl(request.getAudioUrl());
-        }
-        audioService.saveAudio(audio);
-      }
-      question.setAudio(audio);
+      question.setAudio(audioResolver.resolve(request.getAudioUrl()));
     }
 
     if (request.getImageUrl() != null) {
@@ -143,21 +178,8 @@ public class QuestionServiceImpl implements QuestionService {
     questionMapper.toReadingQuestion(request, question);
 
     if (request.getPassage() != null) {
-      Passage passage = question.getPassage();
-      if (passage != null) {
-        passage.setContent(request.getPassage());
-        passageService.savePassage(passage);
-      } else {
-        Passage existingPassage = passageRepository.findByContent(request.getPassage());
-        if (existingPassage != null) {
-          passage = existingPassage;
-        } else {
-          passage = new Passage();
-          passage.setContent(request.getPassage());
-        }
-        passageService.savePassage(passage);
-      }
-      question.setPassage(passage);
+      question.setPassage(
+          request.getPassage().isEmpty() ? null : passageResolver.resolve(request.getPassage()));
     }
 
     return questionRepository.save(question);
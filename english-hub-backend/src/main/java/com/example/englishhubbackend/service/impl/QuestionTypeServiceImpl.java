@@ -7,7 +7,13 @@ import com.example.englishhubbackend.mapper.QuestionTypeMapper;
 import com.example.englishhubbackend.models.QuestionType;
 import com.example.englishhubbackend.repository.QuestionTypeRepository;
 import com.example.englishhubbackend.service.QuestionTypeService;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
@@ -41,4 +47,20 @@ public class QuestionTypeServiceImpl implements QuestionTypeService {
         .findById(questionTypeName)
         .orElseThrow(() -> new AppException(ErrorCode.QUESTION_TYPE_NOT_FOUND));
   }
+
+  @Override
+  public Map<String, QuestionType> getQuestionTypeEntitiesByIds(
+      Collection<String> questionTypeNames) {
+    Set<String> names = new HashSet<>(questionTypeNames);
+    if (names.contains(null)) {
+      throw new AppException(ErrorCode.QUESTION_TYPE_NOT_FOUND);
+    }
+    Map<String, QuestionType> questionTypes =
+        questionTypeRepository.findAllById(names).stream()
+            .collect(Collectors.toMap(QuestionType::getName, Function.identity()));
+    if (questionTypes.size() != names.size()) {
+      throw new AppException(ErrorCode.QUESTION_TYPE_NOT_FOUND);
+    }
+    return questionTypes;
+  }
 }
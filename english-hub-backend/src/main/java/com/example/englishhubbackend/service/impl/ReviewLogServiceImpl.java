@@ -0,0 +1,143 @@
+package com.example.englishhubbackend.service.impl;
+
+import com.example.englishhubbackend.enums.SchedulingAlgorithmEnum;
+import com.example.englishhubbackend.exception.AppException;
+import com.example.englishhubbackend.exception.ErrorCode;
+import com.example.englishhubbackend.repository.ReviewLogRepository;
+import com.example.englishhubbackend.scheduling.FsrsSchedulingAlgorithm;
+import com.example.englishhubbackend.scheduling.ReviewEventLog;
+import com.example.englishhubbackend.scheduling.SchedulingAlgorithmRegistry;
+import com.example.englishhubbackend.scheduling.SchedulingParameters;
+import com.example.englishhubbackend.scheduling.SchedulingSimulator;
+import com.example.englishhubbackend.scheduling.SimulationResult;
+import com.example.englishhubbackend.scheduling.UserScheduler;
+import com.example.englishhubbackend.service.AuthenticationService;
+import com.example.englishhubbackend.service.ReviewLogService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@Service
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ReviewLogServiceImpl implements ReviewLogService {
+  ReviewLogRepository reviewLogRepository;
+  AuthenticationService authenticationService;
+  SchedulingAlgorithmRegistry schedulingAlgorithmRegistry;
+  SchedulingSimulator schedulingSimulator;
+  ObjectMapper objectMapper;
+  TransactionTemplate readOnlyTransaction;
+
+  public ReviewLogServiceImpl(
+      ReviewLogRepository reviewLogRepository,
+      AuthenticationService authenticationService,
+      SchedulingAlgorithmRegistry schedulingAlgorithmRegistry,
+      SchedulingSimulator schedulingSimulator,
+      ObjectMapper objectMapper,
+      PlatformTransactionManager transactionManager) {
+    this.reviewLogRepository = reviewLogRepository;
+    this.authenticationService = authenticationService;
+    this.schedulingAlgorithmRegistry = schedulingAlgorithmRegistry;
+    this.schedulingSimulator = schedulingSimulator;
+    this.objectMapper = objectMapper;
+    this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+    this.readOnlyTransaction.setReadOnly(true);
+  }
+
+  @Override
+  public StreamingResponseBody exportLog(LocalDate from, LocalDate to) {
+    UUID userId = authenticationService.getCurrentUserId();
+    LocalDate start = from != null ? from : LocalDate.EPOCH;
+    LocalDate end = to != null ? to : LocalDate.now().plusDays(1);
+    return out -> {
+      JsonGenerator generator =
+          objectMapper
+              .getFactory()
+              .createGenerator(out)
+              .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+      readOnlyTransaction.executeWithoutResult(
+          status ->
+              reviewLogRepository.streamByUser(
+                  userId,
+                  start,
+                  end,
+                  entry -> {
+                    try {
+                      generator.writeStartObject();
+                      generator.writeNumberField("id", entry.id());
+                      generator.writeStringField("flashCardId", entry.flashCardId().toString());
+                      generator.writeStringField("reviewedAt", entry.reviewedAt().toString());
+                      generator.writeNumberField("rating", entry.rating());
+                      generator.writeNumberField("elapsedDays", entry.elapsedDays());
+                      generator.writeNumberField("interval", entry.interval());
+                      generator.writeNumberField("repetitions", entry.repetitions());
+                      generator.writeNumberField("easinessFactor", entry.easinessFactor());
+                      generator.writeNumberField("stability", entry.stability());
+                      generator.writeNumberField("difficulty", entry.difficulty());
+                      generator.writeStringField(
+                          "algorithm", SchedulingAlgorithmEnum.values()[entry.algorithm()].name());
+                      generator.writeEndObject();
+                      generator.writeRaw('\n');
+                    } catch (IOException e) {
+                      throw new UncheckedIOException(e);
+                    }
+                  }));
+      generator.flush();
+    };
+  }
+
+  @Override
+  @PreAuthorize("hasRole('ADMIN')")
+  public List<SimulationResult> simulate(LocalDate from, LocalDate to, double desiredRetention) {
+    if (!(desiredRetention >= 0.7 && desiredRetention <= 0.99)) {
+      throw new AppException(ErrorCode.INVALID_SCHEDULING_PARAMETERS);
+    }
+    LocalDate end = to != null ? to : LocalDate.now().plusDays(1);
+    LocalDate start = from != null ? from : end.minusYears(1);
+
+    ReviewEventLog.Builder builder = ReviewEventLog.builder();
+    Map<CardKey, Integer> cards = new HashMap<>();
+    readOnlyTransaction.executeWithoutResult(
+        status ->
+            reviewLogRepository.streamAll(
+                start,
+                end,
+                entry -> {
+                  CardKey key = new CardKey(entry.userId(), entry.flashCardId());
+                  Integer card = cards.get(key);
+                  if (card == null) {
+                    card = cards.size();
+                    cards.put(key, card);
+                  }
+                  builder.add(card, entry.reviewedOn().toEpochDay(), entry.rating());
+                }));
+    ReviewEventLog log = builder.build();
+
+    SchedulingParameters parameters =
+        new SchedulingParameters(
+            desiredRetention,
+            FsrsSchedulingAlgorithm.DEFAULT_WEIGHTS,
+            SchedulingParameters.DEFAULT_MAXIMUM_INTERVAL);
+    return schedulingSimulator.compare(
+        log,
+        List.of(
+            new UserScheduler(
+                schedulingAlgorithmRegistry.get(SchedulingAlgorithmEnum.SM2), parameters),
+            new UserScheduler(
+                schedulingAlgorithmRegistry.get(SchedulingAlgorithmEnum.FSRS), parameters)));
+  }
+
+  private record CardKey(UUID userId, UUID flashCardId) {}
+}
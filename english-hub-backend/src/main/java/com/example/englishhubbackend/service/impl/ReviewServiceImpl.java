@@ -1,24 +1,56 @@
 package com.example.englishhubbackend.service.impl;
 
+import com.example.englishhubbackend.dto.request.ReviewBatchItemRequest;
+import com.example.englishhubbackend.dto.request.ReviewBatchRequest;
 import com.example.englishhubbackend.dto.request.ReviewRequest;
+import com.example.englishhubbackend.dto.request.SchedulingProfileRequest;
 import com.example.englishhubbackend.dto.response.FlashCardResponse;
+import com.example.englishhubbackend.dto.response.ReviewBatchResponse;
+import com.example.englishhubbackend.dto.response.ReviewStateResponse;
+import com.example.englishhubbackend.dto.response.SchedulingProfileResponse;
 import com.example.englishhubbackend.exception.AppException;
 import com.example.englishhubbackend.exception.ErrorCode;
 import com.example.englishhubbackend.mapper.FlashCardMapper;
 import com.example.englishhubbackend.models.FlashCard;
 import com.example.englishhubbackend.models.Review;
-import com.example.englishhubbackend.models.User;
+import com.example.englishhubbackend.models.SchedulingProfile;
 import com.example.englishhubbackend.repository.FlashCardRepository;
+import com.example.englishhubbackend.repository.ReviewBatchRepository;
+import com.example.englishhubbackend.repository.ReviewLogRepository;
 import com.example.englishhubbackend.repository.ReviewRepository;
+import com.example.englishhubbackend.repository.SchedulingProfileRepository;
+import com.example.englishhubbackend.repository.UserRepository;
+import com.example.englishhubbackend.repository.projection.ReviewSchedule;
+import com.example.englishhubbackend.scheduling.FsrsSchedulingAlgorithm;
+import com.example.englishhubbackend.scheduling.ReviewStates;
+import com.example.englishhubbackend.scheduling.SchedulingAlgorithm;
+import com.example.englishhubbackend.scheduling.SchedulingAlgorithmRegistry;
+import com.example.englishhubbackend.scheduling.Sm2Kernel;
+import com.example.englishhubbackend.scheduling.UserScheduler;
 import com.example.englishhubbackend.service.AuthenticationService;
 import com.example.englishhubbackend.service.ReviewService;
+import com.example.englishhubbackend.store.FlashCardContentStore;
+import com.example.englishhubbackend.store.ReviewDueQueue;
+import com.example.englishhubbackend.store.ReviewSyncStore;
+import com.example.englishhubbackend.store.ReviewTodayStore;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Service
 @RequiredArgsConstructor
@@ -28,28 +60,50 @@ public class ReviewServiceImpl implements ReviewService {
   AuthenticationService authenticationService;
   FlashCardRepository flashCardRepository;
   FlashCardMapper flashCardMapper;
+  UserRepository userRepository;
+  ReviewDueQueue reviewDueQueue;
+  FlashCardContentStore flashCardContentStore;
+  ReviewBatchRepository reviewBatchRepository;
+  ReviewLogRepository reviewLogRepository;
+  ReviewSyncStore reviewSyncStore;
+  ReviewTodayStore reviewTodayStore;
+  SchedulingAlgorithmRegistry schedulingAlgorithmRegistry;
+  SchedulingProfileRepository schedulingProfileRepository;
 
-    @Override
-    public List<FlashCardResponse> getCardsToReviewToday() {
-    User currentUser = authenticationService.getCurrentUser();
+  private static final int MAX_BATCH_SIZE = 1000;
 
-    List<Review> cards =
-        reviewRepository.findByUserIdAndNextPracticeDateLessThanEqual(
-            currentUser.getId(), LocalDate.now());
+  @Override
+  public List<FlashCardResponse> getCardsToReviewToday() {
+    UUID userId = authenticationService.getCurrentUserId();
+    LocalDate today = LocalDate.now();
+    Optional<List<UUID>> cardIds = reviewTodayStore.find(userId, today);
+    if (cardIds.isEmpty()) {
+      return materializeDueCards(userId, today);
+    }
+    List<FlashCardResponse> cards = loadCards(userId, cardIds.get());
+    if (cards.size() < cardIds.get().size()) {
+      // Some cards were deleted since the list was built; rebuild it on the next read.
+      reviewTodayStore.evict(userId, today);
+    }
+    return cards;
+  }
 
-    return cards.stream()
-        .map(Review::getFlashCard)
-        .map(flashCardMapper::toFlashCardResponse)
-        .collect(Collectors.toList());
+  @Override
+  public List<FlashCardResponse> materializeDueCards(UUID userId, LocalDate day) {
+    long epochDay = day.toEpochDay();
+    String version = reviewTodayStore.version(userId);
+    List<UUID> dueIds =
+        reviewDueQueue.findDue(userId, epochDay).orElseGet(() -> rebuildDueQueue(userId, epochDay));
+    List<FlashCardResponse> cards = loadCards(userId, dueIds);
+    reviewTodayStore.saveIfCurrent(
+        userId, day, cards.stream().map(FlashCardResponse::getId).toList(), version);
+    return cards;
   }
 
   @Override
+  @Transactional
   public void updateReview(ReviewRequest request) {
-    User currentUser = authenticationService.getCurrentUser();
-
-    if (currentUser == null) {
-      throw new AppException(ErrorCode.USER_NOT_FOUND);
-    }
+    UUID userId = authenticationService.getCurrentUserId();
 
     FlashCard flashCard =
         flashCardRepository
@@ -58,13 +112,13 @@ public class ReviewServiceImpl implements ReviewService {
 
     Review userCard =
         reviewRepository
-            .findByUserIdAndFlashCardId(currentUser.getId(), request.getFlashCardId())
+            .findByUserIdAndFlashCardId(userId, request.getFlashCardId())
             .orElseGet(
                 () -> {
                   Review newCard = new Review();
-                  newCard.setUser(currentUser);
+                  newCard.setUser(userRepository.getReferenceById(userId));
                   newCard.setFlashCard(flashCard);
-                  newCard.setEasinessFactor(2.5f);
+                  newCard.setEasinessFactor(Sm2Kernel.INITIAL_EASINESS);
                   newCard.setRepetitions(0);
                   newCard.setInterval(0);
                   newCard.setLastReviewedDate(null);
@@ -72,45 +126,384 @@ public class ReviewServiceImpl implements ReviewService {
                   return newCard;
                 });
 
-    int rating = request.getRating();
-    int quality =
-        switch (rating) {
-          case 0 -> 0;
-          case 1 -> 2;
-          case 2 -> 3;
-          case 3 -> 4;
-          case 4 -> 5;
-          default -> throw new IllegalArgumentException("Invalid rating");
-        };
-
-    // SM-2 Algorithm
-    float ef = userCard.getEasinessFactor();
-    int rep = userCard.getRepetitions();
-    int interval = userCard.getInterval();
-
-    if (quality < 3) {
-      rep = 0;
-      interval = 1;
-    } else {
-      if (rep == 0) {
-        interval = 1;
-      } else if (rep == 1) {
-        interval = 6;
-      } else {
-        interval = Math.round(interval * ef);
-      }
-
-      ef = ef + (0.1f - (5 - quality) * (0.08f + (5 - quality) * 0.02f));
-      ef = Math.max(1.3f, ef);
-      rep++;
-    }
+    LocalDateTime now = LocalDateTime.now();
+    long today = now.toLocalDate().toEpochDay();
+    int rating = SchedulingAlgorithm.checkRating(request.getRating());
+    ReviewStates state = new ReviewStates(1);
+    load(userCard, state, 0);
+    int elapsedDays = elapsedDays(state.lastDays[0], today);
+    UserScheduler scheduler = schedulingAlgorithmRegistry.forUser(userId);
+    scheduler.schedule(state, new int[] {rating}, new long[] {today}, 1);
+    int interval = state.intervals[0];
 
-    userCard.setEasinessFactor(ef);
-    userCard.setRepetitions(rep);
+    userCard.setEasinessFactor(state.easiness[0]);
+    userCard.setRepetitions(state.repetitions[0]);
     userCard.setInterval(interval);
+    userCard.setStability(state.stability[0]);
+    userCard.setDifficulty(state.difficulty[0]);
     userCard.setLastReviewedDate(LocalDate.now());
     userCard.setNextPracticeDate(LocalDate.now().plusDays(interval));
 
     reviewRepository.save(userCard);
+    reviewLogRepository.appendAll(
+        List.of(
+            logEntry(
+                userId, flashCard.getId(), now, elapsedDays, state, 0, rating, scheduler)));
+    long nextDay = userCard.getNextPracticeDate().toEpochDay();
+    LocalDate reviewDay = now.toLocalDate();
+    afterCommit(
+        () -> {
+          reviewDueQueue.schedule(userId, flashCard.getId(), nextDay);
+          reviewTodayStore.evict(userId, reviewDay);
+        });
+  }
+
+  @Override
+  @Transactional
+  public ReviewBatchResponse submitReviews(ReviewBatchRequest request) {
+    UUID userId = authenticationService.getCurrentUserId();
+    List<ReviewBatchItemRequest> items =
+        request.getReviews() != null ? request.getReviews() : List.of();
+    if (items.size() > MAX_BATCH_SIZE) {
+      throw new AppException(ErrorCode.REVIEW_BATCH_TOO_LARGE);
+    }
+
+    UUID sessionId = request.getSessionId();
+    if (sessionId != null) {
+      Optional<ReviewBatchResponse> previous = reviewSyncStore.claim(userId, sessionId);
+      if (previous.isPresent()) {
+        return previous.get();
+      }
+    }
+
+    try {
+      ReviewBatchResponse response = applyReviews(userId, items);
+      response.setSessionId(sessionId);
+      registerCompletion(userId, sessionId, response);
+      return response;
+    } catch (RuntimeException e) {
+      if (sessionId != null) {
+        reviewSyncStore.release(userId, sessionId);
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * Ratings for the same card are applied in submission order, one per round, so each kernel call
+   * sees every card at most once. Ratings dated before the card's last review are skipped, which
+   * lets offline devices sync late without undoing newer progress.
+   */
+  private ReviewBatchResponse applyReviews(UUID userId, List<ReviewBatchItemRequest> items) {
+    long today = LocalDate.now().toEpochDay();
+    int itemCount = items.size();
+    Map<UUID, Integer> slots = new LinkedHashMap<>();
+    int[] itemSlots = new int[itemCount];
+    int[] itemRatings = new int[itemCount];
+    long[] itemDays = new long[itemCount];
+    for (int i = 0; i < itemCount; i++) {
+      ReviewBatchItemRequest item = items.get(i);
+      if (item.getFlashCardId() == null) {
+        throw new AppException(ErrorCode.FLASHCARD_NOT_FOUND);
+      }
+      itemSlots[i] = slots.computeIfAbsent(item.getFlashCardId(), id -> slots.size());
+      itemRatings[i] = SchedulingAlgorithm.checkRating(item.getRating());
+      itemDays[i] =
+          item.getReviewedAt() != null
+              ? Math.min(item.getReviewedAt().toEpochDay(), today)
+              : today;
+    }
+
+    int cardCount = slots.size();
+    UUID[] cardIds = slots.keySet().toArray(UUID[]::new);
+    UUID[] reviewIds = new UUID[cardCount];
+    ReviewStates cards = new ReviewStates(cardCount);
+    long[] nextDays = new long[cardCount];
+
+    if (cardCount > 0) {
+      for (Review review :
+          reviewRepository.findAllByUserIdAndFlashCardIdIn(userId, slots.keySet())) {
+        int slot = slots.get(review.getFlashCard().getId());
+        reviewIds[slot] = review.getId();
+        load(review, cards, slot);
+      }
+      List<UUID> unseen = new ArrayList<>();
+      for (int slot = 0; slot < cardCount; slot++) {
+        if (reviewIds[slot] == null) {
+          unseen.add(cardIds[slot]);
+          reviewIds[slot] = UUID.randomUUID();
+        }
+      }
+      if (!unseen.isEmpty()
+          && flashCardRepository.findExistingIds(unseen).size() != unseen.size()) {
+        throw new AppException(ErrorCode.FLASHCARD_NOT_FOUND);
+      }
+    }
+
+    int[] slotStart = new int[cardCount + 1];
+    for (int slot : itemSlots) {
+      slotStart[slot + 1]++;
+    }
+    for (int slot = 0; slot < cardCount; slot++) {
+      slotStart[slot + 1] += slotStart[slot];
+    }
+    int[] order = new int[itemCount];
+    int[] cursor = Arrays.copyOf(slotStart, cardCount);
+    for (int i = 0; i < itemCount; i++) {
+      order[cursor[itemSlots[i]]++] = i;
+    }
+    System.arraycopy(slotStart, 0, cursor, 0, cardCount);
+
+    UserScheduler scheduler = schedulingAlgorithmRegistry.forUser(userId);
+    LocalDateTime now = LocalDateTime.now();
+    List<ReviewLogRepository.Entry> logEntries = new ArrayList<>(itemCount);
+    int[] roundElapsed = new int[cardCount];
+    ReviewStates round = new ReviewStates(cardCount);
+    int[] roundSlots = new int[cardCount];
+    int[] roundRatings = new int[cardCount];
+    long[] roundDays = new long[cardCount];
+    boolean[] touched = new boolean[cardCount];
+    int applied = 0;
+    int skipped = 0;
+    while (true) {
+      int size = 0;
+      for (int slot = 0; slot < cardCount; slot++) {
+        int end = slotStart[slot + 1];
+        while (cursor[slot] < end && itemDays[order[cursor[slot]]] < cards.lastDays[slot]) {
+          cursor[slot]++;
+          skipped++;
+        }
+        if (cursor[slot] == end) {
+          continue;
+        }
+        int item = order[cursor[slot]++];
+        cards.copyTo(slot, round, size);
+        roundSlots[size] = slot;
+        roundRatings[size] = itemRatings[item];
+        roundDays[size] = itemDays[item];
+        roundElapsed[size] = elapsedDays(cards.lastDays[slot], itemDays[item]);
+        size++;
+      }
+      if (size == 0) {
+        break;
+      }
+      scheduler.schedule(round, roundRatings, roundDays, size);
+      for (int k = 0; k < size; k++) {
+        int slot = roundSlots[k];
+        round.lastDays[k] = roundDays[k];
+        round.copyTo(k, cards, slot);
+        nextDays[slot] = roundDays[k] + round.intervals[k];
+        touched[slot] = true;
+        LocalDateTime reviewedAt =
+            roundDays[k] == today ? now : LocalDate.ofEpochDay(roundDays[k]).atStartOfDay();
+        logEntries.add(
+            logEntry(
+                userId,
+                cardIds[slot],
+                reviewedAt,
+                roundElapsed[k],
+                round,
+                k,
+                roundRatings[k],
+                scheduler));
+      }
+      applied += size;
+    }
+
+    List<ReviewBatchRepository.Row> rows = new ArrayList<>();
+    List<ReviewStateResponse> states = new ArrayList<>();
+    for (int slot = 0; slot < cardCount; slot++) {
+      if (!touched[slot]) {
+        continue;
+      }
+      LocalDate next = LocalDate.ofEpochDay(nextDays[slot]);
+      LocalDate last = LocalDate.ofEpochDay(cards.lastDays[slot]);
+      rows.add(
+          new ReviewBatchRepository.Row(
+              reviewIds[slot],
+              userId,
+              cardIds[slot],
+              cards.repetitions[slot],
+              cards.easiness[slot],
+              cards.intervals[slot],
+              cards.stability[slot],
+              cards.difficulty[slot],
+              next,
+              last));
+      states.add(
+          ReviewStateResponse.builder()
+              .flashCardId(cardIds[slot])
+              .repetitions(cards.repetitions[slot])
+              .easinessFactor(cards.easiness[slot])
+              .interval(cards.intervals[slot])
+              .stability(cards.stability[slot])
+              .difficulty(cards.difficulty[slot])
+              .nextPracticeDate(next)
+              .lastReviewedDate(last)
+              .build());
+    }
+    if (!rows.isEmpty()) {
+      reviewBatchRepository.upsertAll(rows);
+      reviewLogRepository.appendAll(logEntries);
+    }
+
+    return ReviewBatchResponse.builder()
+        .applied(applied)
+        .skipped(skipped)
+        .reviews(states)
+        .build();
+  }
+
+  @Override
+  public SchedulingProfileResponse getSchedulingProfile() {
+    UserScheduler scheduler =
+        schedulingAlgorithmRegistry.forUser(authenticationService.getCurrentUserId());
+    return SchedulingProfileResponse.builder()
+        .algorithm(scheduler.algorithm().type())
+        .desiredRetention(scheduler.parameters().desiredRetention())
+        .weights(scheduler.parameters().weights())
+        .build();
+  }
+
+  @Override
+  public SchedulingProfileResponse updateSchedulingProfile(SchedulingProfileRequest request) {
+    UUID userId = authenticationService.getCurrentUserId();
+    double retention =
+        request.getDesiredRetention() != null
+            ? request.getDesiredRetention()
+            : FsrsSchedulingAlgorithm.DEFAULT_RETENTION;
+    double[] weights =
+        request.getWeights() != null
+            ? request.getWeights()
+            : FsrsSchedulingAlgorithm.DEFAULT_WEIGHTS;
+    if (request.getAlgorithm() == null
+        || !(retention >= 0.7 && retention <= 0.99)
+        || !FsrsSchedulingAlgorithm.isValidWeights(weights)) {
+      throw new AppException(ErrorCode.INVALID_SCHEDULING_PARAMETERS);
+    }
+
+    SchedulingProfile profile =
+        schedulingProfileRepository.save(
+            SchedulingProfile.builder()
+                .userId(userId)
+                .algorithm(request.getAlgorithm())
+                .desiredRetention(retention)
+                .weights(weights)
+                .build());
+    schedulingAlgorithmRegistry.invalidate(userId);
+    return SchedulingProfileResponse.builder()
+        .algorithm(profile.getAlgorithm())
+        .desiredRetention(profile.getDesiredRetention())
+        .weights(profile.getWeights())
+        .build();
+  }
+
+  private static int elapsedDays(long lastDay, long reviewDay) {
+    return lastDay == ReviewStates.NEVER ? -1 : (int) (reviewDay - lastDay);
+  }
+
+  private static ReviewLogRepository.Entry logEntry(
+      UUID userId,
+      UUID flashCardId,
+      LocalDateTime reviewedAt,
+      int elapsedDays,
+      ReviewStates states,
+      int index,
+      int rating,
+      UserScheduler scheduler) {
+    return new ReviewLogRepository.Entry(
+        0,
+        userId,
+        flashCardId,
+        reviewedAt,
+        reviewedAt.toLocalDate(),
+        elapsedDays,
+        states.intervals[index],
+        states.repetitions[index],
+        states.easiness[index],
+        states.stability[index],
+        states.difficulty[index],
+        rating,
+        scheduler.algorithm().type().ordinal());
+  }
+
+  private static void afterCommit(Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      action.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            action.run();
+          }
+        });
+  }
+
+  private static void load(Review review, ReviewStates states, int index) {
+    states.easiness[index] = review.getEasinessFactor();
+    states.repetitions[index] = review.getRepetitions();
+    states.intervals[index] = review.getInterval();
+    states.stability[index] = review.getStability() != null ? review.getStability() : 0f;
+    states.difficulty[index] = review.getDifficulty() != null ? review.getDifficulty() : 0f;
+    states.lastDays[index] =
+        review.getLastReviewedDate() != null
+            ? review.getLastReviewedDate().toEpochDay()
+            : ReviewStates.NEVER;
+  }
+
+  private void registerCompletion(UUID userId, UUID sessionId, ReviewBatchResponse response) {
+    Map<UUID, Long> schedule = new HashMap<>();
+    response
+        .getReviews()
+        .forEach(
+            state ->
+                schedule.put(state.getFlashCardId(), state.getNextPracticeDate().toEpochDay()));
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCompletion(int status) {
+            if (status == STATUS_COMMITTED) {
+              reviewDueQueue.scheduleAll(userId, schedule);
+              reviewTodayStore.evict(userId, LocalDate.now());
+              if (sessionId != null) {
+                reviewSyncStore.complete(userId, sessionId, response);
+              }
+            } else if (sessionId != null) {
+              reviewSyncStore.release(userId, sessionId);
+            }
+          }
+        });
+  }
+
+  private List<UUID> rebuildDueQueue(UUID userId, long today) {
+    Map<UUID, Long> schedule = new HashMap<>();
+    for (ReviewSchedule review : reviewRepository.findScheduleByUserId(userId)) {
+      schedule.put(review.getFlashCardId(), review.getNextPracticeDate().toEpochDay());
+    }
+    reviewDueQueue.rebuild(userId, schedule);
+    return schedule.entrySet().stream()
+        .filter(entry -> entry.getValue() <= today)
+        .sorted(Map.Entry.comparingByValue())
+        .map(Map.Entry::getKey)
+        .toList();
+  }
+
+  private List<FlashCardResponse> loadCards(UUID userId, List<UUID> ids) {
+    Map<UUID, FlashCardResponse> cards = flashCardContentStore.getAll(ids);
+    List<UUID> misses = ids.stream().filter(id -> !cards.containsKey(id)).toList();
+    if (!misses.isEmpty()) {
+      List<FlashCardResponse> loaded =
+          flashCardRepository.findAllById(misses).stream()
+              .map(flashCardMapper::toFlashCardResponse)
+              .toList();
+      flashCardContentStore.putAll(loaded);
+      loaded.forEach(card -> cards.put(card.getId(), card));
+
+      List<UUID> deleted = misses.stream().filter(id -> !cards.containsKey(id)).toList();
+      reviewDueQueue.remove(userId, deleted);
+    }
+    return ids.stream().map(cards::get).filter(Objects::nonNull).toList();
   }
 }
@@ -1,11 +1,13 @@
 package com.example.englishhubbackend.service.impl;
 
 import com.example.englishhubbackend.service.S3Service;
+import java.io.InputStream;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import lombok.experimental.NonFinal;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 import software.amazon.awssdk.core.sync.RequestBody;
@@ -14,6 +16,7 @@ import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 
 @Service
+@ConditionalOnProperty(name = "storage.type", havingValue = "s3", matchIfMissing = true)
 @RequiredArgsConstructor
 @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
 public class S3ServiceImpl implements S3Service {
@@ -36,6 +39,18 @@ public class S3ServiceImpl implements S3Service {
     return "https://" + bucketName + ".s3.amazonaws.com/" + fileName;
   }
 
+  @Override
+  public String uploadFile(String key, InputStream inputStream, long size, String contentType) {
+    try {
+      s3Client.putObject(
+          PutObjectRequest.builder().bucket(bucketName).key(key).contentType(contentType).build(),
+          RequestBody.fromInputStream(inputStream, size));
+    } catch (Exception e) {
+      throw new RuntimeException("Failed to upload file to S3: " + e.getMessage());
+    }
+    return "https://" + bucketName + ".s3.amazonaws.com/" + key;
+  }
+
   @Override
   public void deleteFileFromS3(String fileName) {
     s3Client.deleteObject(DeleteObjectRequest.builder().bucket(bucketName).key(fileName).build());
@@ -0,0 +1,73 @@
+package com.example.englishhubbackend.service.impl;
+
+import com.example.englishhubbackend.models.UserExamStats;
+import com.example.englishhubbackend.repository.ResultRepository;
+import com.example.englishhubbackend.repository.UserExamStatsRepository;
+import com.example.englishhubbackend.repository.projection.UserExamAggregate;
+import com.example.englishhubbackend.service.UserExamStatsService;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class UserExamStatsServiceImpl implements UserExamStatsService {
+  UserExamStatsRepository userExamStatsRepository;
+  ResultRepository resultRepository;
+
+  @Override
+  @Transactional
+  public void recordAttempt(
+      UUID userId, UUID examId, int listeningScore, int readingScore, LocalDateTime completedAt) {
+    userExamStatsRepository.upsertAttempt(
+        UUID.randomUUID(), userId, examId, listeningScore, readingScore, completedAt);
+  }
+
+  @Override
+  public Map<UUID, UserExamStats> getStatsByExamId(UUID userId) {
+    return userExamStatsRepository.findAllByUserId(userId).stream()
+        .collect(Collectors.toMap(UserExamStats::getExamId, Function.identity()));
+  }
+
+  @Override
+  @Transactional
+  public void rebuildForUsers(List<UUID> userIds) {
+    if (userIds.isEmpty()) {
+      return;
+    }
+    // Locked first so the aggregate below sees every result committed for these users and no
+    // attempt can be recorded between reading results and replacing their stats.
+    userExamStatsRepository.lockUsers(userIds);
+    List<UserExamStats> stats =
+        resultRepository.aggregateByUserIds(userIds).stream().map(this::toStats).toList();
+    userExamStatsRepository.deleteAllByUserIdIn(userIds);
+    userExamStatsRepository.saveAll(stats);
+  }
+
+  @Override
+  @Transactional
+  public void deleteStatsForExam(UUID examId) {
+    userExamStatsRepository.deleteAllByExamId(examId);
+  }
+
+  private UserExamStats toStats(UserExamAggregate aggregate) {
+    return UserExamStats.builder()
+        .userId(aggregate.getUserId())
+        .examId(aggregate.getExamId())
+        .attempts(aggregate.getAttempts().intValue())
+        .bestScore(aggregate.getBestScore())
+        .bestListeningScore(aggregate.getBestListeningScore())
+        .bestReadingScore(aggregate.getBestReadingScore())
+        .lastAttemptAt(aggregate.getLastAttemptAt())
+        .build();
+  }
+}
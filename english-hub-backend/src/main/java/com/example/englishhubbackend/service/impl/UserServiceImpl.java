@@ -2,6 +2,7 @@ package com.example.englishhubbackend.service.impl;
 
 import com.example.englishhubbackend.dto.request.UserCreateRequest;
 import com.example.englishhubbackend.dto.request.UserUpdateRequest;
+import com.example.englishhubbackend.dto.response.CursorPage;
 import com.example.englishhubbackend.dto.response.UserResponse;
 import com.example.englishhubbackend.enums.UserStatusEnum;
 import com.example.englishhubbackend.exception.AppException;
@@ -9,17 +10,20 @@ import com.example.englishhubbackend.exception.ErrorCode;
 import com.example.englishhubbackend.mapper.UserMapper;
 import com.example.englishhubbackend.models.User;
 import com.example.englishhubbackend.repository.UserRepository;
+import com.example.englishhubbackend.security.PasswordHashingService;
+import com.example.englishhubbackend.security.TokenRevocationService;
 import com.example.englishhubbackend.service.RoleService;
 import com.example.englishhubbackend.service.UserService;
+import com.example.englishhubbackend.store.RefreshTokenStore;
+import com.example.englishhubbackend.util.CursorUtil;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -28,8 +32,10 @@ import org.springframework.stereotype.Service;
 public class UserServiceImpl implements UserService {
   UserRepository userRepository;
   UserMapper userMapper;
-  PasswordEncoder passwordEncoder;
+  PasswordHashingService passwordHashingService;
   RoleService roleService;
+  RefreshTokenStore refreshTokenStore;
+  TokenRevocationService tokenRevocationService;
 
   @Override
   public boolean existsByEmail(String email) {
@@ -44,7 +50,10 @@ public class UserServiceImpl implements UserService {
             .findById(userId)
             .orElseThrow(() -> new AppException(ErrorCode.USER_NOT_FOUND));
     user.setStatus(UserStatusEnum.DEACTIVATED);
-    return userMapper.toUserResponse(userRepository.save(user));
+    User savedUser = userRepository.save(user);
+    refreshTokenStore.revokeAll(userId);
+    tokenRevocationService.revokeAllForUser(userId);
+    return userMapper.toUserResponse(savedUser);
   }
 
   @Override
@@ -55,15 +64,32 @@ public class UserServiceImpl implements UserService {
             .findById(userId)
             .orElseThrow(() -> new AppException(ErrorCode.USER_NOT_FOUND));
     user.setStatus(UserStatusEnum.ACTIVE);
-    return userMapper.toUserResponse(userRepository.save(user));
+    User savedUser = userRepository.save(user);
+    return userMapper.toUserResponse(savedUser);
   }
 
   @Override
   @PreAuthorize("hasRole('ADMIN')")
-  public List<UserResponse> getAllUsers() {
-    return userRepository.findAllByOrderByJoinDateDesc().stream()
-        .map(userMapper::toUserResponse)
-        .collect(Collectors.toList());
+  public CursorPage<UserResponse> getUsers(String cursor, Integer limit) {
+    int size = CursorUtil.limit(limit);
+    CursorUtil.Cursor before = CursorUtil.decode(cursor);
+    List<User> users = new ArrayList<>(size + 1);
+    if (before == null || before.key() == null) {
+      // Users without a join date sort first in descending order, as in the unpaged listing.
+      users.addAll(
+          userRepository.findUndatedPageBefore(
+              before != null ? before.id() : CursorUtil.MAX_ID, size + 1));
+      if (users.size() <= size) {
+        users.addAll(userRepository.findPage(size + 1 - users.size()));
+      }
+    } else {
+      users.addAll(userRepository.findPageBefore(before.localDate(), before.id(), size + 1));
+    }
+    return CursorUtil.page(
+        users,
+        size,
+        userMapper::toUserResponse,
+        user -> CursorUtil.encode(user.getJoinDate(), user.getId()));
   }
 
   @Override
@@ -72,7 +98,7 @@ public class UserServiceImpl implements UserService {
     User user = userMapper.toUser(userCreateRequest, roleService);
     user.setJoinDate(LocalDate.now());
     user.setStatus(UserStatusEnum.ACTIVE);
-    user.setPassword(passwordEncoder.encode("12345678"));
+    user.setPassword(passwordHashingService.encode("12345678"));
     user.setEnabled(true);
     return userMapper.toUserResponse(userRepository.save(user));
   }
@@ -85,7 +111,8 @@ public class UserServiceImpl implements UserService {
             .findById(userId)
             .orElseThrow(() -> new AppException(ErrorCode.USER_NOT_FOUND));
     userMapper.updateUser(userUpdateRequest, user, roleService);
-    return userMapper.toUserResponse(userRepository.save(user));
+    User savedUser = userRepository.save(user);
+    return userMapper.toUserResponse(savedUser);
   }
 
   @Override
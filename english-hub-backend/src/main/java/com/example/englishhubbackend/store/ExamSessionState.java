@@ -0,0 +1,18 @@
+package com.example.englishhubbackend.store;
+
+import java.util.Map;
+import java.util.UUID;
+
+public record ExamSessionState(
+    UUID sessionId,
+    UUID userId,
+    UUID examId,
+    long startedAt,
+    long deadline,
+    String status,
+    Map<String, String> answers) {
+
+  public boolean isActive() {
+    return ExamSessionStore.ACTIVE.equals(status);
+  }
+}
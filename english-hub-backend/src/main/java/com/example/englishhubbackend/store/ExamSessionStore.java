@@ -0,0 +1,189 @@
+package com.example.englishhubbackend.store;
+
+import com.example.englishhubbackend.exception.AppException;
+import com.example.englishhubbackend.exception.ErrorCode;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ExamSessionStore {
+  static final String ACTIVE = "ACTIVE";
+  static final String SUBMITTED = "SUBMITTED";
+
+  private static final String META_PREFIX = "exam-session:";
+
+  // An existing active session is resumed unless its deadline (ARGV[7] already has the grace
+  // period subtracted) has passed or it is no longer active; then a fresh session replaces it.
+  private static final RedisScript<String> START_SCRIPT =
+      new DefaultRedisScript<>(
+          """
+          local existing = redis.call('GET', KEYS[1])
+          if existing then
+            local meta = redis.call('HMGET', ARGV[8] .. existing, 'status', 'deadline')
+            if meta[1] == 'ACTIVE' and tonumber(meta[2]) >= tonumber(ARGV[7]) then
+              return existing
+            end
+          end
+          redis.call('HSET', KEYS[2], 'userId', ARGV[1], 'examId', ARGV[2],
+            'startedAt', ARGV[3], 'deadline', ARGV[4], 'status', 'ACTIVE')
+          redis.call('PEXPIRE', KEYS[2], ARGV[5])
+          redis.call('SET', KEYS[1], ARGV[6], 'PX', ARGV[5])
+          return ARGV[6]
+          """,
+          String.class);
+
+  private static final RedisScript<Long> PATCH_SCRIPT =
+      new DefaultRedisScript<>(
+          """
+          local meta = redis.call('HMGET', KEYS[1], 'userId', 'status', 'deadline')
+          if not meta[1] or meta[1] ~= ARGV[1] then
+            return 0
+          end
+          if meta[2] ~= 'ACTIVE' then
+            return -1
+          end
+          if tonumber(ARGV[2]) > tonumber(meta[3]) then
+            return -2
+          end
+          for i = 3, #ARGV, 2 do
+            if ARGV[i + 1] == '' then
+              redis.call('HDEL', KEYS[2], ARGV[i])
+            else
+              redis.call('HSET', KEYS[2], ARGV[i], ARGV[i + 1])
+            end
+          end
+          local ttl = redis.call('PTTL', KEYS[1])
+          if ttl > 0 then
+            redis.call('PEXPIRE', KEYS[2], ttl)
+          end
+          return 1
+          """,
+          Long.class);
+
+  StringRedisTemplate redisTemplate;
+
+  /**
+   * Returns the user's active session for the exam, or opens a new one when there is none or the
+   * existing one's deadline is before {@code expiredBefore}.
+   */
+  public UUID start(
+      UUID userId, UUID examId, long startedAt, long deadline, long expiredBefore, Duration ttl) {
+    UUID sessionId = UUID.randomUUID();
+    String current =
+        redisTemplate.execute(
+            START_SCRIPT,
+            List.of(activeKey(userId, examId), metaKey(sessionId)),
+            userId.toString(),
+            examId.toString(),
+            Long.toString(startedAt),
+            Long.toString(deadline),
+            Long.toString(ttl.toMillis()),
+            sessionId.toString(),
+            Long.toString(expiredBefore),
+            META_PREFIX);
+    return UUID.fromString(current);
+  }
+
+  public void saveAnswers(UUID sessionId, UUID userId, long now, Map<String, String> answers) {
+    List<String> args = new ArrayList<>(2 + answers.size() * 2);
+    args.add(userId.toString());
+    args.add(Long.toString(now));
+    answers.forEach(
+        (questionId, answer) -> {
+          args.add(questionId);
+          args.add(answer != null ? answer : "");
+        });
+    Long status =
+        redisTemplate.execute(
+            PATCH_SCRIPT,
+            List.of(metaKey(sessionId), answersKey(sessionId)),
+            args.toArray(new Object[0]));
+    if (status == null || status == 0) {
+      throw new AppException(ErrorCode.EXAM_SESSION_NOT_FOUND);
+    }
+    if (status < 0) {
+      throw new AppException(ErrorCode.EXAM_SESSION_CLOSED);
+    }
+  }
+
+  public Optional<ExamSessionState> find(UUID sessionId) {
+    List<Object> replies =
+        redisTemplate.executePipelined(
+            new SessionCallback<Object>() {
+              @Override
+              @SuppressWarnings("unchecked")
+              public Object execute(RedisOperations operations) throws DataAccessException {
+                operations.opsForHash().entries(metaKey(sessionId));
+                operations.opsForHash().entries(answersKey(sessionId));
+                return null;
+              }
+            });
+    @SuppressWarnings("unchecked")
+    Map<String, String> meta = (Map<String, String>) replies.get(0);
+    if (meta == null || meta.isEmpty()) {
+      return Optional.empty();
+    }
+    @SuppressWarnings("unchecked")
+    Map<String, String> answers = (Map<String, String>) replies.get(1);
+    return Optional.of(
+        new ExamSessionState(
+            sessionId,
+            UUID.fromString(meta.get("userId")),
+            UUID.fromString(meta.get("examId")),
+            Long.parseLong(meta.get("startedAt")),
+            Long.parseLong(meta.get("deadline")),
+            meta.get("status"),
+            answers != null ? answers : Map.of()));
+  }
+
+  public Optional<UUID> findExamId(UUID sessionId) {
+    Object examId = redisTemplate.opsForHash().get(metaKey(sessionId), "examId");
+    return Optional.ofNullable(examId).map(id -> UUID.fromString(id.toString()));
+  }
+
+  public Optional<UUID> findActive(UUID userId, UUID examId) {
+    return Optional.ofNullable(redisTemplate.opsForValue().get(activeKey(userId, examId)))
+        .map(UUID::fromString);
+  }
+
+  public void markSubmitted(ExamSessionState state) {
+    redisTemplate.executePipelined(
+        new SessionCallback<Object>() {
+          @Override
+          @SuppressWarnings("unchecked")
+          public Object execute(RedisOperations operations) throws DataAccessException {
+            operations.opsForHash().put(metaKey(state.sessionId()), "status", SUBMITTED);
+            operations.delete(activeKey(state.userId(), state.examId()));
+            return null;
+          }
+        });
+  }
+
+  private String metaKey(UUID sessionId) {
+    return META_PREFIX + sessionId;
+  }
+
+  private String answersKey(UUID sessionId) {
+    return "exam-session:" + sessionId + ":answers";
+  }
+
+  private String activeKey(UUID userId, UUID examId) {
+    return "exam-session:active:" + userId + ":" + examId;
+  }
+}
@@ -0,0 +1,61 @@
+package com.example.englishhubbackend.store;
+
+import com.example.englishhubbackend.dto.response.ExamSubmissionResponse;
+import com.example.englishhubbackend.exception.AppException;
+import com.example.englishhubbackend.exception.ErrorCode;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ExamSubmissionStore {
+  private static final Duration SUBMISSION_TTL = Duration.ofDays(1);
+
+  StringRedisTemplate redisTemplate;
+  ObjectMapper objectMapper;
+
+  public boolean claim(UUID userId, UUID submissionId, ExamSubmissionResponse response) {
+    Boolean claimed =
+        redisTemplate
+            .opsForValue()
+            .setIfAbsent(key(userId, submissionId), serialize(response), SUBMISSION_TTL);
+    return Boolean.TRUE.equals(claimed);
+  }
+
+  public Optional<ExamSubmissionResponse> find(UUID userId, UUID submissionId) {
+    String json = redisTemplate.opsForValue().get(key(userId, submissionId));
+    if (json == null) {
+      return Optional.empty();
+    }
+    try {
+      return Optional.of(objectMapper.readValue(json, ExamSubmissionResponse.class));
+    } catch (JsonProcessingException e) {
+      throw new AppException(ErrorCode.UNCATEGORIZED_EXCEPTION);
+    }
+  }
+
+  public void release(UUID userId, UUID submissionId) {
+    redisTemplate.delete(key(userId, submissionId));
+  }
+
+  private String serialize(ExamSubmissionResponse response) {
+    try {
+      return objectMapper.writeValueAsString(response);
+    } catch (JsonProcessingException e) {
+      throw new AppException(ErrorCode.UNCATEGORIZED_EXCEPTION);
+    }
+  }
+
+  private String key(UUID userId, UUID submissionId) {
+    return "exam-submission:" + userId + ":" + submissionId;
+  }
+}
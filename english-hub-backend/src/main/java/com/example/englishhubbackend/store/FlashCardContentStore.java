@@ -0,0 +1,96 @@
+package com.example.englishhubbackend.store;
+
+import com.example.englishhubbackend.dto.response.FlashCardResponse;
+import com.example.englishhubbackend.exception.AppException;
+import com.example.englishhubbackend.exception.ErrorCode;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class FlashCardContentStore {
+  StringRedisTemplate redisTemplate;
+  ObjectMapper objectMapper;
+  Duration ttl;
+
+  public FlashCardContentStore(
+      StringRedisTemplate redisTemplate,
+      ObjectMapper objectMapper,
+      @Value("${review.card-content.ttl-hours:24}") long ttlHours) {
+    this.redisTemplate = redisTemplate;
+    this.objectMapper = objectMapper;
+    this.ttl = Duration.ofHours(ttlHours);
+  }
+
+  /** Single MGET; ids missing from the result were not cached. */
+  public Map<UUID, FlashCardResponse> getAll(List<UUID> ids) {
+    Map<UUID, FlashCardResponse> cards = new HashMap<>(ids.size() * 2);
+    if (ids.isEmpty()) {
+      return cards;
+    }
+    List<String> values =
+        redisTemplate.opsForValue().multiGet(ids.stream().map(this::key).toList());
+    for (int i = 0; values != null && i < ids.size(); i++) {
+      String json = values.get(i);
+      if (json != null) {
+        cards.put(ids.get(i), deserialize(json));
+      }
+    }
+    return cards;
+  }
+
+  public void putAll(Collection<FlashCardResponse> cards) {
+    if (cards.isEmpty()) {
+      return;
+    }
+    redisTemplate.executePipelined(
+        new SessionCallback<Object>() {
+          @Override
+          @SuppressWarnings("unchecked")
+          public Object execute(RedisOperations operations) throws DataAccessException {
+            for (FlashCardResponse card : cards) {
+              operations.opsForValue().set(key(card.getId()), serialize(card), ttl);
+            }
+            return null;
+          }
+        });
+  }
+
+  public void evict(UUID flashCardId) {
+    redisTemplate.delete(key(flashCardId));
+  }
+
+  private String serialize(FlashCardResponse card) {
+    try {
+      return objectMapper.writeValueAsString(card);
+    } catch (JsonProcessingException e) {
+      throw new AppException(ErrorCode.UNCATEGORIZED_EXCEPTION);
+    }
+  }
+
+  private FlashCardResponse deserialize(String json) {
+    try {
+      return objectMapper.readValue(json, FlashCardResponse.class);
+    } catch (JsonProcessingException e) {
+      throw new AppException(ErrorCode.UNCATEGORIZED_EXCEPTION);
+    }
+  }
+
+  private String key(UUID flashCardId) {
+    return "flashcard:" + flashCardId;
+  }
+}
@@ -0,0 +1,49 @@
+package com.example.englishhubbackend.store;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cluster-wide locks for jobs that must run on one node at a time. A lock is held under a random
+ * token and released only by its holder; the TTL frees it if the holder dies.
+ */
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class JobLockStore {
+  private static final RedisScript<Long> RELEASE_SCRIPT =
+      new DefaultRedisScript<>(
+          """
+          if redis.call('GET', KEYS[1]) == ARGV[1] then
+            return redis.call('DEL', KEYS[1])
+          end
+          return 0
+          """,
+          Long.class);
+
+  StringRedisTemplate redisTemplate;
+
+  /** Returns the holder token, or empty when another node holds the lock. */
+  public Optional<String> tryAcquire(String name, Duration ttl) {
+    String token = UUID.randomUUID().toString();
+    Boolean acquired = redisTemplate.opsForValue().setIfAbsent(key(name), token, ttl);
+    return Boolean.TRUE.equals(acquired) ? Optional.of(token) : Optional.empty();
+  }
+
+  public void release(String name, String token) {
+    redisTemplate.execute(RELEASE_SCRIPT, List.of(key(name)), token);
+  }
+
+  private String key(String name) {
+    return "job-lock:" + name;
+  }
+}
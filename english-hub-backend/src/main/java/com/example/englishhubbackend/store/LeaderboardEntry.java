@@ -0,0 +1,6 @@
+package com.example.englishhubbackend.store;
+
+import java.util.UUID;
+
+/** A leaderboard member with its 0-based rank (highest score first). */
+public record LeaderboardEntry(UUID userId, long rank, int score) {}
@@ -0,0 +1,20 @@
+package com.example.englishhubbackend.store;
+
+import java.util.List;
+
+/**
+ * A member's position on a leaderboard: its entry, the number of participants scoring strictly
+ * lower and equal to it, and the entries ranked immediately around it.
+ */
+public record LeaderboardStanding(
+    LeaderboardEntry entry,
+    long participants,
+    long below,
+    long tied,
+    List<LeaderboardEntry> neighbours) {
+
+  /** Percentile rank using the mid-point convention for ties. */
+  public double percentile() {
+    return participants == 0 ? 0 : 100.0 * (below + 0.5 * tied) / participants;
+  }
+}
@@ -0,0 +1,258 @@
+package com.example.englishhubbackend.store;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * Best-score leaderboards kept in Redis sorted sets, one per exam plus a global board holding each
+ * user's best score on any exam. Live writes use {@code ZADD GT} so a score only ever moves up.
+ * Scores only move down in two places, both done atomically in Redis: recomputing the global board
+ * from the exam boards after an exam is deleted, and swapping in boards rebuilt from Postgres.
+ * While a rebuild is running, live writes also go to the rebuild boards so they survive the swap.
+ */
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class LeaderboardStore {
+  public static final String GLOBAL_KEY = "leaderboard:global";
+
+  private static final String REBUILD_PREFIX = "leaderboard-rebuild:";
+  private static final String REBUILD_MARKER = "leaderboard-rebuild:running";
+  private static final Duration REBUILD_MARKER_TTL = Duration.ofHours(2);
+
+  private static final RedisScript<Long> RECORD_SCRIPT =
+      new DefaultRedisScript<>(
+          """
+          redis.call('ZADD', KEYS[1], 'GT', ARGV[1], ARGV[2])
+          redis.call('ZADD', KEYS[2], 'GT', ARGV[1], ARGV[2])
+          if redis.call('EXISTS', KEYS[5]) == 1 then
+            redis.call('ZADD', KEYS[3], 'GT', ARGV[1], ARGV[2])
+            redis.call('ZADD', KEYS[4], 'GT', ARGV[1], ARGV[2])
+          end
+          return 1
+          """,
+          Long.class);
+
+  private static final RedisScript<Long> MERGE_SCRIPT =
+      new DefaultRedisScript<>(
+          """
+          for i = 1, #ARGV, 2 do
+            redis.call('ZADD', KEYS[1], 'GT', ARGV[i], ARGV[i + 1])
+          end
+          return 1
+          """,
+          Long.class);
+
+  // KEYS[1] is the global board and KEYS[2..] every remaining exam board. Each user's global
+  // score is set to their best across those boards in the same script, so a concurrent record
+  // either lands before (and is counted) or after (and raises the result with GT).
+  private static final RedisScript<Long> RECOMPUTE_GLOBAL_SCRIPT =
+      new DefaultRedisScript<>(
+          """
+          for _, member in ipairs(ARGV) do
+            local best = nil
+            for i = 2, #KEYS do
+              local score = redis.call('ZSCORE', KEYS[i], member)
+              if score and (not best or tonumber(score) > best) then
+                best = tonumber(score)
+              end
+            end
+            if best then
+              redis.call('ZADD', KEYS[1], best, member)
+            else
+              redis.call('ZREM', KEYS[1], member)
+            end
+          end
+          return 1
+          """,
+          Long.class);
+
+  // KEYS[1] is the rebuild marker, followed by live/rebuild key pairs. A board with no rebuilt
+  // entries is deleted.
+  private static final RedisScript<Long> SWAP_SCRIPT =
+      new DefaultRedisScript<>(
+          """
+          for i = 2, #KEYS, 2 do
+            if redis.call('EXISTS', KEYS[i + 1]) == 1 then
+              redis.call('RENAME', KEYS[i + 1], KEYS[i])
+            else
+              redis.call('DEL', KEYS[i])
+            end
+          end
+          redis.call('DEL', KEYS[1])
+          return 1
+          """,
+          Long.class);
+
+  @SuppressWarnings("rawtypes")
+  private static final RedisScript<List> STANDING_SCRIPT =
+      new DefaultRedisScript<>(
+          """
+          local rank = redis.call('ZREVRANK', KEYS[1], ARGV[1])
+          if not rank then
+            return {}
+          end
+          local score = redis.call('ZSCORE', KEYS[1], ARGV[1])
+          local radius = tonumber(ARGV[2])
+          local first = math.max(rank - radius, 0)
+          return {
+            rank,
+            redis.call('ZCARD', KEYS[1]),
+            redis.call('ZCOUNT', KEYS[1], '-inf', '(' .. score),
+            redis.call('ZCOUNT', KEYS[1], score, score),
+            first,
+            redis.call('ZREVRANGE', KEYS[1], first, rank + radius, 'WITHSCORES')
+          }
+          """,
+          List.class);
+
+  StringRedisTemplate redisTemplate;
+
+  public static String examKey(UUID examId) {
+    return "leaderboard:exam:" + examId;
+  }
+
+  public static String rebuildKey(String key) {
+    return REBUILD_PREFIX + key;
+  }
+
+  public void record(UUID examId, UUID userId, int score) {
+    String examKey = examKey(examId);
+    redisTemplate.execute(
+        RECORD_SCRIPT,
+        List.of(examKey, GLOBAL_KEY, rebuildKey(examKey), rebuildKey(GLOBAL_KEY), REBUILD_MARKER),
+        Integer.toString(score),
+        userId.toString());
+  }
+
+  /** Clears leftover rebuild boards and starts mirroring live writes into fresh ones. */
+  public void beginRebuild(Collection<String> keys) {
+    redisTemplate.delete(keys.stream().map(LeaderboardStore::rebuildKey).toList());
+    redisTemplate.opsForValue().set(REBUILD_MARKER, "1", REBUILD_MARKER_TTL);
+  }
+
+  /** Atomically replaces each live board in {@code keys} with its rebuilt counterpart. */
+  public void finishRebuild(Collection<String> keys) {
+    List<String> scriptKeys = new ArrayList<>(keys.size() * 2 + 1);
+    scriptKeys.add(REBUILD_MARKER);
+    for (String key : keys) {
+      scriptKeys.add(key);
+      scriptKeys.add(rebuildKey(key));
+    }
+    redisTemplate.execute(SWAP_SCRIPT, scriptKeys);
+  }
+
+  public void abortRebuild(Collection<String> keys) {
+    redisTemplate.delete(keys.stream().map(LeaderboardStore::rebuildKey).toList());
+    redisTemplate.delete(REBUILD_MARKER);
+  }
+
+  /** Raises each board's members to at least the given scores in one pipelined round trip. */
+  public void mergeAll(Map<String, Map<UUID, Integer>> scoresByKey) {
+    if (scoresByKey.isEmpty()) {
+      return;
+    }
+    redisTemplate.executePipelined(
+        new SessionCallback<Object>() {
+          @Override
+          @SuppressWarnings("unchecked")
+          public Object execute(RedisOperations operations) throws DataAccessException {
+            scoresByKey.forEach(
+                (key, scores) -> operations.execute(MERGE_SCRIPT, List.of(key), toArgs(scores)));
+            return null;
+          }
+        });
+  }
+
+  /** Sets each user's global score to their best on {@code examKeys}, removing users with none. */
+  public void recomputeGlobal(Collection<UUID> userIds, Collection<String> examKeys) {
+    if (userIds.isEmpty()) {
+      return;
+    }
+    List<String> keys = new ArrayList<>(examKeys.size() + 1);
+    keys.add(GLOBAL_KEY);
+    keys.addAll(examKeys);
+    redisTemplate.execute(
+        RECOMPUTE_GLOBAL_SCRIPT, keys, userIds.stream().map(UUID::toString).toArray());
+  }
+
+  public List<LeaderboardEntry> top(String key, int limit) {
+    Set<TypedTuple<String>> tuples =
+        redisTemplate.opsForZSet().reverseRangeWithScores(key, 0, limit - 1L);
+    List<LeaderboardEntry> entries = new ArrayList<>(tuples != null ? tuples.size() : 0);
+    if (tuples != null) {
+      long rank = 0;
+      for (TypedTuple<String> tuple : tuples) {
+        entries.add(
+            new LeaderboardEntry(
+                UUID.fromString(tuple.getValue()), rank++, tuple.getScore().intValue()));
+      }
+    }
+    return entries;
+  }
+
+  public Optional<LeaderboardStanding> standing(String key, UUID userId, int radius) {
+    List<?> reply =
+        redisTemplate.execute(
+            STANDING_SCRIPT, List.of(key), userId.toString(), Integer.toString(radius));
+    if (reply == null || reply.isEmpty()) {
+      return Optional.empty();
+    }
+    long rank = (Long) reply.get(0);
+    long rankOfFirst = (Long) reply.get(4);
+    List<?> window = (List<?>) reply.get(5);
+    List<LeaderboardEntry> neighbours = new ArrayList<>(window.size() / 2);
+    LeaderboardEntry entry = null;
+    for (int i = 0; i < window.size(); i += 2) {
+      LeaderboardEntry neighbour =
+          new LeaderboardEntry(
+              UUID.fromString((String) window.get(i)),
+              rankOfFirst + i / 2,
+              (int) Double.parseDouble((String) window.get(i + 1)));
+      if (neighbour.rank() == rank) {
+        entry = neighbour;
+      }
+      neighbours.add(neighbour);
+    }
+    return Optional.of(
+        new LeaderboardStanding(
+            entry, (Long) reply.get(1), (Long) reply.get(2), (Long) reply.get(3), neighbours));
+  }
+
+  public Set<String> members(String key) {
+    Set<String> members = redisTemplate.opsForZSet().range(key, 0, -1);
+    return members != null ? members : Set.of();
+  }
+
+  /** Deletes the board along with any rebuild in progress for it. */
+  public void delete(String key) {
+    redisTemplate.delete(List.of(key, rebuildKey(key)));
+  }
+
+  private static Object[] toArgs(Map<UUID, Integer> scores) {
+    Object[] args = new Object[scores.size() * 2];
+    int i = 0;
+    for (Map.Entry<UUID, Integer> score : scores.entrySet()) {
+      args[i++] = score.getValue().toString();
+      args[i++] = score.getKey().toString();
+    }
+    return args;
+  }
+}
@@ -0,0 +1,54 @@
+package com.example.englishhubbackend.store;
+
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+public record PendingResult(
+    UUID resultId,
+    UUID submissionId,
+    UUID userId,
+    UUID examId,
+    int listeningScore,
+    int readingScore,
+    LocalDateTime completedAt,
+    byte[] partBreakdown,
+    byte[] incorrectQuestionIds) {
+
+  public Map<String, String> toFields() {
+    Map<String, String> fields = new HashMap<>();
+    fields.put("resultId", resultId.toString());
+    fields.put("submissionId", submissionId.toString());
+    fields.put("userId", userId.toString());
+    fields.put("examId", examId.toString());
+    fields.put("listeningScore", Integer.toString(listeningScore));
+    fields.put("readingScore", Integer.toString(readingScore));
+    fields.put("completedAt", completedAt.toString());
+    if (partBreakdown != null) {
+      fields.put("partBreakdown", Base64.getEncoder().encodeToString(partBreakdown));
+    }
+    if (incorrectQuestionIds != null) {
+      fields.put("incorrectQuestionIds", Base64.getEncoder().encodeToString(incorrectQuestionIds));
+    }
+    return fields;
+  }
+
+  public static PendingResult fromFields(Map<?, ?> fields) {
+    return new PendingResult(
+        UUID.fromString((String) fields.get("resultId")),
+        UUID.fromString((String) fields.get("submissionId")),
+        UUID.fromString((String) fields.get("userId")),
+        UUID.fromString((String) fields.get("examId")),
+        Integer.parseInt((String) fields.get("listeningScore")),
+        Integer.parseInt((String) fields.get("readingScore")),
+        LocalDateTime.parse((String) fields.get("completedAt")),
+        decode(fields.get("partBreakdown")),
+        decode(fields.get("incorrectQuestionIds")));
+  }
+
+  private static byte[] decode(Object field) {
+    return field != null ? Base64.getDecoder().decode((String) field) : null;
+  }
+}
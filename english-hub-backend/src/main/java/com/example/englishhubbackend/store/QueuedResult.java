@@ -0,0 +1,6 @@
+package com.example.englishhubbackend.store;
+
+import java.util.Map;
+
+/** A result stream entry as delivered to this consumer, with its Redis delivery count. */
+public record QueuedResult(String id, long deliveries, Map<String, String> fields) {}
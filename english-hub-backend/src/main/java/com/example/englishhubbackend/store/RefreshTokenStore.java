@@ -0,0 +1,108 @@
+package com.example.englishhubbackend.store;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class RefreshTokenStore {
+  public static final long ROTATED = 1;
+  public static final long UNKNOWN_FAMILY = 0;
+  public static final long REUSED = -1;
+
+  private static final RedisScript<Long> CREATE_SCRIPT =
+      new DefaultRedisScript<>(
+          """
+          local now = tonumber(ARGV[4])
+          local families = redis.call('HGETALL', KEYS[1])
+          for i = 1, #families, 2 do
+            local expiresAt = tonumber(string.match(families[i + 1], ':(%d+)$'))
+            if expiresAt == nil or expiresAt < now then
+              redis.call('HDEL', KEYS[1], families[i])
+            end
+          end
+          redis.call('HSET', KEYS[1], ARGV[1], ARGV[2] .. ':' .. (now + tonumber(ARGV[3])))
+          redis.call('PEXPIRE', KEYS[1], ARGV[3])
+          return 1
+          """,
+          Long.class);
+
+  private static final RedisScript<Long> ROTATE_SCRIPT =
+      new DefaultRedisScript<>(
+          """
+          local current = redis.call('HGET', KEYS[1], ARGV[1])
+          if not current then
+            return 0
+          end
+          if string.match(current, '^([^:]+)') ~= ARGV[2] then
+            redis.call('HDEL', KEYS[1], ARGV[1])
+            return -1
+          end
+          local now = tonumber(ARGV[5])
+          redis.call('HSET', KEYS[1], ARGV[1], ARGV[3] .. ':' .. (now + tonumber(ARGV[4])))
+          if redis.call('PTTL', KEYS[1]) < tonumber(ARGV[4]) then
+            redis.call('PEXPIRE', KEYS[1], ARGV[4])
+          end
+          return 1
+          """,
+          Long.class);
+
+  private static final RedisScript<Long> REVOKE_SCRIPT =
+      new DefaultRedisScript<>(
+          """
+          local current = redis.call('HGET', KEYS[1], ARGV[1])
+          if current and string.match(current, '^([^:]+)') == ARGV[2] then
+            return redis.call('HDEL', KEYS[1], ARGV[1])
+          end
+          return 0
+          """,
+          Long.class);
+
+  StringRedisTemplate redisTemplate;
+
+  public void create(UUID userId, String familyId, String tokenId, Duration ttl) {
+    redisTemplate.execute(
+        CREATE_SCRIPT,
+        List.of(key(userId)),
+        familyId,
+        tokenId,
+        Long.toString(ttl.toMillis()),
+        Long.toString(System.currentTimeMillis()));
+  }
+
+  public long rotate(
+      UUID userId, String familyId, String tokenId, String nextTokenId, Duration ttl) {
+    Long result =
+        redisTemplate.execute(
+            ROTATE_SCRIPT,
+            List.of(key(userId)),
+            familyId,
+            tokenId,
+            nextTokenId,
+            Long.toString(ttl.toMillis()),
+            Long.toString(System.currentTimeMillis()));
+    return result != null ? result : UNKNOWN_FAMILY;
+  }
+
+  public boolean revoke(UUID userId, String familyId, String tokenId) {
+    Long removed = redisTemplate.execute(REVOKE_SCRIPT, List.of(key(userId)), familyId, tokenId);
+    return removed != null && removed > 0;
+  }
+
+  public void revokeAll(UUID userId) {
+    redisTemplate.delete(key(userId));
+  }
+
+  private String key(UUID userId) {
+    return "refresh-families:" + userId;
+  }
+}
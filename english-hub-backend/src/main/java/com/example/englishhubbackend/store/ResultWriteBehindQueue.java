@@ -0,0 +1,203 @@
+package com.example.englishhubbackend.store;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ResultWriteBehindQueue {
+  private static final String STREAM_KEY = "exam-results";
+  private static final String DEAD_LETTER_KEY = "exam-results:dead";
+  private static final String GROUP = "result-writers";
+
+  // Takes over entries that have sat unacknowledged for at least the min idle time, whether they
+  // belong to a dead consumer or to this one after a failed flush, and reports each entry's
+  // delivery count so poison records can be dead-lettered.
+  @SuppressWarnings("rawtypes")
+  private static final RedisScript<List> RECLAIM_SCRIPT =
+      new DefaultRedisScript<>(
+          """
+          local claimed = redis.call(
+            'XAUTOCLAIM', KEYS[1], ARGV[1], ARGV[2], ARGV[3], '0-0', 'COUNT', ARGV[4])
+          local entries = {}
+          for _, entry in ipairs(claimed[2]) do
+            if entry and entry[2] then
+              local info = redis.call('XPENDING', KEYS[1], ARGV[1], entry[1], entry[1], 1)
+              local deliveries = info[1] and info[1][4] or 1
+              entries[#entries + 1] = {entry[1], deliveries, entry[2]}
+            end
+          end
+          return entries
+          """,
+          List.class);
+
+  private static final RedisScript<Long> DEAD_LETTER_SCRIPT =
+      new DefaultRedisScript<>(
+          """
+          redis.call('XADD', KEYS[2], '*', unpack(ARGV, 3))
+          redis.call('XACK', KEYS[1], ARGV[1], ARGV[2])
+          return redis.call('XDEL', KEYS[1], ARGV[2])
+          """,
+          Long.class);
+
+  StringRedisTemplate redisTemplate;
+  String consumerName;
+  long maxPending;
+  long claimMinIdleMs;
+  AtomicLong pending = new AtomicLong();
+  Counter enqueued;
+  Counter overflowed;
+  Counter reclaimed;
+  Counter deadLettered;
+
+  public ResultWriteBehindQueue(
+      StringRedisTemplate redisTemplate,
+      MeterRegistry meterRegistry,
+      @Value("${exam.results.consumer-name:${HOSTNAME:english-hub}}") String consumerName,
+      @Value("${exam.results.max-pending:50000}") long maxPending,
+      @Value("${exam.results.claim-min-idle-ms:60000}") long claimMinIdleMs) {
+    this.redisTemplate = redisTemplate;
+    this.consumerName = consumerName;
+    this.maxPending = maxPending;
+    this.claimMinIdleMs = claimMinIdleMs;
+    this.enqueued = meterRegistry.counter("exam.results.enqueued");
+    this.overflowed = meterRegistry.counter("exam.results.overflowed");
+    this.reclaimed = meterRegistry.counter("exam.results.reclaimed");
+    this.deadLettered = meterRegistry.counter("exam.results.dead-lettered");
+    Gauge.builder("exam.results.pending", pending, AtomicLong::get).register(meterRegistry);
+  }
+
+  @PostConstruct
+  void createGroup() {
+    try {
+      redisTemplate.execute(
+          (RedisCallback<String>)
+              connection -> createGroup(connection, STREAM_KEY.getBytes(), ReadOffset.from("0")));
+    } catch (DataAccessException e) {
+      log.debug("Consumer group {} already exists on {}", GROUP, STREAM_KEY);
+    }
+    refreshPending();
+  }
+
+  public boolean offer(PendingResult result) {
+    if (pending.get() >= maxPending) {
+      overflowed.increment();
+      return false;
+    }
+    redisTemplate
+        .opsForStream()
+        .add(StreamRecords.string(result.toFields()).withStreamKey(STREAM_KEY));
+    pending.incrementAndGet();
+    enqueued.increment();
+    return true;
+  }
+
+  public List<QueuedResult> poll(int batchSize) {
+    List<MapRecord<String, Object, Object>> records =
+        redisTemplate
+            .opsForStream()
+            .read(
+                Consumer.from(GROUP, consumerName),
+                StreamReadOptions.empty().count(batchSize),
+                StreamOffset.create(STREAM_KEY, ReadOffset.lastConsumed()));
+    if (records == null || records.isEmpty()) {
+      return List.of();
+    }
+    List<QueuedResult> results = new ArrayList<>(records.size());
+    for (MapRecord<String, Object, Object> record : records) {
+      Map<String, String> fields = new HashMap<>();
+      record.getValue().forEach((field, value) -> fields.put(field.toString(), value.toString()));
+      results.add(new QueuedResult(record.getId().getValue(), 1, fields));
+    }
+    return results;
+  }
+
+  @SuppressWarnings("unchecked")
+  public List<QueuedResult> reclaim(int batchSize) {
+    List<List<Object>> entries =
+        redisTemplate.execute(
+            RECLAIM_SCRIPT,
+            List.of(STREAM_KEY),
+            GROUP,
+            consumerName,
+            Long.toString(claimMinIdleMs),
+            Integer.toString(batchSize));
+    if (entries == null || entries.isEmpty()) {
+      return List.of();
+    }
+    List<QueuedResult> results = new ArrayList<>(entries.size());
+    for (List<Object> entry : entries) {
+      List<Object> flat = (List<Object>) entry.get(2);
+      Map<String, String> fields = HashMap.newHashMap(flat.size() / 2);
+      for (int i = 0; i + 1 < flat.size(); i += 2) {
+        fields.put(flat.get(i).toString(), flat.get(i + 1).toString());
+      }
+      results.add(
+          new QueuedResult(entry.get(0).toString(), ((Number) entry.get(1)).longValue(), fields));
+    }
+    reclaimed.increment(results.size());
+    return results;
+  }
+
+  public void acknowledge(List<QueuedResult> results) {
+    if (results.isEmpty()) {
+      return;
+    }
+    RecordId[] ids = results.stream().map(r -> RecordId.of(r.id())).toArray(RecordId[]::new);
+    redisTemplate.opsForStream().acknowledge(STREAM_KEY, GROUP, ids);
+    redisTemplate.opsForStream().delete(STREAM_KEY, ids);
+  }
+
+  public void deadLetter(QueuedResult result, String error) {
+    List<String> args = new ArrayList<>();
+    args.add(GROUP);
+    args.add(result.id());
+    for (Map.Entry<String, String> field : result.fields().entrySet()) {
+      args.add(field.getKey());
+      args.add(field.getValue());
+    }
+    args.add("sourceId");
+    args.add(result.id());
+    args.add("deliveries");
+    args.add(Long.toString(result.deliveries()));
+    args.add("error");
+    args.add(error != null ? error : "");
+    redisTemplate.execute(DEAD_LETTER_SCRIPT, List.of(STREAM_KEY, DEAD_LETTER_KEY), args.toArray());
+    deadLettered.increment();
+  }
+
+  public void refreshPending() {
+    Long size = redisTemplate.opsForStream().size(STREAM_KEY);
+    pending.set(size != null ? size : 0);
+  }
+
+  private String createGroup(RedisConnection connection, byte[] key, ReadOffset offset) {
+    return connection.streamCommands().xGroupCreate(key, GROUP, offset, true);
+  }
+}
@@ -0,0 +1,146 @@
+package com.example.englishhubbackend.store;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * Per-user sorted set of flash card ids scored by next practice date (epoch day). A companion
+ * marker key records that the set has been built from Postgres, so an empty set is distinguishable
+ * from one that was never loaded.
+ */
+@Component
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ReviewDueQueue {
+  // Rebuild uses ZADD NX so a schedule written concurrently by a review always wins over the
+  // possibly older snapshot read from Postgres.
+  private static final RedisScript<Long> REBUILD_SCRIPT =
+      new DefaultRedisScript<>(
+          """
+          for i = 2, #ARGV, 2 do
+            redis.call('ZADD', KEYS[1], 'NX', ARGV[i], ARGV[i + 1])
+          end
+          redis.call('SET', KEYS[2], '1', 'PX', ARGV[1])
+          if redis.call('EXISTS', KEYS[1]) == 1 then
+            redis.call('PEXPIRE', KEYS[1], ARGV[1])
+          end
+          return 1
+          """,
+          Long.class);
+
+  private static final RedisScript<Long> SCHEDULE_SCRIPT =
+      new DefaultRedisScript<>(
+          """
+          for i = 2, #ARGV, 2 do
+            redis.call('ZADD', KEYS[1], ARGV[i], ARGV[i + 1])
+          end
+          redis.call('PEXPIRE', KEYS[1], ARGV[1])
+          redis.call('PEXPIRE', KEYS[2], ARGV[1])
+          return 1
+          """,
+          Long.class);
+
+  StringRedisTemplate redisTemplate;
+  Duration ttl;
+
+  public ReviewDueQueue(
+      StringRedisTemplate redisTemplate, @Value("${review.due-queue.ttl-days:30}") long ttlDays) {
+    this.redisTemplate = redisTemplate;
+    this.ttl = Duration.ofDays(ttlDays);
+  }
+
+  /** Returns the ids due on or before {@code epochDay}, or empty when the queue is not built. */
+  public Optional<List<UUID>> findDue(UUID userId, long epochDay) {
+    List<Object> replies =
+        redisTemplate.executePipelined(
+            new SessionCallback<Object>() {
+              @Override
+              @SuppressWarnings("unchecked")
+              public Object execute(RedisOperations operations) throws DataAccessException {
+                operations.hasKey(builtKey(userId));
+                operations
+                    .opsForZSet()
+                    .rangeByScore(queueKey(userId), Double.NEGATIVE_INFINITY, epochDay);
+                return null;
+              }
+            });
+    if (!Boolean.TRUE.equals(replies.get(0))) {
+      return Optional.empty();
+    }
+    @SuppressWarnings("unchecked")
+    Set<String> members = (Set<String>) replies.get(1);
+    List<UUID> ids = new ArrayList<>(members != null ? members.size() : 0);
+    if (members != null) {
+      members.forEach(member -> ids.add(UUID.fromString(member)));
+    }
+    return Optional.of(ids);
+  }
+
+  public void rebuild(UUID userId, Map<UUID, Long> schedule) {
+    List<String> args = new ArrayList<>(1 + schedule.size() * 2);
+    args.add(Long.toString(ttl.toMillis()));
+    schedule.forEach(
+        (flashCardId, epochDay) -> {
+          args.add(Long.toString(epochDay));
+          args.add(flashCardId.toString());
+        });
+    redisTemplate.execute(
+        REBUILD_SCRIPT, List.of(queueKey(userId), builtKey(userId)), args.toArray(new Object[0]));
+  }
+
+  public void schedule(UUID userId, UUID flashCardId, long epochDay) {
+    redisTemplate.execute(
+        SCHEDULE_SCRIPT,
+        List.of(queueKey(userId), builtKey(userId)),
+        Long.toString(ttl.toMillis()),
+        Long.toString(epochDay),
+        flashCardId.toString());
+  }
+
+  public void scheduleAll(UUID userId, Map<UUID, Long> schedule) {
+    if (schedule.isEmpty()) {
+      return;
+    }
+    List<String> args = new ArrayList<>(1 + schedule.size() * 2);
+    args.add(Long.toString(ttl.toMillis()));
+    schedule.forEach(
+        (flashCardId, epochDay) -> {
+          args.add(Long.toString(epochDay));
+          args.add(flashCardId.toString());
+        });
+    redisTemplate.execute(
+        SCHEDULE_SCRIPT, List.of(queueKey(userId), builtKey(userId)), args.toArray(new Object[0]));
+  }
+
+  public void remove(UUID userId, Collection<UUID> flashCardIds) {
+    if (flashCardIds.isEmpty()) {
+      return;
+    }
+    redisTemplate
+        .opsForZSet()
+        .remove(queueKey(userId), flashCardIds.stream().map(UUID::toString).toArray());
+  }
+
+  private String queueKey(UUID userId) {
+    return "review-due:" + userId;
+  }
+
+  private String builtKey(UUID userId) {
+    return "review-due:" + userId + ":built";
+  }
+}
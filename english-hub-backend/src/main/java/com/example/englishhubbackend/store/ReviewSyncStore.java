@@ -0,0 +1,67 @@
+package com.example.englishhubbackend.store;
+
+import com.example.englishhubbackend.dto.response.ReviewBatchResponse;
+import com.example.englishhubbackend.exception.AppException;
+import com.example.englishhubbackend.exception.ErrorCode;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/** Makes offline session syncs idempotent: a session id is applied once and its result replayed. */
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ReviewSyncStore {
+  private static final Duration SYNC_TTL = Duration.ofDays(7);
+  // Short enough that a session whose owner crashed mid-batch can be retried within minutes.
+  private static final Duration CLAIM_TTL = Duration.ofMinutes(2);
+  private static final String PENDING = "PENDING";
+
+  StringRedisTemplate redisTemplate;
+  ObjectMapper objectMapper;
+
+  /**
+   * Returns empty when the caller now owns the session, or the stored response of an earlier sync.
+   */
+  public Optional<ReviewBatchResponse> claim(UUID userId, UUID sessionId) {
+    Boolean claimed =
+        redisTemplate.opsForValue().setIfAbsent(key(userId, sessionId), PENDING, CLAIM_TTL);
+    if (Boolean.TRUE.equals(claimed)) {
+      return Optional.empty();
+    }
+    String json = redisTemplate.opsForValue().get(key(userId, sessionId));
+    if (json == null || PENDING.equals(json)) {
+      throw new AppException(ErrorCode.REVIEW_SYNC_IN_PROGRESS);
+    }
+    try {
+      return Optional.of(objectMapper.readValue(json, ReviewBatchResponse.class));
+    } catch (JsonProcessingException e) {
+      throw new AppException(ErrorCode.UNCATEGORIZED_EXCEPTION);
+    }
+  }
+
+  public void complete(UUID userId, UUID sessionId, ReviewBatchResponse response) {
+    try {
+      redisTemplate
+          .opsForValue()
+          .set(key(userId, sessionId), objectMapper.writeValueAsString(response), SYNC_TTL);
+    } catch (JsonProcessingException e) {
+      throw new AppException(ErrorCode.UNCATEGORIZED_EXCEPTION);
+    }
+  }
+
+  public void release(UUID userId, UUID sessionId) {
+    redisTemplate.delete(key(userId, sessionId));
+  }
+
+  private String key(UUID userId, UUID sessionId) {
+    return "review-sync:" + userId + ":" + sessionId;
+  }
+}
@@ -0,0 +1,108 @@
+package com.example.englishhubbackend.store;
+
+import com.example.englishhubbackend.exception.AppException;
+import com.example.englishhubbackend.exception.ErrorCode;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * Materialized "due today" card id lists, one JSON value per user and day. Only ids are kept so
+ * card edits and deletions, which evict {@link FlashCardContentStore}, show up immediately. Each
+ * user also has a version that every eviction bumps; a list computed before an eviction is
+ * discarded on save rather than overwriting the fresher state.
+ */
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ReviewTodayStore {
+  private static final Duration TODAY_TTL = Duration.ofHours(36);
+  private static final TypeReference<List<UUID>> CARD_IDS = new TypeReference<>() {};
+
+  private static final RedisScript<Long> SAVE_IF_CURRENT_SCRIPT =
+      new DefaultRedisScript<>(
+          """
+          local version = redis.call('GET', KEYS[2]) or '0'
+          if version ~= ARGV[1] then
+            return 0
+          end
+          redis.call('SET', KEYS[1], ARGV[2], 'EX', ARGV[3])
+          return 1
+          """,
+          Long.class);
+
+  private static final RedisScript<Long> EVICT_SCRIPT =
+      new DefaultRedisScript<>(
+          """
+          local version = redis.call('INCR', KEYS[2])
+          redis.call('EXPIRE', KEYS[2], ARGV[1])
+          redis.call('DEL', KEYS[1])
+          return version
+          """,
+          Long.class);
+
+  StringRedisTemplate redisTemplate;
+  ObjectMapper objectMapper;
+
+  public Optional<List<UUID>> find(UUID userId, LocalDate day) {
+    String json = redisTemplate.opsForValue().get(key(userId, day));
+    if (json == null) {
+      return Optional.empty();
+    }
+    try {
+      return Optional.of(objectMapper.readValue(json, CARD_IDS));
+    } catch (JsonProcessingException e) {
+      throw new AppException(ErrorCode.UNCATEGORIZED_EXCEPTION);
+    }
+  }
+
+  /** Read before computing a list and pass to {@link #saveIfCurrent}. */
+  public String version(UUID userId) {
+    String version = redisTemplate.opsForValue().get(versionKey(userId));
+    return version != null ? version : "0";
+  }
+
+  /** Returns false when the user's list was evicted after {@code version} was read. */
+  public boolean saveIfCurrent(
+      UUID userId, LocalDate day, List<UUID> cardIds, String version) {
+    try {
+      Long saved =
+          redisTemplate.execute(
+              SAVE_IF_CURRENT_SCRIPT,
+              List.of(key(userId, day), versionKey(userId)),
+              version,
+              objectMapper.writeValueAsString(cardIds),
+              Long.toString(TODAY_TTL.toSeconds()));
+      return saved != null && saved == 1;
+    } catch (JsonProcessingException e) {
+      throw new AppException(ErrorCode.UNCATEGORIZED_EXCEPTION);
+    }
+  }
+
+  public void evict(UUID userId, LocalDate day) {
+    redisTemplate.execute(
+        EVICT_SCRIPT,
+        List.of(key(userId, day), versionKey(userId)),
+        Long.toString(TODAY_TTL.toSeconds()));
+  }
+
+  private String key(UUID userId, LocalDate day) {
+    return "review-today:" + userId + ":" + day;
+  }
+
+  private String versionKey(UUID userId) {
+    return "review-today-version:" + userId;
+  }
+}
@@ -0,0 +1,26 @@
+package com.example.englishhubbackend.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.util.HexFormat;
+
+public class ContentHashUtil {
+  public static String normalize(String content) {
+    return Normalizer.normalize(content, Normalizer.Form.NFC).replace("\r\n", "\n").strip();
+  }
+
+  public static String sha256(String content) {
+    if (content == null) {
+      return null;
+    }
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      return HexFormat.of()
+          .formatHex(digest.digest(normalize(content).getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
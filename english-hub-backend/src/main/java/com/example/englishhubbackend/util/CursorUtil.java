@@ -0,0 +1,90 @@
+package com.example.englishhubbackend.util;
+
+import com.example.englishhubbackend.dto.response.CursorPage;
+import com.example.englishhubbackend.exception.AppException;
+import com.example.englishhubbackend.exception.ErrorCode;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Opaque keyset cursors over {@code (sort key, id)}. Rows whose sort key is null are paged in a
+ * separate id-ordered segment, which the cursor marks with an empty key.
+ */
+public class CursorUtil {
+  public static final int DEFAULT_LIMIT = 50;
+  public static final int MAX_LIMIT = 200;
+  public static final UUID MIN_ID = new UUID(0L, 0L);
+  public static final UUID MAX_ID = new UUID(-1L, -1L);
+
+  private static final char SEPARATOR = '|';
+
+  public record Cursor(String key, UUID id) {
+    public LocalDate localDate() {
+      try {
+        return LocalDate.parse(key);
+      } catch (DateTimeParseException e) {
+        throw new AppException(ErrorCode.INVALID_CURSOR);
+      }
+    }
+
+    public LocalDateTime localDateTime() {
+      try {
+        return LocalDateTime.parse(key);
+      } catch (DateTimeParseException e) {
+        throw new AppException(ErrorCode.INVALID_CURSOR);
+      }
+    }
+  }
+
+  public static String encode(Object key, UUID id) {
+    String raw = (key == null ? "" : key.toString()) + SEPARATOR + id;
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  public static Cursor decode(String cursor) {
+    if (cursor == null || cursor.isEmpty()) {
+      return null;
+    }
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      int separator = raw.lastIndexOf(SEPARATOR);
+      if (separator < 0) {
+        throw new AppException(ErrorCode.INVALID_CURSOR);
+      }
+      String key = raw.substring(0, separator);
+      return new Cursor(
+          key.isEmpty() ? null : key, UUID.fromString(raw.substring(separator + 1)));
+    } catch (IllegalArgumentException e) {
+      throw new AppException(ErrorCode.INVALID_CURSOR);
+    }
+  }
+
+  public static int limit(Integer requested) {
+    if (requested == null) {
+      return DEFAULT_LIMIT;
+    }
+    return Math.clamp(requested, 1, MAX_LIMIT);
+  }
+
+  /**
+   * Builds a page from {@code rows}, which must have been fetched with {@code limit + 1} so the
+   * extra row tells whether another page follows.
+   */
+  public static <E, R> CursorPage<R> page(
+      List<E> rows, int limit, Function<E, R> mapper, Function<E, String> cursorOf) {
+    boolean hasNext = rows.size() > limit;
+    List<E> items = hasNext ? rows.subList(0, limit) : rows;
+    return CursorPage.<R>builder()
+        .items(items.stream().map(mapper).toList())
+        .nextCursor(hasNext ? cursorOf.apply(items.get(limit - 1)) : null)
+        .build();
+  }
+}
@@ -0,0 +1,26 @@
+-- Runs before Hibernate's schema update. On a fresh database the table does not exist yet and
+-- Hibernate creates it together with uk_audio_url.
+DO $$
+BEGIN
+  IF to_regclass('audio') IS NULL THEN
+    RETURN;
+  END IF;
+
+  CREATE TEMPORARY TABLE audio_canonical ON COMMIT DROP AS
+  SELECT id, first_value(id) OVER (PARTITION BY url ORDER BY id) AS canonical_id
+  FROM audio
+  WHERE url IS NOT NULL;
+
+  IF to_regclass('listening_question') IS NOT NULL THEN
+    UPDATE listening_question q
+    SET audio_id = c.canonical_id
+    FROM audio_canonical c
+    WHERE q.audio_id = c.id AND c.id <> c.canonical_id;
+  END IF;
+
+  DELETE FROM audio a
+  USING audio_canonical c
+  WHERE a.id = c.id AND c.id <> c.canonical_id;
+
+  CREATE UNIQUE INDEX IF NOT EXISTS uk_audio_url ON audio (url);
+END $$;
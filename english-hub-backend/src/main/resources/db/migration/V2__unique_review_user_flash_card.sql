@@ -0,0 +1,21 @@
+-- Keeps the most recently reviewed row per (user, card) before the pair becomes unique. On a fresh
+-- database Hibernate creates the table and uk_review_user_flash_card itself.
+DO $$
+BEGIN
+  IF to_regclass('review') IS NULL THEN
+    RETURN;
+  END IF;
+
+  DELETE FROM review r
+  USING (
+    SELECT id,
+           row_number() OVER (
+             PARTITION BY user_id, flash_card_id
+             ORDER BY last_reviewed_date DESC NULLS LAST, id) AS position
+    FROM review
+  ) ranked
+  WHERE r.id = ranked.id AND ranked.position > 1;
+
+  DROP INDEX IF EXISTS idx_review_user_flash_card;
+  CREATE UNIQUE INDEX IF NOT EXISTS uk_review_user_flash_card ON review (user_id, flash_card_id);
+END $$;
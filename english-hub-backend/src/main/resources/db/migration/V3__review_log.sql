@@ -0,0 +1,23 @@
+-- Append-only rating log, range-partitioned by month, which Hibernate cannot express. Columns are
+-- ordered widest first so rows pack without alignment padding. ReviewLogPartitionJob creates the
+-- monthly partitions ahead of time; ratings dated outside them land in the default partition.
+CREATE TABLE IF NOT EXISTS review_log (
+  user_id uuid NOT NULL,
+  flash_card_id uuid NOT NULL,
+  id bigint GENERATED BY DEFAULT AS IDENTITY (CACHE 1000),
+  reviewed_at timestamp NOT NULL,
+  reviewed_on date NOT NULL,
+  elapsed_days integer NOT NULL,
+  "interval" integer NOT NULL,
+  repetitions integer NOT NULL,
+  easiness_factor real NOT NULL,
+  stability real NOT NULL,
+  difficulty real NOT NULL,
+  rating smallint NOT NULL,
+  algorithm smallint NOT NULL,
+  PRIMARY KEY (reviewed_on, id)
+) PARTITION BY RANGE (reviewed_on);
+
+CREATE INDEX IF NOT EXISTS idx_review_log_user_day ON review_log (user_id, reviewed_on);
+
+CREATE TABLE IF NOT EXISTS review_log_default PARTITION OF review_log DEFAULT;
@@ -0,0 +1,71 @@
+package com.example.englishhubbackend.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.englishhubbackend.models.Audio;
+import com.example.englishhubbackend.repository.AudioRepository;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class AudioResolverTest {
+  AudioRepository audioRepository = mock(AudioRepository.class);
+  AudioResolver resolver = new AudioResolver(audioRepository, 100);
+
+  @Test
+  void insertsOnlyUrlsThatAreNotStoredYet() {
+    Audio existing = audio("https://cdn/a.mp3");
+    Audio created = audio("https://cdn/b.mp3");
+    when(audioRepository.findAllByUrlIn(List.of("https://cdn/a.mp3", "https://cdn/b.mp3")))
+        .thenReturn(List.of(existing));
+    when(audioRepository.findAllByUrlIn(List.of("https://cdn/b.mp3")))
+        .thenReturn(List.of(created));
+
+    Map<String, Audio> audios =
+        resolver.resolveAll(
+            List.of("https://cdn/a.mp3", "https://cdn/b.mp3", "https://cdn/b.mp3"));
+
+    assertThat(audios)
+        .containsEntry("https://cdn/a.mp3", existing)
+        .containsEntry("https://cdn/b.mp3", created)
+        .hasSize(2);
+    verify(audioRepository, times(1)).insertIfAbsent(any(), eq("https://cdn/b.mp3"));
+    verify(audioRepository, never()).insertIfAbsent(any(), eq("https://cdn/a.mp3"));
+  }
+
+  @Test
+  void returnsTheRowThatWonAConcurrentInsert() {
+    Audio winner = audio("https://cdn/c.mp3");
+    when(audioRepository.findAllByUrlIn(anyCollection()))
+        .thenReturn(List.of())
+        .thenReturn(List.of(winner));
+
+    assertThat(resolver.resolve("https://cdn/c.mp3")).isSameAs(winner);
+  }
+
+  @Test
+  void servesRepeatLookupsFromCache() {
+    Audio existing = audio("https://cdn/d.mp3");
+    when(audioRepository.findAllByUrlIn(anyCollection())).thenReturn(List.of(existing));
+
+    resolver.resolve("https://cdn/d.mp3");
+    resolver.resolve("https://cdn/d.mp3");
+
+    verify(audioRepository, times(1)).findAllByUrlIn(anyCollection());
+    verify(audioRepository, never()).insertIfAbsent(any(), anyString());
+  }
+
+  private static Audio audio(String url) {
+    return Audio.builder().id(UUID.randomUUID()).url(url).build();
+  }
+}
@@ -0,0 +1,90 @@
+package com.example.englishhubbackend.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.englishhubbackend.dto.response.QuestionGroupResponse;
+import com.example.englishhubbackend.dto.response.QuestionResponse;
+import com.example.englishhubbackend.models.Audio;
+import com.example.englishhubbackend.models.ListeningQuestion;
+import com.example.englishhubbackend.models.Question;
+import com.example.englishhubbackend.models.QuestionType;
+import com.example.englishhubbackend.repository.ExamRepository;
+import com.example.englishhubbackend.repository.QuestionRepository;
+import com.example.englishhubbackend.service.QuestionService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class ExamSnapshotCacheTest {
+  UUID examId = UUID.randomUUID();
+  QuestionRepository questionRepository = mock(QuestionRepository.class);
+  ExamSnapshotCache cache;
+
+  @BeforeEach
+  void setUp() {
+    ExamRepository examRepository = mock(ExamRepository.class);
+    QuestionService questionService = mock(QuestionService.class);
+    when(examRepository.existsById(examId)).thenReturn(true);
+    when(questionService.mapQuestionToResponse(any())).thenReturn(new QuestionResponse());
+    cache =
+        new ExamSnapshotCache(
+            examRepository, questionRepository, questionService, new ObjectMapper(), 16);
+  }
+
+  @Test
+  void buildsSnapshotForListeningQuestionWithoutAudio() {
+    UUID withoutAudio = UUID.randomUUID();
+    UUID withAudio = UUID.randomUUID();
+    when(questionRepository.findAllByExamIdOrderByCreatedAtAsc(examId))
+        .thenReturn(
+            List.of(listening(withoutAudio, null), listening(withAudio, "https://cdn/a.mp3")));
+
+    ExamSnapshot snapshot = cache.get(examId);
+
+    assertThat(snapshot.questionGroups())
+        .extracting(QuestionGroupResponse::getAudioUrl)
+        .containsExactly(null, "https://cdn/a.mp3");
+    assertThat(snapshot.answerKey().size()).isEqualTo(2);
+  }
+
+  @Test
+  void invalidationInsideTransactionWaitsForCommit() {
+    when(questionRepository.findAllByExamIdOrderByCreatedAtAsc(examId))
+        .thenReturn(List.of(listening(UUID.randomUUID(), "https://cdn/a.mp3")));
+    cache.get(examId);
+
+    TransactionSynchronizationManager.initSynchronization();
+    try {
+      cache.invalidate(examId);
+      cache.get(examId);
+      verify(questionRepository, times(1)).findAllByExamIdOrderByCreatedAtAsc(examId);
+
+      TransactionSynchronizationManager.getSynchronizations()
+          .forEach(TransactionSynchronization::afterCommit);
+    } finally {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    cache.get(examId);
+    verify(questionRepository, times(2)).findAllByExamIdOrderByCreatedAtAsc(examId);
+  }
+
+  private static Question listening(UUID groupId, String audioUrl) {
+    return ListeningQuestion.builder()
+        .id(UUID.randomUUID())
+        .groupId(groupId)
+        .questionType(new QuestionType("PART_1_PHOTOGRAPHS", null))
+        .correctAnswer("A")
+        .audio(audioUrl != null ? new Audio(UUID.randomUUID(), audioUrl) : null)
+        .build();
+  }
+}
@@ -0,0 +1,70 @@
+package com.example.englishhubbackend.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.englishhubbackend.models.Passage;
+import com.example.englishhubbackend.repository.PassageRepository;
+import com.example.englishhubbackend.util.ContentHashUtil;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class PassageResolverTest {
+  PassageRepository passageRepository = mock(PassageRepository.class);
+  PassageResolver resolver = new PassageResolver(passageRepository, 100);
+
+  @Test
+  void contentEqualAfterNormalizationSharesOnePassage() {
+    String hash = ContentHashUtil.sha256("line one\nline two");
+    Passage stored = passage("line one\nline two");
+    when(passageRepository.findAllByContentHashIn(anyCollection()))
+        .thenReturn(List.of())
+        .thenReturn(List.of(stored));
+
+    Map<String, Passage> passages =
+        resolver.resolveAll(List.of("line one\r\nline two", "  line one\nline two\n"));
+
+    assertThat(passages.values()).containsOnly(stored);
+    verify(passageRepository, times(1)).insertIfAbsent(any(), anyString(), eq(hash));
+  }
+
+  @Test
+  void reusesExistingPassageWithoutInserting() {
+    Passage stored = passage("existing");
+    when(passageRepository.findAllByContentHashIn(List.of(stored.getContentHash())))
+        .thenReturn(List.of(stored));
+
+    assertThat(resolver.resolve("existing")).isSameAs(stored);
+    verify(passageRepository, never()).insertIfAbsent(any(), anyString(), anyString());
+  }
+
+  @Test
+  void servesRepeatLookupsFromCache() {
+    Passage stored = passage("cached");
+    when(passageRepository.findAllByContentHashIn(List.of(stored.getContentHash())))
+        .thenReturn(List.of(stored));
+
+    resolver.resolve("cached");
+    resolver.resolve("cached");
+
+    verify(passageRepository, times(1)).findAllByContentHashIn(anyCollection());
+  }
+
+  private static Passage passage(String content) {
+    return Passage.builder()
+        .id(UUID.randomUUID())
+        .content(content)
+        .contentHash(ContentHashUtil.sha256(content))
+        .build();
+  }
+}
@@ -0,0 +1,41 @@
+package com.example.englishhubbackend.dto.request;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class ReviewBatchItemRequestTest {
+  Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+  @Test
+  void rejectsMissingRating() {
+    ReviewBatchRequest request =
+        new ReviewBatchRequest(
+            null, List.of(ReviewBatchItemRequest.builder().flashCardId(UUID.randomUUID()).build()));
+
+    assertThat(validator.validate(request)).isNotEmpty();
+  }
+
+  @Test
+  void rejectsRatingOutOfRange() {
+    assertThat(validator.validate(item(-1))).isNotEmpty();
+    assertThat(validator.validate(item(5))).isNotEmpty();
+  }
+
+  @Test
+  void acceptsRatingInRange() {
+    assertThat(validator.validate(item(0))).isEmpty();
+    assertThat(validator.validate(item(4))).isEmpty();
+  }
+
+  private static ReviewBatchItemRequest item(int rating) {
+    return ReviewBatchItemRequest.builder()
+        .flashCardId(UUID.randomUUID())
+        .rating(rating)
+        .build();
+  }
+}
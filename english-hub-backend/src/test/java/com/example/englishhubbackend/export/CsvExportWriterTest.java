@@ -0,0 +1,56 @@
+package com.example.englishhubbackend.export;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+class CsvExportWriterTest {
+
+  @Test
+  void quotesSeparatorsAndQuotes() throws IOException {
+    assertThat(row("a,b", "say \"hi\"", "line\nbreak"))
+        .isEqualTo("\"a,b\",\"say \"\"hi\"\"\",\"line\nbreak\"\r\n");
+  }
+
+  @Test
+  void prefixesCellsThatWouldRunAsFormulas() throws IOException {
+    assertThat(row("=HYPERLINK(\"x\")", "+1", "-2", "@SUM(A1)", "\tcmd"))
+        .isEqualTo("\"'=HYPERLINK(\"\"x\"\")\",'+1,'-2,'@SUM(A1),'\tcmd\r\n");
+  }
+
+  @Test
+  void leavesPlainTextNumbersAndNullsAlone() throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    CsvExportWriter writer = new CsvExportWriter(out);
+    writer.begin("name", "score", "note");
+    writer.startRow();
+    writer.writeText(0, "alice");
+    writer.writeNumber(1, -5);
+    writer.writeNull(2);
+    writer.endRow();
+    writer.finish();
+
+    assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("name,score,note\r\nalice,-5,\r\n");
+  }
+
+  private static String row(String... values) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    CsvExportWriter writer = new CsvExportWriter(out);
+    String[] columns = new String[values.length];
+    for (int i = 0; i < values.length; i++) {
+      columns[i] = "c" + i;
+    }
+    writer.begin(columns);
+    writer.startRow();
+    for (int i = 0; i < values.length; i++) {
+      writer.writeText(i, values[i]);
+    }
+    writer.endRow();
+    writer.finish();
+    String csv = out.toString(StandardCharsets.UTF_8);
+    return csv.substring(csv.indexOf("\r\n") + 2);
+  }
+}
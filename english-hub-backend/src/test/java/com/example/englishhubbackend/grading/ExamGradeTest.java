@@ -0,0 +1,40 @@
+package com.example.englishhubbackend.grading;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.englishhubbackend.models.ReadingQuestion;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class ExamGradeTest {
+  UUID right = UUID.randomUUID();
+  UUID wrong = UUID.randomUUID();
+  UUID skipped = UUID.randomUUID();
+  UUID unkeyed = UUID.randomUUID();
+  ExamAnswerKey answerKey =
+      ExamAnswerKey.of(
+          List.of(
+              question(right, "A"),
+              question(wrong, "B"),
+              question(skipped, "C"),
+              question(unkeyed, null)));
+
+  @Test
+  void incorrectQuestionsExcludeThoseWithoutAKey() {
+    ExamGrade grade =
+        new ExamGrade(
+            1,
+            0,
+            1,
+            answerKey,
+            new byte[] {0, 3, ExamAnswerKey.NO_CHOICE, 2},
+            new int[ExamAnswerKey.PART_COUNT]);
+
+    assertThat(grade.incorrectQuestionIds()).containsExactly(wrong, skipped);
+  }
+
+  private static ReadingQuestion question(UUID id, String correctAnswer) {
+    return ReadingQuestion.builder().id(id).correctAnswer(correctAnswer).build();
+  }
+}
@@ -0,0 +1,104 @@
+package com.example.englishhubbackend.grading;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.example.englishhubbackend.cache.ExamSnapshot;
+import com.example.englishhubbackend.cache.ExamSnapshotCache;
+import com.example.englishhubbackend.enums.QuestionTypeEnum;
+import com.example.englishhubbackend.exception.AppException;
+import com.example.englishhubbackend.exception.ErrorCode;
+import com.example.englishhubbackend.models.ListeningQuestion;
+import com.example.englishhubbackend.models.Question;
+import com.example.englishhubbackend.models.QuestionType;
+import com.example.englishhubbackend.models.ReadingQuestion;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ExamGradingEngineTest {
+  UUID examId = UUID.randomUUID();
+  UUID photo = UUID.randomUUID();
+  UUID talk = UUID.randomUUID();
+  UUID sentence = UUID.randomUUID();
+  UUID unkeyed = UUID.randomUUID();
+  ExamSnapshotCache examSnapshotCache = mock(ExamSnapshotCache.class);
+  ExamGradingEngine engine = new ExamGradingEngine(examSnapshotCache);
+
+  @BeforeEach
+  void setUp() {
+    List<Question> questions =
+        List.of(
+            listening(photo, "A", QuestionTypeEnum.PART_1_PHOTOGRAPHS),
+            listening(talk, "d", QuestionTypeEnum.PART_4_TALKS),
+            reading(sentence, "C", QuestionTypeEnum.PART_5_INCOMPLETE_SENTENCES),
+            reading(unkeyed, null, QuestionTypeEnum.PART_5_INCOMPLETE_SENTENCES));
+    ExamAnswerKey answerKey = ExamAnswerKey.of(questions);
+    when(examSnapshotCache.get(examId))
+        .thenReturn(new ExamSnapshot(examId, 7, List.of(), new byte[0], answerKey));
+  }
+
+  @Test
+  void countsCorrectAnswersBySectionAndPart() {
+    ExamGrade grade =
+        engine.grade(
+            examId,
+            Map.of(
+                photo.toString(), "a",
+                talk.toString(), "B",
+                sentence.toString(), "C",
+                unkeyed.toString(), "A"));
+
+    assertThat(grade.revision()).isEqualTo(7);
+    assertThat(grade.correctListeningAnswers()).isEqualTo(1);
+    assertThat(grade.correctReadingAnswers()).isEqualTo(1);
+    assertThat(grade.correctByPart()[QuestionTypeEnum.PART_1_PHOTOGRAPHS.ordinal()]).isEqualTo(1);
+    assertThat(grade.correctByPart()[QuestionTypeEnum.PART_4_TALKS.ordinal()]).isZero();
+    assertThat(grade.totalByPart()[QuestionTypeEnum.PART_5_INCOMPLETE_SENTENCES.ordinal()])
+        .isEqualTo(2);
+    assertThat(grade.choices()).containsExactly(0, 1, 2, 0);
+  }
+
+  @Test
+  void unansweredAndMalformedChoicesAreNoChoice() {
+    ExamGrade grade = engine.grade(examId, Map.of(talk.toString(), "E", sentence.toString(), ""));
+
+    assertThat(grade.correctAnswers()).isZero();
+    assertThat(grade.choices()).containsOnly(ExamAnswerKey.NO_CHOICE);
+  }
+
+  @Test
+  void acceptsNonCanonicalQuestionIds() {
+    ExamGrade grade = engine.grade(examId, Map.of(photo.toString().toUpperCase(), "A"));
+
+    assertThat(grade.correctListeningAnswers()).isEqualTo(1);
+  }
+
+  @Test
+  void rejectsAnswersToQuestionsOutsideTheExam() {
+    assertThatThrownBy(() -> engine.grade(examId, Map.of(UUID.randomUUID().toString(), "A")))
+        .isInstanceOfSatisfying(
+            AppException.class,
+            e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.QUESTION_NOT_FOUND));
+  }
+
+  private static ListeningQuestion listening(UUID id, String answer, QuestionTypeEnum part) {
+    return ListeningQuestion.builder()
+        .id(id)
+        .correctAnswer(answer)
+        .questionType(QuestionType.builder().name(part.name()).build())
+        .build();
+  }
+
+  private static ReadingQuestion reading(UUID id, String answer, QuestionTypeEnum part) {
+    return ReadingQuestion.builder()
+        .id(id)
+        .correctAnswer(answer)
+        .questionType(QuestionType.builder().name(part.name()).build())
+        .build();
+  }
+}
@@ -0,0 +1,86 @@
+package com.example.englishhubbackend.grading;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.englishhubbackend.models.Question;
+import com.example.englishhubbackend.models.ReadingQuestion;
+import com.example.englishhubbackend.repository.QuestionItemStatsBatchRepository.Delta;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class ItemAnalysisAccumulatorTest {
+  UUID examId = UUID.randomUUID();
+  UUID questionId = UUID.randomUUID();
+  ExamAnswerKey answerKey = ExamAnswerKey.of(List.of(question(questionId, "B")));
+  ItemAnalysisAccumulator accumulator = new ItemAnalysisAccumulator();
+
+  @Test
+  void drainSumsChoicesAndScores() {
+    accumulator.record(examId, grade((byte) 1, 1));
+    accumulator.record(examId, grade((byte) 0, 0));
+    accumulator.record(examId, grade(ExamAnswerKey.NO_CHOICE, 0));
+
+    List<Delta> deltas = accumulator.drain();
+
+    assertThat(deltas)
+        .singleElement()
+        .satisfies(
+            delta -> {
+              assertThat(delta.questionId()).isEqualTo(questionId);
+              assertThat(delta.failures()).isZero();
+              assertThat(delta.sums()).containsExactly(1, 1, 0, 0, 1, 0, 1, 0, 0, 0, 1);
+            });
+    assertThat(accumulator.drain()).isEmpty();
+  }
+
+  @Test
+  void retriedDeltaIsMergedWithFreshSumsAndKeepsItsFailureCount() {
+    accumulator.record(examId, grade((byte) 1, 1));
+    List<Delta> failed = accumulator.drain();
+    accumulator.retry(List.of(failed.getFirst().withFailures(2)));
+    accumulator.record(examId, grade((byte) 1, 1));
+
+    List<Delta> deltas = accumulator.drain();
+
+    assertThat(deltas)
+        .singleElement()
+        .satisfies(
+            delta -> {
+              assertThat(delta.failures()).isEqualTo(2);
+              assertThat(delta.sums()[1]).isEqualTo(2);
+            });
+  }
+
+  @Test
+  void discardExamDropsCountersAndQueuedRetries() {
+    accumulator.record(examId, grade((byte) 1, 1));
+    accumulator.retry(accumulator.drain());
+    accumulator.record(examId, grade((byte) 0, 0));
+
+    accumulator.discardExam(examId);
+
+    assertThat(accumulator.drain()).isEmpty();
+  }
+
+  @Test
+  void discardExamKeepsOtherExams() {
+    UUID otherQuestionId = UUID.randomUUID();
+    ExamAnswerKey otherKey = ExamAnswerKey.of(List.of(question(otherQuestionId, "A")));
+    accumulator.record(examId, grade((byte) 1, 1));
+    accumulator.record(
+        UUID.randomUUID(), new ExamGrade(1, 0, 1, otherKey, new byte[] {0}, new int[0]));
+
+    accumulator.discardExam(examId);
+
+    assertThat(accumulator.drain()).extracting(Delta::questionId).containsExactly(otherQuestionId);
+  }
+
+  private ExamGrade grade(byte choice, int correct) {
+    return new ExamGrade(1, 0, correct, answerKey, new byte[] {choice}, new int[0]);
+  }
+
+  private static Question question(UUID id, String correctAnswer) {
+    return ReadingQuestion.builder().id(id).correctAnswer(correctAnswer).build();
+  }
+}
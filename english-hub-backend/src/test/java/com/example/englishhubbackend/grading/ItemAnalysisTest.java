@@ -0,0 +1,104 @@
+package com.example.englishhubbackend.grading;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.Random;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+
+class ItemAnalysisTest {
+  private static final Random RANDOM = new Random(42);
+
+  @RepeatedTest(20)
+  void pointBiserialMatchesPearsonCorrelation() {
+    int n = 2 + RANDOM.nextInt(200);
+    int[] item = new int[n];
+    int[] score = new int[n];
+    for (int i = 0; i < n; i++) {
+      item[i] = RANDOM.nextInt(2);
+      score[i] = item[i] + RANDOM.nextInt(50);
+    }
+    long[] sums = sums(item, score);
+
+    Double actual = ItemAnalysis.pointBiserial(n, sums[0], sums[1], sums[2], sums[3]);
+
+    Double expected = pearson(item, score);
+    if (expected == null) {
+      assertThat(actual).isNull();
+    } else {
+      assertThat(actual).isCloseTo(expected, within(1e-9));
+    }
+  }
+
+  @RepeatedTest(20)
+  void correctedPointBiserialMatchesPearsonAgainstRestScore() {
+    int n = 2 + RANDOM.nextInt(200);
+    int[] item = new int[n];
+    int[] score = new int[n];
+    int[] rest = new int[n];
+    for (int i = 0; i < n; i++) {
+      item[i] = RANDOM.nextInt(2);
+      rest[i] = RANDOM.nextInt(50);
+      score[i] = item[i] + rest[i];
+    }
+    long[] sums = sums(item, score);
+
+    Double actual = ItemAnalysis.correctedPointBiserial(n, sums[0], sums[1], sums[2], sums[3]);
+
+    Double expected = pearson(item, rest);
+    if (expected == null) {
+      assertThat(actual).isNull();
+    } else {
+      assertThat(actual).isCloseTo(expected, within(1e-9));
+    }
+  }
+
+  @Test
+  void undefinedWhenEveryoneAgrees() {
+    assertThat(ItemAnalysis.pointBiserial(3, 3, 30, 30, 300)).isNull();
+    assertThat(ItemAnalysis.pointBiserial(3, 0, 30, 0, 300)).isNull();
+    assertThat(ItemAnalysis.pointBiserial(1, 1, 10, 10, 100)).isNull();
+  }
+
+  @Test
+  void undefinedWhenScoresDoNotVary() {
+    assertThat(ItemAnalysis.pointBiserial(2, 1, 20, 10, 200)).isNull();
+  }
+
+  /** {@code [correct, scoreSum, correctScoreSum, squareSum]} as the accumulator keeps them. */
+  private static long[] sums(int[] item, int[] score) {
+    long[] sums = new long[4];
+    for (int i = 0; i < item.length; i++) {
+      sums[0] += item[i];
+      sums[1] += score[i];
+      sums[2] += item[i] * score[i];
+      sums[3] += (long) score[i] * score[i];
+    }
+    return sums;
+  }
+
+  private static Double pearson(int[] x, int[] y) {
+    int n = x.length;
+    double meanX = 0;
+    double meanY = 0;
+    for (int i = 0; i < n; i++) {
+      meanX += x[i];
+      meanY += y[i];
+    }
+    meanX /= n;
+    meanY /= n;
+    double covariance = 0;
+    double varianceX = 0;
+    double varianceY = 0;
+    for (int i = 0; i < n; i++) {
+      covariance += (x[i] - meanX) * (y[i] - meanY);
+      varianceX += (x[i] - meanX) * (x[i] - meanX);
+      varianceY += (y[i] - meanY) * (y[i] - meanY);
+    }
+    if (varianceX == 0 || varianceY == 0) {
+      return null;
+    }
+    return covariance / Math.sqrt(varianceX * varianceY);
+  }
+}
@@ -0,0 +1,67 @@
+package com.example.englishhubbackend.grading;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.englishhubbackend.grading.ScoreBreakdownCodec.PartCount;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class ScoreBreakdownCodecTest {
+
+  @Test
+  void partsRoundTripWithPartNumbers() {
+    int[] correct = {5, 20, 30, 25, 25, 12, 50};
+    int[] total = {6, 25, 39, 30, 30, 16, 54};
+
+    List<PartCount> parts =
+        ScoreBreakdownCodec.unpackParts(ScoreBreakdownCodec.packParts(correct, total));
+
+    assertThat(parts).hasSize(7);
+    for (int i = 0; i < parts.size(); i++) {
+      assertThat(parts.get(i)).isEqualTo(new PartCount(i + 1, correct[i], total[i]));
+    }
+  }
+
+  @Test
+  void countsAreClampedToSixteenBits() {
+    byte[] packed = ScoreBreakdownCodec.packParts(new int[] {70_000}, new int[] {65_535});
+
+    assertThat(ScoreBreakdownCodec.unpackParts(packed))
+        .containsExactly(new PartCount(1, 65_535, 65_535));
+  }
+
+  @Test
+  void untaggedOrTruncatedColumnsAreRejected() {
+    ByteBuffer untagged = ByteBuffer.allocate(7 * 4);
+    for (int part = 0; part < 7; part++) {
+      untagged.putShort((short) part).putShort((short) (part + 10));
+    }
+    byte[] packed = ScoreBreakdownCodec.packParts(new int[] {1, 2}, new int[] {3, 4});
+    byte[] truncated = Arrays.copyOf(packed, packed.length - 1);
+
+    assertThatThrownBy(() -> ScoreBreakdownCodec.unpackParts(untagged.array()))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> ScoreBreakdownCodec.unpackParts(truncated))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void missingColumnsDecodeEmpty() {
+    assertThat(ScoreBreakdownCodec.unpackParts(null)).isEmpty();
+    assertThat(ScoreBreakdownCodec.unpackQuestionIds(null)).isEmpty();
+  }
+
+  @Test
+  void questionIdsRoundTrip() {
+    List<UUID> questionIds = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+
+    byte[] packed = ScoreBreakdownCodec.packQuestionIds(questionIds);
+
+    assertThat(packed).hasSize(48);
+    assertThat(ScoreBreakdownCodec.unpackQuestionIds(packed)).isEqualTo(questionIds);
+  }
+}
@@ -0,0 +1,166 @@
+package com.example.englishhubbackend.importer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.englishhubbackend.dto.request.QuestionCreateRequest;
+import com.example.englishhubbackend.enums.ExamImportStatusEnum;
+import com.example.englishhubbackend.service.ExamService;
+import com.example.englishhubbackend.service.S3Service;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+
+class ExamPackageImporterTest {
+  private static final String MANIFEST =
+      """
+      {"questions":[{"title":"Q1","audioUrl":"q1.mp3"}]}
+      {"questions":[{"title":"Q2","audioUrl":"q2.mp3","imageUrl":"q2.png"}]}
+      """;
+
+  @TempDir Path tempDir;
+  UUID examId = UUID.randomUUID();
+  ExamService examService = mock(ExamService.class);
+  S3Service s3Service = mock(S3Service.class);
+  ExamPackageImporter importer;
+
+  @BeforeEach
+  void setUp() {
+    importer = new ExamPackageImporter(examService, s3Service, new ObjectMapper(), 1, 2);
+    when(s3Service.uploadFile(anyString(), any(), anyLong(), anyString()))
+        .thenAnswer(invocation -> "https://cdn/" + invocation.getArgument(0));
+  }
+
+  @AfterEach
+  void tearDown() {
+    importer.shutdown();
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void importsGroupsWithUploadedMediaUrls() throws Exception {
+    Path archive = archive(MANIFEST, "q1.mp3", "q2.mp3", "q2.png");
+
+    ExamImportJob job = await(importer.submit(examId, archive));
+
+    assertThat(job.getStatus()).isEqualTo(ExamImportStatusEnum.COMPLETED);
+    assertThat(job.getGroupsImported()).hasValue(2);
+    assertThat(job.getMediaUploaded()).hasValue(3);
+    ArgumentCaptor<List<QuestionCreateRequest>> groups = ArgumentCaptor.forClass(List.class);
+    verify(examService, times(2))
+        .addQuestionsToExam(eq(examId), groups.capture());
+    QuestionCreateRequest second = groups.getAllValues().get(1).getFirst();
+    assertThat(second.getAudioUrl()).isEqualTo("https://cdn/" + key("q2.mp3"));
+    assertThat(second.getImageUrl()).isEqualTo("https://cdn/" + key("q2.png"));
+    verify(s3Service, never()).deleteFileFromS3(anyString());
+  }
+
+  @Test
+  void failedImportDeletesMediaNotUsedByImportedGroups() throws Exception {
+    Path archive = archive(MANIFEST, "q1.mp3", "q2.mp3", "q2.png", "unused.jpg");
+    when(examService.addQuestionsToExam(eq(examId), any()))
+        .thenReturn(List.of())
+        .thenThrow(new IllegalStateException("database down"));
+
+    ExamImportJob job = await(importer.submit(examId, archive));
+
+    assertThat(job.getStatus()).isEqualTo(ExamImportStatusEnum.FAILED);
+    assertThat(job.getError()).isEqualTo("database down");
+    verify(s3Service, never()).deleteFileFromS3(key("q1.mp3"));
+    verify(s3Service).deleteFileFromS3(key("q2.mp3"));
+    verify(s3Service).deleteFileFromS3(key("q2.png"));
+    verify(s3Service).deleteFileFromS3(key("unused.jpg"));
+  }
+
+  @Test
+  void failedUploadIsNotDeleted() throws Exception {
+    Path archive = archive(MANIFEST, "q1.mp3", "q2.mp3", "q2.png");
+    doThrow(new RuntimeException("Failed to upload file to S3: timeout"))
+        .when(s3Service)
+        .uploadFile(eq(key("q1.mp3")), any(), anyLong(), anyString());
+
+    ExamImportJob job = await(importer.submit(examId, archive));
+
+    assertThat(job.getStatus()).isEqualTo(ExamImportStatusEnum.FAILED);
+    verify(examService, never()).addQuestionsToExam(any(), any());
+    verify(s3Service, never()).deleteFileFromS3(key("q1.mp3"));
+    verify(s3Service).deleteFileFromS3(key("q2.mp3"));
+    verify(s3Service).deleteFileFromS3(key("q2.png"));
+  }
+
+  @Test
+  void archiveWithoutManifestFails() throws Exception {
+    ExamImportJob job = await(importer.submit(examId, archive(null, "q1.mp3")));
+
+    assertThat(job.getStatus()).isEqualTo(ExamImportStatusEnum.FAILED);
+    verify(s3Service, never()).uploadFile(anyString(), any(), anyLong(), anyString());
+  }
+
+  @Test
+  void onlyFinishedJobsExpire() {
+    ExamPackageImporter.UntilRetentionAfterFinish expiry =
+        new ExamPackageImporter.UntilRetentionAfterFinish();
+    ExamImportJob job = new ExamImportJob(UUID.randomUUID(), examId);
+
+    job.start();
+    assertThat(expiry.expireAfterCreate(job.getId(), job, 0)).isEqualTo(Long.MAX_VALUE);
+
+    job.complete();
+    assertThat(expiry.expireAfterUpdate(job.getId(), job, 0, Long.MAX_VALUE))
+        .isEqualTo(Duration.ofHours(1).toNanos());
+  }
+
+    private String key(String name) {
+    return "exams/" + examId + "/" + name;
+  }
+
+  private Path archive(String manifest, String... media) throws IOException {
+    Path archive = Files.createTempFile(tempDir, "exam", ".zip");
+    try (ZipOutputStream zip = new ZipOutputStream(Files.newOutputStream(archive))) {
+      if (manifest != null) {
+        write(zip, "manifest.jsonl", manifest.getBytes(StandardCharsets.UTF_8));
+      }
+      for (String name : media) {
+        write(zip, name, name.getBytes(StandardCharsets.UTF_8));
+      }
+    }
+    return archive;
+  }
+
+  private static void write(ZipOutputStream zip, String name, byte[] content) throws IOException {
+    zip.putNextEntry(new ZipEntry(name));
+    zip.write(content);
+    zip.closeEntry();
+  }
+
+  private static ExamImportJob await(ExamImportJob job) throws InterruptedException {
+    long deadline = System.currentTimeMillis() + 5_000;
+    while (System.currentTimeMillis() < deadline
+        && (job.getStatus() == ExamImportStatusEnum.PENDING
+            || job.getStatus() == ExamImportStatusEnum.RUNNING)) {
+      Thread.sleep(10);
+    }
+    return job;
+  }
+}
@@ -0,0 +1,160 @@
+package com.example.englishhubbackend.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.example.englishhubbackend.enums.EmailOutboxStatusEnum;
+import com.example.englishhubbackend.models.EmailOutbox;
+import com.example.englishhubbackend.repository.EmailOutboxRepository;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.internet.MimeMessage;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class EmailOutboxDispatcherTest {
+  private static final int MAX_ATTEMPTS = 3;
+
+  @RegisterExtension
+  static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+  EmailOutboxRepository repository = mock(EmailOutboxRepository.class);
+  TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+  SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  @BeforeEach
+  void setUp() {
+    when(transactionTemplate.execute(any()))
+        .thenAnswer(
+            invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    doAnswer(
+            invocation -> {
+              invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+              return null;
+            })
+        .when(transactionTemplate)
+        .executeWithoutResult(any());
+    when(repository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+  }
+
+  @Test
+  void claimedEmailIsSentOverSmtpAndMarkedSent() throws Exception {
+    EmailOutbox email = pending(0);
+    when(repository.lockDue(any(), anyInt())).thenReturn(List.of(email));
+
+    dispatcher(greenMail.getSmtp().getPort()).dispatch();
+
+    MimeMessage[] received = greenMail.getReceivedMessages();
+    assertThat(received).hasSize(1);
+    assertThat(received[0].getSubject()).isEqualTo("Verification Code");
+    assertThat(received[0].getAllRecipients()[0].toString()).isEqualTo("user@example.com");
+    assertThat(email.getStatus()).isEqualTo(EmailOutboxStatusEnum.SENT);
+    assertThat(email.getSentAt()).isNotNull();
+    assertThat(meterRegistry.counter("email.outbox.sent").count()).isEqualTo(1);
+  }
+
+  @Test
+  void failedSendIsRetriedWithExponentialBackoff() {
+    EmailOutbox email = pending(1);
+    when(repository.lockDue(any(), anyInt())).thenReturn(List.of(email));
+
+    dispatcher(unusedPort()).dispatch();
+
+    assertThat(email.getStatus()).isEqualTo(EmailOutboxStatusEnum.PENDING);
+    assertThat(email.getAttempts()).isEqualTo(2);
+    assertThat(email.getLastError()).isNotBlank();
+    // Second failure: 30s doubled once.
+    assertThat(email.getNextAttemptAt())
+        .isCloseTo(LocalDateTime.now().plusSeconds(60), within(5, ChronoUnit.SECONDS));
+    assertThat(meterRegistry.counter("email.outbox.retried").count()).isEqualTo(1);
+  }
+
+  @Test
+  void lastFailedAttemptMovesEmailToDead() {
+    EmailOutbox email = pending(MAX_ATTEMPTS - 1);
+    when(repository.lockDue(any(), anyInt())).thenReturn(List.of(email));
+
+    dispatcher(unusedPort()).dispatch();
+
+    assertThat(email.getStatus()).isEqualTo(EmailOutboxStatusEnum.DEAD);
+    assertThat(email.getAttempts()).isEqualTo(MAX_ATTEMPTS);
+    assertThat(meterRegistry.counter("email.outbox.dead").count()).isEqualTo(1);
+    assertThat(greenMail.getReceivedMessages()).isEmpty();
+  }
+
+  @Test
+  void claimPushesRowsPastTheLease() {
+    EmailOutbox email = pending(0);
+    when(repository.lockDue(any(), anyInt())).thenReturn(List.of(email));
+    JavaMailSender mailSender = mock(JavaMailSender.class);
+    when(mailSender.createMimeMessage()).thenThrow(new IllegalStateException("stop after claim"));
+
+    dispatcher(mailSender).dispatch();
+
+    assertThat(email.getNextAttemptAt())
+        .isCloseTo(LocalDateTime.now().plusSeconds(120), within(5, ChronoUnit.SECONDS));
+  }
+
+  private EmailOutboxDispatcher dispatcher(int smtpPort) {
+    JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+    mailSender.setHost("localhost");
+    mailSender.setPort(smtpPort);
+    mailSender.getJavaMailProperties().setProperty("mail.smtp.connectiontimeout", "2000");
+    return dispatcher(mailSender);
+  }
+
+  private EmailOutboxDispatcher dispatcher(JavaMailSender mailSender) {
+    return new EmailOutboxDispatcher(
+        repository,
+        mailSender,
+        transactionTemplate,
+        meterRegistry,
+        10,
+        MAX_ATTEMPTS,
+        120,
+        30,
+        3600);
+  }
+
+  private static int unusedPort() {
+    try (ServerSocket socket = new ServerSocket(0)) {
+      return socket.getLocalPort();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static EmailOutbox pending(int attempts) {
+    return EmailOutbox.builder()
+        .id(UUID.randomUUID())
+        .recipient("user@example.com")
+        .subject("Verification Code")
+        .body("<p>123456</p>")
+        .status(EmailOutboxStatusEnum.PENDING)
+        .attempts(attempts)
+        .nextAttemptAt(LocalDateTime.now())
+        .createdAt(LocalDateTime.now())
+        .build();
+  }
+}
@@ -0,0 +1,86 @@
+package com.example.englishhubbackend.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.englishhubbackend.grading.ItemAnalysisAccumulator;
+import com.example.englishhubbackend.repository.QuestionItemStatsBatchRepository;
+import com.example.englishhubbackend.repository.QuestionItemStatsBatchRepository.Delta;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class ItemStatsFlushJobTest {
+  private static final int MAX_ATTEMPTS = 3;
+
+  UUID examId = UUID.randomUUID();
+  Delta good = delta(0);
+  Delta poison = delta(0);
+  ItemAnalysisAccumulator accumulator = mock(ItemAnalysisAccumulator.class);
+  QuestionItemStatsBatchRepository repository = mock(QuestionItemStatsBatchRepository.class);
+  SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  ItemStatsFlushJob job;
+
+  @BeforeEach
+  void setUp() {
+    TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+    doAnswer(
+            invocation -> {
+              invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+              return null;
+            })
+        .when(transactionTemplate)
+        .executeWithoutResult(any());
+    when(repository.addAll(anyList(), any()))
+        .thenAnswer(
+            invocation -> {
+              List<Delta> deltas = invocation.getArgument(0);
+              if (deltas.stream().anyMatch(d -> d.questionId().equals(poison.questionId()))) {
+                throw new IllegalStateException("constraint violation");
+              }
+              return new int[0];
+            });
+    job =
+        new ItemStatsFlushJob(
+            accumulator, repository, transactionTemplate, meterRegistry, MAX_ATTEMPTS);
+  }
+
+  @Test
+  void failedBatchFallsBackToPerQuestionWrites() {
+    when(accumulator.drain()).thenReturn(List.of(good, poison));
+
+    job.flush();
+
+    verify(repository).addAll(eq(List.of(good)), any());
+    verify(accumulator).retry(List.of(poison.withFailures(1)));
+    assertThat(meterRegistry.counter("exam.item-stats.flushed").count()).isEqualTo(1);
+  }
+
+  @Test
+  void questionIsDroppedAfterMaxAttempts() {
+    Delta exhausted = poison.withFailures(MAX_ATTEMPTS - 1);
+    when(accumulator.drain()).thenReturn(List.of(good, exhausted));
+
+    job.flush();
+
+    verify(accumulator).retry(List.of());
+    assertThat(meterRegistry.counter("exam.item-stats.flushed").count()).isEqualTo(1);
+    assertThat(meterRegistry.counter("exam.item-stats.dropped").count()).isEqualTo(1);
+  }
+
+  private Delta delta(int failures) {
+    return new Delta(
+        UUID.randomUUID(), examId, new long[ItemAnalysisAccumulator.STRIDE], failures);
+  }
+}
@@ -0,0 +1,128 @@
+package com.example.englishhubbackend.job;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.englishhubbackend.models.UserExamStats;
+import com.example.englishhubbackend.repository.ExamRepository;
+import com.example.englishhubbackend.repository.UserExamStatsRepository;
+import com.example.englishhubbackend.repository.UserRepository;
+import com.example.englishhubbackend.store.JobLockStore;
+import com.example.englishhubbackend.store.LeaderboardStore;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class LeaderboardRebuildJobTest {
+  UUID userId = UUID.randomUUID();
+  UUID keptExamId = UUID.randomUUID();
+  UUID deletedExamId = UUID.randomUUID();
+  UserRepository userRepository = mock(UserRepository.class);
+  ExamRepository examRepository = mock(ExamRepository.class);
+  UserExamStatsRepository userExamStatsRepository = mock(UserExamStatsRepository.class);
+  LeaderboardStore leaderboardStore = mock(LeaderboardStore.class);
+  JobLockStore jobLockStore = mock(JobLockStore.class);
+  LeaderboardRebuildJob job;
+
+  @BeforeEach
+  void setUp() {
+    job =
+        new LeaderboardRebuildJob(
+            userRepository,
+            examRepository,
+            userExamStatsRepository,
+            leaderboardStore,
+            jobLockStore);
+    ReflectionTestUtils.setField(job, "chunkSize", 500);
+    when(userRepository.findIds(any(Pageable.class))).thenReturn(List.of(userId));
+    when(userRepository.findIdsAfter(eq(userId), any(Pageable.class))).thenReturn(List.of());
+    when(jobLockStore.tryAcquire(eq("leaderboard-rebuild"), any(Duration.class)))
+        .thenReturn(Optional.of("token"));
+  }
+
+  @Test
+  void buildsBesideLiveBoardsAndSwapsThemIn() {
+    when(examRepository.findIds())
+        .thenReturn(List.of(keptExamId, deletedExamId), List.of(keptExamId));
+    when(userExamStatsRepository.findAllByUserIdIn(List.of(userId)))
+        .thenReturn(List.of(stats(keptExamId, 700), stats(deletedExamId, 900)));
+
+    job.rebuild();
+
+    String kept = LeaderboardStore.examKey(keptExamId);
+    String deleted = LeaderboardStore.examKey(deletedExamId);
+    InOrder order = inOrder(leaderboardStore);
+    order.verify(leaderboardStore).beginRebuild(Set.of(LeaderboardStore.GLOBAL_KEY, kept, deleted));
+    order
+        .verify(leaderboardStore)
+        .mergeAll(
+            Map.of(
+                LeaderboardStore.rebuildKey(kept),
+                Map.of(userId, 700),
+                LeaderboardStore.rebuildKey(deleted),
+                Map.of(userId, 900),
+                LeaderboardStore.rebuildKey(LeaderboardStore.GLOBAL_KEY),
+                Map.of(userId, 900)));
+    order.verify(leaderboardStore).finishRebuild(Set.of(LeaderboardStore.GLOBAL_KEY, kept));
+    order.verify(leaderboardStore).abortRebuild(Set.of(deleted));
+    verify(jobLockStore).release("leaderboard-rebuild", "token");
+  }
+
+  @Test
+  void skipsWhenAnotherNodeHoldsTheLock() {
+    when(jobLockStore.tryAcquire(eq("leaderboard-rebuild"), any(Duration.class)))
+        .thenReturn(Optional.empty(), Optional.of("token"));
+    when(examRepository.findIds()).thenReturn(List.of());
+    when(userExamStatsRepository.findAllByUserIdIn(List.of(userId))).thenReturn(List.of());
+
+    job.rebuild();
+
+    verifyNoInteractions(leaderboardStore);
+    verify(jobLockStore, never()).release(any(), any());
+
+    // The local in-progress flag was cleared, so the next attempt runs.
+    job.rebuild();
+
+    verify(leaderboardStore, times(1)).beginRebuild(Set.of(LeaderboardStore.GLOBAL_KEY));
+  }
+
+  @Test
+  void discardsRebuiltBoardsWhenTheWalkFails() {
+    when(examRepository.findIds()).thenReturn(List.of(keptExamId));
+    doThrow(new IllegalStateException("redis down")).when(leaderboardStore).mergeAll(any());
+    when(userExamStatsRepository.findAllByUserIdIn(List.of(userId)))
+        .thenReturn(List.of(stats(keptExamId, 700)));
+
+    assertThatThrownBy(job::rebuild).isInstanceOf(IllegalStateException.class);
+
+    verify(leaderboardStore, never()).finishRebuild(any());
+    verify(leaderboardStore)
+        .abortRebuild(Set.of(LeaderboardStore.GLOBAL_KEY, LeaderboardStore.examKey(keptExamId)));
+    verify(jobLockStore).release("leaderboard-rebuild", "token");
+  }
+
+  private UserExamStats stats(UUID examId, int bestScore) {
+    UserExamStats stats = new UserExamStats();
+    stats.setUserId(userId);
+    stats.setExamId(examId);
+    stats.setBestScore(bestScore);
+    return stats;
+  }
+}
@@ -0,0 +1,144 @@
+package com.example.englishhubbackend.job;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.englishhubbackend.repository.ResultBatchRepository;
+import com.example.englishhubbackend.service.UserExamStatsService;
+import com.example.englishhubbackend.store.PendingResult;
+import com.example.englishhubbackend.store.QueuedResult;
+import com.example.englishhubbackend.store.ResultWriteBehindQueue;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class ResultFlushJobTest {
+  private static final int MAX_DELIVERIES = 3;
+
+  ResultWriteBehindQueue queue;
+  ResultBatchRepository repository;
+  ResultFlushJob job;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setUp() {
+    queue = mock(ResultWriteBehindQueue.class);
+    repository = mock(ResultBatchRepository.class);
+    TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+    doAnswer(
+            invocation -> {
+              invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+              return null;
+            })
+        .when(transactionTemplate)
+        .executeWithoutResult(any());
+    when(repository.insertAll(anyList()))
+        .thenAnswer(invocation -> new int[invocation.<List<?>>getArgument(0).size()]);
+    job =
+        new ResultFlushJob(
+            queue,
+            repository,
+            mock(UserExamStatsService.class),
+            transactionTemplate,
+            new SimpleMeterRegistry(),
+            10,
+            MAX_DELIVERIES);
+  }
+
+  @Test
+  void acknowledgesWholeBatchWhenItPersists() {
+    List<QueuedResult> batch = List.of(queued("1-0", 1), queued("2-0", 1));
+
+    job.process(batch);
+
+    verify(queue).acknowledge(batch);
+    verify(queue, never()).deadLetter(any(), anyString());
+  }
+
+  @Test
+  void isolatesFailingRecordAndLeavesItPendingBelowMaxDeliveries() {
+    QueuedResult good = queued("1-0", 1);
+    QueuedResult bad = queued("2-0", 1);
+    failInsertsOf(bad);
+
+    job.process(List.of(good, bad));
+
+    verify(queue).acknowledge(List.of(good));
+    verify(queue, never()).deadLetter(any(), anyString());
+  }
+
+  @Test
+  void deadLettersRecordThatKeepsFailing() {
+    QueuedResult good = queued("1-0", MAX_DELIVERIES);
+    QueuedResult bad = queued("2-0", MAX_DELIVERIES);
+    failInsertsOf(bad);
+
+    job.process(List.of(good, bad));
+
+    verify(queue).acknowledge(List.of(good));
+    verify(queue).deadLetter(eq(bad), anyString());
+  }
+
+  @Test
+  void deadLettersUnreadableRecordImmediately() {
+    QueuedResult unreadable = new QueuedResult("1-0", 1, Map.of("resultId", "not-a-uuid"));
+    QueuedResult good = queued("2-0", 1);
+
+    job.process(List.of(unreadable, good));
+
+    verify(queue).deadLetter(eq(unreadable), anyString());
+    verify(queue).acknowledge(List.of(good));
+  }
+
+  @Test
+  void flushDrainsReclaimedEntriesBeforeNewOnes() {
+    QueuedResult reclaimed = queued("1-0", 2);
+    QueuedResult fresh = queued("2-0", 1);
+    when(queue.reclaim(10)).thenReturn(List.of(reclaimed));
+    when(queue.poll(10)).thenReturn(List.of(fresh));
+
+    job.flush();
+
+    verify(queue).acknowledge(List.of(reclaimed));
+    verify(queue).acknowledge(List.of(fresh));
+    verify(queue).refreshPending();
+  }
+
+  private void failInsertsOf(QueuedResult failing) {
+    UUID failingId = UUID.fromString(failing.fields().get("resultId"));
+    when(repository.insertAll(
+            argThat(results -> results.stream().anyMatch(r -> r.resultId().equals(failingId)))))
+        .thenThrow(new DataIntegrityViolationException("boom"));
+  }
+
+  private static QueuedResult queued(String id, long deliveries) {
+    PendingResult result =
+        new PendingResult(
+            UUID.randomUUID(),
+            UUID.randomUUID(),
+            UUID.randomUUID(),
+            UUID.randomUUID(),
+            300,
+            350,
+            LocalDateTime.now(),
+            null,
+            null);
+    return new QueuedResult(id, deliveries, result.toFields());
+  }
+}
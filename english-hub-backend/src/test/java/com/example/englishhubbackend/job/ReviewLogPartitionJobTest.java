@@ -0,0 +1,43 @@
+package com.example.englishhubbackend.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+class ReviewLogPartitionJobTest {
+  JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+  ReviewLogPartitionJob job = new ReviewLogPartitionJob(jdbcTemplate, 2);
+
+  @Test
+  void createsTheCurrentMonthAndTheConfiguredMonthsAhead() {
+    job.ensurePartitions();
+
+    ArgumentCaptor<String> ddl = ArgumentCaptor.forClass(String.class);
+    verify(jdbcTemplate, times(3)).execute(ddl.capture());
+    YearMonth month = YearMonth.from(LocalDate.now());
+    assertThat(ddl.getAllValues().getFirst())
+        .contains("review_log_%d_%02d".formatted(month.getYear(), month.getMonthValue()))
+        .contains("FROM ('" + month.atDay(1) + "') TO ('" + month.plusMonths(1).atDay(1) + "')");
+  }
+
+  @Test
+  void keepsGoingWhenOnePartitionFails() {
+    doThrow(new IllegalStateException("lock timeout"))
+        .doNothing()
+        .when(jdbcTemplate)
+        .execute(anyString());
+
+    job.ensurePartitions();
+
+    verify(jdbcTemplate, times(3)).execute(anyString());
+  }
+}
@@ -0,0 +1,93 @@
+package com.example.englishhubbackend.job;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.example.englishhubbackend.repository.UserExamStatsRepository;
+import com.example.englishhubbackend.repository.UserRepository;
+import com.example.englishhubbackend.service.UserExamStatsService;
+import com.example.englishhubbackend.store.JobLockStore;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class UserExamStatsRebuildJobTest {
+  UUID userId = UUID.randomUUID();
+  UserRepository userRepository = mock(UserRepository.class);
+  UserExamStatsRepository userExamStatsRepository = mock(UserExamStatsRepository.class);
+  UserExamStatsService userExamStatsService = mock(UserExamStatsService.class);
+  LeaderboardRebuildJob leaderboardRebuildJob = mock(LeaderboardRebuildJob.class);
+  JobLockStore jobLockStore = mock(JobLockStore.class);
+  UserExamStatsRebuildJob job;
+
+  @BeforeEach
+  void setUp() {
+    job =
+        new UserExamStatsRebuildJob(
+            userRepository,
+            userExamStatsRepository,
+            userExamStatsService,
+            leaderboardRebuildJob,
+            jobLockStore);
+    ReflectionTestUtils.setField(job, "chunkSize", 500);
+    when(userRepository.findIds(any(Pageable.class))).thenReturn(List.of(userId));
+    when(userRepository.findIdsAfter(eq(userId), any(Pageable.class))).thenReturn(List.of());
+    when(jobLockStore.tryAcquire(eq("user-exam-stats-backfill"), any()))
+        .thenReturn(Optional.of("token"));
+  }
+
+  @Test
+  void emptyTableIsBackfilledThenLeaderboardsRebuilt() {
+    when(userExamStatsRepository.count()).thenReturn(0L);
+
+    job.backfillIfEmpty();
+
+    InOrder order = inOrder(userExamStatsService, leaderboardRebuildJob);
+    order.verify(userExamStatsService).rebuildForUsers(List.of(userId));
+    order.verify(leaderboardRebuildJob).rebuild();
+    verify(jobLockStore).release("user-exam-stats-backfill", "token");
+  }
+
+  @Test
+  void backfillIsSkippedWhileAnotherNodeHoldsTheLock() {
+    when(userExamStatsRepository.count()).thenReturn(0L);
+    when(jobLockStore.tryAcquire(eq("user-exam-stats-backfill"), any()))
+        .thenReturn(Optional.empty());
+
+    job.backfillIfEmpty();
+
+    verify(userExamStatsService, never()).rebuildForUsers(any());
+    verifyNoInteractions(leaderboardRebuildJob);
+  }
+
+  @Test
+  void backfillFinishedElsewhereIsNotRepeated() {
+    when(userExamStatsRepository.count()).thenReturn(0L, 42L);
+
+    job.backfillIfEmpty();
+
+    verify(userExamStatsService, never()).rebuildForUsers(any());
+    verify(jobLockStore).release("user-exam-stats-backfill", "token");
+  }
+
+  @Test
+  void populatedTableIsLeftAlone() {
+    when(userExamStatsRepository.count()).thenReturn(42L);
+
+    job.backfillIfEmpty();
+
+    verify(userExamStatsService, never()).rebuildForUsers(any());
+    verifyNoInteractions(leaderboardRebuildJob);
+  }
+}
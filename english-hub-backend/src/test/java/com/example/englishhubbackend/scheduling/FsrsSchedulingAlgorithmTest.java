@@ -0,0 +1,40 @@
+package com.example.englishhubbackend.scheduling;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class FsrsSchedulingAlgorithmTest {
+
+  @Test
+  void acceptsDefaultWeights() {
+    assertThat(FsrsSchedulingAlgorithm.isValidWeights(FsrsSchedulingAlgorithm.DEFAULT_WEIGHTS))
+        .isTrue();
+  }
+
+  @Test
+  void rejectsWrongLength() {
+    assertThat(FsrsSchedulingAlgorithm.isValidWeights(new double[] {1, 2, 3})).isFalse();
+  }
+
+  @Test
+  void rejectsNonFiniteWeights() {
+    for (double bad : new double[] {Double.NaN, Double.POSITIVE_INFINITY, -Double.MAX_VALUE}) {
+      double[] weights = FsrsSchedulingAlgorithm.DEFAULT_WEIGHTS.clone();
+      weights[8] = bad;
+      assertThat(FsrsSchedulingAlgorithm.isValidWeights(weights)).as("w[8] = %s", bad).isFalse();
+    }
+  }
+
+  @Test
+  void rejectsOutOfRangeWeights() {
+    double[] zeroStability = FsrsSchedulingAlgorithm.DEFAULT_WEIGHTS.clone();
+    zeroStability[0] = 0;
+    assertThat(FsrsSchedulingAlgorithm.isValidWeights(zeroStability)).isFalse();
+
+    double[] hardBonus = FsrsSchedulingAlgorithm.DEFAULT_WEIGHTS.clone();
+    hardBonus[15] = 1.5;
+    assertThat(FsrsSchedulingAlgorithm.isValidWeights(hardBonus)).isFalse();
+  }
+
+}
@@ -0,0 +1,92 @@
+package com.example.englishhubbackend.scheduling;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class Sm2KernelTest {
+
+  @Test
+  void followsClassicScheduleForPerfectRecall() {
+    float[] easiness = {Sm2Kernel.INITIAL_EASINESS};
+    int[] repetitions = {0};
+    int[] intervals = {0};
+    int[] ratings = {4};
+
+    Sm2Kernel.update(easiness, repetitions, intervals, ratings, 1);
+    assertThat(intervals[0]).isEqualTo(1);
+    assertThat(repetitions[0]).isEqualTo(1);
+    assertThat(easiness[0]).isEqualTo(2.6f);
+
+    Sm2Kernel.update(easiness, repetitions, intervals, ratings, 1);
+    assertThat(intervals[0]).isEqualTo(6);
+
+    Sm2Kernel.update(easiness, repetitions, intervals, ratings, 1);
+    assertThat(intervals[0]).isEqualTo(16);
+    assertThat(repetitions[0]).isEqualTo(3);
+  }
+
+  @Test
+  void lapseResetsRepetitionsAndKeepsEasiness() {
+    float[] easiness = {2.2f};
+    int[] repetitions = {5};
+    int[] intervals = {40};
+
+    Sm2Kernel.update(easiness, repetitions, intervals, new int[] {0}, 1);
+
+    assertThat(repetitions[0]).isZero();
+    assertThat(intervals[0]).isEqualTo(1);
+    assertThat(easiness[0]).isEqualTo(2.2f);
+  }
+
+  @Test
+  void matchesScalarReferenceAndLeavesTailUntouched() {
+    Random random = new Random(42);
+    int length = 1000;
+    float[] easiness = new float[length + 1];
+    int[] repetitions = new int[length + 1];
+    int[] intervals = new int[length + 1];
+    int[] ratings = new int[length + 1];
+    for (int i = 0; i <= length; i++) {
+      easiness[i] = 1.3f + random.nextFloat() * 1.5f;
+      repetitions[i] = random.nextInt(6);
+      intervals[i] = repetitions[i] == 0 ? 0 : 1 + random.nextInt(200);
+      ratings[i] = random.nextInt(5);
+    }
+    float[] expectedEasiness = easiness.clone();
+    int[] expectedRepetitions = repetitions.clone();
+    int[] expectedIntervals = intervals.clone();
+    for (int i = 0; i < length; i++) {
+      reference(expectedEasiness, expectedRepetitions, expectedIntervals, ratings[i], i);
+    }
+
+    Sm2Kernel.update(easiness, repetitions, intervals, ratings, length);
+
+    assertThat(easiness).containsExactly(expectedEasiness);
+    assertThat(repetitions).containsExactly(expectedRepetitions);
+    assertThat(intervals).containsExactly(expectedIntervals);
+  }
+
+  private static void reference(
+      float[] easiness, int[] repetitions, int[] intervals, int rating, int i) {
+    int quality = rating == 0 ? 0 : rating + 1;
+    if (quality < 3) {
+      repetitions[i] = 0;
+      intervals[i] = 1;
+      return;
+    }
+    if (repetitions[i] == 0) {
+      intervals[i] = 1;
+    } else if (repetitions[i] == 1) {
+      intervals[i] = 6;
+    } else {
+      intervals[i] = Math.round(intervals[i] * easiness[i]);
+    }
+    repetitions[i]++;
+    int penalty = 5 - quality;
+    easiness[i] =
+        Math.max(
+            Sm2Kernel.MIN_EASINESS, easiness[i] + (0.1f - penalty * (0.08f + penalty * 0.02f)));
+  }
+}
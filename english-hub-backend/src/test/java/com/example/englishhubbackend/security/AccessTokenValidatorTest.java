@@ -0,0 +1,40 @@
+package com.example.englishhubbackend.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+class AccessTokenValidatorTest {
+  AccessTokenValidator validator = new AccessTokenValidator();
+
+  @Test
+  void acceptsAccessToken() {
+    Jwt jwt = jwt().claim("scope", "USER").build();
+
+    assertThat(validator.validate(jwt).hasErrors()).isFalse();
+  }
+
+  @Test
+  void rejectsRefreshToken() {
+    Jwt jwt = jwt().claim("fid", "family").build();
+
+    assertThat(validator.validate(jwt).hasErrors()).isTrue();
+  }
+
+  @Test
+  void rejectsTokenWithScopeAndFamily() {
+    Jwt jwt = jwt().claim("scope", "USER").claim("fid", "family").build();
+
+    assertThat(validator.validate(jwt).hasErrors()).isTrue();
+  }
+
+  private static Jwt.Builder jwt() {
+    return Jwt.withTokenValue("token")
+        .header("alg", "HS512")
+        .subject("5f0c3e4e-7f39-4c1e-9a0e-4d4b8f0e2a11")
+        .issuedAt(Instant.now())
+        .expiresAt(Instant.now().plusSeconds(60));
+  }
+}
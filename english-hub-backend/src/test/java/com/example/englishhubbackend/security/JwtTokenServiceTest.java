@@ -0,0 +1,80 @@
+package com.example.englishhubbackend.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.englishhubbackend.exception.AppException;
+import com.example.englishhubbackend.exception.ErrorCode;
+import com.nimbusds.jwt.JWTClaimsSet;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import org.junit.jupiter.api.Test;
+
+class JwtTokenServiceTest {
+  private static final String SECRET = "0123456789abcdef".repeat(4);
+
+  JwtTokenService jwtTokenService = new JwtTokenService(SECRET, 100);
+
+  @Test
+  void verifiesTokensItSigned() {
+    String token = jwtTokenService.sign(claims("alice", Instant.now().plus(1, ChronoUnit.HOURS)));
+
+    assertThat(jwtTokenService.verify(token).getSubject()).isEqualTo("alice");
+  }
+
+  @Test
+  void repeatVerificationReturnsCachedClaims() {
+    String token = jwtTokenService.sign(claims("alice", Instant.now().plus(1, ChronoUnit.HOURS)));
+
+    assertThat(jwtTokenService.verify(token)).isSameAs(jwtTokenService.verify(token));
+  }
+
+  @Test
+  void evictedTokensAreVerifiedAgain() {
+    String token = jwtTokenService.sign(claims("alice", Instant.now().plus(1, ChronoUnit.HOURS)));
+    JWTClaimsSet first = jwtTokenService.verify(token);
+
+    jwtTokenService.evict(token);
+
+    JWTClaimsSet second = jwtTokenService.verify(token);
+    assertThat(second).isNotSameAs(first);
+    assertThat(second.getSubject()).isEqualTo("alice");
+  }
+
+  @Test
+  void expiredTokensAreNotCached() {
+    String token = jwtTokenService.sign(claims("alice", Instant.now().minus(1, ChronoUnit.HOURS)));
+    JWTClaimsSet claims = jwtTokenService.verify(token);
+
+    assertThat(jwtTokenService.isExpired(claims)).isTrue();
+    assertThat(jwtTokenService.verify(token)).isNotSameAs(claims);
+  }
+
+  @Test
+  void rejectsTokensSignedWithAnotherKey() {
+    String token =
+        new JwtTokenService(SECRET.replace('0', 'f'), 100)
+            .sign(claims("mallory", Instant.now().plus(1, ChronoUnit.HOURS)));
+
+    assertThatThrownBy(() -> jwtTokenService.verify(token))
+        .isInstanceOfSatisfying(
+            AppException.class,
+            e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.UNAUTHENTICATED));
+  }
+
+  @Test
+  void rejectsMalformedAndMissingTokens() {
+    assertThatThrownBy(() -> jwtTokenService.verify("not-a-jwt"))
+        .isInstanceOf(AppException.class);
+    assertThatThrownBy(() -> jwtTokenService.verify(null)).isInstanceOf(AppException.class);
+  }
+
+  private static JWTClaimsSet claims(String subject, Instant expiresAt) {
+    return new JWTClaimsSet.Builder()
+        .subject(subject)
+        .issueTime(new Date())
+        .expirationTime(Date.from(expiresAt))
+        .build();
+  }
+}
@@ -0,0 +1,51 @@
+package com.example.englishhubbackend.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+class TokenRevocationServiceTest {
+  TokenRevocationService service;
+
+  @BeforeEach
+  void setUp() {
+    service =
+        new TokenRevocationService(
+            mock(StringRedisTemplate.class, RETURNS_DEEP_STUBS),
+            mock(RedisMessageListenerContainer.class),
+            new SimpleMeterRegistry(),
+            new TokenLifetimes(900, 604800),
+            1000,
+            0.001);
+  }
+
+  @Test
+  void revokesTokensIssuedInTheSameSecondAsRevokeAll() {
+    UUID userId = UUID.randomUUID();
+    Instant issuedAt = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+
+    service.revokeAllForUser(userId);
+
+    assertThat(service.isRevoked(userId, "jti", issuedAt)).isTrue();
+    assertThat(service.isRevoked(userId, "jti", issuedAt.minusSeconds(60))).isTrue();
+  }
+
+  @Test
+  void keepsTokensIssuedAfterTheWatermark() {
+    UUID userId = UUID.randomUUID();
+
+    service.revokeAllForUser(userId);
+
+    assertThat(service.isRevoked(userId, "jti", Instant.now().plusSeconds(1))).isFalse();
+    assertThat(service.isRevoked(UUID.randomUUID(), "jti", Instant.now())).isFalse();
+  }
+}
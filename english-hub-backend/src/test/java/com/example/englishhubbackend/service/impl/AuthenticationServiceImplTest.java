@@ -0,0 +1,245 @@
+package com.example.englishhubbackend.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.englishhubbackend.dto.request.AuthenticateRequest;
+import com.example.englishhubbackend.dto.request.IntrospectRequest;
+import com.example.englishhubbackend.dto.request.RefreshRequest;
+import com.example.englishhubbackend.dto.request.RegisterRequest;
+import com.example.englishhubbackend.dto.response.AuthenticateResponse;
+import com.example.englishhubbackend.enums.UserStatusEnum;
+import com.example.englishhubbackend.exception.AppException;
+import com.example.englishhubbackend.mapper.UserMapper;
+import com.example.englishhubbackend.models.Role;
+import com.example.englishhubbackend.models.User;
+import com.example.englishhubbackend.repository.UserRepository;
+import com.example.englishhubbackend.security.AuthenticatedUser;
+import com.example.englishhubbackend.security.AuthenticatedUserToken;
+import com.example.englishhubbackend.security.JwtTokenService;
+import com.example.englishhubbackend.security.PasswordHashingService;
+import com.example.englishhubbackend.security.TokenLifetimes;
+import com.example.englishhubbackend.security.TokenRevocationService;
+import com.example.englishhubbackend.service.EmailService;
+import com.example.englishhubbackend.service.RoleService;
+import com.example.englishhubbackend.store.RefreshTokenStore;
+import com.nimbusds.jwt.JWTClaimsSet;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class AuthenticationServiceImplTest {
+  private static final String SECRET = "0123456789abcdef".repeat(4);
+
+  UUID userId = UUID.randomUUID();
+  JwtTokenService jwtTokenService = new JwtTokenService(SECRET, 100);
+  UserRepository userRepository = mock(UserRepository.class);
+  UserMapper userMapper = mock(UserMapper.class);
+  PasswordHashingService passwordHashingService = mock(PasswordHashingService.class);
+  RefreshTokenStore refreshTokenStore = mock(RefreshTokenStore.class);
+  TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+  TokenRevocationService tokenRevocationService = mock(TokenRevocationService.class);
+  AuthenticationServiceImpl service;
+
+  @BeforeEach
+  void setUp() {
+    service =
+        new AuthenticationServiceImpl(
+            userRepository,
+            userMapper,
+            mock(EmailService.class),
+            mock(RoleService.class),
+            passwordHashingService,
+            refreshTokenStore,
+            jwtTokenService,
+            tokenRevocationService,
+            transactionTemplate,
+            new TokenLifetimes(900, 604800));
+  }
+
+  @AfterEach
+  void clearContext() {
+    SecurityContextHolder.clearContext();
+    service.shutdown();
+  }
+
+  @Test
+  void registerHashesBeforeOpeningTheTransaction() {
+    RegisterRequest request = new RegisterRequest("user", "user@example.com", "secret");
+    when(userMapper.toUser(request))
+        .thenReturn(User.builder().email("user@example.com").password("secret").build());
+    when(passwordHashingService.encode("secret")).thenReturn("hashed");
+
+    service.register(request);
+
+    InOrder order = inOrder(passwordHashingService, transactionTemplate);
+    order.verify(passwordHashingService).encode("secret");
+    order.verify(transactionTemplate).execute(any());
+  }
+
+  @Test
+  void authenticateIssuesTokensOffTheHashingPool() throws Exception {
+    User user =
+        User.builder()
+            .id(userId)
+            .email("user@example.com")
+            .password("hashed")
+            .enabled(true)
+            .status(UserStatusEnum.ACTIVE)
+            .role(Role.builder().name("USER").build())
+            .build();
+    when(userRepository.findByEmail("user@example.com")).thenReturn(Optional.of(user));
+    ExecutorService hashingPool =
+        Executors.newSingleThreadExecutor(new CustomizableThreadFactory("password-hashing-"));
+    when(passwordHashingService.matchesAsync("secret", "hashed"))
+        .thenReturn(CompletableFuture.supplyAsync(() -> true, hashingPool));
+    AtomicReference<String> issuingThread = new AtomicReference<>();
+    doAnswer(
+            invocation -> {
+              issuingThread.set(Thread.currentThread().getName());
+              return null;
+            })
+        .when(refreshTokenStore)
+        .create(eq(userId), anyString(), anyString(), any());
+
+    try {
+      service.authenticate(new AuthenticateRequest("user@example.com", "secret")).get();
+    } finally {
+      hashingPool.shutdown();
+    }
+
+    assertThat(issuingThread.get()).doesNotStartWith("password-hashing-");
+  }
+
+  @Test
+  void logoutRevokesTheCallersAccessToken() {
+    Instant expiresAt = Instant.now().plusSeconds(600);
+    Jwt accessToken =
+        Jwt.withTokenValue("access")
+            .header("alg", "HS512")
+            .subject(userId.toString())
+            .jti("access-jti")
+            .issuedAt(Instant.now())
+            .expiresAt(expiresAt)
+            .build();
+    SecurityContextHolder.getContext()
+        .setAuthentication(
+            new AuthenticatedUserToken(
+                accessToken, new AuthenticatedUser(userId, "USER"), List.of()));
+    when(refreshTokenStore.revoke(userId, "family", "refresh-jti")).thenReturn(true);
+
+    service.logout(new RefreshRequest(sign(claims().jwtID("refresh-jti").claim("fid", "family"))));
+
+    verify(tokenRevocationService).revokeToken("access-jti", expiresAt);
+  }
+
+  @Test
+  void refreshReadsTheUsersCurrentStatus() {
+    when(refreshTokenStore.rotate(eq(userId), eq("family"), eq("refresh-jti"), anyString(), any()))
+        .thenReturn(RefreshTokenStore.ROTATED);
+    when(userRepository.findById(userId))
+        .thenReturn(
+            Optional.of(User.builder().id(userId).status(UserStatusEnum.DEACTIVATED).build()));
+    String refreshToken = sign(claims().jwtID("refresh-jti").claim("fid", "family"));
+
+    assertThatThrownBy(() -> service.refreshToken(new RefreshRequest(refreshToken)))
+        .isInstanceOf(AppException.class);
+    verify(refreshTokenStore).revokeAll(userId);
+  }
+
+  @Test
+  void refreshRotatesWithinTheSameFamily() throws Exception {
+    ArgumentCaptor<String> nextTokenId = ArgumentCaptor.forClass(String.class);
+    when(refreshTokenStore.rotate(
+            eq(userId), eq("family"), eq("refresh-jti"), nextTokenId.capture(), any()))
+        .thenReturn(RefreshTokenStore.ROTATED);
+    when(userRepository.findById(userId))
+        .thenReturn(
+            Optional.of(
+                User.builder()
+                    .id(userId)
+                    .status(UserStatusEnum.ACTIVE)
+                    .role(Role.builder().name("USER").build())
+                    .build()));
+    String refreshToken = sign(claims().jwtID("refresh-jti").claim("fid", "family"));
+
+    AuthenticateResponse response = service.refreshToken(new RefreshRequest(refreshToken));
+
+    JWTClaimsSet next = jwtTokenService.verify(response.getRefreshToken());
+    assertThat(next.getStringClaim("fid")).isEqualTo("family");
+    assertThat(next.getJWTID()).isEqualTo(nextTokenId.getValue()).isNotEqualTo("refresh-jti");
+    assertThat(next.getExpirationTime().toInstant())
+        .isBetween(Instant.now().plusSeconds(604790), Instant.now().plusSeconds(604800));
+    verify(refreshTokenStore)
+        .rotate(userId, "family", "refresh-jti", nextTokenId.getValue(), Duration.ofDays(7));
+  }
+
+  @Test
+  void refreshRejectsAReusedToken() {
+    when(refreshTokenStore.rotate(eq(userId), eq("family"), eq("stale-jti"), anyString(), any()))
+        .thenReturn(RefreshTokenStore.REUSED);
+    String refreshToken = sign(claims().jwtID("stale-jti").claim("fid", "family"));
+
+    assertThatThrownBy(() -> service.refreshToken(new RefreshRequest(refreshToken)))
+        .isInstanceOf(AppException.class);
+    verify(userRepository, never()).findById(any());
+  }
+
+  @Test
+  void introspectAcceptsLiveAccessToken() throws Exception {
+    String token = sign(claims().jwtID("jti").claim("scope", "USER"));
+
+    assertThat(service.introspect(new IntrospectRequest(token)).isValid()).isTrue();
+  }
+
+  @Test
+  void introspectRejectsRefreshToken() throws Exception {
+    String token = sign(claims().jwtID("jti").claim("fid", "family"));
+
+    assertThat(service.introspect(new IntrospectRequest(token)).isValid()).isFalse();
+  }
+
+  @Test
+  void introspectRejectsRevokedAccessToken() throws Exception {
+    when(tokenRevocationService.isRevoked(eq(userId), anyString(), any())).thenReturn(true);
+    String token = sign(claims().jwtID("jti").claim("scope", "USER"));
+
+    assertThat(service.introspect(new IntrospectRequest(token)).isValid()).isFalse();
+  }
+
+  private JWTClaimsSet.Builder claims() {
+    return new JWTClaimsSet.Builder()
+        .subject(userId.toString())
+        .issueTime(new Date())
+        .expirationTime(new Date(System.currentTimeMillis() + 600_000));
+  }
+
+  private String sign(JWTClaimsSet.Builder claims) {
+    return jwtTokenService.sign(claims.build());
+  }
+}
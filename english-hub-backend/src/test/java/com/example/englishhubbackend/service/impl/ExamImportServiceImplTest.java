@@ -0,0 +1,61 @@
+package com.example.englishhubbackend.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.englishhubbackend.exception.AppException;
+import com.example.englishhubbackend.exception.ErrorCode;
+import com.example.englishhubbackend.importer.ExamImportJob;
+import com.example.englishhubbackend.importer.ExamPackageImporter;
+import com.example.englishhubbackend.repository.ExamRepository;
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class ExamImportServiceImplTest {
+  UUID examId = UUID.randomUUID();
+  ExamRepository examRepository = mock(ExamRepository.class);
+  ExamPackageImporter examPackageImporter = mock(ExamPackageImporter.class);
+  ExamImportServiceImpl examImportService =
+      new ExamImportServiceImpl(examRepository, examPackageImporter);
+
+  @BeforeEach
+  void setUp() {
+    ReflectionTestUtils.setField(examImportService, "maxBytes", 16L);
+    when(examRepository.existsById(examId)).thenReturn(true);
+  }
+
+  @Test
+  void spoolsArchivesWithinTheLimit() throws Exception {
+    ArgumentCaptor<Path> spooled = ArgumentCaptor.forClass(Path.class);
+    when(examPackageImporter.submit(eq(examId), spooled.capture()))
+        .thenReturn(new ExamImportJob(UUID.randomUUID(), examId));
+
+    examImportService.importExamPackage(examId, new ByteArrayInputStream(new byte[16]));
+
+    assertThat(Files.size(spooled.getValue())).isEqualTo(16);
+    Files.deleteIfExists(spooled.getValue());
+  }
+
+  @Test
+  void rejectsArchivesOverTheLimit() {
+    ByteArrayInputStream archive = new ByteArrayInputStream(new byte[17]);
+
+    assertThatThrownBy(() -> examImportService.importExamPackage(examId, archive))
+        .isInstanceOfSatisfying(
+            AppException.class,
+            e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.INVALID_EXAM_PACKAGE));
+    verify(examPackageImporter, never()).submit(any(), any());
+  }
+}
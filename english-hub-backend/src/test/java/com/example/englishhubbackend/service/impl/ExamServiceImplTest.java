@@ -0,0 +1,111 @@
+package com.example.englishhubbackend.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.englishhubbackend.cache.ExamSnapshotCache;
+import com.example.englishhubbackend.dto.request.ExamSubmissionRequest;
+import com.example.englishhubbackend.grading.ExamAnswerKey;
+import com.example.englishhubbackend.grading.ExamGrade;
+import com.example.englishhubbackend.grading.ExamGradingEngine;
+import com.example.englishhubbackend.grading.ItemAnalysisAccumulator;
+import com.example.englishhubbackend.job.ResultFlushJob;
+import com.example.englishhubbackend.job.UserExamStatsRebuildJob;
+import com.example.englishhubbackend.mapper.ExamMapper;
+import com.example.englishhubbackend.repository.ExamRepository;
+import com.example.englishhubbackend.repository.QuestionItemStatsRepository;
+import com.example.englishhubbackend.repository.QuestionRepository;
+import com.example.englishhubbackend.repository.ResultRepository;
+import com.example.englishhubbackend.repository.UserRepository;
+import com.example.englishhubbackend.service.AuthenticationService;
+import com.example.englishhubbackend.service.LeaderboardService;
+import com.example.englishhubbackend.service.QuestionService;
+import com.example.englishhubbackend.service.UserExamStatsService;
+import com.example.englishhubbackend.store.ExamSubmissionStore;
+import com.example.englishhubbackend.store.ResultWriteBehindQueue;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+
+class ExamServiceImplTest {
+  UUID userId = UUID.randomUUID();
+  UUID examId = UUID.randomUUID();
+  UUID submissionId = UUID.randomUUID();
+  AuthenticationService authenticationService = mock(AuthenticationService.class);
+  ExamGradingEngine examGradingEngine = mock(ExamGradingEngine.class);
+  ExamSubmissionStore examSubmissionStore = mock(ExamSubmissionStore.class);
+  ResultWriteBehindQueue resultWriteBehindQueue = mock(ResultWriteBehindQueue.class);
+  ResultFlushJob resultFlushJob = mock(ResultFlushJob.class);
+  LeaderboardService leaderboardService = mock(LeaderboardService.class);
+  ExamServiceImpl service;
+
+  @BeforeEach
+  void setUp() {
+    when(authenticationService.getCurrentUserId()).thenReturn(userId);
+    when(examGradingEngine.grade(eq(examId), any()))
+        .thenReturn(
+            new ExamGrade(
+                1,
+                0,
+                0,
+                ExamAnswerKey.of(List.of()),
+                new byte[0],
+                new int[ExamAnswerKey.PART_COUNT]));
+    when(examSubmissionStore.claim(eq(userId), eq(submissionId), any())).thenReturn(true);
+    service =
+        new ExamServiceImpl(
+            mock(ExamRepository.class),
+            mock(ExamMapper.class),
+            mock(QuestionService.class),
+            mock(UserRepository.class),
+            authenticationService,
+            mock(QuestionRepository.class),
+            mock(ResultRepository.class),
+            mock(ExamSnapshotCache.class),
+            mock(UserExamStatsService.class),
+            mock(UserExamStatsRebuildJob.class),
+            examGradingEngine,
+            examSubmissionStore,
+            resultWriteBehindQueue,
+            resultFlushJob,
+            leaderboardService,
+            mock(ItemAnalysisAccumulator.class),
+            mock(QuestionItemStatsRepository.class));
+  }
+
+  @Test
+  void releasesTheSubmissionClaimWhenTheResultCannotBeQueued() {
+    when(resultWriteBehindQueue.offer(any())).thenReturn(false);
+    doThrow(new QueryTimeoutException("database down")).when(resultFlushJob).persist(anyList());
+
+    assertThatThrownBy(() -> service.submitExam(examId, request()))
+        .isInstanceOf(QueryTimeoutException.class);
+    verify(examSubmissionStore).release(userId, submissionId);
+    verify(leaderboardService, never()).recordScore(any(), any(), anyInt());
+  }
+
+  @Test
+  void keepsTheClaimOnceTheResultIsQueued() {
+    when(resultWriteBehindQueue.offer(any())).thenReturn(true);
+
+    service.submitExam(examId, request());
+
+    verify(examSubmissionStore, never()).release(any(), any());
+    verify(leaderboardService).recordScore(eq(examId), eq(userId), anyInt());
+  }
+
+  private ExamSubmissionRequest request() {
+    return ExamSubmissionRequest.builder().submissionId(submissionId).answers(Map.of()).build();
+  }
+}
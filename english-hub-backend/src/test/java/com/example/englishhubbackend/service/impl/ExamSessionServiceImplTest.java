@@ -0,0 +1,154 @@
+package com.example.englishhubbackend.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.englishhubbackend.cache.ExamSnapshot;
+import com.example.englishhubbackend.cache.ExamSnapshotCache;
+import com.example.englishhubbackend.dto.request.ExamSessionAnswersRequest;
+import com.example.englishhubbackend.dto.response.ExamSessionResponse;
+import com.example.englishhubbackend.exception.AppException;
+import com.example.englishhubbackend.exception.ErrorCode;
+import com.example.englishhubbackend.grading.ExamAnswerKey;
+import com.example.englishhubbackend.models.Exam;
+import com.example.englishhubbackend.models.ReadingQuestion;
+import com.example.englishhubbackend.repository.ExamRepository;
+import com.example.englishhubbackend.service.AuthenticationService;
+import com.example.englishhubbackend.service.ExamService;
+import com.example.englishhubbackend.store.ExamSessionState;
+import com.example.englishhubbackend.store.ExamSessionStore;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class ExamSessionServiceImplTest {
+  UUID userId = UUID.randomUUID();
+  UUID examId = UUID.randomUUID();
+  UUID sessionId = UUID.randomUUID();
+  UUID firstQuestionId = UUID.randomUUID();
+  UUID secondQuestionId = UUID.randomUUID();
+  ExamSessionStore examSessionStore = mock(ExamSessionStore.class);
+  ExamRepository examRepository = mock(ExamRepository.class);
+  ExamSnapshotCache examSnapshotCache = mock(ExamSnapshotCache.class);
+  AuthenticationService authenticationService = mock(AuthenticationService.class);
+  ExamSessionServiceImpl service;
+
+  @BeforeEach
+  void setUp() {
+    when(authenticationService.getCurrentUserId()).thenReturn(userId);
+    when(examRepository.findById(examId))
+        .thenReturn(Optional.of(Exam.builder().id(examId).duration(60).build()));
+    when(examSessionStore.findExamId(sessionId)).thenReturn(Optional.of(examId));
+    ExamAnswerKey answerKey =
+        ExamAnswerKey.of(
+            List.of(
+                ReadingQuestion.builder().id(firstQuestionId).correctAnswer("A").build(),
+                ReadingQuestion.builder().id(secondQuestionId).correctAnswer("B").build()));
+    when(examSnapshotCache.get(examId))
+        .thenReturn(new ExamSnapshot(examId, 1, List.of(), new byte[0], answerKey));
+    service =
+        new ExamSessionServiceImpl(
+            examSessionStore,
+            examRepository,
+            mock(ExamService.class),
+            examSnapshotCache,
+            authenticationService,
+            120,
+            30,
+            24);
+  }
+
+  @Test
+  void startTreatsSessionsPastDeadlineAndGraceAsExpired() {
+    ArgumentCaptor<Long> startedAt = ArgumentCaptor.forClass(Long.class);
+    ArgumentCaptor<Long> deadline = ArgumentCaptor.forClass(Long.class);
+    ArgumentCaptor<Long> expiredBefore = ArgumentCaptor.forClass(Long.class);
+    when(examSessionStore.start(
+            eq(userId),
+            eq(examId),
+            startedAt.capture(),
+            deadline.capture(),
+            expiredBefore.capture(),
+            eq(Duration.ofMinutes(60).plusSeconds(30).plusHours(24))))
+        .thenReturn(sessionId);
+    when(examSessionStore.find(sessionId))
+        .thenAnswer(
+            invocation ->
+                Optional.of(
+                    new ExamSessionState(
+                        sessionId,
+                        userId,
+                        examId,
+                        startedAt.getValue(),
+                        deadline.getValue(),
+                        "ACTIVE",
+                        Map.of())));
+
+    ExamSessionResponse response = service.startSession(examId);
+
+    assertThat(response.getSessionId()).isEqualTo(sessionId);
+    assertThat(deadline.getValue() - startedAt.getValue())
+        .isEqualTo(Duration.ofMinutes(60).toMillis());
+    assertThat(startedAt.getValue() - expiredBefore.getValue())
+        .isEqualTo(Duration.ofSeconds(30).toMillis());
+  }
+
+  @Test
+  void saveAnswersStoresCanonicalQuestionIdsAndChoices() {
+    Map<String, String> answers = new HashMap<>();
+    answers.put(firstQuestionId.toString().toUpperCase(), "c");
+    answers.put(secondQuestionId.toString(), "");
+
+    service.saveAnswers(sessionId, new ExamSessionAnswersRequest(answers));
+
+    verify(examSessionStore)
+        .saveAnswers(
+            eq(sessionId),
+            eq(userId),
+            anyLong(),
+            eq(Map.of(firstQuestionId.toString(), "C", secondQuestionId.toString(), "")));
+  }
+
+  @Test
+  void saveAnswersRejectsUnknownQuestionsAndChoices() {
+    assertRejected(Map.of(UUID.randomUUID().toString(), "A"));
+    assertRejected(Map.of(firstQuestionId.toString(), "E"));
+    assertRejected(Map.of("not-a-question", "A"));
+    verify(examSessionStore, never()).saveAnswers(any(), any(), anyLong(), any());
+  }
+
+  @Test
+  void saveAnswersRejectsMoreEntriesThanTheExamHasQuestions() {
+    assertRejected(
+        Map.of(
+            firstQuestionId.toString(),
+            "A",
+            secondQuestionId.toString(),
+            "B",
+            UUID.randomUUID().toString(),
+            "C"));
+    verify(examSessionStore, never()).saveAnswers(any(), any(), anyLong(), any());
+  }
+
+  private void assertRejected(Map<String, String> answers) {
+    ExamSessionAnswersRequest request = new ExamSessionAnswersRequest(answers);
+
+    assertThatThrownBy(() -> service.saveAnswers(sessionId, request))
+        .isInstanceOfSatisfying(
+            AppException.class,
+            e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.INVALID_EXAM_ANSWER));
+  }
+}
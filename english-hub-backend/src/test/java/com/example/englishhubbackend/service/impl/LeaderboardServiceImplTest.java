@@ -0,0 +1,118 @@
+package com.example.englishhubbackend.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.englishhubbackend.dto.response.LeaderboardEntryResponse;
+import com.example.englishhubbackend.job.LeaderboardRebuildJob;
+import com.example.englishhubbackend.repository.ExamRepository;
+import com.example.englishhubbackend.repository.UserRepository;
+import com.example.englishhubbackend.repository.projection.UserSummary;
+import com.example.englishhubbackend.service.AuthenticationService;
+import com.example.englishhubbackend.store.LeaderboardEntry;
+import com.example.englishhubbackend.store.LeaderboardStore;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+class LeaderboardServiceImplTest {
+  UUID examId = UUID.randomUUID();
+  UUID otherExamId = UUID.randomUUID();
+  LeaderboardStore leaderboardStore = mock(LeaderboardStore.class);
+  ExamRepository examRepository = mock(ExamRepository.class);
+  UserRepository userRepository = mock(UserRepository.class);
+  LeaderboardServiceImpl service;
+
+  @BeforeEach
+  void setUp() {
+    service =
+        new LeaderboardServiceImpl(
+            leaderboardStore,
+            mock(LeaderboardRebuildJob.class),
+            examRepository,
+            userRepository,
+            mock(AuthenticationService.class));
+  }
+
+  @Test
+  void topLoadsUsernamesInOneQuery() {
+    UUID first = UUID.randomUUID();
+    UUID second = UUID.randomUUID();
+    when(leaderboardStore.top(LeaderboardStore.GLOBAL_KEY, 10))
+        .thenReturn(
+            List.of(new LeaderboardEntry(first, 0, 900), new LeaderboardEntry(second, 1, 800)));
+    when(userRepository.findSummariesByIdIn(List.of(first, second)))
+        .thenReturn(List.of(summary(second, "bob"), summary(first, "alice")));
+
+    List<LeaderboardEntryResponse> top = service.getGlobalTop(10);
+
+    assertThat(top)
+        .extracting(LeaderboardEntryResponse::getRank, LeaderboardEntryResponse::getUsername)
+        .containsExactly(tuple(1L, "alice"), tuple(2L, "bob"));
+    verify(userRepository, times(1)).findSummariesByIdIn(any());
+  }
+
+  @Test
+  void removeExamRecomputesGlobalScoresFromRemainingBoards() {
+    UUID userId = UUID.randomUUID();
+    String key = LeaderboardStore.examKey(examId);
+    when(leaderboardStore.members(key)).thenReturn(Set.of(userId.toString()));
+    when(examRepository.findIds()).thenReturn(List.of(otherExamId));
+
+    service.removeExam(examId);
+
+    InOrder order = inOrder(leaderboardStore);
+    order.verify(leaderboardStore).delete(key);
+    order
+        .verify(leaderboardStore)
+        .recomputeGlobal(List.of(userId), List.of(LeaderboardStore.examKey(otherExamId)));
+  }
+
+  @Test
+  void removeExamRecomputesInChunks() {
+    List<String> members =
+        IntStream.range(0, 501).mapToObj(i -> UUID.randomUUID().toString()).toList();
+    when(leaderboardStore.members(LeaderboardStore.examKey(examId)))
+        .thenReturn(Set.copyOf(members));
+    when(examRepository.findIds()).thenReturn(List.of());
+
+    service.removeExam(examId);
+
+    verify(leaderboardStore, times(2)).recomputeGlobal(any(), any());
+  }
+
+  @Test
+  void removeExamWithoutScoresLeavesGlobalBoardAlone() {
+    when(leaderboardStore.members(LeaderboardStore.examKey(examId))).thenReturn(Set.of());
+    when(examRepository.findIds()).thenReturn(List.of(otherExamId));
+
+    service.removeExam(examId);
+
+    verify(leaderboardStore, never()).recomputeGlobal(any(), any());
+  }
+
+  private static UserSummary summary(UUID id, String username) {
+    return new UserSummary() {
+      @Override
+      public UUID getId() {
+        return id;
+      }
+
+      @Override
+      public String getUsername() {
+        return username;
+      }
+    };
+  }
+}
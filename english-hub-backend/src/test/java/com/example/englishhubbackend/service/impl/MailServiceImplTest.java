@@ -0,0 +1,31 @@
+package com.example.englishhubbackend.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import com.example.englishhubbackend.enums.EmailOutboxStatusEnum;
+import com.example.englishhubbackend.mail.EmailTemplates;
+import com.example.englishhubbackend.models.EmailOutbox;
+import com.example.englishhubbackend.repository.EmailOutboxRepository;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class MailServiceImplTest {
+  EmailOutboxRepository repository = mock(EmailOutboxRepository.class);
+  MailServiceImpl service = new MailServiceImpl(repository, new EmailTemplates());
+
+  @Test
+  void verificationEmailIsQueuedForImmediateDelivery() {
+    service.queueVerificationEmail("user@example.com", "123456");
+
+    ArgumentCaptor<EmailOutbox> saved = ArgumentCaptor.forClass(EmailOutbox.class);
+    verify(repository).save(saved.capture());
+    EmailOutbox email = saved.getValue();
+    assertThat(email.getRecipient()).isEqualTo("user@example.com");
+    assertThat(email.getBody()).contains("123456");
+    assertThat(email.getStatus()).isEqualTo(EmailOutboxStatusEnum.PENDING);
+    assertThat(email.getAttempts()).isZero();
+    assertThat(email.getNextAttemptAt()).isNotNull();
+  }
+}
@@ -0,0 +1,98 @@
+package com.example.englishhubbackend.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.example.englishhubbackend.enums.SchedulingAlgorithmEnum;
+import com.example.englishhubbackend.exception.AppException;
+import com.example.englishhubbackend.exception.ErrorCode;
+import com.example.englishhubbackend.repository.ReviewLogRepository;
+import com.example.englishhubbackend.scheduling.SchedulingAlgorithmRegistry;
+import com.example.englishhubbackend.scheduling.SchedulingSimulator;
+import com.example.englishhubbackend.service.AuthenticationService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class ReviewLogServiceImplTest {
+  UUID userId = UUID.randomUUID();
+  ReviewLogRepository reviewLogRepository = mock(ReviewLogRepository.class);
+  AuthenticationService authenticationService = mock(AuthenticationService.class);
+  ObjectMapper objectMapper = new ObjectMapper();
+  ReviewLogServiceImpl service =
+      new ReviewLogServiceImpl(
+          reviewLogRepository,
+          authenticationService,
+          mock(SchedulingAlgorithmRegistry.class),
+          mock(SchedulingSimulator.class),
+          objectMapper,
+          mock(PlatformTransactionManager.class));
+
+  @Test
+  void exportWritesOneJsonObjectPerLine() throws Exception {
+    when(authenticationService.getCurrentUserId()).thenReturn(userId);
+    UUID flashCardId = UUID.randomUUID();
+    LocalDate from = LocalDate.of(2026, 1, 1);
+    LocalDate to = LocalDate.of(2026, 2, 1);
+    doAnswer(
+            invocation -> {
+              ReviewLogRepository.EntryConsumer consumer = invocation.getArgument(3);
+              for (long id = 1; id <= 2; id++) {
+                consumer.accept(
+                    new ReviewLogRepository.Entry(
+                        id,
+                        userId,
+                        flashCardId,
+                        LocalDateTime.of(2026, 1, 10, 8, 0),
+                        LocalDate.of(2026, 1, 10),
+                        3,
+                        6,
+                        2,
+                        2.5f,
+                        4.2f,
+                        5.1f,
+                        4,
+                        SchedulingAlgorithmEnum.FSRS.ordinal()));
+              }
+              return null;
+            })
+        .when(reviewLogRepository)
+        .streamByUser(eq(userId), eq(from), eq(to), any());
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    service.exportLog(from, to).writeTo(out);
+
+    String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+    assertThat(lines).hasSize(2);
+    JsonNode first = objectMapper.readTree(lines[0]);
+    assertThat(first.get("id").asLong()).isEqualTo(1);
+    assertThat(first.get("flashCardId").asText()).isEqualTo(flashCardId.toString());
+    assertThat(first.get("rating").asInt()).isEqualTo(4);
+    assertThat(first.get("algorithm").asText()).isEqualTo("FSRS");
+  }
+
+  @Test
+  void simulateRejectsRetentionOutsideTheSupportedRange() {
+    for (double retention : new double[] {0.5, 1.0, Double.NaN}) {
+      assertThatThrownBy(() -> service.simulate(null, null, retention))
+          .isInstanceOfSatisfying(
+              AppException.class,
+              e ->
+                  assertThat(e.getErrorCode())
+                      .isEqualTo(ErrorCode.INVALID_SCHEDULING_PARAMETERS));
+    }
+    verifyNoInteractions(reviewLogRepository);
+  }
+}
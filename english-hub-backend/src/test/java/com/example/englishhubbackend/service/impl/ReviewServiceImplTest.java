@@ -0,0 +1,140 @@
+package com.example.englishhubbackend.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.englishhubbackend.dto.request.SchedulingProfileRequest;
+import com.example.englishhubbackend.dto.response.FlashCardResponse;
+import com.example.englishhubbackend.enums.SchedulingAlgorithmEnum;
+import com.example.englishhubbackend.exception.AppException;
+import com.example.englishhubbackend.exception.ErrorCode;
+import com.example.englishhubbackend.mapper.FlashCardMapper;
+import com.example.englishhubbackend.repository.FlashCardRepository;
+import com.example.englishhubbackend.repository.ReviewBatchRepository;
+import com.example.englishhubbackend.repository.ReviewLogRepository;
+import com.example.englishhubbackend.repository.ReviewRepository;
+import com.example.englishhubbackend.repository.SchedulingProfileRepository;
+import com.example.englishhubbackend.repository.UserRepository;
+import com.example.englishhubbackend.scheduling.FsrsSchedulingAlgorithm;
+import com.example.englishhubbackend.scheduling.SchedulingAlgorithmRegistry;
+import com.example.englishhubbackend.service.AuthenticationService;
+import com.example.englishhubbackend.store.FlashCardContentStore;
+import com.example.englishhubbackend.store.ReviewDueQueue;
+import com.example.englishhubbackend.store.ReviewSyncStore;
+import com.example.englishhubbackend.store.ReviewTodayStore;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+class ReviewServiceImplTest {
+  UUID userId = UUID.randomUUID();
+  ReviewDueQueue reviewDueQueue = mock(ReviewDueQueue.class);
+  FlashCardContentStore flashCardContentStore = mock(FlashCardContentStore.class);
+  ReviewTodayStore reviewTodayStore = mock(ReviewTodayStore.class);
+  FlashCardRepository flashCardRepository = mock(FlashCardRepository.class);
+  SchedulingProfileRepository schedulingProfileRepository =
+      mock(SchedulingProfileRepository.class);
+  AuthenticationService authenticationService = mock(AuthenticationService.class);
+  ReviewServiceImpl service;
+
+  @BeforeEach
+  void setUp() {
+    when(authenticationService.getCurrentUserId()).thenReturn(userId);
+    service =
+        new ReviewServiceImpl(
+            mock(ReviewRepository.class),
+            authenticationService,
+            flashCardRepository,
+            mock(FlashCardMapper.class),
+            mock(UserRepository.class),
+            reviewDueQueue,
+            flashCardContentStore,
+            mock(ReviewBatchRepository.class),
+            mock(ReviewLogRepository.class),
+            mock(ReviewSyncStore.class),
+            reviewTodayStore,
+            mock(SchedulingAlgorithmRegistry.class),
+            schedulingProfileRepository);
+  }
+
+  @Test
+  void materializationSavesAgainstTheVersionReadBeforeTheDueSet() {
+    LocalDate day = LocalDate.of(2026, 10, 17);
+    when(reviewTodayStore.version(userId)).thenReturn("7");
+    when(reviewDueQueue.findDue(eq(userId), anyLong())).thenReturn(Optional.of(List.of()));
+    when(flashCardContentStore.getAll(anyList())).thenReturn(new HashMap<>());
+
+    service.materializeDueCards(userId, day);
+
+    InOrder order = inOrder(reviewTodayStore, reviewDueQueue);
+    order.verify(reviewTodayStore).version(userId);
+    order.verify(reviewDueQueue).findDue(userId, day.toEpochDay());
+    order.verify(reviewTodayStore).saveIfCurrent(userId, day, List.of(), "7");
+  }
+
+  @Test
+  void todaysListResolvesCardsThroughTheContentStore() {
+    UUID cardId = UUID.randomUUID();
+    FlashCardResponse edited = FlashCardResponse.builder().id(cardId).word("edited").build();
+    when(reviewTodayStore.find(eq(userId), any())).thenReturn(Optional.of(List.of(cardId)));
+    when(flashCardContentStore.getAll(List.of(cardId)))
+        .thenReturn(new HashMap<>(Map.of(cardId, edited)));
+
+    assertThat(service.getCardsToReviewToday()).containsExactly(edited);
+    verify(reviewTodayStore, never()).evict(any(), any());
+  }
+
+  @Test
+  void deletedCardsAreDroppedAndTheListRebuilt() {
+    UUID kept = UUID.randomUUID();
+    UUID deleted = UUID.randomUUID();
+    FlashCardResponse card = FlashCardResponse.builder().id(kept).build();
+    when(reviewTodayStore.find(eq(userId), any()))
+        .thenReturn(Optional.of(List.of(kept, deleted)));
+    when(flashCardContentStore.getAll(anyList())).thenReturn(new HashMap<>(Map.of(kept, card)));
+    when(flashCardRepository.findAllById(List.of(deleted))).thenReturn(List.of());
+
+    assertThat(service.getCardsToReviewToday()).containsExactly(card);
+    verify(reviewDueQueue).remove(userId, List.of(deleted));
+    verify(reviewTodayStore).evict(eq(userId), any());
+  }
+
+  @Test
+  void rejectsNonFiniteSchedulingParameters() {
+    double[] weights = FsrsSchedulingAlgorithm.DEFAULT_WEIGHTS.clone();
+    weights[9] = Double.NaN;
+    SchedulingProfileRequest nanWeight =
+        SchedulingProfileRequest.builder()
+            .algorithm(SchedulingAlgorithmEnum.FSRS)
+            .weights(weights)
+            .build();
+    SchedulingProfileRequest nanRetention =
+        SchedulingProfileRequest.builder()
+            .algorithm(SchedulingAlgorithmEnum.FSRS)
+            .desiredRetention(Double.NaN)
+            .build();
+
+    for (SchedulingProfileRequest request : List.of(nanWeight, nanRetention)) {
+      assertThatThrownBy(() -> service.updateSchedulingProfile(request))
+          .isInstanceOf(AppException.class)
+          .extracting(e -> ((AppException) e).getErrorCode())
+          .isEqualTo(ErrorCode.INVALID_SCHEDULING_PARAMETERS);
+    }
+    verify(schedulingProfileRepository, never()).save(any());
+  }
+}
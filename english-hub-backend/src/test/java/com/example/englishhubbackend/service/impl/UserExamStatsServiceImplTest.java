@@ -0,0 +1,41 @@
+package com.example.englishhubbackend.service.impl;
+
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.example.englishhubbackend.repository.ResultRepository;
+import com.example.englishhubbackend.repository.UserExamStatsRepository;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+class UserExamStatsServiceImplTest {
+  UserExamStatsRepository userExamStatsRepository = mock(UserExamStatsRepository.class);
+  ResultRepository resultRepository = mock(ResultRepository.class);
+  UserExamStatsServiceImpl service =
+      new UserExamStatsServiceImpl(userExamStatsRepository, resultRepository);
+
+  @Test
+  void rebuildLocksUsersBeforeReadingTheirResults() {
+    List<UUID> userIds = List.of(UUID.randomUUID(), UUID.randomUUID());
+    when(resultRepository.aggregateByUserIds(userIds)).thenReturn(List.of());
+
+    service.rebuildForUsers(userIds);
+
+    InOrder order = inOrder(userExamStatsRepository, resultRepository);
+    order.verify(userExamStatsRepository).lockUsers(userIds);
+    order.verify(resultRepository).aggregateByUserIds(userIds);
+    order.verify(userExamStatsRepository).deleteAllByUserIdIn(userIds);
+    order.verify(userExamStatsRepository).saveAll(List.of());
+  }
+
+  @Test
+  void emptyChunkTouchesNothing() {
+    service.rebuildForUsers(List.of());
+
+    verifyNoInteractions(userExamStatsRepository, resultRepository);
+  }
+}
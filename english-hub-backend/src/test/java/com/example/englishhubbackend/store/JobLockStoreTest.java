@@ -0,0 +1,59 @@
+package com.example.englishhubbackend.store;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+class JobLockStoreTest {
+  StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+  ValueOperations<String, String> values;
+  JobLockStore store = new JobLockStore(redisTemplate);
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setUp() {
+    values = mock(ValueOperations.class);
+    when(redisTemplate.opsForValue()).thenReturn(values);
+  }
+
+  @Test
+  void acquiresWithAFreshTokenAndTtl() {
+    when(values.setIfAbsent(eq("job-lock:rebuild"), anyString(), eq(Duration.ofMinutes(5))))
+        .thenReturn(true);
+
+    Optional<String> first = store.tryAcquire("rebuild", Duration.ofMinutes(5));
+    Optional<String> second = store.tryAcquire("rebuild", Duration.ofMinutes(5));
+
+    assertThat(first).isPresent();
+    assertThat(second).isPresent().isNotEqualTo(first);
+  }
+
+  @Test
+  void heldLockIsNotAcquired() {
+    when(values.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(false);
+
+    assertThat(store.tryAcquire("rebuild", Duration.ofMinutes(5))).isEmpty();
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void releaseOnlyDeletesTheHoldersToken() {
+    store.release("rebuild", "token");
+
+    verify(redisTemplate)
+        .execute(any(RedisScript.class), eq(List.of("job-lock:rebuild")), eq("token"));
+  }
+}
@@ -0,0 +1,81 @@
+package com.example.englishhubbackend.store;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+class ReviewDueQueueTest {
+  UUID userId = UUID.randomUUID();
+  StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+  ReviewDueQueue queue = new ReviewDueQueue(redisTemplate, 30);
+
+  @Test
+  void unbuiltQueueIsEmptyOptional() {
+    when(redisTemplate.executePipelined(any(SessionCallback.class)))
+        .thenReturn(Arrays.asList(false, Set.of()));
+
+    assertThat(queue.findDue(userId, 20_000)).isEmpty();
+  }
+
+  @Test
+  void builtQueueReturnsDueIdsInScoreOrder() {
+    UUID first = UUID.randomUUID();
+    UUID second = UUID.randomUUID();
+    when(redisTemplate.executePipelined(any(SessionCallback.class)))
+        .thenReturn(
+            Arrays.asList(true, new LinkedHashSet<>(List.of(first.toString(), second.toString()))));
+
+    assertThat(queue.findDue(userId, 20_000)).hasValue(List.of(first, second));
+  }
+
+  @Test
+  void builtButEmptyQueueIsAnEmptyList() {
+    when(redisTemplate.executePipelined(any(SessionCallback.class)))
+        .thenReturn(Arrays.asList(true, null));
+
+    assertThat(queue.findDue(userId, 20_000)).hasValue(List.of());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void rebuildPassesTtlThenScoreMemberPairs() {
+    UUID flashCardId = UUID.randomUUID();
+
+    queue.rebuild(userId, Map.of(flashCardId, 20_001L));
+
+    ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+    verify(redisTemplate)
+        .execute(
+            any(RedisScript.class),
+            eq(List.of("review-due:" + userId, "review-due:" + userId + ":built")),
+            args.capture());
+    assertThat(args.getValue())
+        .containsExactly(
+            Long.toString(Duration.ofDays(30).toMillis()), "20001", flashCardId.toString());
+  }
+
+  @Test
+  void emptyScheduleIsNotSent() {
+    queue.scheduleAll(userId, Map.of());
+    queue.remove(userId, List.of());
+
+    verifyNoInteractions(redisTemplate);
+  }
+}
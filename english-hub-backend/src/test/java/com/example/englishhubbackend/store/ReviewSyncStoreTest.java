@@ -0,0 +1,63 @@
+package com.example.englishhubbackend.store;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.englishhubbackend.dto.response.ReviewBatchResponse;
+import com.example.englishhubbackend.exception.AppException;
+import com.example.englishhubbackend.exception.ErrorCode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+class ReviewSyncStoreTest {
+  UUID userId = UUID.randomUUID();
+  UUID sessionId = UUID.randomUUID();
+  ValueOperations<String, String> values;
+  ReviewSyncStore store;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setUp() {
+    StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+    values = mock(ValueOperations.class);
+    when(redisTemplate.opsForValue()).thenReturn(values);
+    store = new ReviewSyncStore(redisTemplate, new ObjectMapper());
+  }
+
+  @Test
+  void claimExpiresWithinMinutes() {
+    when(values.setIfAbsent(anyString(), eq("PENDING"), eq(Duration.ofMinutes(2))))
+        .thenReturn(true);
+
+    assertThat(store.claim(userId, sessionId)).isEmpty();
+  }
+
+  @Test
+  void completedResponseIsKeptForAWeek() {
+    store.complete(userId, sessionId, new ReviewBatchResponse());
+
+    verify(values).set(anyString(), anyString(), eq(Duration.ofDays(7)));
+  }
+
+  @Test
+  void rejectsConcurrentClaimWhileInProgress() {
+    when(values.setIfAbsent(anyString(), anyString(), eq(Duration.ofMinutes(2))))
+        .thenReturn(false);
+    when(values.get(anyString())).thenReturn("PENDING");
+
+    assertThatThrownBy(() -> store.claim(userId, sessionId))
+        .isInstanceOfSatisfying(
+            AppException.class,
+            e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.REVIEW_SYNC_IN_PROGRESS));
+  }
+}
@@ -0,0 +1,25 @@
+package com.example.englishhubbackend.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class ContentHashUtilTest {
+
+  @Test
+  void hashIgnoresLineEndingsAndSurroundingWhitespace() {
+    assertThat(ContentHashUtil.sha256("a\r\nb")).isEqualTo(ContentHashUtil.sha256(" a\nb\n"));
+  }
+
+  @Test
+  void hashIgnoresUnicodeComposition() {
+    assertThat(ContentHashUtil.sha256("café")).isEqualTo(ContentHashUtil.sha256("café"));
+  }
+
+  @Test
+  void hashIsLowercaseHexSha256() {
+    assertThat(ContentHashUtil.sha256("abc"))
+        .isEqualTo("ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad");
+    assertThat(ContentHashUtil.sha256(null)).isNull();
+  }
+}
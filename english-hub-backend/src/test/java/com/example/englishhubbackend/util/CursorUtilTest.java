@@ -0,0 +1,83 @@
+package com.example.englishhubbackend.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.englishhubbackend.dto.response.CursorPage;
+import com.example.englishhubbackend.exception.AppException;
+import com.example.englishhubbackend.exception.ErrorCode;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class CursorUtilTest {
+  UUID id = UUID.randomUUID();
+
+  @Test
+  void roundTripsKeyAndId() {
+    LocalDateTime createdAt = LocalDateTime.of(2026, 3, 4, 5, 6, 7);
+
+    CursorUtil.Cursor cursor = CursorUtil.decode(CursorUtil.encode(createdAt, id));
+
+    assertThat(cursor.localDateTime()).isEqualTo(createdAt);
+    assertThat(cursor.id()).isEqualTo(id);
+  }
+
+  @Test
+  void keysMayContainTheSeparator() {
+    CursorUtil.Cursor cursor = CursorUtil.decode(CursorUtil.encode("a|b", id));
+
+    assertThat(cursor.key()).isEqualTo("a|b");
+    assertThat(cursor.id()).isEqualTo(id);
+  }
+
+  @Test
+  void nullKeyMarksTheNullSegment() {
+    assertThat(CursorUtil.decode(CursorUtil.encode(null, id)).key()).isNull();
+    assertThat(CursorUtil.decode(null)).isNull();
+    assertThat(CursorUtil.decode("")).isNull();
+  }
+
+  @Test
+  void rejectsTamperedCursors() {
+    String noSeparator =
+        Base64.getUrlEncoder().encodeToString("no-separator".getBytes(StandardCharsets.UTF_8));
+    String badId = CursorUtil.encode("key", id).substring(2);
+    String badDate = CursorUtil.encode("not-a-date", id);
+
+    for (String cursor : List.of("%%%", noSeparator, badId)) {
+      assertInvalid(() -> CursorUtil.decode(cursor));
+    }
+    assertInvalid(() -> CursorUtil.decode(badDate).localDate());
+  }
+
+  @Test
+  void limitDefaultsAndClamps() {
+    assertThat(CursorUtil.limit(null)).isEqualTo(CursorUtil.DEFAULT_LIMIT);
+    assertThat(CursorUtil.limit(0)).isEqualTo(1);
+    assertThat(CursorUtil.limit(10_000)).isEqualTo(CursorUtil.MAX_LIMIT);
+  }
+
+  @Test
+  void pageUsesTheExtraRowOnlyToSignalMore() {
+    CursorPage<String> full =
+        CursorUtil.page(List.of(1, 2, 3), 2, String::valueOf, row -> "after-" + row);
+    CursorPage<String> last =
+        CursorUtil.page(List.of(1, 2), 2, String::valueOf, row -> "after-" + row);
+
+    assertThat(full.getItems()).containsExactly("1", "2");
+    assertThat(full.getNextCursor()).isEqualTo("after-2");
+    assertThat(last.getItems()).containsExactly("1", "2");
+    assertThat(last.getNextCursor()).isNull();
+  }
+
+  private static void assertInvalid(Runnable decode) {
+    assertThatThrownBy(decode::run)
+        .isInstanceOfSatisfying(
+            AppException.class,
+            e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.INVALID_CURSOR));
+  }
+}